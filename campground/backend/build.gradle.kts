@@ -4,6 +4,7 @@ plugins {
 	id("org.springframework.boot") version "3.5.10"
 	id("io.spring.dependency-management") version "1.1.7"
 	id("org.flywaydb.flyway") version "10.20.1"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 // Checkstyle 설정
@@ -101,3 +102,12 @@ dependencies {
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+// JMH 벤치마크 (src/jmh/java, 실행: ./gradlew jmh)
+// gc 프로파일러로 호출당 할당량(gc.alloc.rate.norm)을 함께 측정
+jmh {
+	warmupIterations.set(3)
+	iterations.set(5)
+	fork.set(1)
+	profilers.add("gc")
+}
@@ -0,0 +1,130 @@
+package com.campstation.camp.pricing.service;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.LoggerFactory;
+
+import com.campstation.camp.pricing.calendar.CompiledPricingCalendar;
+import com.campstation.camp.pricing.domain.PricingRuleType;
+import com.campstation.camp.pricing.domain.SeasonType;
+import com.campstation.camp.pricing.domain.SitePricing;
+import com.campstation.camp.pricing.dto.PriceBreakdown;
+import com.campstation.camp.pricing.repository.SitePricingRepository;
+import com.campstation.camp.reservation.availability.CampgroundOccupancyIndex;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 가격 계산 엔진 벤치마크
+ *
+ * 1박, 7박, 30박 숙박에 대해 통합 엔진(컴파일된 요금 달력 + 1/100원 long 계산)과
+ * 통합 전 PricingCalculationService(제거 직전 코드를 그대로 복사)의 호출당 시간과 할당량을 비교합니다.
+ * 통합 전 서비스의 요금제 조회는 메모리 목록을 돌려주는 저장소로, INFO 로그는 꺼서 측정하므로
+ * DB 조회와 로그 출력 비용이 빠진 만큼 통합 전 결과는 실제보다 유리합니다.
+ * 실행: ./gradlew jmh (gc 프로파일러의 gc.alloc.rate.norm이 호출당 할당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PricingEngineBenchmark {
+
+    private static final LocalDate CHECK_IN = LocalDate.of(2026, 6, 20);
+    private static final int GUESTS = 6;
+
+    @Param({"1", "7", "30"})
+    public int nights;
+
+    private CompiledPricingCalendar calendar;
+    private PricingEngine engine;
+    private PricingCalculationService legacyService;
+    private LocalDate quotedOn;
+    private LocalDate checkOut;
+
+    @Setup
+    public void setUp() {
+        SitePricing peak = SitePricing.builder()
+                .id(2L)
+                .pricingName("성수기")
+                .ruleType(PricingRuleType.SEASONAL)
+                .seasonType(SeasonType.PEAK)
+                .basePrice(new BigDecimal("80000"))
+                .weekendPrice(new BigDecimal("100000"))
+                .extraGuestFee(new BigDecimal("10000"))
+                .baseGuests(4)
+                .priority(10)
+                .build();
+        SitePricing base = SitePricing.builder()
+                .id(1L)
+                .pricingName("기본 요금")
+                .ruleType(PricingRuleType.BASE)
+                .basePrice(new BigDecimal("45555.55"))
+                .weekendPrice(new BigDecimal("65000"))
+                .extraGuestFee(new BigDecimal("10000"))
+                .baseGuests(4)
+                .longStayDiscountRate(new BigDecimal("5.50"))
+                .extendedStayDiscountRate(new BigDecimal("10.00"))
+                .earlyBirdDiscountRate(new BigDecimal("7.00"))
+                .earlyBirdMinDays(60)
+                .build();
+        List<SitePricing> pricings = List.of(peak, base);
+        calendar = CompiledPricingCalendar.compile(1L, pricings);
+        checkOut = CHECK_IN.plusDays(nights);
+        // 통합 전 서비스는 조기 예약 할인 기준일로 오늘 날짜를 사용하므로 통합 엔진도 같은 기준일로 계산
+        quotedOn = LocalDate.now();
+
+        PricingInstrumentation instrumentation =
+                new PricingInstrumentation(new SimpleMeterRegistry(), Set.of(), 0.0, false);
+        engine = new PriceCalculationService(null, null, instrumentation,
+                new CampgroundOccupancyIndex(null, null));
+
+        SitePricingRepository repository = (SitePricingRepository) Proxy.newProxyInstance(
+                SitePricingRepository.class.getClassLoader(), new Class<?>[] {SitePricingRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findBySiteIdAndIsActiveTrueOrderByPriorityDesc")) {
+                        return pricings;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        legacyService = new PricingCalculationService(repository);
+        ((Logger) LoggerFactory.getLogger(PricingCalculationService.class)).setLevel(Level.WARN);
+    }
+
+    /**
+     * 통합 엔진 견적 (1/100원 long)
+     */
+    @Benchmark
+    public long unifiedQuote() {
+        return engine.quote(calendar, CHECK_IN, checkOut, GUESTS, quotedOn).totalAmount();
+    }
+
+    /**
+     * 통합 엔진 견적 + 예약 스냅샷 DTO 변환
+     */
+    @Benchmark
+    public Object unifiedBreakdownDto() {
+        return engine.toBreakdownDto(engine.quote(calendar, CHECK_IN, checkOut, GUESTS, quotedOn));
+    }
+
+    /**
+     * 통합 전 PricingCalculationService (1박씩 BigDecimal 합산 + 날짜별 내역)
+     */
+    @Benchmark
+    public PriceBreakdown legacyCalculationService() {
+        return legacyService.calculatePrice(1L, CHECK_IN, checkOut, GUESTS);
+    }
+}
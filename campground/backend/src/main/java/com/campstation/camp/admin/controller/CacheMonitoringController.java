@@ -63,6 +63,7 @@ public class CacheMonitoringController {
                 cacheInfo.put("missRate", String.format("%.2f%%", stats.missRate() * 100));
                 cacheInfo.put("loadSuccessCount", stats.loadSuccessCount());
                 cacheInfo.put("loadFailureCount", stats.loadFailureCount());
+                cacheInfo.put("averageLoadPenalty", stats.averageLoadPenalty());
                 cacheInfo.put("evictionCount", stats.evictionCount());
                 cacheInfo.put("estimatedSize", nativeCache.estimatedSize());
                 
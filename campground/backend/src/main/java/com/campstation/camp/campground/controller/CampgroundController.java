@@ -22,6 +22,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.campstation.camp.campground.domain.CampgroundCertification;
 import com.campstation.camp.campground.domain.CampgroundOperationType;
+import com.campstation.camp.campground.domain.CampgroundStatus;
+import com.campstation.camp.campground.dto.CampgroundMapClusterResponse;
 import com.campstation.camp.campground.dto.CampgroundResponse;
 import com.campstation.camp.campground.dto.CreateCampgroundRequest;
 import com.campstation.camp.campground.dto.SiteResponseDto;
@@ -130,7 +132,7 @@ public class CampgroundController {
         return ResponseEntity.ok(CommonResponse.success("캠핑장 목록 조회 성공", campgrounds));
     }
 
-    @Operation(summary = "캠핑장 검색", description = "키워드, 가격 범위, 편의시설, 운영 주체, 인증/등급으로 캠핑장을 검색합니다.")
+    @Operation(summary = "캠핑장 검색", description = "키워드, 가격 범위, 편의시설, 운영 주체, 인증/등급, 운영 상태로 캠핑장을 검색합니다.")
     @GetMapping("/search")
     public ResponseEntity<CommonResponse<Page<CampgroundResponse>>> searchCampgrounds(
             @RequestParam(required = false) String keyword,
@@ -139,9 +141,10 @@ public class CampgroundController {
             @RequestParam(required = false) List<String> amenities,
             @RequestParam(required = false) List<CampgroundOperationType> operationTypes,
             @RequestParam(required = false) List<CampgroundCertification> certifications,
+            @RequestParam(required = false) List<CampgroundStatus> statuses,
             Pageable pageable) {
         Page<CampgroundResponse> campgrounds = campgroundService.searchCampgrounds(keyword, minPrice, maxPrice,
-                amenities, operationTypes, certifications, pageable);
+                amenities, operationTypes, certifications, statuses, pageable);
         return ResponseEntity.ok(CommonResponse.success("캠핑장 검색 성공", campgrounds));
     }
 
@@ -174,6 +177,60 @@ public class CampgroundController {
         return ResponseEntity.ok(CommonResponse.success("지도 영역 내 캠핑장 조회 성공", campgrounds));
     }
 
+    /**
+     * 지도 영역 내의 캠핑장을 줌 레벨에 맞춰 클러스터로 조회합니다.
+     * 축소 시에는 격자별 클러스터(개수, 중심점, 경계 박스)를, 확대 시에는 경량 마커(ID, 좌표, 이름)를 반환합니다.
+     *
+     * @param swLat 남서쪽 위도 (South-West Latitude)
+     * @param swLng 남서쪽 경도 (South-West Longitude)
+     * @param neLat 북동쪽 위도 (North-East Latitude)
+     * @param neLng 북동쪽 경도 (North-East Longitude)
+     * @param zoom 지도 줌 레벨 (0 ~ 22)
+     * @return 클러스터와 개별 마커
+     */
+    @Operation(summary = "지도 캠핑장 클러스터 조회", description = "지도 영역 내 캠핑장을 줌 레벨에 따라 클러스터 또는 개별 마커로 조회합니다.")
+    @GetMapping("/map/clusters")
+    public ResponseEntity<CommonResponse<CampgroundMapClusterResponse>> getCampgroundClustersByMapBounds(
+            @RequestParam BigDecimal swLat,
+            @RequestParam BigDecimal swLng,
+            @RequestParam BigDecimal neLat,
+            @RequestParam BigDecimal neLng,
+            @RequestParam int zoom) {
+        if (zoom < 0 || zoom > 22) {
+            throw new IllegalArgumentException("줌 레벨은 0 이상 22 이하여야 합니다.");
+        }
+        CampgroundMapClusterResponse clusters = campgroundService.getCampgroundClustersByMapBounds(
+                swLat, swLng, neLat, neLng, zoom);
+        return ResponseEntity.ok(CommonResponse.success("지도 캠핑장 클러스터 조회 성공", clusters));
+    }
+
+    /**
+     * 중심 좌표에서 가까운 캠핑장을 조회합니다.
+     *
+     * @param latitude 중심 위도 (-90 ~ 90)
+     * @param longitude 중심 경도 (-180 ~ 180)
+     * @param radiusKm 최대 반경 (km, 최대 200)
+     * @param limit 최대 결과 수 (최대 100)
+     * @return 가까운 순으로 정렬된 캠핑장 목록
+     */
+    @Operation(summary = "주변 캠핑장 조회", description = "중심 좌표에서 반경 내의 운영 중인 캠핑장을 가까운 순으로 조회합니다.")
+    @GetMapping("/nearby")
+    public ResponseEntity<CommonResponse<List<CampgroundResponse>>> getNearbyCampgrounds(
+            @RequestParam BigDecimal latitude,
+            @RequestParam BigDecimal longitude,
+            @RequestParam(defaultValue = "20") double radiusKm,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (!(radiusKm > 0 && radiusKm <= 200)) {
+            throw new IllegalArgumentException("반경은 0보다 크고 200km 이하여야 합니다.");
+        }
+        if (limit <= 0 || limit > 100) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 100 이하여야 합니다.");
+        }
+        List<CampgroundResponse> campgrounds = campgroundService.getNearbyCampgrounds(
+                latitude, longitude, radiusKm, limit);
+        return ResponseEntity.ok(CommonResponse.success("주변 캠핑장 조회 성공", campgrounds));
+    }
+
     @Operation(summary = "캠핑장 정보 업데이트", description = "캠핑장 정보를 업데이트합니다. 해당 캠핑장의 소유자 또는 관리자만 가능합니다.")
     @PutMapping("/{id}")
     @OwnerOrAdmin
@@ -8,6 +8,8 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import com.campstation.camp.shared.domain.BaseEntity;
 
 import jakarta.persistence.CascadeType;
@@ -115,6 +117,16 @@ public class Site extends BaseEntity {
     @Builder.Default
     private Long amenitiesFlags = 0L;
 
+    /**
+     * 사이트 요금제 버전
+     * 생성 시 0으로 저장되며, 이후에는 요금제 생성/수정/삭제 시 SiteRepository#incrementPricingVersion으로만 증가
+     * (엔티티 수정으로 변경하지 않음)
+     */
+    @Column(name = "pricing_version", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long pricingVersion = 0L;
+
     /**
      * 사이트 정보 업데이트
      */
@@ -0,0 +1,49 @@
+package com.campstation.camp.campground.dto;
+
+import java.util.List;
+
+/**
+ * 지도 클러스터 응답 DTO
+ * 축소된 지도에서는 격자별 클러스터를, 확대된 지도나 단독 캠핑장은 경량 마커를 반환합니다.
+ *
+ * @param zoom 요청 줌 레벨
+ * @param totalCount 영역 내 전체 캠핑장 수
+ * @param clusters 격자별 클러스터 (캠핑장 수 내림차순)
+ * @param markers 개별 캠핑장 마커 (ID 오름차순)
+ */
+public record CampgroundMapClusterResponse(
+    int zoom,
+    int totalCount,
+    List<Cluster> clusters,
+    List<Marker> markers
+) {
+
+    /**
+     * 캠핑장 클러스터
+     *
+     * @param count 클러스터에 속한 캠핑장 수
+     * @param latitude 중심점 위도 (좌표 평균)
+     * @param longitude 중심점 경도 (좌표 평균)
+     */
+    public record Cluster(
+        int count,
+        double latitude,
+        double longitude,
+        double swLat,
+        double swLng,
+        double neLat,
+        double neLng
+    ) {
+    }
+
+    /**
+     * 개별 캠핑장 마커
+     */
+    public record Marker(
+        Long id,
+        double latitude,
+        double longitude,
+        String name
+    ) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.campstation.camp.campground.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.campstation.camp.campground.domain.CampgroundCertification;
+import com.campstation.camp.campground.domain.CampgroundOperationType;
+import com.campstation.camp.campground.domain.CampgroundStatus;
+
+/**
+ * 캠핑장 검색 인덱스 문서 프로젝션 (인메모리 검색/위치 인덱스 구축용)
+ */
+public interface CampgroundSearchDocumentProjection {
+    Long getId();
+    String getName();
+    String getAddress();
+    BigDecimal getLatitude();
+    BigDecimal getLongitude();
+    CampgroundStatus getStatus();
+    CampgroundOperationType getOperationType();
+    CampgroundCertification getCertification();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,9 @@
+package com.campstation.camp.campground.dto;
+
+/**
+ * 캠핑장별 사이트 수 프로젝션 (점유율 계산용)
+ */
+public interface CampgroundSiteCountProjection {
+    Long getCampgroundId();
+    Long getSiteCount();
+}
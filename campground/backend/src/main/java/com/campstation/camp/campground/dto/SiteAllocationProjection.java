@@ -0,0 +1,12 @@
+package com.campstation.camp.campground.dto;
+
+/**
+ * 사이트 자동 배정 후보 / 요약 프로젝션
+ * 배정 판정에 필요한 컬럼만 조회 (Site 엔티티 하이드레이션 없음)
+ */
+public interface SiteAllocationProjection {
+    Long getSiteId();
+    String getSiteNumber();
+    Integer getCapacity();
+    Long getAmenitiesFlags();
+}
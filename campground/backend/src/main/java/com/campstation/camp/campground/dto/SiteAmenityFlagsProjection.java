@@ -0,0 +1,9 @@
+package com.campstation.camp.campground.dto;
+
+/**
+ * 사이트 편의시설 비트마스크 프로젝션 (캠핑장별 편의시설 집계용)
+ */
+public interface SiteAmenityFlagsProjection {
+    Long getCampgroundId();
+    Long getAmenitiesFlags();
+}
@@ -0,0 +1,10 @@
+package com.campstation.camp.campground.dto;
+
+/**
+ * 사이트 ID - 캠핑장 ID 프로젝션
+ * 가용성 일괄 조회 시 Site 엔티티 하이드레이션 없이 ID만 조회
+ */
+public interface SiteCampgroundProjection {
+    Long getSiteId();
+    Long getCampgroundId();
+}
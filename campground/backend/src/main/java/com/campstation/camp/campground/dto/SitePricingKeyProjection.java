@@ -0,0 +1,10 @@
+package com.campstation.camp.campground.dto;
+
+/**
+ * 사이트 요금 달력 컴파일용 프로젝션 (캠핑장 ID, 요금제 버전)
+ */
+public interface SitePricingKeyProjection {
+    Long getSiteId();
+    Long getCampgroundId();
+    Long getPricingVersion();
+}
@@ -4,20 +4,24 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.campstation.camp.campground.domain.Campground;
 import com.campstation.camp.campground.domain.CampgroundStatus;
+import com.campstation.camp.campground.dto.CampgroundSearchDocumentProjection;
 
 /**
  * 캠핑장 데이터 접근을 위한 Repository
+ * 검색 필터 조합은 CampgroundSpecifications로 구성하여 JpaSpecificationExecutor로 조회합니다.
  */
 @Repository
-public interface CampgroundRepository extends JpaRepository<Campground, Long> {
+public interface CampgroundRepository extends JpaRepository<Campground, Long>, JpaSpecificationExecutor<Campground> {
 
     /**
      * 삭제되지 않은 캠핑장 조회
@@ -39,6 +43,24 @@ public interface CampgroundRepository extends JpaRepository<Campground, Long> {
     @Query("SELECT c FROM Campground c WHERE c.deletedAt IS NULL")
     List<Campground> findAllNotDeleted();
 
+    /**
+     * 삭제되지 않은 모든 캠핑장의 검색 문서 조회 (인메모리 검색/위치 인덱스 구축용)
+     */
+    @Query("SELECT c.id as id, c.name as name, c.address as address, c.latitude as latitude, " +
+           "c.longitude as longitude, c.status as status, " +
+           "c.operationType as operationType, c.certification as certification, c.createdAt as createdAt " +
+           "FROM Campground c WHERE c.deletedAt IS NULL")
+    List<CampgroundSearchDocumentProjection> findAllSearchDocuments();
+
+    /**
+     * 삭제되지 않은 캠핑장의 검색 문서 조회 (인메모리 검색/위치 인덱스 증분 갱신용)
+     */
+    @Query("SELECT c.id as id, c.name as name, c.address as address, c.latitude as latitude, " +
+           "c.longitude as longitude, c.status as status, " +
+           "c.operationType as operationType, c.certification as certification, c.createdAt as createdAt " +
+           "FROM Campground c WHERE c.deletedAt IS NULL AND c.id = :id")
+    Optional<CampgroundSearchDocumentProjection> findSearchDocumentById(@Param("id") Long id);
+
     /**
      * 삭제되지 않은 모든 캠핑장 조회 (이미지, 소유자 포함 - N+1 방지)
      */
@@ -67,13 +89,15 @@ public interface CampgroundRepository extends JpaRepository<Campground, Long> {
     List<Campground> findByAddressContainingAndNotDeleted(@Param("address") String address);
 
     /**
-     * 위치 기반 캠핑장 검색 (반경 내)
+     * 위치 기반 캠핑장 검색 (반경 내, 가까운 순)
+     * 반경을 감싸는 경계 박스로 먼저 거른 뒤(idx_campgrounds_location) 후보에 대해서만 거리를 계산합니다.
      */
     @Query("""
         SELECT c FROM Campground c 
         WHERE c.deletedAt IS NULL 
-        AND c.latitude IS NOT NULL 
-        AND c.longitude IS NOT NULL
+        AND c.status = 'ACTIVE'
+        AND c.latitude BETWEEN :minLat AND :maxLat
+        AND c.longitude BETWEEN :minLng AND :maxLng
         AND (6371 * ACOS(
             COS(RADIANS(:latitude)) * COS(RADIANS(c.latitude)) * 
             COS(RADIANS(c.longitude) - RADIANS(:longitude)) + 
@@ -88,7 +112,12 @@ public interface CampgroundRepository extends JpaRepository<Campground, Long> {
     List<Campground> findNearbyNotDeleted(
             @Param("latitude") BigDecimal latitude,
             @Param("longitude") BigDecimal longitude,
-            @Param("radiusKm") Double radiusKm
+            @Param("radiusKm") Double radiusKm,
+            @Param("minLat") BigDecimal minLat,
+            @Param("maxLat") BigDecimal maxLat,
+            @Param("minLng") BigDecimal minLng,
+            @Param("maxLng") BigDecimal maxLng,
+            Pageable pageable
     );
 
     /**
@@ -0,0 +1,183 @@
+package com.campstation.camp.campground.repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.campstation.camp.campground.domain.AmenityType;
+import com.campstation.camp.campground.domain.Campground;
+import com.campstation.camp.campground.domain.CampgroundCertification;
+import com.campstation.camp.campground.domain.CampgroundOperationType;
+import com.campstation.camp.campground.domain.CampgroundStatus;
+import com.campstation.camp.campground.domain.Site;
+import com.campstation.camp.pricing.domain.CampgroundPriceSummary;
+
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * 캠핑장 검색 조건 (Specification)
+ *
+ * 검색 필터를 모두 SQL 조건으로 만들어 CampgroundRepository#findAll(Specification, Pageable)로
+ * 정렬/페이징/COUNT까지 DB에서 처리합니다. 조건이 비어 있으면 null을 반환하여 조건에서 제외됩니다.
+ */
+public final class CampgroundSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private CampgroundSpecifications() {
+    }
+
+    /**
+     * 삭제되지 않은 캠핑장
+     */
+    public static Specification<Campground> notDeleted() {
+        return (root, query, cb) -> cb.isNull(root.get("deletedAt"));
+    }
+
+    /**
+     * 이름 또는 주소에 키워드 포함 (부분 일치, 대소문자 무시 - 인메모리 검색 인덱스와 같은 기준)
+     * PostgreSQL에서는 lower() 식 pg_trgm GIN 인덱스(V32)로 처리됩니다. 키워드의 %, _는 문자 그대로 검색합니다.
+     */
+    public static Specification<Campground> keywordContains(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(keyword.trim().toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("name")), pattern, LIKE_ESCAPE),
+                cb.like(cb.lower(root.get("address")), pattern, LIKE_ESCAPE));
+    }
+
+    /**
+     * 키워드 관련도순 정렬 (동점은 최신 등록순)
+     * 조건은 추가하지 않으며, Pageable에 정렬이 없을 때만 사용합니다. (COUNT 쿼리에서는 정렬 제외)
+     *
+     * @param keyword 검색 키워드
+     * @param trigramEnabled true면 pg_trgm similarity(이름 우선, 주소 다음)로 정렬,
+     *                       false면 이름 접두 일치 → 이름 부분 일치 → 주소 일치 순 (H2 등 pg_trgm이 없는 DB용)
+     *                       두 방식 모두 대소문자를 무시합니다.
+     */
+    public static Specification<Campground> orderByKeywordRelevance(String keyword, boolean trigramEnabled) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        String term = keyword.trim().toLowerCase(Locale.ROOT);
+        return (root, query, cb) -> {
+            if (Long.class.equals(query.getResultType())) {
+                return null;
+            }
+            if (trigramEnabled) {
+                Expression<String> name = cb.lower(root.get("name"));
+                Expression<String> address = cb.lower(root.get("address"));
+                query.orderBy(
+                        cb.desc(cb.function("similarity", Double.class, name, cb.literal(term))),
+                        cb.desc(cb.function("similarity", Double.class, address, cb.literal(term))),
+                        cb.desc(root.get("createdAt")));
+            } else {
+                String escaped = escapeLike(term);
+                query.orderBy(
+                        cb.asc(cb.selectCase()
+                                .when(cb.like(cb.lower(root.get("name")), escaped + "%", LIKE_ESCAPE), 0)
+                                .when(cb.like(cb.lower(root.get("name")), "%" + escaped + "%", LIKE_ESCAPE), 1)
+                                .otherwise(2)),
+                        cb.desc(root.get("createdAt")));
+            }
+            return null;
+        };
+    }
+
+    /**
+     * 기본 요금 범위가 [minPrice, maxPrice]와 겹치는 캠핑장 (캠핑장 가격 요약 기준)
+     * 활성 요금제가 없는 캠핑장은 요약 행이 없으므로 제외됩니다.
+     */
+    public static Specification<Campground> basePriceOverlaps(BigDecimal minPrice, BigDecimal maxPrice) {
+        if (minPrice == null && maxPrice == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Subquery<Long> summaries = query.subquery(Long.class);
+            Root<CampgroundPriceSummary> summary = summaries.from(CampgroundPriceSummary.class);
+            List<Predicate> bounds = new ArrayList<>(2);
+            if (minPrice != null) {
+                bounds.add(cb.greaterThanOrEqualTo(summary.get("maxBasePrice"), minPrice));
+            }
+            if (maxPrice != null) {
+                bounds.add(cb.lessThanOrEqualTo(summary.get("minBasePrice"), maxPrice));
+            }
+            summaries.select(summary.get("campgroundId")).where(bounds.toArray(Predicate[]::new));
+            return root.get("id").in(summaries);
+        };
+    }
+
+    /**
+     * 지정한 편의시설을 모두 보유한 캠핑장
+     * 캠핑장의 모든 사이트 편의시설 비트마스크를 OR 집계(bit_or)한 값이 요청 마스크를 포함하는지 확인합니다.
+     * 알 수 없는 편의시설 이름이 있으면 결과가 없습니다.
+     */
+    public static Specification<Campground> hasAllAmenities(List<String> amenities) {
+        if (amenities == null || amenities.isEmpty()) {
+            return null;
+        }
+        long mask = 0L;
+        for (String amenity : amenities) {
+            try {
+                mask |= AmenityType.valueOf(amenity).toBitMask();
+            } catch (IllegalArgumentException e) {
+                return (root, query, cb) -> cb.disjunction();
+            }
+        }
+        long requiredMask = mask;
+        return (root, query, cb) -> {
+            Subquery<Long> sites = query.subquery(Long.class);
+            Root<Site> site = sites.from(Site.class);
+            Expression<Long> campgroundFlags = cb.function("bit_or", Long.class, site.get("amenitiesFlags"));
+            sites.select(site.get("campgroundId"))
+                    .groupBy(site.get("campgroundId"))
+                    .having(cb.equal(
+                            cb.function("bitand", Long.class, campgroundFlags, cb.literal(requiredMask)),
+                            requiredMask));
+            return root.get("id").in(sites);
+        };
+    }
+
+    /**
+     * 운영 주체 중 하나에 해당
+     */
+    public static Specification<Campground> operationTypeIn(Collection<CampgroundOperationType> operationTypes) {
+        if (operationTypes == null || operationTypes.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> root.get("operationType").in(operationTypes);
+    }
+
+    /**
+     * 인증/등급 중 하나에 해당
+     */
+    public static Specification<Campground> certificationIn(Collection<CampgroundCertification> certifications) {
+        if (certifications == null || certifications.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> root.get("certification").in(certifications);
+    }
+
+    /**
+     * 운영 상태 중 하나에 해당
+     */
+    public static Specification<Campground> statusIn(Collection<CampgroundStatus> statuses) {
+        if (statuses == null || statuses.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -1,15 +1,26 @@
 package com.campstation.camp.campground.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.LockModeType;
+
 import com.campstation.camp.campground.domain.Site;
+import com.campstation.camp.campground.domain.SiteStatus;
+import com.campstation.camp.campground.dto.CampgroundSiteCountProjection;
+import com.campstation.camp.campground.dto.SiteAllocationProjection;
+import com.campstation.camp.campground.dto.SiteAmenityFlagsProjection;
+import com.campstation.camp.campground.dto.SiteCampgroundProjection;
+import com.campstation.camp.campground.dto.SitePricingKeyProjection;
 
 /**
  * Site Repository
@@ -44,10 +55,92 @@ public interface SiteRepository extends JpaRepository<Site, Long> {
            "WHERE s.campgroundId = :campgroundId")
     List<Site> findAllByCampgroundIdWithImages(@Param("campgroundId") Long campgroundId);
     
+    /**
+     * 캠핑장의 자동 배정 후보 사이트 조회 (상태/수용 인원 조건, 사이트 ID 순 정렬)
+     */
+    @Query("SELECT s.id as siteId, s.siteNumber as siteNumber, s.capacity as capacity, " +
+           "s.amenitiesFlags as amenitiesFlags FROM Site s " +
+           "WHERE s.campgroundId = :campgroundId AND s.status = :status AND s.capacity >= :guests " +
+           "ORDER BY s.id")
+    List<SiteAllocationProjection> findAllocationCandidates(
+            @Param("campgroundId") Long campgroundId,
+            @Param("status") SiteStatus status,
+            @Param("guests") int guests);
+
+    /**
+     * 캠핑장의 특정 상태 사이트 요약 조회 (사이트 ID 순 정렬, 일괄 가격 견적용)
+     */
+    @Query("SELECT s.id as siteId, s.siteNumber as siteNumber, s.capacity as capacity, " +
+           "s.amenitiesFlags as amenitiesFlags FROM Site s " +
+           "WHERE s.campgroundId = :campgroundId AND s.status = :status " +
+           "ORDER BY s.id")
+    List<SiteAllocationProjection> findSiteSummariesByCampgroundIdAndStatus(
+            @Param("campgroundId") Long campgroundId,
+            @Param("status") SiteStatus status);
+
+    /**
+     * 여러 사이트를 ID 오름차순으로 비관적 락과 함께 조회 (단체 예약용)
+     * 항상 같은 순서로 락을 획득하므로 겹치는 사이트를 가진 동시 단체 예약 간 교착 상태가 생기지 않습니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Site s WHERE s.id IN :ids ORDER BY s.id")
+    List<Site> findAllByIdInOrderByIdForUpdate(@Param("ids") Collection<Long> ids);
+
     /**
      * 기본 Campground별 조회 (페이징용)
      */
     Page<Site> findByCampgroundId(Long campgroundId, Pageable pageable);
+
+    /**
+     * 사이트의 캠핑장 ID와 요금제 버전 조회 (요금 달력 컴파일용)
+     */
+    @Query("SELECT s.id as siteId, s.campgroundId as campgroundId, s.pricingVersion as pricingVersion " +
+           "FROM Site s WHERE s.id = :siteId")
+    Optional<SitePricingKeyProjection> findPricingKeyById(@Param("siteId") Long siteId);
+
+    /**
+     * 여러 사이트의 캠핑장 ID와 요금제 버전 조회 (요금 달력 일괄 컴파일용)
+     */
+    @Query("SELECT s.id as siteId, s.campgroundId as campgroundId, s.pricingVersion as pricingVersion " +
+           "FROM Site s WHERE s.id IN :siteIds")
+    List<SitePricingKeyProjection> findPricingKeysByIds(@Param("siteIds") Collection<Long> siteIds);
+
+    /**
+     * 사이트 요금제 버전 증가 (요금제 변경 트랜잭션에서 호출)
+     */
+    @Modifying
+    @Query("UPDATE Site s SET s.pricingVersion = s.pricingVersion + 1 WHERE s.id = :siteId")
+    int incrementPricingVersion(@Param("siteId") Long siteId);
+
+    /**
+     * 캠핑장별 특정 상태 사이트 수 조회 (점유율 인덱스 구축용)
+     */
+    @Query("SELECT s.campgroundId as campgroundId, COUNT(s) as siteCount FROM Site s " +
+           "WHERE s.status = :status GROUP BY s.campgroundId")
+    List<CampgroundSiteCountProjection> countSitesByCampground(@Param("status") SiteStatus status);
+
+    /**
+     * 여러 캠핑장의 특정 상태 사이트 ID 조회 (캠핑장, 사이트 ID 순 정렬)
+     */
+    @Query("SELECT s.id as siteId, s.campgroundId as campgroundId FROM Site s " +
+           "WHERE s.campgroundId IN :campgroundIds AND s.status = :status " +
+           "ORDER BY s.campgroundId, s.id")
+    List<SiteCampgroundProjection> findSiteIdsByCampgroundIdsAndStatus(
+            @Param("campgroundIds") List<Long> campgroundIds,
+            @Param("status") SiteStatus status);
+
+    /**
+     * 전체 사이트 편의시설 비트마스크 조회 (캠핑장 검색 인덱스 구축용)
+     */
+    @Query("SELECT s.campgroundId as campgroundId, s.amenitiesFlags as amenitiesFlags FROM Site s")
+    List<SiteAmenityFlagsProjection> findAllAmenityFlags();
+
+    /**
+     * 캠핑장의 사이트 편의시설 비트마스크 조회 (캠핑장 검색 인덱스 증분 갱신용)
+     */
+    @Query("SELECT s.campgroundId as campgroundId, s.amenitiesFlags as amenitiesFlags FROM Site s " +
+           "WHERE s.campgroundId = :campgroundId")
+    List<SiteAmenityFlagsProjection> findAmenityFlagsByCampgroundId(@Param("campgroundId") Long campgroundId);
     
     /**
      * 지정된 모든 편의시설을 보유한 사이트 검색 (AND 조건)
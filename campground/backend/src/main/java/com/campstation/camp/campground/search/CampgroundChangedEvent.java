@@ -0,0 +1,10 @@
+package com.campstation.camp.campground.search;
+
+/**
+ * 캠핑장 정보 또는 소속 사이트가 생성/수정/삭제되었음을 알리는 이벤트
+ * 캠핑장 검색 인덱스는 커밋 후 이 이벤트로 해당 캠핑장 문서만 다시 색인합니다.
+ */
+public record CampgroundChangedEvent(
+        Long campgroundId
+) {
+}
@@ -0,0 +1,506 @@
+package com.campstation.camp.campground.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.campstation.camp.campground.domain.CampgroundStatus;
+import com.campstation.camp.campground.dto.CampgroundMapClusterResponse;
+import com.campstation.camp.campground.dto.CampgroundSearchDocumentProjection;
+import com.campstation.camp.campground.repository.CampgroundRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캠핑장 위치 인메모리 격자 인덱스
+ *
+ * 좌표가 있는 캠핑장을 위도/경도 0.1도 격자 셀로 묶어 보관합니다.
+ * 지도 영역 조회와 반경 검색은 겹치는 셀의 캠핑장만 후보로 삼고, 정확한 경계/거리는 후보에 대해서만 계산합니다.
+ *
+ * - 반경 검색은 반경의 경계 박스 안에서 중심 셀부터 바깥 고리(ring) 순으로 탐색하며,
+ *   남은 고리의 최소 거리가 k번째 거리보다 멀면 중단 (k-최근접)
+ * - 지도 클러스터링은 줌 레벨별 격자로 영역 내 좌표를 집계 (개수, 중심점, 경계 박스), 확대 시 개별 마커 반환
+ * - 애플리케이션 시작 시 전체 구축, 캠핑장 변경 커밋 후 CampgroundChangedEvent로 해당 캠핑장만 갱신
+ * - DB 조회는 잠금 밖에서 수행하고, 재구축은 새로 만든 맵으로 교체 (조회는 교체 순간에만 대기)
+ * - 10분마다 재구축하여 다른 인스턴스에서 변경된 캠핑장 반영
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CampgroundGeoIndex {
+
+    private static final double CELL_DEGREES = 0.1;
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    // 지도 타일(256px) 한 변을 나누는 클러스터 격자 수 (약 64px 격자)
+    private static final int CLUSTER_CELLS_PER_TILE = 4;
+    // 이 줌 레벨 이상이면 클러스터 없이 개별 마커만 반환
+    public static final int MARKER_ZOOM = 14;
+
+    private final CampgroundRepository campgroundRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // 재구축 중 변경된 캠핑장 (교체 후 다시 반영)
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    private Map<Long, Point> points = new HashMap<>();
+    private Map<Long, List<Point>> cells = new HashMap<>();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    /**
+     * 색인된 캠핑장 좌표
+     */
+    private record Point(Long id, String name, double latitude, double longitude, CampgroundStatus status,
+                         long cell) {
+    }
+
+    /**
+     * 클러스터 격자별 집계 값
+     */
+    private static final class ClusterAccumulator {
+        private final Point first;
+        private int count;
+        private double latitudeSum;
+        private double longitudeSum;
+        private double minLatitude = Double.MAX_VALUE;
+        private double minLongitude = Double.MAX_VALUE;
+        private double maxLatitude = -Double.MAX_VALUE;
+        private double maxLongitude = -Double.MAX_VALUE;
+
+        private ClusterAccumulator(Point first) {
+            this.first = first;
+        }
+
+        private void add(Point point) {
+            count++;
+            latitudeSum += point.latitude();
+            longitudeSum += point.longitude();
+            minLatitude = Math.min(minLatitude, point.latitude());
+            minLongitude = Math.min(minLongitude, point.longitude());
+            maxLatitude = Math.max(maxLatitude, point.latitude());
+            maxLongitude = Math.max(maxLongitude, point.longitude());
+        }
+    }
+
+    /**
+     * 반경 검색 결과 (캠핑장 ID와 중심으로부터의 거리)
+     */
+    public record Nearby(Long campgroundId, double distanceKm) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 10분마다 인덱스 재구축
+     */
+    @Scheduled(cron = "0 */10 * * * *")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * 인덱스 사용 가능 여부 (구축 실패 시 false, 호출 측은 DB 조회로 대체)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * DB의 캠핑장 좌표로 인덱스 전체 재구축
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long startTime = System.currentTimeMillis();
+            changedDuringRebuild.clear();
+            rebuilding = true;
+            List<CampgroundSearchDocumentProjection> campgrounds = campgroundRepository.findAllSearchDocuments();
+            Map<Long, Point> newPoints = new HashMap<>();
+            Map<Long, List<Point>> newCells = new HashMap<>();
+            for (CampgroundSearchDocumentProjection campground : campgrounds) {
+                add(newPoints, newCells, toPoint(campground));
+            }
+
+            List<Long> changed;
+            lock.writeLock().lock();
+            try {
+                points = newPoints;
+                cells = newCells;
+                rebuilding = false;
+                ready = true;
+                changed = List.copyOf(changedDuringRebuild);
+                changedDuringRebuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            // 조회 이후 커밋된 변경은 새 맵에 다시 반영
+            changed.forEach(this::reindex);
+
+            log.info("Campground geo index rebuilt: {} campgrounds in {} cells in {}ms",
+                    newPoints.size(), newCells.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            rebuilding = false;
+            ready = false;
+            log.error("Failed to rebuild campground geo index", e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 캠핑장 변경 커밋 후 해당 캠핑장 좌표 갱신 (삭제된 캠핑장은 제거)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCampgroundChanged(CampgroundChangedEvent event) {
+        if (event.campgroundId() == null) {
+            return;
+        }
+        if (rebuilding) {
+            changedDuringRebuild.add(event.campgroundId());
+        }
+        if (ready) {
+            reindex(event.campgroundId());
+        }
+    }
+
+    private void reindex(Long campgroundId) {
+        try {
+            Point point = campgroundRepository.findSearchDocumentById(campgroundId)
+                    .map(CampgroundGeoIndex::toPoint)
+                    .orElse(null);
+            lock.writeLock().lock();
+            try {
+                remove(points, cells, campgroundId);
+                add(points, cells, point);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to update geo index for campground {}: {}", campgroundId, e.getMessage());
+        }
+    }
+
+    /**
+     * 지도 영역(경계 박스) 내 캠핑장 ID 조회
+     *
+     * @param status 운영 상태 (null이면 전체)
+     * @return 영역 내 캠핑장 ID (ID 오름차순)
+     */
+    public List<Long> findWithinBounds(double swLat, double swLng, double neLat, double neLng,
+                                       CampgroundStatus status) {
+        List<Point> matched;
+        lock.readLock().lock();
+        try {
+            matched = pointsWithinBounds(swLat, swLng, neLat, neLng, status);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return matched.stream().map(Point::id).sorted().toList();
+    }
+
+    /**
+     * 지도 영역 내 캠핑장을 줌 레벨 격자로 클러스터링
+     * MARKER_ZOOM 이상이거나 격자에 캠핑장이 하나뿐이면 클러스터 대신 개별 마커로 반환합니다.
+     *
+     * @param zoom 지도 줌 레벨 (0 = 전 세계)
+     * @param status 운영 상태 (null이면 전체)
+     * @return 클러스터와 개별 마커
+     */
+    public CampgroundMapClusterResponse clusterWithinBounds(double swLat, double swLng, double neLat, double neLng,
+                                                            int zoom, CampgroundStatus status) {
+        List<Point> matched;
+        lock.readLock().lock();
+        try {
+            matched = pointsWithinBounds(swLat, swLng, neLat, neLng, status);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<CampgroundMapClusterResponse.Cluster> clusters = new ArrayList<>();
+        List<CampgroundMapClusterResponse.Marker> markers = new ArrayList<>();
+        if (zoom >= MARKER_ZOOM) {
+            matched.forEach(point -> markers.add(toMarker(point)));
+        } else {
+            double clusterDegrees = 360.0 / ((1L << zoom) * CLUSTER_CELLS_PER_TILE);
+            Map<Long, ClusterAccumulator> accumulators = new HashMap<>();
+            for (Point point : matched) {
+                long key = cellKey((int) Math.floor(point.latitude() / clusterDegrees),
+                        (int) Math.floor(point.longitude() / clusterDegrees));
+                accumulators.computeIfAbsent(key, k -> new ClusterAccumulator(point)).add(point);
+            }
+            for (ClusterAccumulator accumulator : accumulators.values()) {
+                if (accumulator.count == 1) {
+                    markers.add(toMarker(accumulator.first));
+                } else {
+                    clusters.add(new CampgroundMapClusterResponse.Cluster(accumulator.count,
+                            accumulator.latitudeSum / accumulator.count,
+                            accumulator.longitudeSum / accumulator.count,
+                            accumulator.minLatitude, accumulator.minLongitude,
+                            accumulator.maxLatitude, accumulator.maxLongitude));
+                }
+            }
+            clusters.sort(Comparator.comparingInt(CampgroundMapClusterResponse.Cluster::count).reversed());
+        }
+        markers.sort(Comparator.comparing(CampgroundMapClusterResponse.Marker::id));
+        return new CampgroundMapClusterResponse(zoom, matched.size(), clusters, markers);
+    }
+
+    /**
+     * 중심 좌표에서 가까운 캠핑장 조회 (k-최근접, 반경 제한)
+     *
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radiusKm 최대 반경 (km)
+     * @param limit 최대 결과 수
+     * @param status 운영 상태 (null이면 전체)
+     * @return 가까운 순으로 정렬된 캠핑장 ID와 거리
+     */
+    public List<Nearby> findNearest(double latitude, double longitude, double radiusKm, int limit,
+                                    CampgroundStatus status) {
+        validateCoordinate(latitude, longitude);
+        if (limit <= 0 || !(radiusKm > 0)) {
+            return List.of();
+        }
+        PriorityQueue<Nearby> nearest =
+                new PriorityQueue<>(Comparator.comparingDouble(Nearby::distanceKm).reversed());
+        int centerLatCell = cellOf(latitude);
+        int centerLngCell = cellOf(longitude);
+        // 탐색 범위는 반경을 감싸는 경계 박스의 셀로 제한
+        int maxLatRing = (int) Math.ceil(latitudeDelta(radiusKm) / CELL_DEGREES) + 1;
+        int maxLngRing = (int) Math.ceil(longitudeDelta(latitude, radiusKm) / CELL_DEGREES) + 1;
+
+        lock.readLock().lock();
+        try {
+            long boxCells = (2L * maxLatRing + 1) * (2L * maxLngRing + 1);
+            if (boxCells > cells.size()) {
+                // 경계 박스가 색인된 셀 수보다 넓으면 셀 범위 대신 전체 캠핑장을 확인
+                for (Point point : points.values()) {
+                    offerNearby(nearest, point, latitude, longitude, radiusKm, limit, status);
+                }
+            } else {
+                int maxRing = Math.max(maxLatRing, maxLngRing);
+                for (int ring = 0; ring <= maxRing; ring++) {
+                    double ringDistanceKm = minDistanceToRing(latitude, ring);
+                    if (ringDistanceKm > radiusKm
+                            || (nearest.size() == limit && ringDistanceKm > nearest.peek().distanceKm())) {
+                        break;
+                    }
+                    int latRange = Math.min(ring, maxLatRing);
+                    int lngRange = Math.min(ring, maxLngRing);
+                    for (int dLat = -latRange; dLat <= latRange; dLat++) {
+                        // 고리의 위/아래 행은 전체, 나머지 행은 양 끝 셀만 방문 (경계 박스 밖의 행/열은 제외)
+                        boolean edgeRow = dLat == -ring || dLat == ring;
+                        for (int dLng = -lngRange; dLng <= lngRange; dLng++) {
+                            if (!edgeRow && dLng != -ring && dLng != ring) {
+                                continue;
+                            }
+                            List<Point> cell = cells.get(cellKey(centerLatCell + dLat, centerLngCell + dLng));
+                            if (cell != null) {
+                                for (Point point : cell) {
+                                    offerNearby(nearest, point, latitude, longitude, radiusKm, limit, status);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Nearby> result = new ArrayList<>(nearest);
+        result.sort(Comparator.comparingDouble(Nearby::distanceKm));
+        return result;
+    }
+
+    /**
+     * 반경을 감싸는 경계 박스의 위도 방향 반폭 (도)
+     */
+    public static double latitudeDelta(double radiusKm) {
+        return Math.min(180.0, radiusKm / KM_PER_DEGREE);
+    }
+
+    /**
+     * 반경을 감싸는 경계 박스의 경도 방향 반폭 (도, 극지방에서는 최대 180도)
+     */
+    public static double longitudeDelta(double latitude, double radiusKm) {
+        double cos = Math.cos(Math.toRadians(latitude));
+        return cos <= 0.0 ? 180.0 : Math.min(180.0, latitudeDelta(radiusKm) / cos);
+    }
+
+    /**
+     * 위도 [-90, 90], 경도 [-180, 180] 범위 확인
+     *
+     * @throws IllegalArgumentException 범위를 벗어난 좌표
+     */
+    public static void validateCoordinate(double latitude, double longitude) {
+        if (!(latitude >= -90.0 && latitude <= 90.0)) {
+            throw new IllegalArgumentException("위도는 -90 이상 90 이하여야 합니다.");
+        }
+        if (!(longitude >= -180.0 && longitude <= 180.0)) {
+            throw new IllegalArgumentException("경도는 -180 이상 180 이하여야 합니다.");
+        }
+    }
+
+    /**
+     * 두 좌표 사이의 대원 거리 (haversine, km)
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 좌표가 없거나 범위를 벗어난 캠핑장은 null (색인 제외)
+     */
+    private static Point toPoint(CampgroundSearchDocumentProjection campground) {
+        if (campground.getLatitude() == null || campground.getLongitude() == null) {
+            return null;
+        }
+        double latitude = campground.getLatitude().doubleValue();
+        double longitude = campground.getLongitude().doubleValue();
+        if (latitude < -90.0 || latitude > 90.0 || longitude < -180.0 || longitude > 180.0) {
+            return null;
+        }
+        return new Point(campground.getId(), campground.getName(), latitude, longitude,
+                campground.getStatus(), cellKey(cellOf(latitude), cellOf(longitude)));
+    }
+
+    private static void add(Map<Long, Point> points, Map<Long, List<Point>> cells, Point point) {
+        if (point == null) {
+            return;
+        }
+        points.put(point.id(), point);
+        cells.computeIfAbsent(point.cell(), key -> new ArrayList<>()).add(point);
+    }
+
+    private static void remove(Map<Long, Point> points, Map<Long, List<Point>> cells, Long campgroundId) {
+        Point point = points.remove(campgroundId);
+        if (point == null) {
+            return;
+        }
+        List<Point> cell = cells.get(point.cell());
+        if (cell != null) {
+            cell.removeIf(candidate -> candidate.id().equals(campgroundId));
+            if (cell.isEmpty()) {
+                cells.remove(point.cell());
+            }
+        }
+    }
+
+    /**
+     * 영역과 겹치는 격자 셀의 좌표 중 영역 안에 있는 좌표 (읽기 잠금 안에서 호출)
+     */
+    private List<Point> pointsWithinBounds(double swLat, double swLng, double neLat, double neLng,
+                                           CampgroundStatus status) {
+        List<Point> matched = new ArrayList<>();
+        // 좌표 범위로 잘라 셀 번호가 넘치지 않도록 함
+        int minLatCell = cellOf(clamp(swLat, 90.0));
+        int maxLatCell = cellOf(clamp(neLat, 90.0));
+        int minLngCell = cellOf(clamp(swLng, 180.0));
+        int maxLngCell = cellOf(clamp(neLng, 180.0));
+        if (minLatCell > maxLatCell || minLngCell > maxLngCell) {
+            return matched;
+        }
+        long cellCount = ((long) maxLatCell - minLatCell + 1) * ((long) maxLngCell - minLngCell + 1);
+        if (cellCount <= cells.size()) {
+            for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                for (int lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+                    collectWithinBounds(cells.get(cellKey(latCell, lngCell)), swLat, swLng, neLat, neLng,
+                            status, matched);
+                }
+            }
+        } else {
+            // 영역이 색인된 셀 수보다 넓으면 셀 범위 대신 전체 캠핑장을 확인
+            collectWithinBounds(points.values(), swLat, swLng, neLat, neLng, status, matched);
+        }
+        return matched;
+    }
+
+    private static void collectWithinBounds(Collection<Point> candidates, double swLat, double swLng,
+                                            double neLat, double neLng, CampgroundStatus status,
+                                            List<Point> matched) {
+        if (candidates == null) {
+            return;
+        }
+        for (Point point : candidates) {
+            if ((status == null || point.status() == status)
+                    && point.latitude() >= swLat && point.latitude() <= neLat
+                    && point.longitude() >= swLng && point.longitude() <= neLng) {
+                matched.add(point);
+            }
+        }
+    }
+
+    private static void offerNearby(PriorityQueue<Nearby> nearest, Point point, double latitude, double longitude,
+                                    double radiusKm, int limit, CampgroundStatus status) {
+        if (status != null && point.status() != status) {
+            return;
+        }
+        double distanceKm = distanceKm(latitude, longitude, point.latitude(), point.longitude());
+        if (distanceKm > radiusKm) {
+            return;
+        }
+        if (nearest.size() < limit) {
+            nearest.add(new Nearby(point.id(), distanceKm));
+        } else if (distanceKm < nearest.peek().distanceKm()) {
+            nearest.poll();
+            nearest.add(new Nearby(point.id(), distanceKm));
+        }
+    }
+
+    private static CampgroundMapClusterResponse.Marker toMarker(Point point) {
+        return new CampgroundMapClusterResponse.Marker(point.id(), point.latitude(), point.longitude(), point.name());
+    }
+
+    /**
+     * 중심 셀에서 ring번째 고리에 속한 좌표까지의 최소 거리 하한 (km)
+     * 고리 사이에는 최소 (ring - 1)개의 온전한 셀이 있으며, 경도 방향 셀 폭은 고위도일수록 좁아지므로 바깥쪽 위도 기준으로 계산합니다.
+     */
+    private static double minDistanceToRing(double latitude, int ring) {
+        if (ring <= 1) {
+            return 0.0;
+        }
+        double outerLatitude = Math.min(90.0, Math.abs(latitude) + (ring + 1) * CELL_DEGREES);
+        double cellKm = CELL_DEGREES * KM_PER_DEGREE * Math.cos(Math.toRadians(outerLatitude));
+        return (ring - 1) * cellKm;
+    }
+
+    private static double clamp(double degrees, double limit) {
+        return Math.max(-limit, Math.min(limit, degrees));
+    }
+
+    private static int cellOf(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+}
@@ -0,0 +1,397 @@
+package com.campstation.camp.campground.search;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.campstation.camp.campground.domain.AmenityType;
+import com.campstation.camp.campground.domain.CampgroundCertification;
+import com.campstation.camp.campground.domain.CampgroundOperationType;
+import com.campstation.camp.campground.domain.CampgroundStatus;
+import com.campstation.camp.campground.dto.CampgroundSearchDocumentProjection;
+import com.campstation.camp.campground.dto.SiteAmenityFlagsProjection;
+import com.campstation.camp.campground.repository.CampgroundRepository;
+import com.campstation.camp.campground.repository.SiteRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캠핑장 검색 인메모리 인덱스
+ *
+ * 삭제되지 않은 캠핑장마다 연속된 순번(ordinal)을 부여하고, 검색 조건을 순번 비트맵으로 유지합니다.
+ * 검색은 비트맵 AND로 후보를 좁힌 뒤 현재 페이지의 캠핑장 ID만 반환하며, 엔티티는 호출 측에서 한 번에 조회합니다.
+ *
+ * - 키워드: 이름/주소의 2글자 n-gram 역색인 (n-gram 교집합 후 부분 일치로 최종 확인)
+ * - 조건: 운영 상태, 운영 주체, 인증/등급, 편의시설(사이트 비트마스크 OR 집계)별 비트맵
+ * - 애플리케이션 시작 시 전체 구축, 캠핑장/사이트 변경 커밋 후 CampgroundChangedEvent로 해당 캠핑장만 재색인
+ * - DB 조회는 잠금 밖에서 수행하고, 재구축은 새로 만든 상태로 교체 (검색은 교체/반영 순간에만 대기)
+ * - 10분마다 재구축하여 다른 인스턴스에서 변경된 캠핑장 반영
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CampgroundSearchIndex {
+
+    private static final int GRAM_LENGTH = 2;
+
+    private final CampgroundRepository campgroundRepository;
+    private final SiteRepository siteRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // 재구축 중 변경된 캠핑장 (교체 후 다시 반영)
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    private SearchState state = new SearchState();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    /**
+     * 색인된 캠핑장 문서 (이름/주소는 소문자로 정규화)
+     */
+    private record Document(Long id, String name, String address, CampgroundStatus status,
+                            CampgroundOperationType operationType, CampgroundCertification certification,
+                            long amenitiesFlags, long createdAt) {
+    }
+
+    /**
+     * 검색 결과 페이지 (정렬된 캠핑장 ID와 전체 건수)
+     */
+    public record IdPage(List<Long> ids, long totalElements) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 10분마다 인덱스 재구축
+     */
+    @Scheduled(cron = "0 */10 * * * *")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * 인덱스 사용 가능 여부 (구축 실패 시 false, 호출 측은 DB 검색으로 대체)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 할당된 순번 수 (삭제로 비운 순번은 다음 색인에서 재사용되므로 삭제/추가를 반복해도 늘지 않음)
+     */
+    int ordinalCount() {
+        lock.readLock().lock();
+        try {
+            return state.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * DB의 캠핑장과 사이트 편의시설로 인덱스 전체 재구축
+     * 잠금 밖에서 새 상태를 만든 뒤 교체하고, 조회 이후 커밋된 캠핑장 변경은 새 상태에 다시 반영합니다.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long startTime = System.currentTimeMillis();
+            changedDuringRebuild.clear();
+            rebuilding = true;
+            List<CampgroundSearchDocumentProjection> campgrounds = campgroundRepository.findAllSearchDocuments();
+            Map<Long, Long> amenityFlags = new HashMap<>();
+            for (SiteAmenityFlagsProjection site : siteRepository.findAllAmenityFlags()) {
+                amenityFlags.merge(site.getCampgroundId(), flagsOf(site), (a, b) -> a | b);
+            }
+            SearchState rebuilt = new SearchState();
+            for (CampgroundSearchDocumentProjection campground : campgrounds) {
+                rebuilt.add(toDocument(campground, amenityFlags.getOrDefault(campground.getId(), 0L)));
+            }
+
+            List<Long> changed;
+            lock.writeLock().lock();
+            try {
+                state = rebuilt;
+                rebuilding = false;
+                ready = true;
+                changed = List.copyOf(changedDuringRebuild);
+                changedDuringRebuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            changed.forEach(this::reindex);
+
+            log.info("Campground search index rebuilt: {} campgrounds, {} grams in {}ms",
+                    campgrounds.size(), rebuilt.postings.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            rebuilding = false;
+            ready = false;
+            log.error("Failed to rebuild campground search index", e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 캠핑장 변경 커밋 후 해당 캠핑장만 재색인 (삭제된 캠핑장은 제거)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCampgroundChanged(CampgroundChangedEvent event) {
+        if (event.campgroundId() == null) {
+            return;
+        }
+        if (rebuilding) {
+            changedDuringRebuild.add(event.campgroundId());
+        }
+        if (ready) {
+            reindex(event.campgroundId());
+        }
+    }
+
+    private void reindex(Long campgroundId) {
+        try {
+            long flags = siteRepository.findAmenityFlagsByCampgroundId(campgroundId).stream()
+                    .mapToLong(CampgroundSearchIndex::flagsOf)
+                    .reduce(0L, (a, b) -> a | b);
+            Document document = campgroundRepository.findSearchDocumentById(campgroundId)
+                    .map(campground -> toDocument(campground, flags))
+                    .orElse(null);
+            lock.writeLock().lock();
+            try {
+                state.remove(campgroundId);
+                if (document != null) {
+                    state.add(document);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to reindex campground {}: {}", campgroundId, e.getMessage());
+        }
+    }
+
+    /**
+     * 조건에 맞는 캠핑장 ID 페이지 조회
+     * 정렬은 키워드가 있으면 이름 접두 일치 → 이름 부분 일치 → 주소 일치 순, 동점과 키워드가 없는 경우는 최신 등록순입니다.
+     *
+     * @param keyword 이름 또는 주소 부분 일치 키워드 (대소문자 무시)
+     * @param amenities 모두 보유해야 하는 편의시설 (알 수 없는 이름이 있으면 결과 없음)
+     * @param statuses 운영 상태 중 하나
+     * @param operationTypes 운영 주체 중 하나
+     * @param certifications 인증/등급 중 하나
+     * @param offset 건너뛸 결과 수
+     * @param limit 페이지 크기
+     * @return 현재 페이지의 캠핑장 ID와 전체 건수
+     */
+    public IdPage search(String keyword, List<String> amenities, Collection<CampgroundStatus> statuses,
+                         Collection<CampgroundOperationType> operationTypes,
+                         Collection<CampgroundCertification> certifications, long offset, int limit) {
+        List<AmenityType> requiredAmenities = new ArrayList<>();
+        if (amenities != null) {
+            for (String amenity : amenities) {
+                try {
+                    requiredAmenities.add(AmenityType.valueOf(amenity));
+                } catch (IllegalArgumentException e) {
+                    return new IdPage(List.of(), 0);
+                }
+            }
+        }
+        String term = keyword != null && !keyword.isBlank() ? normalize(keyword.trim()) : null;
+
+        List<Document> matched = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            SearchState current = state;
+            BitSet candidates = (BitSet) current.live.clone();
+            if (term != null) {
+                for (String gram : grams(term)) {
+                    BitSet posting = current.postings.get(gram);
+                    if (posting == null) {
+                        return new IdPage(List.of(), 0);
+                    }
+                    candidates.and(posting);
+                }
+            }
+            retainAny(candidates, current.statusBitmaps, statuses);
+            retainAny(candidates, current.operationTypeBitmaps, operationTypes);
+            retainAny(candidates, current.certificationBitmaps, certifications);
+            for (AmenityType amenity : requiredAmenities) {
+                BitSet bitmap = current.amenityBitmaps.get(amenity);
+                if (bitmap == null) {
+                    return new IdPage(List.of(), 0);
+                }
+                candidates.and(bitmap);
+            }
+
+            for (int ordinal = candidates.nextSetBit(0); ordinal >= 0; ordinal = candidates.nextSetBit(ordinal + 1)) {
+                Document document = current.documents.get(ordinal);
+                // n-gram 교집합은 순서를 보장하지 않으므로 부분 일치로 최종 확인
+                if (term == null || document.name().contains(term) || document.address().contains(term)) {
+                    matched.add(document);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Comparator<Document> newestFirst = Comparator.comparingLong(Document::createdAt).reversed()
+                .thenComparing(Document::id, Comparator.reverseOrder());
+        matched.sort(term == null
+                ? newestFirst
+                : Comparator.<Document>comparingInt(document -> relevanceRank(document, term)).thenComparing(newestFirst));
+
+        int from = (int) Math.min(offset, matched.size());
+        int to = (int) Math.min((long) from + limit, matched.size());
+        List<Long> ids = matched.subList(from, to).stream().map(Document::id).toList();
+        return new IdPage(ids, matched.size());
+    }
+
+    private static <K> void retainAny(BitSet candidates, Map<K, BitSet> bitmaps, Collection<K> values) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        BitSet union = new BitSet();
+        for (K value : values) {
+            BitSet bitmap = bitmaps.get(value);
+            if (bitmap != null) {
+                union.or(bitmap);
+            }
+        }
+        candidates.and(union);
+    }
+
+    private static int relevanceRank(Document document, String term) {
+        if (document.name().startsWith(term)) {
+            return 0;
+        }
+        return document.name().contains(term) ? 1 : 2;
+    }
+
+    private static Set<String> documentGrams(Document document) {
+        Set<String> grams = grams(document.name());
+        grams.addAll(grams(document.address()));
+        return grams;
+    }
+
+    /**
+     * 문자열의 n-gram 집합 (n보다 짧은 문자열은 n-gram이 없어 부분 일치 확인만으로 검색)
+     */
+    private static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static Document toDocument(CampgroundSearchDocumentProjection campground, long amenitiesFlags) {
+        LocalDateTime createdAt = campground.getCreatedAt();
+        return new Document(campground.getId(), normalize(campground.getName()), normalize(campground.getAddress()),
+                campground.getStatus(), campground.getOperationType(), campground.getCertification(),
+                amenitiesFlags, createdAt != null ? createdAt.toEpochSecond(ZoneOffset.UTC) : 0L);
+    }
+
+    private static long flagsOf(SiteAmenityFlagsProjection site) {
+        return site.getAmenitiesFlags() != null ? site.getAmenitiesFlags() : 0L;
+    }
+
+    private static String normalize(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : "";
+    }
+
+    /**
+     * 검색 인덱스 상태 한 벌 (순번별 문서, n-gram 역색인, 조건별 비트맵)
+     * 재구축 시 새로 만들어 통째로 교체되며, 재색인은 쓰기 잠금 안에서 현재 상태에 적용됩니다.
+     */
+    private static final class SearchState {
+
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final List<Document> documents = new ArrayList<>();
+        private final BitSet live = new BitSet();
+        private final BitSet freeOrdinals = new BitSet();
+        private final Map<String, BitSet> postings = new HashMap<>();
+        private final Map<CampgroundStatus, BitSet> statusBitmaps = new EnumMap<>(CampgroundStatus.class);
+        private final Map<CampgroundOperationType, BitSet> operationTypeBitmaps =
+                new EnumMap<>(CampgroundOperationType.class);
+        private final Map<CampgroundCertification, BitSet> certificationBitmaps =
+                new EnumMap<>(CampgroundCertification.class);
+        private final Map<AmenityType, BitSet> amenityBitmaps = new EnumMap<>(AmenityType.class);
+
+        void add(Document document) {
+            int ordinal = freeOrdinals.nextSetBit(0);
+            if (ordinal < 0) {
+                ordinal = documents.size();
+                documents.add(document);
+            } else {
+                freeOrdinals.clear(ordinal);
+                documents.set(ordinal, document);
+            }
+            ordinals.put(document.id(), ordinal);
+            live.set(ordinal);
+            for (String gram : documentGrams(document)) {
+                postings.computeIfAbsent(gram, g -> new BitSet()).set(ordinal);
+            }
+            if (document.status() != null) {
+                statusBitmaps.computeIfAbsent(document.status(), s -> new BitSet()).set(ordinal);
+            }
+            if (document.operationType() != null) {
+                operationTypeBitmaps.computeIfAbsent(document.operationType(), t -> new BitSet()).set(ordinal);
+            }
+            if (document.certification() != null) {
+                certificationBitmaps.computeIfAbsent(document.certification(), c -> new BitSet()).set(ordinal);
+            }
+            for (AmenityType amenity : AmenityType.fromBitMask(document.amenitiesFlags())) {
+                amenityBitmaps.computeIfAbsent(amenity, a -> new BitSet()).set(ordinal);
+            }
+        }
+
+        void remove(Long campgroundId) {
+            Integer ordinal = ordinals.remove(campgroundId);
+            if (ordinal == null) {
+                return;
+            }
+            Document document = documents.get(ordinal);
+            for (String gram : documentGrams(document)) {
+                BitSet posting = postings.get(gram);
+                if (posting != null) {
+                    posting.clear(ordinal);
+                    if (posting.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+            statusBitmaps.values().forEach(bitmap -> bitmap.clear(ordinal));
+            operationTypeBitmaps.values().forEach(bitmap -> bitmap.clear(ordinal));
+            certificationBitmaps.values().forEach(bitmap -> bitmap.clear(ordinal));
+            amenityBitmaps.values().forEach(bitmap -> bitmap.clear(ordinal));
+            live.clear(ordinal);
+            documents.set(ordinal, null);
+            freeOrdinals.set(ordinal);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.util.List;
 
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -15,6 +16,7 @@ import com.campstation.camp.campground.dto.CampgroundResponse;
 import com.campstation.camp.campground.dto.CreateCampgroundRequest;
 import com.campstation.camp.campground.dto.UpdateCampgroundRequest;
 import com.campstation.camp.campground.repository.CampgroundRepository;
+import com.campstation.camp.campground.search.CampgroundChangedEvent;
 import com.campstation.camp.review.repository.ReviewRepository;
 import com.campstation.camp.shared.exception.ResourceNotFoundException;
 import com.campstation.camp.shared.file.S3FileService;
@@ -35,6 +37,7 @@ public class CampgroundAdminFacade {
     private final FavoriteService favoriteService;
     private final S3FileService s3FileService;
     private final ProfileImageRepository profileImageRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Page<CampgroundResponse> findAll(Pageable pageable) {
         return campgroundRepository.findAll(pageable)
@@ -58,6 +61,7 @@ public class CampgroundAdminFacade {
 
         Campground saved = campgroundRepository.save(campground);
         log.info("Campground created by admin: {}", saved.getId());
+        eventPublisher.publishEvent(new CampgroundChangedEvent(saved.getId()));
         return toResponse(saved);
     }
 
@@ -88,6 +92,7 @@ public class CampgroundAdminFacade {
 
         Campground updated = campgroundRepository.save(campground);
         log.info("Campground updated by admin: {}", updated.getId());
+        eventPublisher.publishEvent(new CampgroundChangedEvent(campgroundId));
         return toResponse(updated);
     }
 
@@ -99,6 +104,7 @@ public class CampgroundAdminFacade {
         campground.setStatus(status);
         Campground updated = campgroundRepository.save(campground);
         log.info("Campground status updated by admin: {} -> {}", campgroundId, status);
+        eventPublisher.publishEvent(new CampgroundChangedEvent(campgroundId));
         return toResponse(updated);
     }
 
@@ -109,6 +115,7 @@ public class CampgroundAdminFacade {
                 .orElseThrow(() -> new ResourceNotFoundException("캠핑장을 찾을 수 없습니다: " + campgroundId));
         campgroundRepository.delete(campground);
         log.info("Campground deleted by admin: {}", campgroundId);
+        eventPublisher.publishEvent(new CampgroundChangedEvent(campgroundId));
     }
 
     public long countAll() {
@@ -3,26 +3,39 @@ package com.campstation.camp.campground.service;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Set;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.campstation.camp.campground.domain.AmenityType;
 import com.campstation.camp.campground.domain.Campground;
 import com.campstation.camp.campground.domain.CampgroundCertification;
 import com.campstation.camp.campground.domain.CampgroundImage;
 import com.campstation.camp.campground.domain.CampgroundOperationType;
+import com.campstation.camp.campground.domain.CampgroundStatus;
+import com.campstation.camp.campground.dto.CampgroundMapClusterResponse;
 import com.campstation.camp.campground.dto.CampgroundResponse;
 import com.campstation.camp.campground.repository.CampgroundImageRepository;
 import com.campstation.camp.campground.repository.CampgroundRepository;
+import com.campstation.camp.campground.repository.CampgroundSpecifications;
+import com.campstation.camp.campground.search.CampgroundChangedEvent;
+import com.campstation.camp.campground.search.CampgroundGeoIndex;
+import com.campstation.camp.campground.search.CampgroundSearchIndex;
 import com.campstation.camp.review.repository.ReviewRepository;
 import com.campstation.camp.shared.dto.PageResponse;
 import com.campstation.camp.shared.file.S3FileService;
@@ -59,7 +72,16 @@ public class CampgroundService {
     private final S3FileService s3FileService;
     private final ProfileImageRepository profileImageRepository;
     private final EntityManager entityManager;
-    private final com.campstation.camp.pricing.repository.SitePricingRepository sitePricingRepository;
+    private final CampgroundSearchIndex searchIndex;
+    private final CampgroundGeoIndex geoIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * pg_trgm 유사도 기반 키워드 관련도 정렬 사용 여부 (H2 등 pg_trgm이 없는 DB에서는 false)
+     */
+    @Value("${campground.search.trigram-enabled:true}")
+    private boolean trigramSearchEnabled;
+
     @Transactional
     @CacheEvict(value = "campgrounds", allEntries = true, condition = "!@environment.acceptsProfiles('local')")
     public CampgroundResponse createCampground(String name, String description, String address,
@@ -122,6 +144,7 @@ public class CampgroundService {
             campgroundImageRepository.saveAll(images);
         }
 
+        eventPublisher.publishEvent(new CampgroundChangedEvent(savedCampground.getId()));
         return toCampgroundResponse(savedCampground);
     }
 
@@ -219,6 +242,7 @@ public class CampgroundService {
             }
         }
 
+        eventPublisher.publishEvent(new CampgroundChangedEvent(id));
         return toCampgroundResponse(campgroundRepository.save(campground));
     }
     
@@ -265,96 +289,98 @@ public class CampgroundService {
     public List<CampgroundResponse> getCampgroundsByMapBounds(
             BigDecimal swLat, BigDecimal swLng,
             BigDecimal neLat, BigDecimal neLng) {
-        List<Campground> campgrounds = campgroundRepository.findByMapBoundsAndNotDeleted(
-                swLat, swLng, neLat, neLng
-        );
+        // 위치 인덱스가 준비되어 있으면 격자 셀 후보만 확인하여 ID 조회 후 일괄 로딩
+        List<Campground> campgrounds = geoIndex.isReady()
+                ? findAllByIdInOrder(geoIndex.findWithinBounds(swLat.doubleValue(), swLng.doubleValue(),
+                        neLat.doubleValue(), neLng.doubleValue(), CampgroundStatus.ACTIVE))
+                : campgroundRepository.findByMapBoundsAndNotDeleted(swLat, swLng, neLat, neLng);
         // N+1 방지: 배치 변환 사용
         return toCampgroundResponsesBatch(campgrounds);
     }
 
-    public Page<CampgroundResponse> searchCampgrounds(String keyword, BigDecimal minPrice, BigDecimal maxPrice, List<String> amenities,
-                                                       List<CampgroundOperationType> operationTypes, List<CampgroundCertification> certifications,
-                                                       Pageable pageable) {
-        if ((keyword == null || keyword.trim().isEmpty()) && minPrice == null && maxPrice == null &&
-            (amenities == null || amenities.isEmpty()) && (operationTypes == null || operationTypes.isEmpty()) &&
-            (certifications == null || certifications.isEmpty())) {
-            return campgroundRepository.findAll(pageable).map(this::toCampgroundResponse);
-        }
-
-        // 기본 키워드 검색
-        Set<Campground> results = new java.util.HashSet<>();
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            List<Campground> nameResults = campgroundRepository.findByNameContainingAndNotDeleted(keyword);
-            List<Campground> addressResults = campgroundRepository.findByAddressContainingAndNotDeleted(keyword);
-            results.addAll(nameResults);
-            results.addAll(addressResults);
-        } else {
-            // 키워드가 없으면 모든 캠핑장을 대상으로 필터링
-            results.addAll(campgroundRepository.findAllNotDeleted());
+    /**
+     * 지도 영역 내 운영 중 캠핑장을 줌 레벨에 맞춰 클러스터링합니다.
+     * 엔티티를 로딩하지 않고 위치 인덱스의 좌표만으로 집계합니다.
+     *
+     * @param zoom 지도 줌 레벨
+     * @return 클러스터와 개별 마커
+     */
+    public CampgroundMapClusterResponse getCampgroundClustersByMapBounds(
+            BigDecimal swLat, BigDecimal swLng,
+            BigDecimal neLat, BigDecimal neLng, int zoom) {
+        if (!geoIndex.isReady()) {
+            throw new IllegalStateException("지도 클러스터를 조회할 수 없습니다. 잠시 후 다시 시도해주세요.");
         }
+        return geoIndex.clusterWithinBounds(swLat.doubleValue(), swLng.doubleValue(),
+                neLat.doubleValue(), neLng.doubleValue(), zoom, CampgroundStatus.ACTIVE);
+    }
 
-        // 가격 필터링 (site_pricing 테이블 기반)
-        if (minPrice != null || maxPrice != null) {
-            results = results.stream()
-                    .filter(campground -> {
-                        // 캠핑장의 모든 사이트에 대한 기본 요금 조회
-                        List<BigDecimal> prices = campground.getSites().stream()
-                                .flatMap(site -> sitePricingRepository.findBySiteIdAndIsActiveTrueOrderByPriorityDesc(site.getId()).stream())
-                                .map(pricing -> pricing.getBasePrice())
-                                .collect(Collectors.toList());
-                        if (prices.isEmpty()) return false;
-                        
-                        BigDecimal minSitePrice = prices.stream().min(BigDecimal::compareTo).orElse(BigDecimal.ZERO);
-                        BigDecimal maxSitePrice = prices.stream().max(BigDecimal::compareTo).orElse(BigDecimal.ZERO);
-                        
-                        if (minPrice != null && maxSitePrice.compareTo(minPrice) < 0) return false;
-                        if (maxPrice != null && minSitePrice.compareTo(maxPrice) > 0) return false;
-                        return true;
-                    })
-                    .collect(Collectors.toSet());
+    /**
+     * 중심 좌표에서 가까운 운영 중 캠핑장을 가까운 순으로 조회합니다.
+     *
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radiusKm 최대 반경 (km)
+     * @param limit 최대 결과 수
+     * @return 가까운 순으로 정렬된 캠핑장 목록
+     */
+    public List<CampgroundResponse> getNearbyCampgrounds(BigDecimal latitude, BigDecimal longitude,
+                                                         double radiusKm, int limit) {
+        CampgroundGeoIndex.validateCoordinate(latitude.doubleValue(), longitude.doubleValue());
+        if (geoIndex.isReady()) {
+            List<Long> ids = geoIndex.findNearest(latitude.doubleValue(), longitude.doubleValue(), radiusKm, limit,
+                            CampgroundStatus.ACTIVE).stream()
+                    .map(CampgroundGeoIndex.Nearby::campgroundId)
+                    .toList();
+            return toCampgroundResponsesBatch(findAllByIdInOrder(ids));
         }
 
-        // 편의시설 필터링
-        if (amenities != null && !amenities.isEmpty()) {
-            results = results.stream()
-                    .filter(campground -> {
-                        Set<String> campgroundAmenities = campground.getSites().stream()
-                                .flatMap(site -> site.getAmenities().stream())
-                                .map(AmenityType::name)
-                                .collect(Collectors.toSet());
-                        return campgroundAmenities.containsAll(amenities);
-                    })
-                    .collect(Collectors.toSet());
-        }
+        // 인덱스가 없으면 반경을 감싸는 경계 박스로 먼저 거른 뒤 DB에서 거리 계산
+        double latDelta = CampgroundGeoIndex.latitudeDelta(radiusKm);
+        double lngDelta = CampgroundGeoIndex.longitudeDelta(latitude.doubleValue(), radiusKm);
+        List<Campground> campgrounds = campgroundRepository.findNearbyNotDeleted(latitude, longitude, radiusKm,
+                latitude.subtract(BigDecimal.valueOf(latDelta)), latitude.add(BigDecimal.valueOf(latDelta)),
+                longitude.subtract(BigDecimal.valueOf(lngDelta)), longitude.add(BigDecimal.valueOf(lngDelta)),
+                PageRequest.of(0, limit));
+        return toCampgroundResponsesBatch(campgrounds);
+    }
 
-        // 운영 주체 필터링
-        if (operationTypes != null && !operationTypes.isEmpty()) {
-            results = results.stream()
-                    .filter(campground -> campground.getOperationType() != null && operationTypes.contains(campground.getOperationType()))
-                    .collect(Collectors.toSet());
+    public Page<CampgroundResponse> searchCampgrounds(String keyword, BigDecimal minPrice, BigDecimal maxPrice, List<String> amenities,
+                                                       List<CampgroundOperationType> operationTypes, List<CampgroundCertification> certifications,
+                                                       List<CampgroundStatus> statuses, Pageable pageable) {
+        // 가격 조건과 사용자 지정 정렬이 없으면 인메모리 검색 인덱스로 처리 (현재 페이지 ID만 DB에서 일괄 조회)
+        if (searchIndex.isReady() && pageable.isPaged() && !pageable.getSort().isSorted()
+                && minPrice == null && maxPrice == null) {
+            CampgroundSearchIndex.IdPage idPage = searchIndex.search(keyword, amenities, statuses,
+                    operationTypes, certifications, pageable.getOffset(), pageable.getPageSize());
+            return new PageImpl<>(toCampgroundResponsesBatch(findAllByIdInOrder(idPage.ids())),
+                    pageable, idPage.totalElements());
         }
 
-        // 인증/등급 필터링
-        if (certifications != null && !certifications.isEmpty()) {
-            results = results.stream()
-                    .filter(campground -> campground.getCertification() != null && certifications.contains(campground.getCertification()))
-                    .collect(Collectors.toSet());
+        // 모든 필터를 SQL 조건으로 변환 (null 조건은 제외됨)
+        Specification<Campground> spec = Specification.where(CampgroundSpecifications.notDeleted())
+                .and(CampgroundSpecifications.keywordContains(keyword))
+                .and(CampgroundSpecifications.basePriceOverlaps(minPrice, maxPrice))
+                .and(CampgroundSpecifications.hasAllAmenities(amenities))
+                .and(CampgroundSpecifications.operationTypeIn(operationTypes))
+                .and(CampgroundSpecifications.certificationIn(certifications))
+                .and(CampgroundSpecifications.statusIn(statuses));
+
+        // 정렬 지정이 없으면 키워드 관련도순(키워드가 없으면 최신 등록순), 페이징과 전체 건수는 DB에서 처리
+        Pageable sortedPageable = pageable;
+        if (!pageable.getSort().isSorted()) {
+            if (keyword != null && !keyword.isBlank()) {
+                spec = spec.and(CampgroundSpecifications.orderByKeywordRelevance(keyword, trigramSearchEnabled));
+            } else {
+                sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                        Sort.by(Sort.Direction.DESC, "createdAt"));
+            }
         }
 
-        List<Campground> sortedResults = results.stream()
-                .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-                .collect(Collectors.toList());
-
-        // Pageable 적용
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), sortedResults.size());
-        List<Campground> pageResults = sortedResults.subList(start, end);
+        Page<Campground> page = campgroundRepository.findAll(spec, sortedPageable);
 
-        return new org.springframework.data.domain.PageImpl<>(
-                pageResults.stream().map(this::toCampgroundResponse).collect(Collectors.toList()),
-                pageable,
-                sortedResults.size()
-        );
+        // N+1 방지: 현재 페이지만 배치 변환
+        return new PageImpl<>(toCampgroundResponsesBatch(page.getContent()), sortedPageable, page.getTotalElements());
     }
 
     @Transactional
@@ -363,6 +389,22 @@ public class CampgroundService {
         Campground campground = campgroundRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException("캠핑장을 찾을 수 없습니다. ID: " + id));
         campgroundRepository.delete(campground);
+        eventPublisher.publishEvent(new CampgroundChangedEvent(id));
+    }
+
+    /**
+     * 인덱스가 반환한 ID 순서대로 캠핑장 일괄 조회 (그 사이 삭제된 캠핑장은 제외)
+     */
+    private List<Campground> findAllByIdInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Campground> campgroundsById = campgroundRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Campground::getId, Function.identity()));
+        return ids.stream()
+                .map(campgroundsById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     private CampgroundResponse toCampgroundResponse(Campground campground) {
@@ -8,6 +8,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -24,6 +25,7 @@ import com.campstation.camp.campground.dto.SiteUpdateRequestDto;
 import com.campstation.camp.campground.repository.CampgroundRepository;
 import com.campstation.camp.campground.repository.SiteImageRepository;
 import com.campstation.camp.campground.repository.SiteRepository;
+import com.campstation.camp.campground.search.CampgroundChangedEvent;
 import com.campstation.camp.pricing.domain.PricingRuleType;
 import com.campstation.camp.pricing.domain.SitePricing;
 import com.campstation.camp.pricing.repository.SitePricingRepository;
@@ -45,6 +47,7 @@ public class SiteService {
     private final SitePricingRepository sitePricingRepository;
     private final SiteImageRepository siteImageRepository;
     private final S3FileService s3FileService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Site 생성 (이미지 업로드, 기본 요금제 자동 생성)
@@ -82,6 +85,9 @@ public class SiteService {
         
         // 기본 요금제 자동 생성
         createDefaultPricing(savedSite);
+
+        // 캠핑장 편의시설 집계가 바뀌므로 검색 인덱스 재색인
+        eventPublisher.publishEvent(new CampgroundChangedEvent(campground.getId()));
         
         // basePrice 조회
         BigDecimal basePrice = sitePricingRepository
@@ -333,6 +339,7 @@ public class SiteService {
         // Dirty Checking으로 자동 UPDATE (명시적 save() 불필요)
         // flush()로 즉시 DB 반영 (이미지 조회 전에 변경사항 반영)
         siteRepository.flush();
+        eventPublisher.publishEvent(new CampgroundChangedEvent(site.getCampgroundId()));
 
         // basePrice 포함한 응답 반환 (Public URL 생성, 트랜잭션 내)
         BigDecimal basePrice = sitePricingRepository
@@ -362,9 +369,9 @@ public class SiteService {
     @Transactional
     @CacheEvict(value = {"sites", "campgrounds", "popularCampgrounds"}, allEntries = true)
     public void deleteSite(Long siteId) {
-        if (!siteRepository.existsById(siteId)) {
-            throw new ResourceNotFoundException("Site not found with id: " + siteId);
-        }
-        siteRepository.deleteById(siteId);
+        Site site = siteRepository.findById(siteId)
+                .orElseThrow(() -> new ResourceNotFoundException("Site not found with id: " + siteId));
+        siteRepository.delete(site);
+        eventPublisher.publishEvent(new CampgroundChangedEvent(site.getCampgroundId()));
     }
 }
@@ -0,0 +1,518 @@
+package com.campstation.camp.pricing.calendar;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import com.campstation.camp.pricing.domain.SitePricing;
+
+/**
+ * 사이트별로 컴파일된 요금 달력
+ *
+ * 요금제 적용 조건(기간/시즌)은 연도와 무관한 월-일 기준이므로, 윤년 기준 366개 슬롯(1/1 ~ 12/31)마다
+ * 적용되는 최우선 요금제와 평일/주말 1박 요금을 미리 계산해 둡니다.
+ * 요일별 배율(dayMultipliers)이 있는 요금제는 요일별 1박 요금(기본 요금 × 배율)도 미리 계산하며,
+ * 배율이 있는 요일은 주말 요금 대신 이 요금을 적용합니다. (SitePricing.getDailyRate와 같은 규칙)
+ * 숙박 요금 계산은 요금제 목록을 날짜마다 다시 훑지 않고 박 수만큼 배열 값을 더하는 것으로 끝납니다.
+ *
+ * 금액은 DB 컬럼 스케일(소수 2자리)을 그대로 보존하도록 1/100원 단위 long으로 보관합니다.
+ * 요금제 엔티티 대신 불변 스냅샷(Rule)을 보관하므로 여러 스레드에서 안전하게 공유할 수 있습니다.
+ * 컴파일 시점의 사이트 요금제 버전(sites.pricing_version)을 함께 보관하여 버전별 스냅샷으로 사용합니다.
+ *
+ * 점유율 연동 요금제(OCCUPANCY)는 슬롯 요금을 정하지 않고 기준 점유율 내림차순 할증 단계로 보관하며,
+ * 계산 시 OccupancyLookup으로 날짜별 캠핑장 점유율을 조회하여 1박 요금에 할증을 더합니다.
+ */
+public final class CompiledPricingCalendar {
+
+    /**
+     * 달력 슬롯 수 (윤년 기준 1년)
+     */
+    public static final int SLOTS = 366;
+
+    /**
+     * 금액 스케일 (1/100원)
+     */
+    public static final int AMOUNT_SCALE = 2;
+
+    /**
+     * 저장되지 않은 초안 요금제로 컴파일한 달력의 버전 (시뮬레이션용)
+     */
+    public static final long DRAFT_VERSION = -1L;
+
+    private static final int NO_RULE = -1;
+    private static final long NO_WEEKEND_RATE = -1L;
+    private static final long NO_DAY_RATE = -1L;
+    private static final int LEAP_YEAR = 2000;
+    private static final int FEB_29_SLOT = 59;
+    private static final long BASIS_POINTS_PER_UNIT = 10_000L;
+
+    private final Long siteId;
+    private final Long campgroundId;
+    private final long pricingVersion;
+    private final List<Rule> rules;
+    private final int[] ruleIndexes;
+    private final long[] ruleIds;
+    private final long[] baseRates;
+    private final long[] weekendRates;
+    // 요금제별 요일 1박 요금 (인덱스: 요일 값 - 1, 배율이 없는 요금제는 null)
+    private final long[][] dayRates;
+
+    // 점유율 할증 단계 (기준 점유율 내림차순, 베이시스 포인트)
+    private final int[] occupancyThresholds;
+    private final long[] occupancySurcharges;
+    private final boolean[][] occupancySlots;
+
+    /**
+     * 날짜별 캠핑장 점유율 조회
+     */
+    @FunctionalInterface
+    public interface OccupancyLookup {
+
+        /**
+         * 날짜의 캠핑장 점유율 (베이시스 포인트, 10000 = 100%, 알 수 없으면 -1)
+         */
+        int occupancyBasisPoints(Long campgroundId, long epochDay);
+    }
+
+    /**
+     * 할인/인원 정책 계산에 필요한 요금제 스냅샷
+     * 추가 인원 요금은 1/100원 단위, 할인율은 베이시스 포인트(1% = 100) 단위로도 보관하여
+     * 계산 중에는 BigDecimal을 만들지 않습니다. (적용하지 않는 할인율은 -1)
+     */
+    public record Rule(
+            Long id,
+            String pricingName,
+            int priority,
+            Integer baseGuests,
+            BigDecimal extraGuestFee,
+            long extraGuestFeeMinor,
+            BigDecimal longStayDiscountRate,
+            long longStayDiscountBasisPoints,
+            Integer longStayMinNights,
+            BigDecimal extendedStayDiscountRate,
+            long extendedStayDiscountBasisPoints,
+            Integer extendedStayMinNights,
+            BigDecimal earlyBirdDiscountRate,
+            long earlyBirdDiscountBasisPoints,
+            Integer earlyBirdMinDays
+    ) {
+        static Rule of(SitePricing pricing) {
+            return new Rule(
+                    pricing.getId(),
+                    pricing.getPricingName(),
+                    pricing.getPriority() != null ? pricing.getPriority() : 0,
+                    pricing.getBaseGuests(),
+                    pricing.getExtraGuestFee(),
+                    pricing.getExtraGuestFee() != null ? toMinorUnits(pricing.getExtraGuestFee()) : 0L,
+                    pricing.getLongStayDiscountRate(),
+                    toBasisPoints(pricing.getLongStayDiscountRate()),
+                    pricing.getLongStayMinNights(),
+                    pricing.getExtendedStayDiscountRate(),
+                    toBasisPoints(pricing.getExtendedStayDiscountRate()),
+                    pricing.getExtendedStayMinNights(),
+                    pricing.getEarlyBirdDiscountRate(),
+                    toBasisPoints(pricing.getEarlyBirdDiscountRate()),
+                    pricing.getEarlyBirdMinDays());
+        }
+
+        /**
+         * 장기 숙박 할인 적용 여부
+         */
+        public boolean longStayAppliesTo(int nights) {
+            return longStayDiscountBasisPoints >= 0 && longStayMinNights != null && nights >= longStayMinNights;
+        }
+
+        /**
+         * 연박 할인 적용 여부
+         */
+        public boolean extendedStayAppliesTo(int nights) {
+            return extendedStayDiscountBasisPoints >= 0 && extendedStayMinNights != null
+                    && nights >= extendedStayMinNights;
+        }
+
+        /**
+         * 조기 예약 할인 적용 여부
+         */
+        public boolean earlyBirdAppliesTo(long daysBeforeCheckIn) {
+            return earlyBirdDiscountBasisPoints >= 0 && earlyBirdMinDays != null
+                    && daysBeforeCheckIn >= earlyBirdMinDays;
+        }
+    }
+
+    /**
+     * 숙박 기간 요금 합계
+     *
+     * @param baseAmount 1박 기본 요금 합계 (요일별 배율 반영, 1/100원)
+     * @param weekendSurcharge 주말 할증 합계 (1/100원)
+     * @param weekendNights 주말 요금이 적용된 박 수
+     * @param occupancySurcharge 점유율 할증 합계 (1/100원)
+     * @param occupancyNights 점유율 할증이 적용된 박 수
+     * @param primaryRule 대표 요금제 (체크인 날짜에 적용되는 요금제)
+     */
+    public record StayTotals(long baseAmount, long weekendSurcharge, int weekendNights,
+                             long occupancySurcharge, int occupancyNights, Rule primaryRule) {
+    }
+
+    private CompiledPricingCalendar(Long siteId, Long campgroundId, long pricingVersion, List<Rule> rules,
+                                    int[] ruleIndexes, long[] ruleIds, long[] baseRates, long[] weekendRates,
+                                    long[][] dayRates, int[] occupancyThresholds, long[] occupancySurcharges,
+                                    boolean[][] occupancySlots) {
+        this.siteId = siteId;
+        this.campgroundId = campgroundId;
+        this.pricingVersion = pricingVersion;
+        this.rules = rules;
+        this.ruleIndexes = ruleIndexes;
+        this.ruleIds = ruleIds;
+        this.baseRates = baseRates;
+        this.weekendRates = weekendRates;
+        this.dayRates = dayRates;
+        this.occupancyThresholds = occupancyThresholds;
+        this.occupancySurcharges = occupancySurcharges;
+        this.occupancySlots = occupancySlots;
+    }
+
+    /**
+     * 활성 요금제 목록으로 달력 컴파일
+     *
+     * @param siteId 사이트 ID
+     * @param activePricings 활성 요금제 목록 (우선순위 내림차순)
+     * @return 컴파일된 달력
+     */
+    public static CompiledPricingCalendar compile(Long siteId, List<SitePricing> activePricings) {
+        return compile(siteId, null, 0L, activePricings);
+    }
+
+    /**
+     * 활성 요금제 목록으로 달력 컴파일 (점유율 연동 요금제 포함)
+     *
+     * @param siteId 사이트 ID
+     * @param campgroundId 캠핑장 ID (점유율 조회용, 점유율 연동 요금제가 없으면 null 가능)
+     * @param pricingVersion 요금제 목록을 읽은 시점의 사이트 요금제 버전
+     * @param activePricings 활성 요금제 목록 (우선순위 내림차순)
+     * @return 컴파일된 달력
+     */
+    public static CompiledPricingCalendar compile(Long siteId, Long campgroundId, long pricingVersion,
+                                                  List<SitePricing> activePricings) {
+        int[] ruleIndexes = new int[SLOTS];
+        long[] ruleIds = new long[SLOTS];
+        long[] baseRates = new long[SLOTS];
+        long[] weekendRates = new long[SLOTS];
+        Arrays.fill(ruleIndexes, NO_RULE);
+
+        LocalDate date = LocalDate.of(LEAP_YEAR, 1, 1);
+        for (int slot = 0; slot < SLOTS; slot++, date = date.plusDays(1)) {
+            for (int i = 0; i < activePricings.size(); i++) {
+                SitePricing pricing = activePricings.get(i);
+                if (pricing.isApplicableOn(date)) {
+                    ruleIndexes[slot] = i;
+                    ruleIds[slot] = pricing.getId();
+                    baseRates[slot] = toMinorUnits(pricing.getBasePrice());
+                    weekendRates[slot] = pricing.getWeekendPrice() != null
+                            ? toMinorUnits(pricing.getWeekendPrice())
+                            : NO_WEEKEND_RATE;
+                    break;
+                }
+            }
+        }
+
+        // 점유율 할증 단계: 기준 점유율이 높은 단계부터 확인하여 처음 충족한 단계만 적용
+        List<SitePricing> occupancyPricings = activePricings.stream()
+                .filter(SitePricing::hasOccupancySurcharge)
+                .sorted(Comparator.comparing(SitePricing::getOccupancyThresholdPercent).reversed())
+                .toList();
+        int[] occupancyThresholds = new int[occupancyPricings.size()];
+        long[] occupancySurcharges = new long[occupancyPricings.size()];
+        boolean[][] occupancySlots = new boolean[occupancyPricings.size()][SLOTS];
+        for (int tier = 0; tier < occupancyPricings.size(); tier++) {
+            SitePricing pricing = occupancyPricings.get(tier);
+            occupancyThresholds[tier] = pricing.getOccupancyThresholdPercent() * 100;
+            occupancySurcharges[tier] = toBasisPoints(pricing.getOccupancySurchargeRate());
+            LocalDate slotDate = LocalDate.of(LEAP_YEAR, 1, 1);
+            for (int slot = 0; slot < SLOTS; slot++, slotDate = slotDate.plusDays(1)) {
+                occupancySlots[tier][slot] = pricing.isOccupancyRuleApplicableOn(slotDate);
+            }
+        }
+
+        long[][] dayRates = new long[activePricings.size()][];
+        for (int i = 0; i < activePricings.size(); i++) {
+            dayRates[i] = compileDayRates(activePricings.get(i));
+        }
+
+        List<Rule> rules = activePricings.stream().map(Rule::of).toList();
+        return new CompiledPricingCalendar(siteId, campgroundId, pricingVersion, rules, ruleIndexes, ruleIds,
+                baseRates, weekendRates, dayRates, occupancyThresholds, occupancySurcharges, occupancySlots);
+    }
+
+    /**
+     * 요일별 배율이 적용된 1박 요금 (배율이 하나도 없으면 null)
+     */
+    private static long[] compileDayRates(SitePricing pricing) {
+        long[] rates = null;
+        for (DayOfWeek day : DayOfWeek.values()) {
+            BigDecimal multiplier = pricing.getDayMultiplier(day);
+            if (multiplier == null) {
+                continue;
+            }
+            if (rates == null) {
+                rates = new long[7];
+                Arrays.fill(rates, NO_DAY_RATE);
+            }
+            rates[day.getValue() - 1] = toMinorUnits(pricing.getBasePrice().multiply(multiplier));
+        }
+        return rates;
+    }
+
+    public Long getSiteId() {
+        return siteId;
+    }
+
+    public Long getCampgroundId() {
+        return campgroundId;
+    }
+
+    /**
+     * 컴파일에 사용한 사이트 요금제 버전
+     */
+    public long getPricingVersion() {
+        return pricingVersion;
+    }
+
+    /**
+     * 점유율 연동 요금제 포함 여부
+     */
+    public boolean hasOccupancyRules() {
+        return occupancyThresholds.length > 0;
+    }
+
+    /**
+     * 활성 요금제가 하나도 없는지 여부
+     */
+    public boolean isEmpty() {
+        return rules.isEmpty();
+    }
+
+    /**
+     * 날짜에 적용되는 요금제 ID (없으면 null)
+     */
+    public Long ruleIdOn(LocalDate date) {
+        int slot = slotOf(date);
+        return ruleIndexes[slot] == NO_RULE ? null : ruleIds[slot];
+    }
+
+    /**
+     * 날짜에 적용되는 요금제 스냅샷 (없으면 null)
+     */
+    public Rule ruleOn(LocalDate date) {
+        int ruleIndex = ruleIndexes[slotOf(date)];
+        return ruleIndex == NO_RULE ? null : rules.get(ruleIndex);
+    }
+
+    /**
+     * 날짜의 1박 요금 (요일 반영, 1/100원 단위, 적용 요금제가 없으면 -1)
+     */
+    public long nightlyRateOn(LocalDate date) {
+        int slot = slotOf(date);
+        if (ruleIndexes[slot] == NO_RULE) {
+            return -1L;
+        }
+        int dayOfWeek = date.getDayOfWeek().getValue();
+        long dayRate = dayRate(slot, dayOfWeek);
+        if (dayRate != NO_DAY_RATE) {
+            return dayRate;
+        }
+        return isWeekend(dayOfWeek) && weekendRates[slot] != NO_WEEKEND_RATE ? weekendRates[slot] : baseRates[slot];
+    }
+
+    /**
+     * 날짜의 점유율 할증 (1/100원, 할증 없으면 0)
+     *
+     * @param date 날짜
+     * @param nightlyRate 요일을 반영한 1박 요금 (1/100원)
+     * @param occupancy 점유율 조회 (null이면 할증 없음)
+     */
+    public long occupancySurchargeOn(LocalDate date, long nightlyRate, OccupancyLookup occupancy) {
+        return occupancySurcharge(slotOf(date), date.toEpochDay(), nightlyRate, occupancy);
+    }
+
+    /**
+     * 숙박 기간 요금 합계 계산 (점유율 할증 제외)
+     */
+    public StayTotals sum(LocalDate checkInDate, LocalDate checkOutDate) {
+        return sum(checkInDate, checkOutDate, null);
+    }
+
+    /**
+     * 숙박 기간 요금 합계 계산
+     *
+     * @param checkInDate 체크인 날짜
+     * @param checkOutDate 체크아웃 날짜
+     * @param occupancy 점유율 조회 (null이면 점유율 할증 없음)
+     * @return 기간 요금 합계
+     * @throws IllegalStateException 적용 가능한 요금제가 없는 날짜가 포함된 경우
+     */
+    public StayTotals sum(LocalDate checkInDate, LocalDate checkOutDate, OccupancyLookup occupancy) {
+        long nights = ChronoUnit.DAYS.between(checkInDate, checkOutDate);
+        long baseAmount = 0L;
+        long weekendSurcharge = 0L;
+        int weekendNights = 0;
+        long occupancySurcharge = 0L;
+        int occupancyNights = 0;
+        Rule primaryRule = null;
+        long epochDay = checkInDate.toEpochDay();
+
+        // 날짜 객체를 만들지 않고 슬롯/요일/연도를 직접 전진시키며 합산
+        int slot = slotOf(checkInDate);
+        int dayOfWeek = checkInDate.getDayOfWeek().getValue();
+        int year = checkInDate.getYear();
+        boolean leapYear = Year.isLeap(year);
+
+        for (long night = 0; night < nights; night++) {
+            int ruleIndex = ruleIndexes[slot];
+            if (ruleIndex == NO_RULE) {
+                throw new IllegalStateException("날짜 " + checkInDate.plusDays(night) + "에 적용 가능한 요금제가 없습니다.");
+            }
+            if (primaryRule == null) {
+                primaryRule = rules.get(ruleIndex);
+            }
+
+            // 요일별 배율 요금은 주말 요금보다 우선하며 기본 요금 합계에 포함
+            long dayRate = dayRate(slot, dayOfWeek);
+            long nightlyRate = dayRate != NO_DAY_RATE ? dayRate : baseRates[slot];
+            baseAmount += nightlyRate;
+            if (dayRate == NO_DAY_RATE && isWeekend(dayOfWeek) && weekendRates[slot] != NO_WEEKEND_RATE) {
+                weekendSurcharge += weekendRates[slot] - baseRates[slot];
+                weekendNights++;
+                nightlyRate = weekendRates[slot];
+            }
+            long surcharge = occupancySurcharge(slot, epochDay + night, nightlyRate, occupancy);
+            if (surcharge > 0) {
+                occupancySurcharge += surcharge;
+                occupancyNights++;
+            }
+
+            dayOfWeek = dayOfWeek % 7 + 1;
+            slot++;
+            if (!leapYear && slot == FEB_29_SLOT) {
+                slot++;
+            }
+            if (slot == SLOTS) {
+                slot = 0;
+                leapYear = Year.isLeap(++year);
+            }
+        }
+        return new StayTotals(baseAmount, weekendSurcharge, weekendNights, occupancySurcharge, occupancyNights,
+                primaryRule);
+    }
+
+    private long dayRate(int slot, int dayOfWeek) {
+        long[] rates = dayRates[ruleIndexes[slot]];
+        return rates != null ? rates[dayOfWeek - 1] : NO_DAY_RATE;
+    }
+
+    private long occupancySurcharge(int slot, long epochDay, long nightlyRate, OccupancyLookup occupancy) {
+        if (occupancy == null || occupancyThresholds.length == 0) {
+            return 0L;
+        }
+        int occupancyBasisPoints = occupancy.occupancyBasisPoints(campgroundId, epochDay);
+        if (occupancyBasisPoints < 0) {
+            return 0L;
+        }
+        for (int tier = 0; tier < occupancyThresholds.length; tier++) {
+            if (occupancySlots[tier][slot] && occupancyBasisPoints >= occupancyThresholds[tier]) {
+                return (nightlyRate * occupancySurcharges[tier] + BASIS_POINTS_PER_UNIT / 2) / BASIS_POINTS_PER_UNIT;
+            }
+        }
+        return 0L;
+    }
+
+    /**
+     * 기간 내 날짜별 요금 배열 채우기 (가격 달력 UI용)
+     * 배열 길이만큼 시작 날짜부터 하루씩 채우며, 적용 요금제가 없는 날짜는 모든 값이 -1입니다.
+     *
+     * @param startDate 시작 날짜
+     * @param nightly 요일을 반영한 1박 요금 (1/100원)
+     * @param base 평일 기본 요금 (1/100원)
+     * @param weekend 주말 요금 (1/100원, 주말 요금이 없으면 기본 요금)
+     * @param appliedRuleIds 적용 요금제 ID
+     * @param occupancy 점유율 조회 (null이 아니면 1박 요금에 점유율 할증 반영)
+     */
+    public void fillRates(LocalDate startDate, long[] nightly, long[] base, long[] weekend, long[] appliedRuleIds,
+                          OccupancyLookup occupancy) {
+        long epochDay = startDate.toEpochDay();
+        int slot = slotOf(startDate);
+        int dayOfWeek = startDate.getDayOfWeek().getValue();
+        int year = startDate.getYear();
+        boolean leapYear = Year.isLeap(year);
+
+        for (int day = 0; day < nightly.length; day++) {
+            if (ruleIndexes[slot] == NO_RULE) {
+                nightly[day] = -1L;
+                base[day] = -1L;
+                weekend[day] = -1L;
+                appliedRuleIds[day] = -1L;
+            } else {
+                long weekendRate = weekendRates[slot] != NO_WEEKEND_RATE ? weekendRates[slot] : baseRates[slot];
+                base[day] = baseRates[slot];
+                weekend[day] = weekendRate;
+                long dayRate = dayRate(slot, dayOfWeek);
+                long nightlyRate = dayRate != NO_DAY_RATE ? dayRate
+                        : isWeekend(dayOfWeek) ? weekendRate : baseRates[slot];
+                nightly[day] = nightlyRate + occupancySurcharge(slot, epochDay + day, nightlyRate, occupancy);
+                appliedRuleIds[day] = ruleIds[slot];
+            }
+
+            dayOfWeek = dayOfWeek % 7 + 1;
+            slot++;
+            if (!leapYear && slot == FEB_29_SLOT) {
+                slot++;
+            }
+            if (slot == SLOTS) {
+                slot = 0;
+                leapYear = Year.isLeap(++year);
+            }
+        }
+    }
+
+    /**
+     * 1/100원 단위 금액을 BigDecimal로 변환
+     */
+    public static BigDecimal toAmount(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, AMOUNT_SCALE);
+    }
+
+    private static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static long toBasisPoints(BigDecimal percent) {
+        return percent == null ? -1L : percent.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    /**
+     * 날짜의 달력 슬롯 (윤년 기준 일자 - 1, 평년은 3월 이후 하루씩 밀어 2/29 슬롯을 건너뜀)
+     */
+    private static int slotOf(LocalDate date) {
+        int dayOfYear = date.getDayOfYear();
+        if (!date.isLeapYear() && date.getMonthValue() > 2) {
+            dayOfYear++;
+        }
+        return dayOfYear - 1;
+    }
+
+    /**
+     * 주말 여부 (금요일, 토요일)
+     */
+    public static boolean isWeekend(LocalDate date) {
+        return isWeekend(date.getDayOfWeek().getValue());
+    }
+
+    private static boolean isWeekend(int dayOfWeek) {
+        return dayOfWeek == DayOfWeek.FRIDAY.getValue() || dayOfWeek == DayOfWeek.SATURDAY.getValue();
+    }
+}
@@ -0,0 +1,197 @@
+package com.campstation.camp.pricing.calendar;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.campstation.camp.campground.dto.SitePricingKeyProjection;
+import com.campstation.camp.campground.repository.SiteRepository;
+import com.campstation.camp.pricing.domain.SitePricing;
+import com.campstation.camp.pricing.repository.SitePricingRepository;
+import com.campstation.camp.pricing.repository.SitePricingSnapshotRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사이트별 컴파일된 요금 달력 캐시 (버전별 요금제 스냅샷 저장소)
+ *
+ * 요금제가 바뀔 때만 달력을 다시 컴파일하고, 그 외의 가격 계산은 DB 조회 없이 캐시된 달력으로 처리합니다.
+ * - 달력은 컴파일 시점의 사이트 요금제 버전(sites.pricing_version)을 보관하는 불변 스냅샷
+ * - 요금제 변경 트랜잭션 커밋 후 SitePricingChangedEvent로 현재 달력을 교체 대상으로 표시 (copy-on-write)
+ * - 버전별 요금제 묶음은 site_pricing_snapshots 테이블에 영속되며, 이전 버전 달력은 이 테이블에서 컴파일해
+ *   스냅샷 캐시(pricingSnapshots)에 보관 (캐시 만료/재시작/다른 인스턴스와 무관하게 같은 버전으로 재계산)
+ * - 다른 인스턴스에서 변경된 요금제는 캐시 TTL(CacheConfig의 pricingCalendars) 만료 후 반영
+ * - 여러 사이트 조회 시 캐시에 없는 사이트의 요금제만 한 번의 쿼리로 조회
+ */
+@Component
+@Slf4j
+public class PricingCalendarCache {
+
+    public static final String CACHE_NAME = "pricingCalendars";
+    public static final String SNAPSHOT_CACHE_NAME = "pricingSnapshots";
+
+    // 버전과 요금제 목록을 읽는 사이에 요금제가 바뀐 경우 다시 읽는 최대 횟수
+    private static final int MAX_CONSISTENT_READ_ATTEMPTS = 3;
+
+    private final SitePricingRepository pricingRepository;
+    private final SitePricingSnapshotRepository snapshotRepository;
+    private final SiteRepository siteRepository;
+    private final Cache<Object, Object> calendars;
+    private final Cache<Object, Object> snapshots;
+
+    /**
+     * 버전별 스냅샷 키
+     */
+    record SnapshotKey(long siteId, long pricingVersion) {
+    }
+
+    public PricingCalendarCache(SitePricingRepository pricingRepository,
+                                SitePricingSnapshotRepository snapshotRepository,
+                                SiteRepository siteRepository, CacheManager cacheManager) {
+        this.pricingRepository = pricingRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.siteRepository = siteRepository;
+        this.calendars = ((CaffeineCache) cacheManager.getCache(CACHE_NAME)).getNativeCache();
+        this.snapshots = ((CaffeineCache) cacheManager.getCache(SNAPSHOT_CACHE_NAME)).getNativeCache();
+    }
+
+    /**
+     * 사이트의 현재 요금 달력 조회 (없으면 컴파일 후 캐시)
+     *
+     * @param siteId 사이트 ID
+     * @return 컴파일된 요금 달력
+     */
+    public CompiledPricingCalendar get(Long siteId) {
+        return (CompiledPricingCalendar) calendars.get(siteId, id -> load(siteId));
+    }
+
+    /**
+     * 특정 요금제 버전의 요금 달력 조회
+     * 현재 버전이면 현재 달력을, 이전 버전이면 스냅샷 캐시 또는 영속된 버전 스냅샷으로 컴파일한 달력을 반환합니다.
+     *
+     * @param siteId 사이트 ID
+     * @param pricingVersion 요금제 버전
+     * @return 요금 달력 (스냅샷 테이블 도입 전 버전이라 영속된 스냅샷이 없으면 empty)
+     */
+    public Optional<CompiledPricingCalendar> findVersion(Long siteId, long pricingVersion) {
+        CompiledPricingCalendar current = get(siteId);
+        if (current.getPricingVersion() == pricingVersion) {
+            return Optional.of(current);
+        }
+        SnapshotKey key = new SnapshotKey(siteId, pricingVersion);
+        CompiledPricingCalendar cached = (CompiledPricingCalendar) snapshots.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return snapshotRepository.findBySiteIdAndPricingVersion(siteId, pricingVersion)
+                .map(snapshot -> {
+                    CompiledPricingCalendar calendar = compile(siteId, current.getCampgroundId(), pricingVersion,
+                            snapshot.toPricings());
+                    snapshots.put(key, calendar);
+                    return calendar;
+                });
+    }
+
+    /**
+     * 여러 사이트의 요금 달력 일괄 조회
+     *
+     * @param siteIds 사이트 ID 목록
+     * @return 사이트 ID별 요금 달력
+     */
+    public Map<Long, CompiledPricingCalendar> getAll(Collection<Long> siteIds) {
+        Map<Object, Object> loaded = calendars.getAll(siteIds, this::loadAll);
+        Map<Long, CompiledPricingCalendar> result = new HashMap<>(loaded.size());
+        loaded.forEach((siteId, calendar) -> result.put((Long) siteId, (CompiledPricingCalendar) calendar));
+        return result;
+    }
+
+    /**
+     * 사이트 요금 달력 무효화
+     * 현재 달력은 버전별 스냅샷으로 보관한 뒤 교체 대상에서 제거합니다.
+     */
+    public void invalidate(Long siteId) {
+        CompiledPricingCalendar current = (CompiledPricingCalendar) calendars.getIfPresent(siteId);
+        if (current != null) {
+            snapshots.put(new SnapshotKey(siteId, current.getPricingVersion()), current);
+        }
+        calendars.invalidate(siteId);
+    }
+
+    /**
+     * 요금제 변경 커밋 후 달력 무효화 (다음 조회 시 새 버전으로 재컴파일)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSitePricingChanged(SitePricingChangedEvent event) {
+        invalidate(event.siteId());
+        log.debug("Pricing calendar invalidated for site {}", event.siteId());
+    }
+
+    /**
+     * 사이트 요금제 버전과 요금제 목록을 읽어 컴파일
+     * 두 조회 사이에 요금제가 바뀌면 버전이 달라지므로, 앞뒤 버전이 같을 때까지 다시 읽어
+     * 달력의 버전과 요금제 목록이 항상 같은 커밋을 가리키도록 합니다.
+     */
+    private CompiledPricingCalendar load(Long siteId) {
+        SitePricingKeyProjection key = siteRepository.findPricingKeyById(siteId).orElse(null);
+        if (key == null) {
+            return compile(siteId, null, 0L, List.of());
+        }
+        for (int attempt = 1; ; attempt++) {
+            List<SitePricing> activePricings = pricingRepository.findBySiteIdAndIsActiveTrueOrderByPriorityDesc(siteId);
+            SitePricingKeyProjection reread = siteRepository.findPricingKeyById(siteId).orElse(key);
+            if (reread.getPricingVersion().equals(key.getPricingVersion())
+                    || attempt == MAX_CONSISTENT_READ_ATTEMPTS) {
+                return compile(siteId, reread.getCampgroundId(), reread.getPricingVersion(), activePricings);
+            }
+            key = reread;
+        }
+    }
+
+    private Map<Object, Object> loadAll(Set<?> siteIds) {
+        List<Long> ids = siteIds.stream().map(Long.class::cast).toList();
+        Map<Long, SitePricingKeyProjection> keys = siteRepository.findPricingKeysByIds(ids).stream()
+                .collect(Collectors.toMap(SitePricingKeyProjection::getSiteId, Function.identity()));
+        Map<Long, List<SitePricing>> pricingsBySiteId = pricingRepository.findActiveBySiteIds(ids)
+                .stream()
+                .collect(Collectors.groupingBy(pricing -> pricing.getSite().getId()));
+        Map<Long, SitePricingKeyProjection> rereadKeys = siteRepository.findPricingKeysByIds(ids).stream()
+                .collect(Collectors.toMap(SitePricingKeyProjection::getSiteId, Function.identity()));
+
+        Map<Object, Object> compiled = new HashMap<>(ids.size());
+        for (Long siteId : ids) {
+            SitePricingKeyProjection key = keys.get(siteId);
+            SitePricingKeyProjection reread = rereadKeys.get(siteId);
+            if (key == null || reread == null) {
+                compiled.put(siteId, compile(siteId, null, 0L, List.of()));
+            } else if (!key.getPricingVersion().equals(reread.getPricingVersion())) {
+                // 일괄 조회 중 요금제가 바뀐 사이트는 단건 경로로 다시 읽음
+                compiled.put(siteId, load(siteId));
+            } else {
+                compiled.put(siteId, compile(siteId, key.getCampgroundId(), key.getPricingVersion(),
+                        pricingsBySiteId.getOrDefault(siteId, List.of())));
+            }
+        }
+        return compiled;
+    }
+
+    private CompiledPricingCalendar compile(Long siteId, Long campgroundId, long pricingVersion,
+                                            List<SitePricing> activePricings) {
+        CompiledPricingCalendar calendar =
+                CompiledPricingCalendar.compile(siteId, campgroundId, pricingVersion, activePricings);
+        log.debug("Compiled pricing calendar for site {} (version {}, {} rules)",
+                siteId, pricingVersion, activePricings.size());
+        return calendar;
+    }
+}
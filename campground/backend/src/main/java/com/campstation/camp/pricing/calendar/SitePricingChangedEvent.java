@@ -0,0 +1,11 @@
+package com.campstation.camp.pricing.calendar;
+
+/**
+ * 사이트 요금제가 생성/수정/삭제되었음을 알리는 이벤트
+ * 컴파일된 요금 달력 등 요금제 기반 캐시는 커밋 후 이 이벤트로 무효화됩니다.
+ */
+public record SitePricingChangedEvent(
+        Long siteId,
+        Long campgroundId
+) {
+}
@@ -1,18 +1,26 @@
 package com.campstation.camp.pricing.controller;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.campstation.camp.campground.domain.Site;
 import com.campstation.camp.campground.repository.SiteRepository;
-import com.campstation.camp.pricing.service.PriceCalculationService;
+import com.campstation.camp.pricing.dto.BulkPriceQuoteResponse;
+import com.campstation.camp.pricing.dto.PriceStripResponse;
+import com.campstation.camp.pricing.service.PriceQuoteService;
+import com.campstation.camp.pricing.service.PriceStripService;
+import com.campstation.camp.pricing.service.PricingEngine;
 import com.campstation.camp.reservation.dto.PriceBreakdownDto;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -36,7 +44,9 @@ import lombok.extern.slf4j.Slf4j;
 @Tag(name = "Pricing", description = "가격 계산 API")
 public class PricingController {
 
-    private final PriceCalculationService priceCalculationService;
+    private final PricingEngine pricingEngine;
+    private final PriceQuoteService priceQuoteService;
+    private final PriceStripService priceStripService;
     private final SiteRepository siteRepository;
 
     /**
@@ -66,7 +76,7 @@ public class PricingController {
         @Parameter(description = "인원 수", required = true, example = "4")
         @RequestParam(defaultValue = "2") Integer numberOfGuests
     ) {
-        log.info("Calculating price for site: {}, checkIn: {}, checkOut: {}, guests: {}",
+        log.debug("Calculating price for site: {}, checkIn: {}, checkOut: {}, guests: {}",
             siteId, checkInDate, checkOutDate, numberOfGuests);
 
         // 사이트 조회
@@ -74,7 +84,7 @@ public class PricingController {
             .orElseThrow(() -> new IllegalArgumentException("사이트를 찾을 수 없습니다: " + siteId));
 
         // 가격 계산
-        PriceBreakdownDto breakdown = priceCalculationService.calculatePrice(
+        PriceBreakdownDto breakdown = pricingEngine.calculatePrice(
             site,
             checkInDate,
             checkOutDate,
@@ -113,4 +123,83 @@ public class PricingController {
     ) {
         return calculatePrice(siteId, checkInDate, checkOutDate, numberOfGuests);
     }
+
+    /**
+     * 캠핑장 사이트 일괄 가격 견적
+     *
+     * @param campgroundId 캠핑장 ID
+     * @param siteIds 견적 대상 사이트 ID (생략 시 운영 중인 전체 사이트)
+     * @param checkInDate 체크인 날짜
+     * @param checkOutDate 체크아웃 날짜
+     * @param numberOfGuests 인원 수
+     * @param includeBreakdown 상세 내역 포함 여부
+     * @return 사이트별 최종 금액 목록
+     */
+    @GetMapping("/campgrounds/{campgroundId}/quotes")
+    @Operation(
+        summary = "캠핑장 사이트 일괄 가격 견적",
+        description = "캠핑장의 모든 사이트(또는 지정한 사이트)의 가격을 한 번에 계산합니다. 기본은 사이트별 최종 금액만 반환합니다."
+    )
+    public ResponseEntity<BulkPriceQuoteResponse> quoteCampground(
+        @Parameter(description = "캠핑장 ID", required = true)
+        @PathVariable Long campgroundId,
+
+        @Parameter(description = "사이트 ID 목록 (생략 시 전체 사이트)", example = "1,2,3")
+        @RequestParam(required = false) List<Long> siteIds,
+
+        @Parameter(description = "체크인 날짜 (YYYY-MM-DD)", required = true)
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInDate,
+
+        @Parameter(description = "체크아웃 날짜 (YYYY-MM-DD)", required = true)
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOutDate,
+
+        @Parameter(description = "인원 수")
+        @RequestParam(defaultValue = "2") Integer numberOfGuests,
+
+        @Parameter(description = "사이트별 상세 내역 포함 여부")
+        @RequestParam(defaultValue = "false") boolean includeBreakdown
+    ) {
+        return ResponseEntity.ok(priceQuoteService.quoteCampground(
+            campgroundId, siteIds, checkInDate, checkOutDate, numberOfGuests, includeBreakdown));
+    }
+
+    /**
+     * 사이트 가격 달력 (날짜별 1박 요금 배열)
+     * 요금 배열 기반 ETag를 제공하며, If-None-Match가 일치하면 304를 반환합니다.
+     *
+     * @param siteId 사이트 ID
+     * @param startDate 시작 날짜 (생략 시 오늘)
+     * @param days 조회 기간 (기본 90일, 최대 366일)
+     * @param webRequest 조건부 요청 처리를 위한 요청 정보
+     * @return 날짜별 1박 요금, 기본/주말 요금, 적용 요금제 ID 배열
+     */
+    @GetMapping("/sites/{siteId}/price-calendar")
+    @Operation(
+        summary = "사이트 가격 달력",
+        description = "시작 날짜부터 N일 동안의 날짜별 1박 요금(1/100원 단위 정수 배열)을 한 번에 조회합니다. 요금제가 없는 날짜는 -1입니다."
+    )
+    public ResponseEntity<PriceStripResponse> getPriceCalendar(
+        @Parameter(description = "사이트 ID", required = true)
+        @PathVariable Long siteId,
+
+        @Parameter(description = "시작 날짜 (YYYY-MM-DD, 생략 시 오늘)")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+
+        @Parameter(description = "조회 기간 (일)", example = "90")
+        @RequestParam(defaultValue = "" + PriceStripService.DEFAULT_DAYS) int days,
+
+        WebRequest webRequest
+    ) {
+        PriceStripResponse strip = priceStripService.getPriceStrip(
+            siteId, startDate != null ? startDate : LocalDate.now(), days);
+
+        String eTag = strip.eTag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(CacheControl.noCache())
+            .body(strip);
+    }
 }
@@ -19,8 +19,11 @@ import org.springframework.web.bind.annotation.RestController;
 import com.campstation.camp.campground.repository.SiteRepository;
 import com.campstation.camp.pricing.dto.CreateSitePricingRequest;
 import com.campstation.camp.pricing.dto.PriceBreakdown;
+import com.campstation.camp.pricing.dto.PricingSimulationRequest;
+import com.campstation.camp.pricing.dto.PricingSimulationResponse;
 import com.campstation.camp.pricing.dto.SitePricingResponse;
-import com.campstation.camp.pricing.service.PricingCalculationService;
+import com.campstation.camp.pricing.service.PricingEngine;
+import com.campstation.camp.pricing.service.PricingSimulationService;
 import com.campstation.camp.pricing.service.SitePricingService;
 import com.campstation.camp.shared.dto.CommonResponse;
 import com.campstation.camp.shared.security.annotation.OwnerOrAdmin;
@@ -48,7 +51,8 @@ import lombok.extern.slf4j.Slf4j;
 public class SitePricingController {
 
     private final SitePricingService pricingService;
-    private final PricingCalculationService calculationService;
+    private final PricingEngine pricingEngine;
+    private final PricingSimulationService pricingSimulationService;
     private final SiteRepository siteRepository;
     private final UserService userService;
 
@@ -129,6 +133,29 @@ public class SitePricingController {
         return ResponseEntity.ok(CommonResponse.success("요금제가 수정되었습니다.", response));
     }
 
+    /**
+     * 요금제 시뮬레이션 (Owner 전용)
+     * 초안 요금제를 지난 N개월 예약에 다시 적용하여 매출 변화를 예측합니다. (요금제는 저장되지 않음)
+     * 
+     * @param request 사이트별 초안 요금제와 기간
+     * @param authentication 현재 로그인한 Owner
+     * @return 실제 매출, 예상 매출, 차이 (전체 및 사이트별)
+     */
+    @PostMapping("/owner/pricing/simulations")
+    @OwnerOrAdmin
+    public ResponseEntity<CommonResponse<PricingSimulationResponse>> simulatePricing(
+            @Valid @RequestBody PricingSimulationRequest request,
+            Authentication authentication) {
+        String email = authentication.getName();
+        log.info("POST /api/v1/owner/pricing/simulations - owner: {}, sites: {}", email, request.getSites().size());
+
+        User user = userService.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+        PricingSimulationResponse response = pricingSimulationService.simulate(request, user);
+        return ResponseEntity.ok(CommonResponse.success("요금제 시뮬레이션 완료", response));
+    }
+
     /**
      * 요금제 삭제 (Owner 전용)
      * 
@@ -201,7 +228,7 @@ public class SitePricingController {
         }
 
         // 요금 계산
-        PriceBreakdown priceBreakdown = calculationService.calculatePrice(siteId, checkInDate, checkOutDate,
+        PriceBreakdown priceBreakdown = pricingEngine.calculatePriceBreakdown(siteId, checkInDate, checkOutDate,
                 numberOfGuests);
 
         return ResponseEntity.ok(CommonResponse.success("요금 계산 성공", priceBreakdown));
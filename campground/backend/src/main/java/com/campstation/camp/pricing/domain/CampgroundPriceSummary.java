@@ -0,0 +1,46 @@
+package com.campstation.camp.pricing.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캠핑장 가격 요약 엔티티
+ * 목적: 캠핑장별 활성 요금제의 최소/최대 요금을 비정규화하여 가격 범위 검색에 사용
+ * 행은 CampgroundPriceSummaryRepository의 집계 쿼리로만 갱신됩니다. (활성 요금제가 없는 캠핑장은 행 없음)
+ */
+@Entity
+@Table(name = "campground_price_summaries")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CampgroundPriceSummary {
+
+    @Id
+    @Column(name = "campground_id")
+    private Long campgroundId;
+
+    @Column(name = "min_base_price", nullable = false, precision = 10, scale = 2)
+    private BigDecimal minBasePrice;
+
+    @Column(name = "max_base_price", nullable = false, precision = 10, scale = 2)
+    private BigDecimal maxBasePrice;
+
+    @Column(name = "min_weekend_price", nullable = false, precision = 10, scale = 2)
+    private BigDecimal minWeekendPrice;
+
+    @Column(name = "max_weekend_price", nullable = false, precision = 10, scale = 2)
+    private BigDecimal maxWeekendPrice;
+
+    @Column(name = "active_rule_count", nullable = false)
+    private Integer activeRuleCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
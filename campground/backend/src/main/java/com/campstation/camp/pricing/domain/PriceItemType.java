@@ -67,7 +67,9 @@ public enum PriceItemType {
     /**
      * 기타 추가 요금
      */
-    OTHER_SURCHARGE("기타 추가 요금");
+    OTHER_SURCHARGE("기타 추가 요금"),
+
+    OCCUPANCY_SURCHARGE("점유율 할증");
 
     private final String description;
 
@@ -102,6 +104,7 @@ public enum PriceItemType {
     public boolean isSurcharge() {
         return this == WEEKEND_SURCHARGE
             || this == DAY_SURCHARGE
+            || this == OCCUPANCY_SURCHARGE
             || this == OTHER_SURCHARGE;
     }
 }
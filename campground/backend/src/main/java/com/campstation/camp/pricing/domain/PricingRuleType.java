@@ -31,7 +31,14 @@ public enum PricingRuleType {
      * 특별 이벤트 요금제
      * 특정 이벤트 기간에 적용 (최우선)
      */
-    SPECIAL_EVENT("특별 이벤트 요금제", 30);
+    SPECIAL_EVENT("특별 이벤트 요금제", 30),
+
+    /**
+     * 점유율 연동 요금제
+     * 날짜별 요금을 정하지 않고, 해당 날짜 캠핑장 점유율이 기준 이상이면 1박 요금에 할증률을 적용
+     * (기본 요금은 사용하지 않음)
+     */
+    OCCUPANCY("점유율 연동 요금제", 40);
 
     private final String displayName;
     private final int defaultPriority;
@@ -226,6 +226,23 @@ public class SitePricing extends BaseEntity {
     @Builder.Default
     private Integer earlyBirdMinDays = 30;
 
+    // ==================== 점유율 연동 (OCCUPANCY) ====================
+
+    /**
+     * 점유율 기준 (%)
+     * 해당 날짜 캠핑장 점유율이 이 값 이상이면 할증 적용
+     * 예: 80 = 80% 이상 예약 시
+     */
+    @Column(name = "occupancy_threshold_percent")
+    private Integer occupancyThresholdPercent;
+
+    /**
+     * 점유율 할증률 (%)
+     * 예: 10.0 = 1박 요금 10% 할증
+     */
+    @Column(name = "occupancy_surcharge_rate", precision = 5, scale = 2)
+    private BigDecimal occupancySurchargeRate;
+
     // ==================== 우선순위 및 상태 ====================
 
     /**
@@ -258,6 +275,11 @@ public class SitePricing extends BaseEntity {
             return false;
         }
 
+        // 점유율 연동 요금제는 날짜별 요금을 정하지 않음 (isOccupancyRuleApplicableOn 참고)
+        if (ruleType == PricingRuleType.OCCUPANCY) {
+            return false;
+        }
+
         // 기간 지정 요금제인 경우 월-일 범위 확인 (년도 무시)
         if (startMonth != null && startDay != null && endMonth != null && endDay != null) {
             return isDateInMonthDayRange(date, startMonth, startDay, endMonth, endDay);
@@ -272,6 +294,31 @@ public class SitePricing extends BaseEntity {
         return ruleType == PricingRuleType.BASE;
     }
 
+    /**
+     * 점유율 연동 요금제가 특정 날짜에 적용 대상인지 확인
+     * 월-일 범위가 설정되어 있으면 그 기간에만, 없으면 모든 날짜에 적용
+     *
+     * @param date 확인할 날짜
+     * @return 적용 대상 여부
+     */
+    public boolean isOccupancyRuleApplicableOn(LocalDate date) {
+        if (!isActive || ruleType != PricingRuleType.OCCUPANCY) {
+            return false;
+        }
+        if (startMonth != null && startDay != null && endMonth != null && endDay != null) {
+            return isDateInMonthDayRange(date, startMonth, startDay, endMonth, endDay);
+        }
+        return true;
+    }
+
+    /**
+     * 점유율 할증 적용 대상 요금제 여부 (활성 OCCUPANCY 요금제이며 기준과 할증률이 설정됨)
+     */
+    public boolean hasOccupancySurcharge() {
+        return isActive && ruleType == PricingRuleType.OCCUPANCY
+                && occupancyThresholdPercent != null && occupancySurchargeRate != null;
+    }
+
     /**
      * 특정 날짜가 월-일 범위 내에 있는지 확인 (년도 무시, 년을 넘어가는 범위 지원)
      * 예: 12/15 ~ 02/28은 12월 15일부터 다음 해 2월 28일까지
@@ -329,11 +376,9 @@ public class SitePricing extends BaseEntity {
         BigDecimal rate;
 
         // 1. 요일별 배율이 설정되어 있으면 적용
-        if (dayMultipliers != null && !dayMultipliers.isBlank()) {
-            BigDecimal multiplier = parseDayMultiplier(dayOfWeek);
-            if (multiplier != null) {
-                return basePrice.multiply(multiplier);
-            }
+        BigDecimal multiplier = getDayMultiplier(dayOfWeek);
+        if (multiplier != null) {
+            return basePrice.multiply(multiplier);
         }
 
         // 2. 주말 요금 적용 (금요일, 토요일)
@@ -346,6 +391,19 @@ public class SitePricing extends BaseEntity {
         return rate;
     }
 
+    /**
+     * 요일별 배율 조회
+     * 
+     * @param dayOfWeek 요일
+     * @return 배율 (설정되지 않았거나 파싱할 수 없으면 null)
+     */
+    public BigDecimal getDayMultiplier(DayOfWeek dayOfWeek) {
+        if (dayMultipliers == null || dayMultipliers.isBlank()) {
+            return null;
+        }
+        return parseDayMultiplier(dayOfWeek);
+    }
+
     /**
      * 요일별 배율 파싱
      * 
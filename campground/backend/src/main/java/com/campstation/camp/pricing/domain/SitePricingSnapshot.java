@@ -0,0 +1,162 @@
+package com.campstation.camp.pricing.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사이트 요금제 버전별 스냅샷 엔티티
+ * 목적: 사이트 요금제 버전마다 그 시점의 활성 요금제 묶음을 보관하여 예약을 기록된 버전으로 재계산
+ * 요금제 변경 트랜잭션에서 새 버전 행만 추가하고 기존 행은 수정하지 않습니다. (copy-on-write)
+ */
+@Entity
+@Table(name = "site_pricing_snapshots")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SitePricingSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "site_id", nullable = false, updatable = false)
+    private Long siteId;
+
+    @Column(name = "pricing_version", nullable = false, updatable = false)
+    private Long pricingVersion;
+
+    /**
+     * 해당 버전의 활성 요금제 목록 (우선순위 내림차순)
+     */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "rules", columnDefinition = "jsonb", nullable = false, updatable = false)
+    private List<Rule> rules;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 활성 요금제 목록으로 스냅샷 생성
+     *
+     * @param siteId 사이트 ID
+     * @param pricingVersion 요금제 목록이 속한 사이트 요금제 버전
+     * @param activePricings 활성 요금제 목록 (우선순위 내림차순)
+     * @return 저장 전 스냅샷
+     */
+    public static SitePricingSnapshot of(Long siteId, long pricingVersion, List<SitePricing> activePricings) {
+        SitePricingSnapshot snapshot = new SitePricingSnapshot();
+        snapshot.siteId = siteId;
+        snapshot.pricingVersion = pricingVersion;
+        snapshot.rules = activePricings.stream().map(Rule::of).toList();
+        snapshot.createdAt = LocalDateTime.now();
+        return snapshot;
+    }
+
+    /**
+     * 스냅샷 요금제 목록을 요금 달력 컴파일용 요금제로 변환 (저장하지 않는 엔티티)
+     *
+     * @return 활성 요금제 목록 (우선순위 내림차순)
+     */
+    public List<SitePricing> toPricings() {
+        return rules.stream().map(Rule::toPricing).toList();
+    }
+
+    /**
+     * 스냅샷에 보관하는 요금제 필드 (가격 계산에 쓰이는 값만)
+     */
+    public record Rule(
+            Long id,
+            String pricingName,
+            PricingRuleType ruleType,
+            BigDecimal basePrice,
+            BigDecimal weekendPrice,
+            String dayMultipliers,
+            Integer baseGuests,
+            Integer maxGuests,
+            BigDecimal extraGuestFee,
+            SeasonType seasonType,
+            Integer startMonth,
+            Integer startDay,
+            Integer endMonth,
+            Integer endDay,
+            BigDecimal longStayDiscountRate,
+            Integer longStayMinNights,
+            BigDecimal extendedStayDiscountRate,
+            Integer extendedStayMinNights,
+            BigDecimal earlyBirdDiscountRate,
+            Integer earlyBirdMinDays,
+            Integer occupancyThresholdPercent,
+            BigDecimal occupancySurchargeRate,
+            Integer priority
+    ) {
+
+        static Rule of(SitePricing pricing) {
+            return new Rule(
+                    pricing.getId(),
+                    pricing.getPricingName(),
+                    pricing.getRuleType(),
+                    pricing.getBasePrice(),
+                    pricing.getWeekendPrice(),
+                    pricing.getDayMultipliers(),
+                    pricing.getBaseGuests(),
+                    pricing.getMaxGuests(),
+                    pricing.getExtraGuestFee(),
+                    pricing.getSeasonType(),
+                    pricing.getStartMonth(),
+                    pricing.getStartDay(),
+                    pricing.getEndMonth(),
+                    pricing.getEndDay(),
+                    pricing.getLongStayDiscountRate(),
+                    pricing.getLongStayMinNights(),
+                    pricing.getExtendedStayDiscountRate(),
+                    pricing.getExtendedStayMinNights(),
+                    pricing.getEarlyBirdDiscountRate(),
+                    pricing.getEarlyBirdMinDays(),
+                    pricing.getOccupancyThresholdPercent(),
+                    pricing.getOccupancySurchargeRate(),
+                    pricing.getPriority());
+        }
+
+        SitePricing toPricing() {
+            return SitePricing.builder()
+                    .id(id)
+                    .pricingName(pricingName)
+                    .ruleType(ruleType)
+                    .basePrice(basePrice)
+                    .weekendPrice(weekendPrice)
+                    .dayMultipliers(dayMultipliers)
+                    .baseGuests(baseGuests)
+                    .maxGuests(maxGuests)
+                    .extraGuestFee(extraGuestFee)
+                    .seasonType(seasonType)
+                    .startMonth(startMonth)
+                    .startDay(startDay)
+                    .endMonth(endMonth)
+                    .endDay(endDay)
+                    .longStayDiscountRate(longStayDiscountRate)
+                    .longStayMinNights(longStayMinNights)
+                    .extendedStayDiscountRate(extendedStayDiscountRate)
+                    .extendedStayMinNights(extendedStayMinNights)
+                    .earlyBirdDiscountRate(earlyBirdDiscountRate)
+                    .earlyBirdMinDays(earlyBirdMinDays)
+                    .occupancyThresholdPercent(occupancyThresholdPercent)
+                    .occupancySurchargeRate(occupancySurchargeRate)
+                    .priority(priority)
+                    .isActive(true)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.campstation.camp.pricing.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.campstation.camp.reservation.dto.PriceBreakdownDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 캠핑장 사이트 일괄 가격 견적 응답
+ *
+ * 사이트별 최종 금액만 담은 간결한 목록을 기본으로 반환하며,
+ * 상세 내역(breakdown)은 요청한 경우에만 포함됩니다.
+ */
+public record BulkPriceQuoteResponse(
+        Long campgroundId,
+        LocalDate checkInDate,
+        LocalDate checkOutDate,
+        int nights,
+        int numberOfGuests,
+        List<SiteQuote> quotes
+) {
+
+    /**
+     * 사이트별 견적
+     * 요금제가 없어 계산할 수 없는 사이트는 totalAmount 없이 message만 포함됩니다.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record SiteQuote(
+            Long siteId,
+            String siteNumber,
+            BigDecimal totalAmount,
+            String message,
+            PriceBreakdownDto breakdown
+    ) {
+    }
+}
@@ -6,6 +6,7 @@ import com.campstation.camp.pricing.domain.PricingRuleType;
 import com.campstation.camp.pricing.domain.SeasonType;
 
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -159,6 +160,21 @@ public class CreateSitePricingRequest {
     @Min(value = 1, message = "최소 일수는 1 이상이어야 합니다")
     private Integer earlyBirdMinDays;
 
+    // ==================== 점유율 연동 (OCCUPANCY) ====================
+
+    /**
+     * 점유율 기준 (%)
+     */
+    @Min(value = 1, message = "점유율 기준은 1 이상이어야 합니다")
+    @Max(value = 100, message = "점유율 기준은 100 이하여야 합니다")
+    private Integer occupancyThresholdPercent;
+
+    /**
+     * 점유율 할증률 (%)
+     */
+    @DecimalMin(value = "0.0", message = "할증률은 0 이상이어야 합니다")
+    private BigDecimal occupancySurchargeRate;
+
     // ==================== 우선순위 및 상태 ====================
 
     /**
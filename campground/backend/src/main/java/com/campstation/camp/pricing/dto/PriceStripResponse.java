@@ -0,0 +1,32 @@
+package com.campstation.camp.pricing.dto;
+
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * 사이트 가격 달력 응답 (날짜별 1박 요금 배열)
+ *
+ * 배열의 i번째 값은 startDate + i일의 값이며, 금액은 amountScale 자리(1/100원) 정수입니다.
+ * 적용 가능한 요금제가 없는 날짜는 모든 배열 값이 -1입니다.
+ *
+ * @param pricingVersion 계산에 사용한 사이트 요금제 버전
+ * @param nightlyRates 요일을 반영한 1박 요금
+ * @param baseRates 평일 기본 요금
+ * @param weekendRates 주말 요금 (주말 요금이 없으면 기본 요금)
+ * @param ruleIds 적용 요금제 ID
+ * @param eTag 조건부 요청용 ETag (요금제 버전 기반, 점유율 연동 시 요금 배열 다이제스트 포함)
+ */
+public record PriceStripResponse(
+        Long siteId,
+        LocalDate startDate,
+        int days,
+        int amountScale,
+        long pricingVersion,
+        long[] nightlyRates,
+        long[] baseRates,
+        long[] weekendRates,
+        long[] ruleIds,
+        @JsonIgnore String eTag
+) {
+}
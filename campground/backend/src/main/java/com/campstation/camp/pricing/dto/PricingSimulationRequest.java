@@ -0,0 +1,57 @@
+package com.campstation.camp.pricing.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 요금제 시뮬레이션 요청 DTO
+ * 사이트별 초안 요금제 목록을 지난 N개월 예약에 다시 적용해 예상 매출을 계산합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PricingSimulationRequest {
+
+    /**
+     * 재계산할 과거 기간 (개월)
+     */
+    @Min(value = 1, message = "시뮬레이션 기간은 1개월 이상이어야 합니다")
+    @Max(value = 24, message = "시뮬레이션 기간은 24개월 이하여야 합니다")
+    @Builder.Default
+    private Integer months = 12;
+
+    /**
+     * 사이트별 초안 요금제
+     */
+    @NotEmpty(message = "시뮬레이션할 사이트 요금제는 필수입니다")
+    @Valid
+    @Builder.Default
+    private List<SiteDraft> sites = new ArrayList<>();
+
+    /**
+     * 사이트 초안 요금제 (해당 사이트의 요금제 전체를 대체)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SiteDraft {
+
+        @NotNull(message = "사이트 ID는 필수입니다")
+        private Long siteId;
+
+        @NotEmpty(message = "초안 요금제는 1개 이상이어야 합니다")
+        @Valid
+        private List<CreateSitePricingRequest> rules;
+    }
+}
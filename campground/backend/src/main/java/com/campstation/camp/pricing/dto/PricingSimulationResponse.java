@@ -0,0 +1,42 @@
+package com.campstation.camp.pricing.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 요금제 시뮬레이션 응답
+ *
+ * actualRevenue는 예약 당시 결제 금액 합계, projectedRevenue는 초안 요금제로 다시 계산한 금액 합계입니다.
+ * 초안 요금제가 적용되지 않는 날짜가 포함된 예약은 unpricedCount로 집계하고 실제 금액을 그대로 사용합니다.
+ *
+ * @param startDate 대상 체크인 시작 날짜 (포함)
+ * @param endDate 대상 체크인 종료 날짜 (미포함)
+ */
+public record PricingSimulationResponse(
+        int months,
+        LocalDate startDate,
+        LocalDate endDate,
+        long reservationCount,
+        long unpricedCount,
+        BigDecimal actualRevenue,
+        BigDecimal projectedRevenue,
+        BigDecimal revenueDelta,
+        long elapsedMillis,
+        List<SiteResult> sites
+) {
+
+    /**
+     * 사이트별 시뮬레이션 결과
+     */
+    public record SiteResult(
+            Long siteId,
+            String siteNumber,
+            long reservationCount,
+            long unpricedCount,
+            BigDecimal actualRevenue,
+            BigDecimal projectedRevenue,
+            BigDecimal revenueDelta
+    ) {
+    }
+}
@@ -56,6 +56,10 @@ public class SitePricingResponse {
     private Integer extendedStayMinNights;
     private BigDecimal earlyBirdDiscountRate;
     private Integer earlyBirdMinDays;
+
+    // 점유율 연동
+    private Integer occupancyThresholdPercent;
+    private BigDecimal occupancySurchargeRate;
     
     // 우선순위 및 상태
     private Integer priority;
@@ -92,6 +96,8 @@ public class SitePricingResponse {
             .extendedStayMinNights(pricing.getExtendedStayMinNights())
             .earlyBirdDiscountRate(pricing.getEarlyBirdDiscountRate())
             .earlyBirdMinDays(pricing.getEarlyBirdMinDays())
+            .occupancyThresholdPercent(pricing.getOccupancyThresholdPercent())
+            .occupancySurchargeRate(pricing.getOccupancySurchargeRate())
             .priority(pricing.getPriority())
             .isActive(pricing.getIsActive())
             .createdAt(pricing.getCreatedAt())
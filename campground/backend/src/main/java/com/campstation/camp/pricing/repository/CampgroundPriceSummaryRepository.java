@@ -0,0 +1,82 @@
+package com.campstation.camp.pricing.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.campstation.camp.pricing.domain.CampgroundPriceSummary;
+
+/**
+ * 캠핑장 가격 요약 Repository
+ * 요약 행은 site_pricing 집계로 통째로 다시 계산하므로 엔티티 저장 대신 집계 upsert 쿼리를 사용합니다.
+ * 삭제 후 재삽입하지 않으므로 동시 재집계(단건/전체)가 기본 키에서 충돌하지 않습니다.
+ * 점유율 연동 요금제(OCCUPANCY)는 1박 요금을 정하지 않으므로 집계에서 제외합니다.
+ */
+@Repository
+public interface CampgroundPriceSummaryRepository extends JpaRepository<CampgroundPriceSummary, Long> {
+
+    String UPSERT_CLAUSE = "ON CONFLICT (campground_id) DO UPDATE SET " +
+            "min_base_price = EXCLUDED.min_base_price, max_base_price = EXCLUDED.max_base_price, " +
+            "min_weekend_price = EXCLUDED.min_weekend_price, max_weekend_price = EXCLUDED.max_weekend_price, " +
+            "active_rule_count = EXCLUDED.active_rule_count, updated_at = EXCLUDED.updated_at";
+
+    // 요약 행의 캠핑장에 집계 대상 활성 요금제가 있는지 확인하는 상관 서브쿼리
+    String ACTIVE_PRICING_OF_SUMMARY = "SELECT 1 FROM site_pricing sp JOIN sites s ON s.id = sp.site_id " +
+            "WHERE s.campground_id = campground_price_summaries.campground_id " +
+            "AND sp.is_active = true AND sp.rule_type <> 'OCCUPANCY'";
+
+    /**
+     * 캠핑장 활성 요금제로 요약 행 재집계 (있으면 갱신, 없으면 추가, 활성 요금제가 없으면 변경 없음)
+     * 동시에 같은 캠핑장을 재집계해도 기본 키 충돌 없이 마지막 집계로 갱신됩니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO campground_price_summaries (" +
+                   "campground_id, min_base_price, max_base_price, min_weekend_price, max_weekend_price, " +
+                   "active_rule_count, updated_at) " +
+                   "SELECT s.campground_id, MIN(sp.base_price), MAX(sp.base_price), " +
+                   "MIN(COALESCE(sp.weekend_price, sp.base_price)), MAX(COALESCE(sp.weekend_price, sp.base_price)), " +
+                   "COUNT(*), CURRENT_TIMESTAMP " +
+                   "FROM site_pricing sp JOIN sites s ON s.id = sp.site_id " +
+                   "WHERE s.campground_id = :campgroundId AND sp.is_active = true AND sp.rule_type <> 'OCCUPANCY' " +
+                   "GROUP BY s.campground_id " +
+                   UPSERT_CLAUSE,
+           nativeQuery = true)
+    int upsertSummary(@Param("campgroundId") Long campgroundId);
+
+    /**
+     * 활성 요금제가 없어진 캠핑장의 요약 행 삭제
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM campground_price_summaries WHERE campground_id = :campgroundId " +
+                   "AND NOT EXISTS (" + ACTIVE_PRICING_OF_SUMMARY + ")",
+           nativeQuery = true)
+    int deleteSummaryIfEmpty(@Param("campgroundId") Long campgroundId);
+
+    /**
+     * 모든 캠핑장의 요약 행 재집계 (있으면 갱신, 없으면 추가)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO campground_price_summaries (" +
+                   "campground_id, min_base_price, max_base_price, min_weekend_price, max_weekend_price, " +
+                   "active_rule_count, updated_at) " +
+                   "SELECT s.campground_id, MIN(sp.base_price), MAX(sp.base_price), " +
+                   "MIN(COALESCE(sp.weekend_price, sp.base_price)), MAX(COALESCE(sp.weekend_price, sp.base_price)), " +
+                   "COUNT(*), CURRENT_TIMESTAMP " +
+                   "FROM site_pricing sp JOIN sites s ON s.id = sp.site_id " +
+                   "WHERE sp.is_active = true AND sp.rule_type <> 'OCCUPANCY' " +
+                   "GROUP BY s.campground_id " +
+                   UPSERT_CLAUSE,
+           nativeQuery = true)
+    int upsertAllSummaries();
+
+    /**
+     * 활성 요금제가 없는 모든 캠핑장의 요약 행 삭제
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM campground_price_summaries " +
+                   "WHERE NOT EXISTS (" + ACTIVE_PRICING_OF_SUMMARY + ")",
+           nativeQuery = true)
+    int deleteEmptySummaries();
+}
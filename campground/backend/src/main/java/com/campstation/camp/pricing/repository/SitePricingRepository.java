@@ -1,6 +1,7 @@
 package com.campstation.camp.pricing.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,6 +39,16 @@ public interface SitePricingRepository extends JpaRepository<SitePricing, Long>
      */
     List<SitePricing> findBySiteIdOrderByPriorityDesc(Long siteId);
 
+    /**
+     * 여러 사이트의 활성화된 요금제 일괄 조회 (사이트 ID, 우선순위 내림차순)
+     *
+     * @param siteIds 사이트 ID 목록
+     * @return 요금제 목록
+     */
+    @Query("SELECT sp FROM SitePricing sp WHERE sp.site.id IN :siteIds AND sp.isActive = true " +
+           "ORDER BY sp.site.id, sp.priority DESC")
+    List<SitePricing> findActiveBySiteIds(@Param("siteIds") Collection<Long> siteIds);
+
     /**
      * 사이트의 기본 요금제 조회
      * 
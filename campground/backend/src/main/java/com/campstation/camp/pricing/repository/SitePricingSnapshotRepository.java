@@ -0,0 +1,20 @@
+package com.campstation.camp.pricing.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.campstation.camp.pricing.domain.SitePricingSnapshot;
+
+/**
+ * 사이트 요금제 버전별 스냅샷 Repository
+ */
+@Repository
+public interface SitePricingSnapshotRepository extends JpaRepository<SitePricingSnapshot, Long> {
+
+    /**
+     * 사이트의 특정 요금제 버전 스냅샷 조회
+     */
+    Optional<SitePricingSnapshot> findBySiteIdAndPricingVersion(Long siteId, Long pricingVersion);
+}
@@ -0,0 +1,66 @@
+package com.campstation.camp.pricing.service;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.campstation.camp.pricing.calendar.SitePricingChangedEvent;
+import com.campstation.camp.pricing.repository.CampgroundPriceSummaryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캠핑장 가격 요약 관리 서비스
+ *
+ * 가격 범위 검색이 사이트별 요금제를 조회하지 않도록 캠핑장별 최소/최대 요금을 유지합니다.
+ * 검색은 CampgroundSpecifications#basePriceOverlaps가 요약 테이블을 서브쿼리로 조회합니다.
+ * - 요금제 생성/수정/삭제 시 같은 트랜잭션 안에서 해당 캠핑장 요약 재집계 (SitePricingChangedEvent)
+ * - 매일 00:20 전체 재집계로 사이트 삭제 등 이벤트가 없는 변경분 보정
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CampgroundPriceSummaryService {
+
+    private final CampgroundPriceSummaryRepository summaryRepository;
+
+    /**
+     * 요금제 변경 시 캠핑장 요약 재집계
+     * 요금제 변경과 같은 트랜잭션에서 실행되어 커밋된 요금제와 요약이 항상 함께 반영됩니다.
+     */
+    @EventListener
+    @Transactional
+    public void onSitePricingChanged(SitePricingChangedEvent event) {
+        refresh(event.campgroundId());
+    }
+
+    /**
+     * 캠핑장 요약 재집계
+     *
+     * @param campgroundId 캠핑장 ID
+     */
+    @Transactional
+    public void refresh(Long campgroundId) {
+        if (campgroundId == null) {
+            return;
+        }
+        // 집계가 있으면 upsert, 활성 요금제가 모두 사라졌을 때만 행 삭제
+        summaryRepository.upsertSummary(campgroundId);
+        summaryRepository.deleteSummaryIfEmpty(campgroundId);
+    }
+
+    /**
+     * 매일 00:20 전체 재집계
+     */
+    @Scheduled(cron = "0 20 0 * * *", zone = "Asia/Seoul")
+    @Transactional
+    public void refreshAll() {
+        long startTime = System.currentTimeMillis();
+        int count = summaryRepository.upsertAllSummaries();
+        int removed = summaryRepository.deleteEmptySummaries();
+        log.info("Campground price summaries rebuilt: {} campgrounds, {} removed in {}ms",
+                count, removed, System.currentTimeMillis() - startTime);
+    }
+}
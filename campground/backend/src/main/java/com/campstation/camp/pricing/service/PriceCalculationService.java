@@ -2,18 +2,25 @@ package com.campstation.camp.pricing.service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
 
 import com.campstation.camp.campground.domain.Site;
+import com.campstation.camp.pricing.calendar.CompiledPricingCalendar;
+import com.campstation.camp.pricing.calendar.PricingCalendarCache;
+import com.campstation.camp.pricing.domain.DiscountType;
 import com.campstation.camp.pricing.domain.PriceItemType;
-import com.campstation.camp.pricing.domain.SitePricing;
-import com.campstation.camp.pricing.repository.SitePricingRepository;
+import com.campstation.camp.pricing.dto.AppliedDiscount;
+import com.campstation.camp.pricing.dto.DailyPriceDetail;
+import com.campstation.camp.pricing.dto.PriceBreakdown;
+import com.campstation.camp.pricing.service.PricingInstrumentation.Outcome;
+import com.campstation.camp.reservation.availability.CampgroundOccupancyIndex;
 import com.campstation.camp.reservation.dto.PriceBreakdownDto;
 import com.campstation.camp.reservation.dto.PriceBreakdownDto.PriceItemDto;
 
@@ -21,19 +28,128 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * 가격 계산 서비스
+ * 가격 계산 서비스 (PricingEngine 구현)
  * 복잡한 요금제 로직을 처리하여 예약 금액을 계산
+ * 사이트별로 컴파일된 요금 달력(PricingCalendarCache)을 사용하므로 요금제가 바뀌기 전까지 DB를 조회하지 않습니다.
+ * 사이트 단위 견적은 요금제 버전을 키에 포함한 견적 캐시(PriceQuoteCache)로 재사용하며,
+ * 예약 재계산은 예약에 기록된 요금제 버전의 스냅샷으로 수행할 수 있습니다.
+ * 계산 결과는 로그 대신 PricingInstrumentation의 결과 유형별 메트릭으로 기록합니다.
+ *
+ * 계산 규칙:
+ * - 날짜별로 우선순위가 가장 높은 적용 가능 요금제의 기본 요금, 금/토는 주말 요금과의 차액을 주말 할증으로 가산
+ * - 점유율 연동 요금제가 있으면 날짜별 캠핑장 점유율(CampgroundOccupancyIndex)이 기준 이상인 날 1박 요금에 할증 가산
+ * - 체크인 날짜의 요금제를 대표 요금제로 하여 추가 인원 요금과 할인(장기 숙박, 연박, 조기 예약)을 계산
+ * - 할인은 모두 할인 전 소계 기준이며 1/100원 단위 반올림
  *
  * @author CampStation Team
- * @version 1.0
+ * @version 2.0
  * @since 2025-01-01
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class PriceCalculationService {
+public class PriceCalculationService implements PricingEngine {
+
+    private static final long BASIS_POINTS_PER_UNIT = 10_000L;
+    private static final String NO_ACTIVE_PRICING_MESSAGE = "사이트에 활성화된 요금제가 없습니다. 요금제를 먼저 생성해주세요.";
+
+    private final PricingCalendarCache pricingCalendarCache;
+    private final PriceQuoteCache priceQuoteCache;
+    private final PricingInstrumentation instrumentation;
+    private final CampgroundOccupancyIndex occupancyIndex;
+
+    /**
+     * 사이트 가격 계산 (견적 캐시 적용)
+     * 같은 사이트/체크인/박 수/인원/요금제 버전의 견적은 당일 동안 캐시된 결과를 재사용합니다.
+     */
+    @Override
+    public PriceQuote quote(Long siteId, LocalDate checkInDate, LocalDate checkOutDate, int numberOfGuests) {
+        return cachedQuote(pricingCalendarCache.get(siteId), checkInDate, checkOutDate, numberOfGuests);
+    }
+
+    @Override
+    public PriceQuote quote(CompiledPricingCalendar calendar, LocalDate checkInDate, LocalDate checkOutDate,
+                            int numberOfGuests) {
+        return quote(calendar, checkInDate, checkOutDate, numberOfGuests, LocalDate.now());
+    }
+
+    @Override
+    public PriceQuote quote(CompiledPricingCalendar calendar, LocalDate checkInDate, LocalDate checkOutDate,
+                            int numberOfGuests, LocalDate quotedOn) {
+        long startNanos = System.nanoTime();
+        if (calendar.isEmpty()) {
+            instrumentation.recordFailure(calendar.getSiteId(), Outcome.NO_RULE, startNanos, "no active pricing");
+            throw new IllegalStateException(NO_ACTIVE_PRICING_MESSAGE);
+        }
+
+        // 1. 일별 요금 합산 (날짜별 적용 요금제와 평일/주말 요금은 달력에 미리 계산되어 있음)
+        CompiledPricingCalendar.StayTotals totals;
+        try {
+            totals = calendar.sum(checkInDate, checkOutDate, occupancyIndex);
+        } catch (IllegalStateException e) {
+            instrumentation.recordFailure(calendar.getSiteId(), Outcome.UNCOVERED_DATE, startNanos, e.getMessage());
+            throw e;
+        }
+
+        PriceQuote quote = price(calendar, totals, checkInDate, checkOutDate, numberOfGuests, quotedOn);
+        instrumentation.recordQuote(quote, startNanos);
+        return quote;
+    }
+
+    @Override
+    public PriceQuote quoteForSimulation(CompiledPricingCalendar calendar, LocalDate checkInDate,
+                                         LocalDate checkOutDate, int numberOfGuests, LocalDate quotedOn) {
+        if (calendar.isEmpty()) {
+            throw new IllegalStateException(NO_ACTIVE_PRICING_MESSAGE);
+        }
+        CompiledPricingCalendar.StayTotals totals = calendar.sum(checkInDate, checkOutDate, occupancyIndex);
+        return price(calendar, totals, checkInDate, checkOutDate, numberOfGuests, quotedOn);
+    }
+
+    /**
+     * 일별 요금 합계에 추가 인원 요금과 할인을 적용 (계측 없음)
+     */
+    private static PriceQuote price(CompiledPricingCalendar calendar, CompiledPricingCalendar.StayTotals totals,
+                                    LocalDate checkInDate, LocalDate checkOutDate, int numberOfGuests,
+                                    LocalDate quotedOn) {
+        int nights = (int) ChronoUnit.DAYS.between(checkInDate, checkOutDate);
+
+        // 대표 요금제 (체크인 날짜에 적용되는 요금제, 할인 계산용)
+        CompiledPricingCalendar.Rule primaryRule = totals.primaryRule();
+        if (primaryRule == null) {
+            throw new IllegalStateException("대표 요금제를 찾을 수 없습니다.");
+        }
+
+        // 2. 추가 인원 요금 (대표 요금제 기준, 전체 숙박 기간에 적용)
+        int extraGuests = 0;
+        long extraGuestFee = 0L;
+        if (primaryRule.baseGuests() != null && numberOfGuests > primaryRule.baseGuests()) {
+            extraGuests = numberOfGuests - primaryRule.baseGuests();
+            extraGuestFee = primaryRule.extraGuestFeeMinor() * extraGuests * nights;
+        }
+
+        // 3. 할인 (할인 전 소계 기준)
+        long subtotal = totals.baseAmount() + totals.weekendSurcharge() + totals.occupancySurcharge() + extraGuestFee;
+
+        boolean longStayApplied = primaryRule.longStayAppliesTo(nights);
+        long longStayDiscount = longStayApplied
+            ? percentOf(subtotal, primaryRule.longStayDiscountBasisPoints()) : 0L;
+
+        boolean extendedStayApplied = primaryRule.extendedStayAppliesTo(nights);
+        long extendedStayDiscount = extendedStayApplied
+            ? percentOf(subtotal, primaryRule.extendedStayDiscountBasisPoints()) : 0L;
 
-    private final SitePricingRepository pricingRepository;
+        boolean earlyBirdApplied = primaryRule.earlyBirdAppliesTo(
+            ChronoUnit.DAYS.between(quotedOn, checkInDate));
+        long earlyBirdDiscount = earlyBirdApplied
+            ? percentOf(subtotal, primaryRule.earlyBirdDiscountBasisPoints()) : 0L;
+
+        return new PriceQuote(calendar, checkInDate, checkOutDate, nights, numberOfGuests, primaryRule,
+            totals.baseAmount(), totals.weekendSurcharge(), totals.weekendNights(),
+            totals.occupancySurcharge(), totals.occupancyNights(), extraGuests, extraGuestFee,
+            longStayApplied, longStayDiscount, extendedStayApplied, extendedStayDiscount,
+            earlyBirdApplied, earlyBirdDiscount);
+    }
 
     /**
      * 예약 가격 계산 (메인 메서드)
@@ -44,230 +160,304 @@ public class PriceCalculationService {
      * @param numberOfGuests 인원 수
      * @return 가격 상세 내역
      */
+    @Override
     public PriceBreakdownDto calculatePrice(
         Site site,
         LocalDate checkInDate,
         LocalDate checkOutDate,
         int numberOfGuests
     ) {
-        log.info("=== 가격 계산 시작 ===");
-        log.info("사이트 ID: {}, 체크인: {}, 체크아웃: {}, 인원: {}",
-            site.getId(), checkInDate, checkOutDate, numberOfGuests);
-
-        // 1. 적용 가능한 요금제 조회 (우선순위 순)
-        List<SitePricing> pricings = pricingRepository.findBySiteIdOrderByPriorityDesc(site.getId())
-            .stream()
-            .filter(SitePricing::getIsActive)
-            .toList();
-
-        if (pricings.isEmpty()) {
-            log.error("No active pricing found for site {}", site.getId());
-            throw new IllegalStateException("사이트에 활성화된 요금제가 없습니다. 요금제를 먼저 생성해주세요.");
-        }
-
-        log.info("활성 요금제 {}개 발견", pricings.size());
-
-        int nights = (int) ChronoUnit.DAYS.between(checkInDate, checkOutDate);
-        int displayOrder = 0;
-
-        // 2. 일별로 적용할 요금제 결정 및 기본 요금 계산
-        BigDecimal totalBasePrice = BigDecimal.ZERO;
-        BigDecimal totalWeekendSurcharge = BigDecimal.ZERO;
-        int weekendNights = 0;
-        
-        SitePricing primaryPricing = null; // 대표 요금제 (할인 계산용)
-
-        for (LocalDate date = checkInDate; date.isBefore(checkOutDate); date = date.plusDays(1)) {
-            final LocalDate currentDate = date; // Lambda에서 사용하기 위해 final
-            
-            // 해당 날짜에 적용 가능한 최우선 요금제 찾기 (우선순위 내림차순)
-            SitePricing applicablePricing = pricings.stream()
-                .filter(p -> p.isApplicableOn(currentDate))
-                .findFirst() // 이미 priority 내림차순 정렬됨
-                .orElse(null);
-
-            if (applicablePricing == null) {
-                log.warn("날짜 {}에 적용 가능한 요금제 없음", currentDate);
-                throw new IllegalStateException("날짜 " + currentDate + "에 적용 가능한 요금제가 없습니다.");
-            }
+        return toBreakdownDto(quote(site.getId(), checkInDate, checkOutDate, numberOfGuests));
+    }
 
-            // 첫 번째 요금제를 대표 요금제로 설정 (할인율 적용)
-            if (primaryPricing == null) {
-                primaryPricing = applicablePricing;
-                log.info("대표 요금제 선택: {} (우선순위: {})", 
-                    primaryPricing.getPricingName(), primaryPricing.getPriority());
-            }
+    /**
+     * 기록된 요금제 버전으로 예약 가격 재계산
+     * 해당 버전의 영속된 요금제 스냅샷으로 계산하며, 스냅샷 테이블 도입 전 버전이라 스냅샷이 없을 때만
+     * 현재 요금제로 계산합니다. 실제 사용한 버전은 결과의 pricingVersion으로 확인할 수 있습니다.
+     *
+     * @param site 사이트
+     * @param pricingVersion 예약에 기록된 요금제 버전 (null이면 현재 요금제)
+     * @param checkInDate 체크인 날짜
+     * @param checkOutDate 체크아웃 날짜
+     * @param numberOfGuests 인원 수
+     * @return 가격 상세 내역
+     */
+    @Override
+    public PriceBreakdownDto calculatePrice(
+        Site site,
+        Long pricingVersion,
+        LocalDate checkInDate,
+        LocalDate checkOutDate,
+        int numberOfGuests
+    ) {
+        CompiledPricingCalendar calendar = pricingVersion != null
+            ? pricingCalendarCache.findVersion(site.getId(), pricingVersion)
+                .orElseGet(() -> {
+                    log.warn("No pricing snapshot for site {} version {}, using current pricing",
+                        site.getId(), pricingVersion);
+                    return pricingCalendarCache.get(site.getId());
+                })
+            : pricingCalendarCache.get(site.getId());
+        return toBreakdownDto(cachedQuote(calendar, checkInDate, checkOutDate, numberOfGuests));
+    }
 
-            // 일일 기본 요금 계산
-            BigDecimal dailyBasePrice = applicablePricing.getBasePrice();
-            totalBasePrice = totalBasePrice.add(dailyBasePrice);
-
-            // 주말 할증 계산
-            DayOfWeek dayOfWeek = currentDate.getDayOfWeek();
-            boolean isWeekend = dayOfWeek == DayOfWeek.FRIDAY || dayOfWeek == DayOfWeek.SATURDAY;
-            
-            if (isWeekend && applicablePricing.getWeekendPrice() != null) {
-                BigDecimal dailySurcharge = applicablePricing.getWeekendPrice()
-                    .subtract(applicablePricing.getBasePrice());
-                totalWeekendSurcharge = totalWeekendSurcharge.add(dailySurcharge);
-                weekendNights++;
-            }
+    /**
+     * 여러 사이트 예약 가격 일괄 계산 (단체 예약용)
+     * 캐시에 없는 사이트의 요금제만 한 번의 쿼리로 조회해 달력을 컴파일한 뒤 사이트별로 계산합니다.
+     *
+     * @param sites 사이트 목록
+     * @param checkInDate 체크인 날짜
+     * @param checkOutDate 체크아웃 날짜
+     * @param guestsBySiteId 사이트 ID별 인원 수
+     * @return 사이트 ID별 가격 상세 내역 (사이트 목록 순서 유지)
+     */
+    @Override
+    public Map<Long, PriceBreakdownDto> calculatePrices(
+        List<Site> sites,
+        LocalDate checkInDate,
+        LocalDate checkOutDate,
+        Map<Long, Integer> guestsBySiteId
+    ) {
+        Map<Long, CompiledPricingCalendar> calendars = pricingCalendarCache.getAll(
+            sites.stream().map(Site::getId).toList());
+
+        Map<Long, PriceBreakdownDto> breakdowns = new LinkedHashMap<>();
+        for (Site site : sites) {
+            breakdowns.put(site.getId(), toBreakdownDto(quote(
+                calendars.get(site.getId()),
+                checkInDate,
+                checkOutDate,
+                guestsBySiteId.getOrDefault(site.getId(), 2))));
+        }
+        return breakdowns;
+    }
 
-            log.debug("날짜: {}, 요금제: {}, 기본요금: {}, 주말할증: {}", 
-                currentDate, 
-                applicablePricing.getPricingName(),
-                dailyBasePrice,
-                isWeekend && applicablePricing.getWeekendPrice() != null ? 
-                    applicablePricing.getWeekendPrice().subtract(applicablePricing.getBasePrice()) : 0);
+    /**
+     * 요금 미리보기 계산 (날짜별 요금 및 할인 내역)
+     *
+     * @param siteId 사이트 ID
+     * @param checkInDate 체크인 날짜
+     * @param checkOutDate 체크아웃 날짜
+     * @param numberOfGuests 인원 수
+     * @return 가격 상세 내역
+     */
+    @Override
+    public PriceBreakdown calculatePriceBreakdown(
+        Long siteId,
+        LocalDate checkInDate,
+        LocalDate checkOutDate,
+        int numberOfGuests
+    ) {
+        if (checkInDate == null || checkOutDate == null) {
+            throw new IllegalArgumentException("체크인/체크아웃 날짜는 필수입니다.");
+        }
+        if (!checkOutDate.isAfter(checkInDate)) {
+            throw new IllegalArgumentException("체크아웃 날짜는 체크인 날짜보다 이후여야 합니다.");
         }
+        if (numberOfGuests < 1) {
+            throw new IllegalArgumentException("인원 수는 1명 이상이어야 합니다.");
+        }
+        return toPriceBreakdown(quote(siteId, checkInDate, checkOutDate, numberOfGuests));
+    }
 
-        log.info("일별 계산 완료 - 총 기본요금: {}, 주말할증: {}", totalBasePrice, totalWeekendSurcharge);
+    @Override
+    public PriceBreakdownDto toBreakdownDto(PriceQuote quote) {
+        CompiledPricingCalendar.Rule primaryRule = quote.primaryRule();
+        int nights = quote.nights();
+        int displayOrder = 0;
 
-        // primaryPricing이 null이면 안 됨 (위 로직에서 반드시 설정됨)
-        if (primaryPricing == null) {
-            throw new IllegalStateException("대표 요금제를 찾을 수 없습니다.");
-        }
+        BigDecimal basePrice = toAmount(quote.baseAmount());
+        BigDecimal weekendSurcharge = toAmount(quote.weekendSurcharge());
 
-        // 3. PriceBreakdownDto 생성
         PriceBreakdownDto breakdown = PriceBreakdownDto.builder()
-            .basePrice(totalBasePrice)
-            .weekendSurcharge(totalWeekendSurcharge)
+            .pricingVersion(quote.calendar().getPricingVersion())
+            .basePrice(basePrice)
+            .weekendSurcharge(weekendSurcharge)
             .items(new ArrayList<>())
             .build();
 
-        // 기본 요금 항목 추가
+        // 기본 요금 항목
         breakdown.addItem(PriceItemDto.builder()
             .type(PriceItemType.BASE_PRICE)
             .name(String.format("기본 요금 (%d박)", nights))
             .quantity(BigDecimal.valueOf(nights))
-            .unitPrice(totalBasePrice.divide(BigDecimal.valueOf(nights), 2, RoundingMode.HALF_UP))
-            .amount(totalBasePrice)
+            .unitPrice(basePrice.divide(BigDecimal.valueOf(nights), 2, RoundingMode.HALF_UP))
+            .amount(basePrice)
             .displayOrder(displayOrder++)
-            .appliedPricingId(primaryPricing.getId())
+            .appliedPricingId(primaryRule.id())
             .build());
 
-        // 주말 할증 항목 추가
-        if (totalWeekendSurcharge.compareTo(BigDecimal.ZERO) > 0) {
+        // 주말 할증 항목
+        int weekendNights = quote.weekendNights();
+        if (quote.weekendSurcharge() > 0) {
             breakdown.addItem(PriceItemDto.builder()
                 .type(PriceItemType.WEEKEND_SURCHARGE)
                 .name(String.format("주말 할증 (%d박)", weekendNights))
                 .quantity(BigDecimal.valueOf(weekendNights))
-                .unitPrice(weekendNights > 0 ? 
-                    totalWeekendSurcharge.divide(BigDecimal.valueOf(weekendNights), 2, RoundingMode.HALF_UP) : 
-                    BigDecimal.ZERO)
-                .amount(totalWeekendSurcharge)
+                .unitPrice(weekendSurcharge.divide(BigDecimal.valueOf(weekendNights), 2, RoundingMode.HALF_UP))
+                .amount(weekendSurcharge)
                 .displayOrder(displayOrder++)
-                .appliedPricingId(primaryPricing.getId())
+                .appliedPricingId(primaryRule.id())
                 .build());
         }
 
-        // 4. 추가 인원 요금 계산 (대표 요금제 기준)
-        if (primaryPricing.getBaseGuests() != null && numberOfGuests > primaryPricing.getBaseGuests()) {
-            int extraGuests = numberOfGuests - primaryPricing.getBaseGuests();
-            BigDecimal extraGuestFee = primaryPricing.getExtraGuestFee()
-                .multiply(BigDecimal.valueOf(extraGuests))
-                .multiply(BigDecimal.valueOf(nights));
+        // 점유율 할증 항목
+        int occupancyNights = quote.occupancyNights();
+        if (quote.occupancySurcharge() > 0) {
+            BigDecimal occupancySurcharge = toAmount(quote.occupancySurcharge());
+            breakdown.setTotalSurcharge(occupancySurcharge);
 
+            breakdown.addItem(PriceItemDto.builder()
+                .type(PriceItemType.OCCUPANCY_SURCHARGE)
+                .name(String.format("점유율 할증 (%d박)", occupancyNights))
+                .quantity(BigDecimal.valueOf(occupancyNights))
+                .unitPrice(occupancySurcharge.divide(BigDecimal.valueOf(occupancyNights), 2, RoundingMode.HALF_UP))
+                .amount(occupancySurcharge)
+                .displayOrder(displayOrder++)
+                .appliedPricingId(primaryRule.id())
+                .build());
+        }
+
+        // 추가 인원 요금 항목 (대표 요금제 기준)
+        if (quote.extraGuests() > 0) {
+            BigDecimal extraGuestFee = toAmount(quote.extraGuestFee());
             breakdown.setExtraGuestFee(extraGuestFee);
 
             breakdown.addItem(PriceItemDto.builder()
                 .type(PriceItemType.EXTRA_GUEST_FEE)
-                .name(String.format("추가 인원 요금 (%d명 × %d박)", extraGuests, nights))
-                .quantity(BigDecimal.valueOf(extraGuests * nights))
-                .unitPrice(primaryPricing.getExtraGuestFee())
+                .name(String.format("추가 인원 요금 (%d명 × %d박)", quote.extraGuests(), nights))
+                .quantity(BigDecimal.valueOf((long) quote.extraGuests() * nights))
+                .unitPrice(toAmount(primaryRule.extraGuestFeeMinor()))
                 .amount(extraGuestFee)
                 .displayOrder(displayOrder++)
-                .appliedPricingId(primaryPricing.getId())
+                .appliedPricingId(primaryRule.id())
                 .build());
         }
 
-        // 5. 소계 계산 (할인 적용 전)
-        BigDecimal subtotal = totalBasePrice
-            .add(breakdown.getWeekendSurcharge())
-            .add(breakdown.getExtraGuestFee());
+        // 장기 숙박 할인 항목
+        if (quote.longStayApplied()) {
+            breakdown.addItem(discountItem(PriceItemType.LONG_STAY_DISCOUNT,
+                String.format("장기 숙박 할인 (-%d%%)", primaryRule.longStayDiscountRate().intValue()),
+                quote.longStayDiscount(), displayOrder++, primaryRule));
+        }
 
-        log.info("소계 (할인 전): {}", subtotal);
+        // 연박 할인 항목
+        if (quote.extendedStayApplied()) {
+            breakdown.addItem(discountItem(PriceItemType.EXTENDED_STAY_DISCOUNT,
+                String.format("연박 할인 (-%d%%)", primaryRule.extendedStayDiscountRate().intValue()),
+                quote.extendedStayDiscount(), displayOrder++, primaryRule));
+        }
 
-        // 7. 장기 숙박 할인 (대표 요금제 기준)
-        if (primaryPricing.getLongStayDiscountRate() != null
-            && primaryPricing.getLongStayMinNights() != null
-            && nights >= primaryPricing.getLongStayMinNights()) {
+        // 조기 예약 할인 항목
+        if (quote.earlyBirdApplied()) {
+            breakdown.addItem(discountItem(PriceItemType.EARLY_BIRD_DISCOUNT,
+                String.format("얼리버드 할인 (-%d%%, %d일 전 예약)",
+                    primaryRule.earlyBirdDiscountRate().intValue(),
+                    primaryRule.earlyBirdMinDays()),
+                quote.earlyBirdDiscount(), displayOrder++, primaryRule));
+        }
 
-            BigDecimal discount = subtotal
-                .multiply(primaryPricing.getLongStayDiscountRate())
-                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP)
-                .negate(); // 음수로 변환
+        // 최종 금액 계산
+        breakdown.calculateTotalAmount();
+        return breakdown;
+    }
 
-            breakdown.addItem(PriceItemDto.builder()
-                .type(PriceItemType.LONG_STAY_DISCOUNT)
-                .name(String.format("장기 숙박 할인 (-%d%%)", primaryPricing.getLongStayDiscountRate().intValue()))
-                .quantity(BigDecimal.ONE)
-                .unitPrice(discount)
-                .amount(discount)
-                .displayOrder(displayOrder++)
-                .appliedPricingId(primaryPricing.getId())
+    @Override
+    public PriceBreakdown toPriceBreakdown(PriceQuote quote) {
+        CompiledPricingCalendar calendar = quote.calendar();
+        CompiledPricingCalendar.Rule primaryRule = quote.primaryRule();
+
+        // 날짜별 요금 내역 (주말 요금, 점유율 할증 반영)
+        List<DailyPriceDetail> dailyBreakdown = new ArrayList<>(quote.nights());
+        for (LocalDate date = quote.checkInDate(); date.isBefore(quote.checkOutDate()); date = date.plusDays(1)) {
+            long nightlyRate = calendar.nightlyRateOn(date);
+            if (quote.occupancySurcharge() > 0) {
+                nightlyRate += calendar.occupancySurchargeOn(date, nightlyRate, occupancyIndex);
+            }
+            dailyBreakdown.add(DailyPriceDetail.builder()
+                .date(date)
+                .dailyRate(toAmount(nightlyRate))
+                .pricingName(calendar.ruleOn(date).pricingName())
+                .isWeekend(CompiledPricingCalendar.isWeekend(date))
                 .build());
         }
 
-        // 8. 연박 할인 (대표 요금제 기준)
-        if (primaryPricing.getExtendedStayDiscountRate() != null
-            && primaryPricing.getExtendedStayMinNights() != null
-            && nights >= primaryPricing.getExtendedStayMinNights()) {
+        // 적용 할인 내역 (할인 금액은 양수)
+        List<AppliedDiscount> appliedDiscounts = new ArrayList<>(3);
+        if (quote.longStayApplied()) {
+            appliedDiscounts.add(appliedDiscount(DiscountType.LONG_STAY, primaryRule.longStayDiscountRate(),
+                quote.longStayDiscount(),
+                String.format("장기 숙박 할인 (%d박 이상)", primaryRule.longStayMinNights())));
+        }
+        if (quote.extendedStayApplied()) {
+            appliedDiscounts.add(appliedDiscount(DiscountType.EXTENDED_STAY, primaryRule.extendedStayDiscountRate(),
+                quote.extendedStayDiscount(),
+                String.format("연박 할인 (%d박 이상)", primaryRule.extendedStayMinNights())));
+        }
+        if (quote.earlyBirdApplied()) {
+            appliedDiscounts.add(appliedDiscount(DiscountType.EARLY_BIRD, primaryRule.earlyBirdDiscountRate(),
+                quote.earlyBirdDiscount(),
+                String.format("조기 예약 할인 (%d일 전)", primaryRule.earlyBirdMinDays())));
+        }
 
-            BigDecimal discount = subtotal
-                .multiply(primaryPricing.getExtendedStayDiscountRate())
-                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP)
-                .negate();
+        return PriceBreakdown.builder()
+            .siteId(quote.siteId())
+            .checkInDate(quote.checkInDate())
+            .checkOutDate(quote.checkOutDate())
+            .numberOfNights(quote.nights())
+            .numberOfGuests(quote.numberOfGuests())
+            .basePrice(toAmount(quote.baseAmount() + quote.weekendSurcharge() + quote.occupancySurcharge()))
+            .extraGuestFee(toAmount(quote.extraGuestFee()))
+            .subtotal(toAmount(quote.subtotal()))
+            .totalDiscount(toAmount(quote.totalDiscount()))
+            .totalAmount(toAmount(quote.totalAmount()))
+            .dailyBreakdown(dailyBreakdown)
+            .appliedDiscounts(appliedDiscounts)
+            .build();
+    }
 
-            breakdown.addItem(PriceItemDto.builder()
-                .type(PriceItemType.EXTENDED_STAY_DISCOUNT)
-                .name(String.format("연박 할인 (-%d%%)", primaryPricing.getExtendedStayDiscountRate().intValue()))
-                .quantity(BigDecimal.ONE)
-                .unitPrice(discount)
-                .amount(discount)
-                .displayOrder(displayOrder++)
-                .appliedPricingId(primaryPricing.getId())
-                .build());
-        }
+    private PriceQuote cachedQuote(CompiledPricingCalendar calendar, LocalDate checkInDate, LocalDate checkOutDate,
+                                   int numberOfGuests) {
+        return priceQuoteCache.get(calendar, checkInDate, checkOutDate, numberOfGuests,
+            () -> quote(calendar, checkInDate, checkOutDate, numberOfGuests));
+    }
 
-        // 9. 조기 예약 할인 (대표 요금제 기준)
-        if (primaryPricing.getEarlyBirdDiscountRate() != null
-            && primaryPricing.getEarlyBirdMinDays() != null) {
-
-            long daysUntilCheckIn = ChronoUnit.DAYS.between(LocalDate.now(), checkInDate);
-
-            if (daysUntilCheckIn >= primaryPricing.getEarlyBirdMinDays()) {
-                BigDecimal discount = subtotal
-                    .multiply(primaryPricing.getEarlyBirdDiscountRate())
-                    .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP)
-                    .negate();
-
-                breakdown.addItem(PriceItemDto.builder()
-                    .type(PriceItemType.EARLY_BIRD_DISCOUNT)
-                    .name(String.format("얼리버드 할인 (-%d%%, %d일 전 예약)",
-                        primaryPricing.getEarlyBirdDiscountRate().intValue(),
-                        primaryPricing.getEarlyBirdMinDays()))
-                    .quantity(BigDecimal.ONE)
-                    .unitPrice(discount)
-                    .amount(discount)
-                    .displayOrder(displayOrder++)
-                    .appliedPricingId(primaryPricing.getId())
-                    .build());
-            }
+    /**
+     * 금액의 할인율(베이시스 포인트) 만큼을 1/100원 단위로 반올림(HALF_UP)하여 계산
+     */
+    private static long percentOf(long amount, long basisPoints) {
+        long product = amount * basisPoints;
+        long result = product / BASIS_POINTS_PER_UNIT;
+        if (Math.abs(product % BASIS_POINTS_PER_UNIT) * 2 >= BASIS_POINTS_PER_UNIT) {
+            result += Long.signum(product);
         }
+        return result;
+    }
 
-        // 10. 최종 금액 계산
-        breakdown.calculateTotalAmount();
-
-        log.info("=== 가격 계산 완료 ===");
-        log.info("기본 요금: {}, 주말 할증: {}, 추가 인원: {}, 할인: {}, 최종 금액: {}",
-            breakdown.getBasePrice(),
-            breakdown.getWeekendSurcharge(),
-            breakdown.getExtraGuestFee(),
-            breakdown.getTotalDiscount(),
-            breakdown.getTotalAmount());
+    private static BigDecimal toAmount(long minorUnits) {
+        return CompiledPricingCalendar.toAmount(minorUnits);
+    }
 
-        return breakdown;
+    private PriceItemDto discountItem(PriceItemType type, String name, long discount, int displayOrder,
+                                      CompiledPricingCalendar.Rule primaryRule) {
+        BigDecimal amount = toAmount(-discount);
+        return PriceItemDto.builder()
+            .type(type)
+            .name(name)
+            .quantity(BigDecimal.ONE)
+            .unitPrice(amount)
+            .amount(amount)
+            .displayOrder(displayOrder)
+            .appliedPricingId(primaryRule.id())
+            .build();
     }
 
+    private AppliedDiscount appliedDiscount(DiscountType type, BigDecimal rate, long discount, String description) {
+        return AppliedDiscount.builder()
+            .discountType(type.name())
+            .discountRate(rate.intValue())
+            .discountAmount(toAmount(discount))
+            .description(description)
+            .build();
+    }
 }
@@ -0,0 +1,77 @@
+package com.campstation.camp.pricing.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.campstation.camp.pricing.calendar.CompiledPricingCalendar;
+
+/**
+ * 가격 계산 엔진의 계산 결과
+ *
+ * 모든 금액은 1/100원 단위 long이며 할인 금액은 양수로 보관합니다.
+ * 응답 DTO(PriceBreakdownDto, PriceBreakdown)는 PricingEngine이 이 결과로부터 필요할 때만 만듭니다.
+ *
+ * @param calendar 계산에 사용한 요금 달력 (날짜별 내역 생성용)
+ * @param primaryRule 대표 요금제 (체크인 날짜에 적용되는 요금제)
+ * @param baseAmount 1박 기본 요금 합계
+ * @param weekendSurcharge 주말 할증 합계
+ * @param occupancySurcharge 점유율 할증 합계 (점유율 연동 요금제 기준 이상인 날짜)
+ * @param extraGuestFee 추가 인원 요금 합계
+ * @param longStayDiscount 장기 숙박 할인 금액 (longStayApplied가 false면 0)
+ * @param extendedStayDiscount 연박 할인 금액 (extendedStayApplied가 false면 0)
+ * @param earlyBirdDiscount 조기 예약 할인 금액 (earlyBirdApplied가 false면 0)
+ */
+public record PriceQuote(
+        CompiledPricingCalendar calendar,
+        LocalDate checkInDate,
+        LocalDate checkOutDate,
+        int nights,
+        int numberOfGuests,
+        CompiledPricingCalendar.Rule primaryRule,
+        long baseAmount,
+        long weekendSurcharge,
+        int weekendNights,
+        long occupancySurcharge,
+        int occupancyNights,
+        int extraGuests,
+        long extraGuestFee,
+        boolean longStayApplied,
+        long longStayDiscount,
+        boolean extendedStayApplied,
+        long extendedStayDiscount,
+        boolean earlyBirdApplied,
+        long earlyBirdDiscount
+) {
+
+    public Long siteId() {
+        return calendar.getSiteId();
+    }
+
+    /**
+     * 할인 전 소계 (기본 요금 + 주말 할증 + 점유율 할증 + 추가 인원 요금)
+     */
+    public long subtotal() {
+        return baseAmount + weekendSurcharge + occupancySurcharge + extraGuestFee;
+    }
+
+    /**
+     * 할인 합계 (양수)
+     */
+    public long totalDiscount() {
+        return longStayDiscount + extendedStayDiscount + earlyBirdDiscount;
+    }
+
+    /**
+     * 최종 결제 금액
+     */
+    public long totalAmount() {
+        return subtotal() - totalDiscount();
+    }
+
+    /**
+     * 최종 결제 금액 (BigDecimal)
+     */
+    public BigDecimal totalAmountValue() {
+        return CompiledPricingCalendar.toAmount(totalAmount());
+    }
+}
@@ -0,0 +1,76 @@
+package com.campstation.camp.pricing.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Supplier;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import com.campstation.camp.pricing.calendar.CompiledPricingCalendar;
+import com.campstation.camp.reservation.availability.CampgroundOccupancyIndex;
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * 사이트 가격 견적 캐시
+ *
+ * 예약 위젯에서 날짜/인원을 바꿔 가며 반복 요청되는 견적과 예약 생성 시의 재계산을 같은 결과로 재사용합니다.
+ * 키에 견적을 계산할 요금 달력의 요금제 버전(CompiledPricingCalendar#getPricingVersion)을 포함하므로 요금제가 바뀌면 이전 항목은
+ * 더 이상 조회되지 않고 TTL로 만료되며, 전체 삭제(allEntries)가 필요 없습니다.
+ * 조기 예약 할인이 오늘 날짜 기준이므로 키에 계산 날짜도 포함합니다.
+ * 점유율 연동 요금제가 있는 사이트는 캠핑장 점유율 버전도 키에 포함하여 예약 변동 시 새로 계산합니다.
+ *
+ * 적용 가능한 요금제가 없어 계산이 실패한 경우는 캐시하지 않습니다.
+ * 적중률과 로드 시간은 CacheMonitoringController(/api/admin/cache/stats/priceQuotes)에서 확인할 수 있습니다.
+ */
+@Component
+public class PriceQuoteCache {
+
+    public static final String CACHE_NAME = "priceQuotes";
+
+    private final CampgroundOccupancyIndex occupancyIndex;
+    private final Cache<Object, Object> quotes;
+
+    /**
+     * 견적 캐시 키
+     *
+     * @param pricingVersion 사이트 요금제 버전
+     * @param occupancyVersion 캠핑장 점유율 버전 (점유율 연동 요금제가 없으면 0)
+     * @param quotedOn 계산 날짜 (조기 예약 할인 기준일)
+     */
+    record QuoteKey(long siteId, LocalDate checkInDate, int nights, int numberOfGuests,
+                    long pricingVersion, long occupancyVersion, LocalDate quotedOn) {
+    }
+
+    public PriceQuoteCache(CampgroundOccupancyIndex occupancyIndex, CacheManager cacheManager) {
+        this.occupancyIndex = occupancyIndex;
+        this.quotes = ((CaffeineCache) cacheManager.getCache(CACHE_NAME)).getNativeCache();
+    }
+
+    /**
+     * 견적 조회 (없으면 계산 후 캐시)
+     *
+     * @param calendar 견적을 계산할 요금 달력 (요금제 버전 스냅샷)
+     * @param checkInDate 체크인 날짜
+     * @param checkOutDate 체크아웃 날짜
+     * @param numberOfGuests 인원 수
+     * @param calculator 캐시에 없을 때 같은 달력으로 실행할 계산
+     * @return 가격 견적
+     */
+    public PriceQuote get(CompiledPricingCalendar calendar, LocalDate checkInDate, LocalDate checkOutDate,
+                          int numberOfGuests, Supplier<PriceQuote> calculator) {
+        // 점유율 버전은 계산 전에 읽어야 계산 중 점유율이 바뀌어도 이전 버전 키로만 저장됨
+        long occupancyVersion = calendar.hasOccupancyRules()
+                ? occupancyIndex.versionOf(calendar.getCampgroundId()) : 0L;
+        QuoteKey key = new QuoteKey(
+                calendar.getSiteId(),
+                checkInDate,
+                (int) ChronoUnit.DAYS.between(checkInDate, checkOutDate),
+                numberOfGuests,
+                calendar.getPricingVersion(),
+                occupancyVersion,
+                LocalDate.now());
+        return (PriceQuote) quotes.get(key, k -> calculator.get());
+    }
+}
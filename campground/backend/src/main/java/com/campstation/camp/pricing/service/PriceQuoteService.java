@@ -0,0 +1,159 @@
+package com.campstation.camp.pricing.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.campstation.camp.campground.domain.SiteStatus;
+import com.campstation.camp.campground.dto.SiteAllocationProjection;
+import com.campstation.camp.campground.repository.SiteRepository;
+import com.campstation.camp.pricing.calendar.CompiledPricingCalendar;
+import com.campstation.camp.pricing.calendar.PricingCalendarCache;
+import com.campstation.camp.pricing.dto.BulkPriceQuoteResponse;
+import com.campstation.camp.pricing.dto.BulkPriceQuoteResponse.SiteQuote;
+import com.campstation.camp.reservation.dto.PriceBreakdownDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일괄 가격 견적 서비스
+ *
+ * 캠핑장의 모든 사이트(또는 지정한 사이트)의 기간/인원별 가격을 한 번에 계산합니다.
+ * - 사이트 요약 1회 조회 + 캐시에 없는 사이트의 요금제 1회 조회
+ * - 사이트를 묶음으로 나누어 제한된 스레드 풀(pricingQuoteExecutor)에서 병렬 계산
+ * - 기본은 최종 금액만 계산하고, 상세 내역은 요청한 경우에만 생성
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class PriceQuoteService {
+
+    /**
+     * 한 번에 견적을 낼 수 있는 최대 박 수
+     */
+    public static final int MAX_NIGHTS = 60;
+
+    // 이 개수 이하는 호출 스레드에서 바로 계산 (병렬화 이득보다 작업 분배 비용이 큼)
+    private static final int PARALLEL_THRESHOLD = 32;
+    private static final int MIN_PARTITION_SIZE = 16;
+
+    private final SiteRepository siteRepository;
+    private final PricingCalendarCache pricingCalendarCache;
+    private final PricingEngine pricingEngine;
+    private final TaskExecutor pricingQuoteExecutor;
+
+    public PriceQuoteService(SiteRepository siteRepository,
+                             PricingCalendarCache pricingCalendarCache,
+                             PricingEngine pricingEngine,
+                             @Qualifier("pricingQuoteExecutor") TaskExecutor pricingQuoteExecutor) {
+        this.siteRepository = siteRepository;
+        this.pricingCalendarCache = pricingCalendarCache;
+        this.pricingEngine = pricingEngine;
+        this.pricingQuoteExecutor = pricingQuoteExecutor;
+    }
+
+    /**
+     * 캠핑장 사이트 일괄 가격 견적
+     *
+     * @param campgroundId 캠핑장 ID
+     * @param siteIds 견적 대상 사이트 ID (null 또는 빈 목록이면 운영 중인 전체 사이트)
+     * @param checkInDate 체크인 날짜
+     * @param checkOutDate 체크아웃 날짜
+     * @param numberOfGuests 인원 수
+     * @param includeBreakdown 상세 내역 포함 여부
+     * @return 사이트별 견적 (사이트 ID 순)
+     */
+    public BulkPriceQuoteResponse quoteCampground(Long campgroundId, Collection<Long> siteIds,
+                                                  LocalDate checkInDate, LocalDate checkOutDate,
+                                                  int numberOfGuests, boolean includeBreakdown) {
+        validateRequest(checkInDate, checkOutDate, numberOfGuests);
+
+        List<SiteAllocationProjection> sites = siteRepository
+                .findSiteSummariesByCampgroundIdAndStatus(campgroundId, SiteStatus.AVAILABLE);
+        if (siteIds != null && !siteIds.isEmpty()) {
+            Set<Long> requested = new HashSet<>(siteIds);
+            sites = sites.stream().filter(site -> requested.contains(site.getSiteId())).toList();
+        }
+
+        Map<Long, CompiledPricingCalendar> calendars = pricingCalendarCache.getAll(
+                sites.stream().map(SiteAllocationProjection::getSiteId).toList());
+
+        List<SiteQuote> quotes;
+        if (sites.size() <= PARALLEL_THRESHOLD) {
+            quotes = quotePartition(sites, calendars, checkInDate, checkOutDate, numberOfGuests, includeBreakdown);
+        } else {
+            quotes = quoteInParallel(sites, calendars, checkInDate, checkOutDate, numberOfGuests, includeBreakdown);
+        }
+
+        log.debug("Bulk price quote for campground {}: {} sites ({} ~ {}, {} guests)",
+                campgroundId, quotes.size(), checkInDate, checkOutDate, numberOfGuests);
+        return new BulkPriceQuoteResponse(campgroundId, checkInDate, checkOutDate,
+                (int) ChronoUnit.DAYS.between(checkInDate, checkOutDate), numberOfGuests, quotes);
+    }
+
+    /**
+     * 사이트 목록을 묶음으로 나누어 병렬 계산 (결과는 입력 순서 유지)
+     */
+    private List<SiteQuote> quoteInParallel(List<SiteAllocationProjection> sites,
+                                            Map<Long, CompiledPricingCalendar> calendars,
+                                            LocalDate checkInDate, LocalDate checkOutDate,
+                                            int numberOfGuests, boolean includeBreakdown) {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        int partitionSize = Math.max(MIN_PARTITION_SIZE, (sites.size() + parallelism - 1) / parallelism);
+
+        List<CompletableFuture<List<SiteQuote>>> futures = new ArrayList<>();
+        for (int from = 0; from < sites.size(); from += partitionSize) {
+            List<SiteAllocationProjection> partition = sites.subList(from, Math.min(from + partitionSize, sites.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> quotePartition(
+                    partition, calendars, checkInDate, checkOutDate, numberOfGuests, includeBreakdown),
+                    pricingQuoteExecutor));
+        }
+
+        List<SiteQuote> quotes = new ArrayList<>(sites.size());
+        futures.forEach(future -> quotes.addAll(future.join()));
+        return quotes;
+    }
+
+    private List<SiteQuote> quotePartition(List<SiteAllocationProjection> sites,
+                                           Map<Long, CompiledPricingCalendar> calendars,
+                                           LocalDate checkInDate, LocalDate checkOutDate,
+                                           int numberOfGuests, boolean includeBreakdown) {
+        List<SiteQuote> quotes = new ArrayList<>(sites.size());
+        for (SiteAllocationProjection site : sites) {
+            CompiledPricingCalendar calendar = calendars.get(site.getSiteId());
+            try {
+                PriceQuote quote = pricingEngine.quote(calendar, checkInDate, checkOutDate, numberOfGuests);
+                PriceBreakdownDto breakdown = includeBreakdown ? pricingEngine.toBreakdownDto(quote) : null;
+                quotes.add(new SiteQuote(site.getSiteId(), site.getSiteNumber(),
+                        quote.totalAmountValue(), null, breakdown));
+            } catch (IllegalStateException e) {
+                // 요금제가 없거나 기간 일부에 적용 가능한 요금제가 없는 사이트
+                quotes.add(new SiteQuote(site.getSiteId(), site.getSiteNumber(), null, e.getMessage(), null));
+            }
+        }
+        return quotes;
+    }
+
+    private void validateRequest(LocalDate checkInDate, LocalDate checkOutDate, int numberOfGuests) {
+        if (checkInDate == null || checkOutDate == null || !checkOutDate.isAfter(checkInDate)) {
+            throw new IllegalArgumentException("체크아웃 날짜는 체크인 날짜보다 이후여야 합니다.");
+        }
+        if (ChronoUnit.DAYS.between(checkInDate, checkOutDate) > MAX_NIGHTS) {
+            throw new IllegalArgumentException("한 번에 견적을 낼 수 있는 기간은 최대 " + MAX_NIGHTS + "박입니다.");
+        }
+        if (numberOfGuests < 1) {
+            throw new IllegalArgumentException("인원 수는 1명 이상이어야 합니다.");
+        }
+    }
+}
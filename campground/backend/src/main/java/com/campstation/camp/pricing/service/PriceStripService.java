@@ -0,0 +1,114 @@
+package com.campstation.camp.pricing.service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import com.campstation.camp.campground.repository.SiteRepository;
+import com.campstation.camp.pricing.calendar.CompiledPricingCalendar;
+import com.campstation.camp.pricing.calendar.PricingCalendarCache;
+import com.campstation.camp.pricing.dto.PriceStripResponse;
+import com.campstation.camp.reservation.availability.CampgroundOccupancyIndex;
+import com.campstation.camp.shared.ETagUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * 사이트 가격 달력 서비스
+ *
+ * 달력 UI의 날짜 칸마다 1박 견적을 요청하지 않도록, 컴파일된 요금 달력에서 기간 내 날짜별 요금을
+ * 한 번에 배열로 채워 반환합니다. (날짜별 쿼리/요금제 재평가 없음)
+ * 결과는 사이트 요금제 버전을 키에 포함하여 캐시하므로 요금제가 바뀌면 자동으로 새로 계산됩니다.
+ * 점유율 연동 요금제가 있는 사이트는 1박 요금에 점유율 할증을 반영하고 캠핑장 점유율 버전도 키에 포함합니다.
+ */
+@Service
+public class PriceStripService {
+
+    public static final String CACHE_NAME = "priceStrips";
+
+    /**
+     * 기본 조회 기간 (일)
+     */
+    public static final int DEFAULT_DAYS = 90;
+
+    /**
+     * 최대 조회 기간 (일)
+     */
+    public static final int MAX_DAYS = 366;
+
+    private final PricingCalendarCache pricingCalendarCache;
+    private final SiteRepository siteRepository;
+    private final CampgroundOccupancyIndex occupancyIndex;
+    private final Cache<Object, Object> strips;
+
+    record StripKey(long siteId, LocalDate startDate, int days, long pricingVersion, long occupancyVersion) {
+    }
+
+    public PriceStripService(PricingCalendarCache pricingCalendarCache, SiteRepository siteRepository,
+                             CampgroundOccupancyIndex occupancyIndex, CacheManager cacheManager) {
+        this.pricingCalendarCache = pricingCalendarCache;
+        this.siteRepository = siteRepository;
+        this.occupancyIndex = occupancyIndex;
+        this.strips = ((CaffeineCache) cacheManager.getCache(CACHE_NAME)).getNativeCache();
+    }
+
+    /**
+     * 사이트 가격 달력 조회
+     *
+     * @param siteId 사이트 ID
+     * @param startDate 시작 날짜
+     * @param days 조회 기간 (1 ~ MAX_DAYS)
+     * @return 날짜별 요금 배열
+     */
+    public PriceStripResponse getPriceStrip(Long siteId, LocalDate startDate, int days) {
+        if (days < 1 || days > MAX_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 1일 이상 " + MAX_DAYS + "일 이하여야 합니다.");
+        }
+
+        // 요금제 버전은 달력 스냅샷에서 읽으므로 키와 계산에 사용하는 요금제가 항상 일치함
+        CompiledPricingCalendar calendar = pricingCalendarCache.get(siteId);
+        long occupancyVersion = calendar.hasOccupancyRules()
+                ? occupancyIndex.versionOf(calendar.getCampgroundId()) : 0L;
+        StripKey key = new StripKey(siteId, startDate, days, calendar.getPricingVersion(), occupancyVersion);
+        return (PriceStripResponse) strips.get(key, k -> buildStrip(calendar, startDate, days));
+    }
+
+    private PriceStripResponse buildStrip(CompiledPricingCalendar calendar, LocalDate startDate, int days) {
+        Long siteId = calendar.getSiteId();
+        if (!siteRepository.existsById(siteId)) {
+            throw new IllegalArgumentException("사이트를 찾을 수 없습니다: " + siteId);
+        }
+
+        long[] nightlyRates = new long[days];
+        long[] baseRates = new long[days];
+        long[] weekendRates = new long[days];
+        long[] ruleIds = new long[days];
+        calendar.fillRates(startDate, nightlyRates, baseRates, weekendRates, ruleIds,
+                calendar.hasOccupancyRules() ? occupancyIndex : null);
+
+        String eTag = eTagOf(siteId, startDate, days, calendar.getPricingVersion(), calendar.hasOccupancyRules(),
+                nightlyRates, baseRates, weekendRates, ruleIds);
+        return new PriceStripResponse(siteId, startDate, days, CompiledPricingCalendar.AMOUNT_SCALE,
+                calendar.getPricingVersion(), nightlyRates, baseRates, weekendRates, ruleIds, eTag);
+    }
+
+    /**
+     * 가격 달력 ETag 계산
+     * 요금은 요금제 버전(pricing_version)으로 결정되므로 버전만으로 충분하지만, 점유율 연동 요금은
+     * 버전이 같아도 바뀌고 점유율 버전은 인스턴스마다 다르므로 요금 배열의 SHA-256 다이제스트를 덧붙입니다.
+     */
+    static String eTagOf(Long siteId, LocalDate startDate, int days, long pricingVersion,
+                         boolean occupancyDependent, long[]... rates) {
+        String prefix = siteId + "-" + startDate + "-" + days + "-v" + pricingVersion;
+        if (!occupancyDependent) {
+            return "\"" + prefix + "\"";
+        }
+        StringBuilder content = new StringBuilder();
+        for (long[] values : rates) {
+            content.append(Arrays.toString(values)).append('\n');
+        }
+        return ETagUtil.strong(prefix, content.toString());
+    }
+}
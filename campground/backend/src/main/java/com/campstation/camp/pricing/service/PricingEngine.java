@@ -0,0 +1,95 @@
+package com.campstation.camp.pricing.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import com.campstation.camp.campground.domain.Site;
+import com.campstation.camp.pricing.calendar.CompiledPricingCalendar;
+import com.campstation.camp.pricing.dto.PriceBreakdown;
+import com.campstation.camp.reservation.dto.PriceBreakdownDto;
+
+/**
+ * 가격 계산 엔진
+ *
+ * 예약 금액 계산, 가격 미리보기, 일괄 견적이 모두 같은 계산 규칙을 사용하도록 하는 단일 진입점입니다.
+ * 계산은 컴파일된 요금 달력 위에서 1/100원 단위 long으로 수행하고(PriceQuote),
+ * 응답 형태에 맞는 DTO는 마지막에 한 번만 만듭니다.
+ * - PriceBreakdownDto: 항목(PriceItemDto) 단위 내역, 예약 가격 스냅샷으로 저장
+ * - PriceBreakdown: 날짜별 요금(DailyPriceDetail)과 적용 할인(AppliedDiscount) 내역, 요금 미리보기 화면용
+ */
+public interface PricingEngine {
+
+    /**
+     * 사이트 가격 계산
+     *
+     * @param siteId 사이트 ID
+     * @param checkInDate 체크인 날짜
+     * @param checkOutDate 체크아웃 날짜
+     * @param numberOfGuests 인원 수
+     * @return 계산 결과
+     * @throws IllegalStateException 활성 요금제가 없거나 적용 가능한 요금제가 없는 날짜가 포함된 경우
+     */
+    PriceQuote quote(Long siteId, LocalDate checkInDate, LocalDate checkOutDate, int numberOfGuests);
+
+    /**
+     * 이미 조회한 요금 달력으로 가격 계산 (일괄 계산용)
+     */
+    PriceQuote quote(CompiledPricingCalendar calendar, LocalDate checkInDate, LocalDate checkOutDate,
+                     int numberOfGuests);
+
+    /**
+     * 기준일을 지정한 가격 계산 (과거 예약 재계산용)
+     *
+     * @param quotedOn 조기 예약 할인 기준일 (예약한 날짜)
+     */
+    PriceQuote quote(CompiledPricingCalendar calendar, LocalDate checkInDate, LocalDate checkOutDate,
+                     int numberOfGuests, LocalDate quotedOn);
+
+    /**
+     * 계측 없는 가격 계산 (요금제 시뮬레이션용)
+     * 초안 요금제 재계산이 운영 견적 지표(campstation.pricing.*)와 트레이스에 섞이지 않도록 기록하지 않습니다.
+     * 계산 규칙과 예외는 quote(calendar, checkInDate, checkOutDate, numberOfGuests, quotedOn)와 같습니다.
+     *
+     * @param quotedOn 조기 예약 할인 기준일 (예약한 날짜)
+     */
+    PriceQuote quoteForSimulation(CompiledPricingCalendar calendar, LocalDate checkInDate, LocalDate checkOutDate,
+                                  int numberOfGuests, LocalDate quotedOn);
+
+    /**
+     * 예약 가격 계산 (항목 단위 내역)
+     */
+    PriceBreakdownDto calculatePrice(Site site, LocalDate checkInDate, LocalDate checkOutDate, int numberOfGuests);
+
+    /**
+     * 기록된 요금제 버전으로 예약 가격 재계산 (버전 스냅샷이 없으면 현재 요금제)
+     *
+     * @param pricingVersion 예약에 기록된 요금제 버전 (null이면 현재 요금제)
+     */
+    PriceBreakdownDto calculatePrice(Site site, Long pricingVersion, LocalDate checkInDate, LocalDate checkOutDate,
+                                     int numberOfGuests);
+
+    /**
+     * 여러 사이트 예약 가격 일괄 계산 (단체 예약용)
+     *
+     * @return 사이트 ID별 가격 상세 내역 (사이트 목록 순서 유지)
+     */
+    Map<Long, PriceBreakdownDto> calculatePrices(List<Site> sites, LocalDate checkInDate, LocalDate checkOutDate,
+                                                 Map<Long, Integer> guestsBySiteId);
+
+    /**
+     * 요금 미리보기 계산 (날짜별 요금 및 할인 내역)
+     */
+    PriceBreakdown calculatePriceBreakdown(Long siteId, LocalDate checkInDate, LocalDate checkOutDate,
+                                           int numberOfGuests);
+
+    /**
+     * 계산 결과를 항목 단위 내역으로 변환
+     */
+    PriceBreakdownDto toBreakdownDto(PriceQuote quote);
+
+    /**
+     * 계산 결과를 날짜별 요금 및 할인 내역으로 변환
+     */
+    PriceBreakdown toPriceBreakdown(PriceQuote quote);
+}
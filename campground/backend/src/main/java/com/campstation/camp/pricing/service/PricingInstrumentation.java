@@ -0,0 +1,165 @@
+package com.campstation.camp.pricing.service;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.campstation.camp.pricing.calendar.CompiledPricingCalendar;
+import com.campstation.camp.pricing.domain.DiscountType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가격 계산 계측
+ *
+ * 견적마다 로그를 남기는 대신 결과 유형별 Micrometer 타이머/카운터를 기록합니다.
+ * 미터는 생성 시점에 한 번만 등록하므로 계산 경로에서는 레지스트리 조회가 없습니다.
+ * - campstation.pricing.quote (timer, outcome 태그): 견적 계산 시간
+ * - campstation.pricing.discount.applied (counter, type 태그): 할인 유형별 적용 건수
+ *
+ * 상세 추적 로그(1박 요금, 할인 내역)는 다음 경우에만 남깁니다.
+ * - pricing.trace.site-ids에 포함된 사이트
+ * - pricing.trace.sample-rate 비율로 샘플링된 견적
+ * - pricing.trace.header-enabled가 켜져 있고 요청에 X-Pricing-Trace 헤더가 있는 경우
+ */
+@Component
+@Slf4j
+public class PricingInstrumentation {
+
+    public static final String TRACE_HEADER = "X-Pricing-Trace";
+
+    /**
+     * 견적 결과 유형
+     */
+    public enum Outcome {
+        /** 할인 없이 계산됨 */
+        PRICED,
+        /** 하나 이상의 할인이 적용됨 */
+        DISCOUNTED,
+        /** 사이트에 활성 요금제가 없음 */
+        NO_RULE,
+        /** 적용 가능한 요금제가 없는 날짜가 포함됨 */
+        UNCOVERED_DATE
+    }
+
+    private final Map<Outcome, Timer> quoteTimers = new EnumMap<>(Outcome.class);
+    private final Map<DiscountType, Counter> discountCounters = new EnumMap<>(DiscountType.class);
+
+    private final Set<Long> traceSiteIds;
+    private final double traceSampleRate;
+    private final boolean traceHeaderEnabled;
+
+    public PricingInstrumentation(MeterRegistry meterRegistry,
+                                  @Value("${pricing.trace.site-ids:}") Set<Long> traceSiteIds,
+                                  @Value("${pricing.trace.sample-rate:0.0}") double traceSampleRate,
+                                  @Value("${pricing.trace.header-enabled:false}") boolean traceHeaderEnabled) {
+        for (Outcome outcome : Outcome.values()) {
+            quoteTimers.put(outcome, Timer.builder("campstation.pricing.quote")
+                    .description("Price quote calculation time by outcome")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        for (DiscountType type : List.of(DiscountType.LONG_STAY, DiscountType.EXTENDED_STAY, DiscountType.EARLY_BIRD)) {
+            discountCounters.put(type, Counter.builder("campstation.pricing.discount.applied")
+                    .description("Number of price quotes with the discount applied")
+                    .tag("type", type.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        this.traceSiteIds = Set.copyOf(traceSiteIds);
+        this.traceSampleRate = traceSampleRate;
+        this.traceHeaderEnabled = traceHeaderEnabled;
+    }
+
+    /**
+     * 계산 성공 기록
+     *
+     * @param quote 계산 결과
+     * @param startNanos 계산 시작 시각 (System.nanoTime)
+     */
+    public void recordQuote(PriceQuote quote, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        boolean discounted = quote.longStayApplied() || quote.extendedStayApplied() || quote.earlyBirdApplied();
+        Outcome outcome = discounted ? Outcome.DISCOUNTED : Outcome.PRICED;
+        quoteTimers.get(outcome).record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (quote.longStayApplied()) {
+            discountCounters.get(DiscountType.LONG_STAY).increment();
+        }
+        if (quote.extendedStayApplied()) {
+            discountCounters.get(DiscountType.EXTENDED_STAY).increment();
+        }
+        if (quote.earlyBirdApplied()) {
+            discountCounters.get(DiscountType.EARLY_BIRD).increment();
+        }
+
+        if (shouldTrace(quote.siteId())) {
+            trace(quote, outcome, elapsedNanos);
+        }
+    }
+
+    /**
+     * 계산 실패 기록
+     *
+     * @param siteId 사이트 ID
+     * @param outcome 실패 유형 (NO_RULE, UNCOVERED_DATE)
+     * @param startNanos 계산 시작 시각 (System.nanoTime)
+     * @param reason 실패 사유
+     */
+    public void recordFailure(Long siteId, Outcome outcome, long startNanos, String reason) {
+        quoteTimers.get(outcome).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        if (shouldTrace(siteId)) {
+            log.info("[pricing-trace] site={} outcome={} reason={}", siteId, outcome, reason);
+        }
+    }
+
+    private boolean shouldTrace(Long siteId) {
+        if (traceSiteIds.contains(siteId)) {
+            return true;
+        }
+        if (traceSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < traceSampleRate) {
+            return true;
+        }
+        return traceHeaderEnabled && hasTraceHeader();
+    }
+
+    /**
+     * 현재 요청의 추적 헤더 확인 (요청 스레드가 아니면 false)
+     */
+    private boolean hasTraceHeader() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes
+                && servletAttributes.getRequest().getHeader(TRACE_HEADER) != null;
+    }
+
+    private void trace(PriceQuote quote, Outcome outcome, long elapsedNanos) {
+        StringJoiner nightlyRates = new StringJoiner(",", "[", "]");
+        LocalDate date = quote.checkInDate();
+        for (int night = 0; night < quote.nights(); night++, date = date.plusDays(1)) {
+            nightlyRates.add(Long.toString(quote.calendar().nightlyRateOn(date)));
+        }
+
+        log.info("[pricing-trace] site={} outcome={} checkIn={} nights={} guests={} rule={} nightlyRates={} "
+                        + "base={} weekendSurcharge={} occupancySurcharge={} extraGuestFee={} longStay={} extendedStay={} earlyBird={} "
+                        + "total={} scale={} elapsedMicros={}",
+                quote.siteId(), outcome,
+                quote.checkInDate(), quote.nights(), quote.numberOfGuests(), quote.primaryRule().id(),
+                nightlyRates, quote.baseAmount(), quote.weekendSurcharge(), quote.occupancySurcharge(),
+                quote.extraGuestFee(),
+                quote.longStayDiscount(), quote.extendedStayDiscount(), quote.earlyBirdDiscount(),
+                quote.totalAmount(), CompiledPricingCalendar.AMOUNT_SCALE, elapsedNanos / 1_000);
+    }
+}
@@ -0,0 +1,235 @@
+package com.campstation.camp.pricing.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.campstation.camp.campground.domain.Site;
+import com.campstation.camp.campground.repository.SiteRepository;
+import com.campstation.camp.pricing.calendar.CompiledPricingCalendar;
+import com.campstation.camp.pricing.domain.SitePricing;
+import com.campstation.camp.pricing.dto.CreateSitePricingRequest;
+import com.campstation.camp.pricing.dto.PricingSimulationRequest;
+import com.campstation.camp.pricing.dto.PricingSimulationResponse;
+import com.campstation.camp.pricing.dto.PricingSimulationResponse.SiteResult;
+import com.campstation.camp.reservation.domain.ReservationStatus;
+import com.campstation.camp.reservation.dto.ReservationRevenueProjection;
+import com.campstation.camp.reservation.repository.ReservationRepository;
+import com.campstation.camp.user.domain.User;
+import com.campstation.camp.user.domain.UserRole;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요금제 시뮬레이션 서비스
+ *
+ * Owner가 작성 중인 초안 요금제를 지난 N개월의 확정/완료 예약에 다시 적용해 매출 변화를 예측합니다.
+ * - 초안 요금제는 저장하지 않고 요금 달력으로만 컴파일
+ * - 예약은 엔티티 대신 프로젝션 스트림으로 읽어 사이트별 원시 배열 버퍼에 적재
+ * - 사이트별 재계산은 서로 독립적이므로 ForkJoin 공용 풀에서 병렬 수행 (DB 접근 없음)
+ * - 조기 예약 할인은 오늘이 아닌 예약 생성일 기준으로 판단
+ * - 재계산은 계측 없는 경로(quoteForSimulation)를 사용하여 운영 견적 지표와 트레이스에 기록하지 않음
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class PricingSimulationService {
+
+    private static final List<ReservationStatus> REVENUE_STATUSES =
+            List.of(ReservationStatus.CONFIRMED, ReservationStatus.COMPLETED);
+
+    private final SiteRepository siteRepository;
+    private final ReservationRepository reservationRepository;
+    private final PricingEngine pricingEngine;
+
+    /**
+     * 초안 요금제 매출 시뮬레이션
+     *
+     * @param request 사이트별 초안 요금제와 기간
+     * @param requester 요청 사용자 (사이트 캠핑장 Owner 또는 ADMIN)
+     * @return 전체/사이트별 실제 매출과 예상 매출
+     */
+    public PricingSimulationResponse simulate(PricingSimulationRequest request, User requester) {
+        long startTime = System.currentTimeMillis();
+        int months = request.getMonths() != null ? request.getMonths() : 12;
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusMonths(months);
+
+        // 1. 사이트 권한 확인 및 초안 요금 달력 컴파일
+        Map<Long, SiteStays> staysBySiteId = new HashMap<>();
+        List<SiteStays> siteStays = new ArrayList<>();
+        Map<Long, Site> sites = new HashMap<>();
+        siteRepository.findAllById(request.getSites().stream()
+                        .map(PricingSimulationRequest.SiteDraft::getSiteId).toList())
+                .forEach(site -> sites.put(site.getId(), site));
+
+        for (PricingSimulationRequest.SiteDraft draft : request.getSites()) {
+            Site site = sites.get(draft.getSiteId());
+            if (site == null) {
+                throw new IllegalArgumentException("사이트를 찾을 수 없습니다: " + draft.getSiteId());
+            }
+            checkPermission(site, requester);
+            if (staysBySiteId.containsKey(site.getId())) {
+                throw new IllegalArgumentException("사이트가 중복되었습니다: " + site.getId());
+            }
+
+            SiteStays stays = new SiteStays(site.getId(), site.getSiteNumber(), compileDraft(site, draft.getRules()));
+            staysBySiteId.put(site.getId(), stays);
+            siteStays.add(stays);
+        }
+
+        // 2. 과거 예약을 프로젝션 스트림으로 읽어 사이트별 버퍼에 적재
+        try (Stream<ReservationRevenueProjection> reservations = reservationRepository.streamRevenueForSites(
+                List.copyOf(staysBySiteId.keySet()), REVENUE_STATUSES, startDate, endDate)) {
+            reservations.forEach(reservation -> staysBySiteId.get(reservation.getSiteId()).add(reservation));
+        }
+
+        // 3. 사이트별 병렬 재계산 (ForkJoin 공용 풀)
+        List<SiteResult> results = siteStays.parallelStream()
+                .map(this::replay)
+                .toList();
+
+        long reservationCount = 0L;
+        long unpricedCount = 0L;
+        long actualRevenue = 0L;
+        long projectedRevenue = 0L;
+        for (SiteStays stays : siteStays) {
+            reservationCount += stays.size;
+            unpricedCount += stays.unpricedCount;
+            actualRevenue += stays.actualRevenue;
+            projectedRevenue += stays.projectedRevenue;
+        }
+
+        long elapsedMillis = System.currentTimeMillis() - startTime;
+        log.info("Pricing simulation: {} sites, {} reservations, {} months in {}ms",
+                siteStays.size(), reservationCount, months, elapsedMillis);
+
+        return new PricingSimulationResponse(months, startDate, endDate, reservationCount, unpricedCount,
+                CompiledPricingCalendar.toAmount(actualRevenue),
+                CompiledPricingCalendar.toAmount(projectedRevenue),
+                CompiledPricingCalendar.toAmount(projectedRevenue - actualRevenue),
+                elapsedMillis, results);
+    }
+
+    /**
+     * 사이트 예약을 초안 요금제로 재계산
+     */
+    private SiteResult replay(SiteStays stays) {
+        for (int i = 0; i < stays.size; i++) {
+            LocalDate checkInDate = LocalDate.ofEpochDay(stays.checkInDays[i]);
+            LocalDate checkOutDate = checkInDate.plusDays(stays.nights[i]);
+            long projected;
+            try {
+                projected = pricingEngine.quoteForSimulation(stays.calendar, checkInDate, checkOutDate,
+                        stays.guests[i], LocalDate.ofEpochDay(stays.bookedOnDays[i])).totalAmount();
+            } catch (IllegalStateException e) {
+                // 초안 요금제가 적용되지 않는 날짜가 포함된 예약은 실제 금액 유지
+                stays.unpricedCount++;
+                projected = stays.actualAmounts[i];
+            }
+            stays.actualRevenue += stays.actualAmounts[i];
+            stays.projectedRevenue += projected;
+        }
+
+        return new SiteResult(stays.siteId, stays.siteNumber, stays.size, stays.unpricedCount,
+                CompiledPricingCalendar.toAmount(stays.actualRevenue),
+                CompiledPricingCalendar.toAmount(stays.projectedRevenue),
+                CompiledPricingCalendar.toAmount(stays.projectedRevenue - stays.actualRevenue));
+    }
+
+    /**
+     * 초안 요금제를 저장하지 않고 요금 달력으로 컴파일
+     * 초안에는 ID가 없으므로 순서대로 음수 임시 ID를 부여합니다.
+     */
+    private CompiledPricingCalendar compileDraft(Site site, List<CreateSitePricingRequest> rules) {
+        List<SitePricing> drafts = new ArrayList<>(rules.size());
+        for (int i = 0; i < rules.size(); i++) {
+            CreateSitePricingRequest rule = rules.get(i);
+            SitePricingService.validatePricingDates(rule);
+
+            SitePricing draft = SitePricingService.toEntity(site, rule);
+            draft.setId(-(i + 1L));
+            if (draft.getIsActive() == null) {
+                draft.setIsActive(true);
+            }
+            if (draft.getPriority() == null) {
+                draft.setPriority(0);
+            }
+            if (draft.getIsActive()) {
+                drafts.add(draft);
+            }
+        }
+        drafts.sort(Comparator.comparing(SitePricing::getPriority).reversed());
+        return CompiledPricingCalendar.compile(site.getId(), site.getCampground().getId(),
+                CompiledPricingCalendar.DRAFT_VERSION, drafts);
+    }
+
+    private void checkPermission(Site site, User requester) {
+        if (requester.getRole() == UserRole.ADMIN) {
+            return;
+        }
+        if (!site.getCampground().getOwner().getId().equals(requester.getId())) {
+            throw new RuntimeException("해당 리소스에 대한 권한이 없습니다.");
+        }
+    }
+
+    /**
+     * 사이트별 예약 버퍼
+     * 예약마다 객체를 보관하지 않도록 재계산에 필요한 값만 원시 배열로 적재합니다.
+     * 적재는 스트림을 읽는 스레드에서, 재계산은 사이트당 하나의 워커 스레드에서만 수행됩니다.
+     */
+    private static final class SiteStays {
+
+        private static final int INITIAL_CAPACITY = 64;
+
+        private final Long siteId;
+        private final String siteNumber;
+        private final CompiledPricingCalendar calendar;
+
+        private long[] checkInDays = new long[INITIAL_CAPACITY];
+        private int[] nights = new int[INITIAL_CAPACITY];
+        private int[] guests = new int[INITIAL_CAPACITY];
+        private long[] bookedOnDays = new long[INITIAL_CAPACITY];
+        private long[] actualAmounts = new long[INITIAL_CAPACITY];
+        private int size;
+
+        private long unpricedCount;
+        private long actualRevenue;
+        private long projectedRevenue;
+
+        private SiteStays(Long siteId, String siteNumber, CompiledPricingCalendar calendar) {
+            this.siteId = siteId;
+            this.siteNumber = siteNumber;
+            this.calendar = calendar;
+        }
+
+        private void add(ReservationRevenueProjection reservation) {
+            if (size == checkInDays.length) {
+                int capacity = size * 2;
+                checkInDays = Arrays.copyOf(checkInDays, capacity);
+                nights = Arrays.copyOf(nights, capacity);
+                guests = Arrays.copyOf(guests, capacity);
+                bookedOnDays = Arrays.copyOf(bookedOnDays, capacity);
+                actualAmounts = Arrays.copyOf(actualAmounts, capacity);
+            }
+            long checkInDay = reservation.getCheckInDate().toEpochDay();
+            checkInDays[size] = checkInDay;
+            nights[size] = (int) (reservation.getCheckOutDate().toEpochDay() - checkInDay);
+            guests[size] = reservation.getNumberOfGuests();
+            bookedOnDays[size] = reservation.getCreatedAt().toLocalDate().toEpochDay();
+            actualAmounts[size] = reservation.getTotalAmount().movePointRight(CompiledPricingCalendar.AMOUNT_SCALE)
+                    .longValue();
+            size++;
+        }
+    }
+}
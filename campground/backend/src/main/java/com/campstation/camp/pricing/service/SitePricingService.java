@@ -2,6 +2,7 @@ package com.campstation.camp.pricing.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -9,10 +10,14 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.campstation.camp.campground.domain.Site;
 import com.campstation.camp.campground.repository.SiteRepository;
+import com.campstation.camp.pricing.calendar.SitePricingChangedEvent;
+import com.campstation.camp.campground.dto.SitePricingKeyProjection;
 import com.campstation.camp.pricing.domain.SitePricing;
+import com.campstation.camp.pricing.domain.SitePricingSnapshot;
 import com.campstation.camp.pricing.dto.CreateSitePricingRequest;
 import com.campstation.camp.pricing.dto.SitePricingResponse;
 import com.campstation.camp.pricing.repository.SitePricingRepository;
+import com.campstation.camp.pricing.repository.SitePricingSnapshotRepository;
 import com.campstation.camp.shared.security.annotation.OwnerOrAdmin;
 import com.campstation.camp.user.domain.User;
 import com.campstation.camp.user.domain.UserRole;
@@ -24,6 +29,8 @@ import lombok.extern.slf4j.Slf4j;
  * 사이트 요금제 관리 서비스
  * 
  * Owner가 자신의 캠핑장 사이트에 대한 요금제를 생성/수정/삭제하는 기능
+ * 요금제가 바뀌면 같은 트랜잭션에서 새 버전의 요금제 스냅샷을 저장하고,
+ * SitePricingChangedEvent를 발행하여 커밋 후 요금 달력 캐시를 무효화합니다.
  * 
  * @author CampStation Team
  * @version 1.0
@@ -36,7 +43,9 @@ import lombok.extern.slf4j.Slf4j;
 public class SitePricingService {
 
     private final SitePricingRepository pricingRepository;
+    private final SitePricingSnapshotRepository snapshotRepository;
     private final SiteRepository siteRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사이트 요금제 생성
@@ -70,34 +79,11 @@ public class SitePricingService {
         }
 
         // 3. 요금제 생성
-        SitePricing pricing = SitePricing.builder()
-                .site(site)
-                .pricingName(request.getPricingName())
-                .description(request.getDescription())
-                .ruleType(request.getRuleType())
-                .basePrice(request.getBasePrice())
-                .weekendPrice(request.getWeekendPrice())
-                .dayMultipliers(request.getDayMultipliers())
-                .baseGuests(request.getBaseGuests())
-                .maxGuests(request.getMaxGuests())
-                .extraGuestFee(request.getExtraGuestFee())
-                .seasonType(request.getSeasonType())
-                .startMonth(request.getStartMonth())
-                .startDay(request.getStartDay())
-                .endMonth(request.getEndMonth())
-                .endDay(request.getEndDay())
-                .longStayDiscountRate(request.getLongStayDiscountRate())
-                .longStayMinNights(request.getLongStayMinNights())
-                .extendedStayDiscountRate(request.getExtendedStayDiscountRate())
-                .extendedStayMinNights(request.getExtendedStayMinNights())
-                .earlyBirdDiscountRate(request.getEarlyBirdDiscountRate())
-                .earlyBirdMinDays(request.getEarlyBirdMinDays())
-                .priority(request.getPriority())
-                .isActive(request.getIsActive())
-                .build();
+        SitePricing pricing = toEntity(site, request);
 
         SitePricing savedPricing = pricingRepository.save(pricing);
         log.info("Created pricing: {} for site: {}", savedPricing.getId(), siteId);
+        publishPricingChanged(site);
 
         return SitePricingResponse.fromEntity(savedPricing);
     }
@@ -175,11 +161,14 @@ public class SitePricingService {
         pricing.setExtendedStayMinNights(request.getExtendedStayMinNights());
         pricing.setEarlyBirdDiscountRate(request.getEarlyBirdDiscountRate());
         pricing.setEarlyBirdMinDays(request.getEarlyBirdMinDays());
+        pricing.setOccupancyThresholdPercent(request.getOccupancyThresholdPercent());
+        pricing.setOccupancySurchargeRate(request.getOccupancySurchargeRate());
         pricing.setPriority(request.getPriority());
         pricing.setIsActive(request.getIsActive());
 
         SitePricing updatedPricing = pricingRepository.save(pricing);
         log.info("Updated pricing: {}", pricingId);
+        publishPricingChanged(updatedPricing.getSite());
 
         return SitePricingResponse.fromEntity(updatedPricing);
     }
@@ -207,6 +196,7 @@ public class SitePricingService {
 
         pricingRepository.delete(pricing);
         log.info("Deleted pricing: {}", pricingId);
+        publishPricingChanged(pricing.getSite());
     }
 
     /**
@@ -224,6 +214,22 @@ public class SitePricingService {
                 .toList();
     }
 
+    /**
+     * 사이트 요금제 버전 증가, 새 버전 스냅샷 저장 후 요금제 변경 이벤트 발행 (리스너는 커밋 후 실행)
+     * 버전은 요금제 변경과 같은 트랜잭션에서 증가하므로 커밋된 요금제 묶음마다 버전과 스냅샷이 하나씩 대응됩니다.
+     * 버전 증가가 사이트 행을 잠그므로 같은 사이트의 동시 변경은 순서대로 각자의 버전 스냅샷을 남깁니다.
+     *
+     * @param site 요금제가 변경된 사이트
+     */
+    private void publishPricingChanged(Site site) {
+        siteRepository.incrementPricingVersion(site.getId());
+        SitePricingKeyProjection key = siteRepository.findPricingKeyById(site.getId())
+                .orElseThrow(() -> new IllegalStateException("사이트를 찾을 수 없습니다: " + site.getId()));
+        snapshotRepository.save(SitePricingSnapshot.of(site.getId(), key.getPricingVersion(),
+                pricingRepository.findBySiteIdAndIsActiveTrueOrderByPriorityDesc(site.getId())));
+        eventPublisher.publishEvent(new SitePricingChangedEvent(site.getId(), site.getCampground().getId()));
+    }
+
     /**
      * 현재 사용자가 ADMIN인지 확인
      *
@@ -263,6 +269,43 @@ public class SitePricingService {
         }
     }
 
+    /**
+     * 요금제 생성 요청을 엔티티로 변환 (저장하지 않음, 시뮬레이션 초안에도 사용)
+     *
+     * @param site 사이트
+     * @param request 요금제 생성 요청
+     * @return 요금제 엔티티
+     */
+    static SitePricing toEntity(Site site, CreateSitePricingRequest request) {
+        return SitePricing.builder()
+                .site(site)
+                .pricingName(request.getPricingName())
+                .description(request.getDescription())
+                .ruleType(request.getRuleType())
+                .basePrice(request.getBasePrice())
+                .weekendPrice(request.getWeekendPrice())
+                .dayMultipliers(request.getDayMultipliers())
+                .baseGuests(request.getBaseGuests())
+                .maxGuests(request.getMaxGuests())
+                .extraGuestFee(request.getExtraGuestFee())
+                .seasonType(request.getSeasonType())
+                .startMonth(request.getStartMonth())
+                .startDay(request.getStartDay())
+                .endMonth(request.getEndMonth())
+                .endDay(request.getEndDay())
+                .longStayDiscountRate(request.getLongStayDiscountRate())
+                .longStayMinNights(request.getLongStayMinNights())
+                .extendedStayDiscountRate(request.getExtendedStayDiscountRate())
+                .extendedStayMinNights(request.getExtendedStayMinNights())
+                .earlyBirdDiscountRate(request.getEarlyBirdDiscountRate())
+                .earlyBirdMinDays(request.getEarlyBirdMinDays())
+                .occupancyThresholdPercent(request.getOccupancyThresholdPercent())
+                .occupancySurchargeRate(request.getOccupancySurchargeRate())
+                .priority(request.getPriority())
+                .isActive(request.getIsActive())
+                .build();
+    }
+
     /**
      * 요금제 타입별 월-일 검증
      * SEASONAL: 시즌 타입만 설정하면 해당 월에 자동 적용, 월-일은 선택 사항
@@ -270,7 +313,7 @@ public class SitePricingService {
      * 
      * @param request 요금제 생성/수정 요청
      */
-    private void validatePricingDates(CreateSitePricingRequest request) {
+    static void validatePricingDates(CreateSitePricingRequest request) {
         switch (request.getRuleType()) {
             case SEASONAL:
                 // 시즌별 요금제는 월-일을 지정하지 않으면 시즌 타입에 따라 자동으로 해당 월에 적용
@@ -299,6 +342,12 @@ public class SitePricingService {
             case BASE:
                 // 기본 요금제는 날짜 제약 없음
                 break;
+            case OCCUPANCY:
+                // 점유율 연동 요금제는 기준과 할증률 필수, 월-일은 선택 (지정 시 해당 기간에만 적용)
+                if (request.getOccupancyThresholdPercent() == null || request.getOccupancySurchargeRate() == null) {
+                    throw new IllegalArgumentException("점유율 연동 요금제는 점유율 기준과 할증률이 필수입니다.");
+                }
+                break;
         }
 
         // 월-일이 설정된 경우 유효성 검증
@@ -317,7 +366,7 @@ public class SitePricingService {
      * @param day 일 (1-31)
      * @param prefix 오류 메시지 접두사
      */
-    private void validateMonthDay(Integer month, Integer day, String prefix) {
+    private static void validateMonthDay(Integer month, Integer day, String prefix) {
         if (month < 1 || month > 12) {
             throw new IllegalArgumentException(prefix + " 월은 1~12 사이여야 합니다.");
         }
@@ -0,0 +1,270 @@
+package com.campstation.camp.reservation.availability;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.campstation.camp.campground.domain.SiteStatus;
+import com.campstation.camp.campground.dto.CampgroundSiteCountProjection;
+import com.campstation.camp.campground.repository.SiteRepository;
+import com.campstation.camp.pricing.calendar.CompiledPricingCalendar;
+import com.campstation.camp.reservation.domain.ReservationStatus;
+import com.campstation.camp.reservation.dto.ReservationStayProjection;
+import com.campstation.camp.reservation.repository.ReservationRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캠핑장별 날짜별 점유율 인메모리 인덱스
+ *
+ * 캠핑장마다 오늘부터 365일(롤링 윈도우) 동안 날짜별 예약된 사이트 수를 카운터 배열로 유지합니다.
+ * 점유율 연동 요금제(OCCUPANCY)는 가격 계산 중 COUNT 쿼리 없이 이 카운터를 배열 조회로 읽습니다.
+ *
+ * - 애플리케이션 시작 시 PENDING/CONFIRMED 예약과 운영 중 사이트 수로 전체 구축
+ * - 예약 변경 트랜잭션 커밋 후 ReservationChangedEvent로 이전 기간 감소 / 새 기간 증가 (예약 ID 기준 멱등)
+ * - 매일 00:10 재구축하여 윈도우 이동 및 사이트 수 변경, 다중 인스턴스 간 드리프트 보정
+ * - 캠핑장별 점유율 버전을 관리하여 가격 견적 캐시 키로 사용
+ * - 재구축은 새 상태를 따로 만든 뒤 참조를 교체하므로 조회는 락 없이 항상 완성된 상태 하나만 봄
+ *
+ * 다중 인스턴스 제약: 카운터는 이 인스턴스에서 커밋된 예약만 즉시 반영합니다.
+ * 다른 인스턴스에서 생성/취소된 예약은 다음 재구축(매일 00:10) 전까지 반영되지 않으므로
+ * 인스턴스마다 점유율 할증이 달라질 수 있습니다. 할증은 가격 견적에만 쓰이며 예약 가능 여부에는 영향이 없습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CampgroundOccupancyIndex implements CompiledPricingCalendar.OccupancyLookup {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final int HORIZON_DAYS = SiteAvailabilityIndex.HORIZON_DAYS;
+    private static final List<ReservationStatus> ACTIVE_STATUSES =
+            List.of(ReservationStatus.PENDING, ReservationStatus.CONFIRMED);
+
+    private final ReservationRepository reservationRepository;
+    private final SiteRepository siteRepository;
+
+    private volatile OccupancyState state = new OccupancyState(LocalDate.now(ZONE).toEpochDay(), Map.of());
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final Queue<ReservationChangedEvent> changedDuringRebuild = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    /**
+     * 인덱스에 반영된 예약의 캠핑장과 숙박 기간
+     */
+    private record Stay(Long campgroundId, long checkInEpochDay, long checkOutEpochDay) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 매일 00:10 인덱스 재구축 (롤링 윈도우 이동)
+     */
+    @Scheduled(cron = "0 10 0 * * *", zone = "Asia/Seoul")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * DB의 활성 예약과 사이트 수로 인덱스 전체 재구축
+     * 락 없이 새 상태를 만든 뒤 교체하며, 재구축 중 들어온 변경 이벤트는 교체 직전 새 상태에 다시 반영합니다.
+     * (반영은 예약 ID 기준으로 멱등)
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long startTime = System.currentTimeMillis();
+            setRebuilding(true);
+            LocalDate today = LocalDate.now(ZONE);
+            List<ReservationStayProjection> activeStays =
+                    reservationRepository.findActiveStaysCheckingOutAfter(ACTIVE_STATUSES, today);
+            List<CampgroundSiteCountProjection> counts = siteRepository.countSitesByCampground(SiteStatus.AVAILABLE);
+
+            Map<Long, Integer> siteCounts = new HashMap<>();
+            for (CampgroundSiteCountProjection count : counts) {
+                siteCounts.put(count.getCampgroundId(), count.getSiteCount().intValue());
+            }
+            OccupancyState rebuilt = new OccupancyState(today.toEpochDay(), siteCounts);
+            for (ReservationStayProjection stay : activeStays) {
+                if (stay.getCampgroundId() != null) {
+                    rebuilt.put(stay.getReservationId(), new Stay(stay.getCampgroundId(),
+                            stay.getCheckInDate().toEpochDay(), stay.getCheckOutDate().toEpochDay()));
+                }
+            }
+
+            swapLock.writeLock().lock();
+            try {
+                ReservationChangedEvent event;
+                while ((event = changedDuringRebuild.poll()) != null) {
+                    rebuilt.apply(event);
+                }
+                state = rebuilt;
+                rebuilding = false;
+                // 재구축 전후 점유율이 달라졌을 수 있으므로 세대를 올려 모든 캠핑장 버전을 바꿈
+                generation.incrementAndGet();
+                ready = true;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+
+            log.info("Campground occupancy index rebuilt: {} stays, {} campgrounds in {}ms",
+                    activeStays.size(), siteCounts.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            ready = false;
+            setRebuilding(false);
+            log.error("Failed to rebuild campground occupancy index", e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 예약 변경 커밋 후 점유 카운터 증분 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.campgroundId() == null) {
+            return;
+        }
+        swapLock.readLock().lock();
+        try {
+            if (rebuilding) {
+                changedDuringRebuild.add(event);
+            }
+            Long previousCampgroundId = state.apply(event);
+            if (previousCampgroundId != null) {
+                bumpVersion(previousCampgroundId);
+            }
+            bumpVersion(event.campgroundId());
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void setRebuilding(boolean value) {
+        swapLock.writeLock().lock();
+        try {
+            rebuilding = value;
+            if (!value) {
+                changedDuringRebuild.clear();
+            }
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 날짜의 캠핑장 점유율 (베이시스 포인트, 10000 = 100%)
+     * 인덱스가 준비되지 않았거나 윈도우 밖 날짜, 운영 중 사이트가 없는 캠핑장은 -1
+     */
+    @Override
+    public int occupancyBasisPoints(Long campgroundId, long epochDay) {
+        if (!ready || campgroundId == null) {
+            return -1;
+        }
+        OccupancyState current = state;
+        long index = epochDay - current.originEpochDay;
+        Integer total = current.siteCounts.get(campgroundId);
+        if (index < 0 || index >= HORIZON_DAYS || total == null || total == 0) {
+            return -1;
+        }
+        AtomicIntegerArray counters = current.bookedSites.get(campgroundId);
+        int booked = counters != null ? counters.get((int) index) : 0;
+        return (int) Math.min(10_000L, booked * 10_000L / total);
+    }
+
+    /**
+     * 캠핑장 점유율 버전 (재구축 세대와 캠핑장별 변경 횟수 조합, 점유 카운터가 바뀌면 달라짐)
+     */
+    public long versionOf(Long campgroundId) {
+        AtomicLong version = versions.get(campgroundId);
+        return (generation.get() << 32) + (version != null ? version.get() : 0L);
+    }
+
+    private void bumpVersion(Long campgroundId) {
+        versions.computeIfAbsent(campgroundId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * 점유 카운터 상태 한 벌 (윈도우 시작일, 운영 중 사이트 수, 예약별 숙박 기간)
+     * 재구축 시 새로 만들어 통째로 교체되며, 증분 반영은 현재 상태에 적용됩니다.
+     */
+    private static final class OccupancyState {
+
+        private final long originEpochDay;
+        private final Map<Long, Integer> siteCounts;
+        private final Map<Long, AtomicIntegerArray> bookedSites = new ConcurrentHashMap<>();
+        private final Map<Long, Stay> stays = new ConcurrentHashMap<>();
+
+        private OccupancyState(long originEpochDay, Map<Long, Integer> siteCounts) {
+            this.originEpochDay = originEpochDay;
+            this.siteCounts = siteCounts;
+        }
+
+        void put(Long reservationId, Stay stay) {
+            stays.put(reservationId, stay);
+            add(stay, 1);
+        }
+
+        /**
+         * 예약 변경 반영 (이전 기간 감소 후 새 기간 증가)
+         *
+         * @return 이전에 반영되어 있던 캠핑장 ID (없으면 null)
+         */
+        Long apply(ReservationChangedEvent event) {
+            Long[] previousCampgroundId = new Long[1];
+            // 같은 예약의 이벤트는 compute로 직렬화하여 감소/증가가 어긋나지 않도록 함
+            stays.compute(event.reservationId(), (reservationId, previous) -> {
+                if (previous != null) {
+                    add(previous, -1);
+                    previousCampgroundId[0] = previous.campgroundId();
+                }
+                if (!event.active()) {
+                    return null;
+                }
+                Stay current = new Stay(event.campgroundId(),
+                        event.checkInDate().toEpochDay(), event.checkOutDate().toEpochDay());
+                add(current, 1);
+                return current;
+            });
+            return previousCampgroundId[0];
+        }
+
+        private void add(Stay stay, int delta) {
+            long from = Math.max(0, stay.checkInEpochDay() - originEpochDay);
+            long to = Math.min(HORIZON_DAYS, stay.checkOutEpochDay() - originEpochDay);
+            if (from >= to) {
+                return;
+            }
+            AtomicIntegerArray counters = bookedSites.computeIfAbsent(stay.campgroundId(),
+                    id -> new AtomicIntegerArray(HORIZON_DAYS));
+            for (int day = (int) from; day < to; day++) {
+                counters.addAndGet(day, delta);
+            }
+        }
+    }
+}
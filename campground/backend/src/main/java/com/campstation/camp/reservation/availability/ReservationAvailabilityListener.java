@@ -0,0 +1,56 @@
+package com.campstation.camp.reservation.availability;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.campstation.camp.reservation.domain.Reservation;
+import com.campstation.camp.reservation.domain.ReservationStatus;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reservation 엔티티 리스너
+ * 예약이 저장/수정/삭제될 때마다 ReservationChangedEvent를 발행합니다.
+ * 상태 변경 지점(예약, 결제, 오너, 스케줄러 등)이 여러 곳에 흩어져 있으므로
+ * 엔티티 수준에서 한 번에 감지하여 가용성 인덱스 누락을 방지합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationAvailabilityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Reservation reservation) {
+        publish(reservation, isActive(reservation));
+    }
+
+    @PostRemove
+    public void onRemoved(Reservation reservation) {
+        publish(reservation, false);
+    }
+
+    private void publish(Reservation reservation, boolean active) {
+        if (reservation.getSite() == null) {
+            return;
+        }
+        eventPublisher.publishEvent(new ReservationChangedEvent(
+                reservation.getId(),
+                reservation.getSite().getId(),
+                reservation.getCampground() != null ? reservation.getCampground().getId() : null,
+                reservation.getCheckInDate(),
+                reservation.getCheckOutDate(),
+                active
+        ));
+    }
+
+    private boolean isActive(Reservation reservation) {
+        ReservationStatus status = reservation.getStatus();
+        return !reservation.isDeleted()
+                && (status == ReservationStatus.PENDING || status == ReservationStatus.CONFIRMED);
+    }
+}
@@ -0,0 +1,17 @@
+package com.campstation.camp.reservation.availability;
+
+import java.time.LocalDate;
+
+/**
+ * 예약의 숙박 기간 또는 상태가 변경되었음을 알리는 이벤트
+ * active가 true이면 해당 기간이 점유(PENDING/CONFIRMED) 상태임을 의미합니다.
+ */
+public record ReservationChangedEvent(
+        Long reservationId,
+        Long siteId,
+        Long campgroundId,
+        LocalDate checkInDate,
+        LocalDate checkOutDate,
+        boolean active
+) {
+}
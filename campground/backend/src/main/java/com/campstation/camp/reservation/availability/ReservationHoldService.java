@@ -0,0 +1,370 @@
+package com.campstation.camp.reservation.availability;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.campstation.camp.reservation.domain.PaymentMethod;
+import com.campstation.camp.reservation.dto.PriceBreakdownDto;
+import com.campstation.camp.shared.exception.ReservationConflictException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 예약 홀드(임시 선점) 관리
+ *
+ * 체크아웃(결제 단계) 진입 시 사이트/기간을 짧은 TTL로 선점하는 토큰을 발급합니다.
+ * 홀드는 DB 행이 아니라 메모리에 보관되며(토큰 맵 + 사이트별 목록 + 만료 인덱스),
+ * 예약 생성 요청은 홀드에 결제 대기 정보(금액, 인원, 결제 방식)만 붙이고 결제 대기 시간까지 연장하며,
+ * 결제가 확정될 때(카드 승인 또는 계좌이체 입금 확인 요청) 홀드가 예약으로 전환됩니다.
+ * 결제를 이탈하면 TTL 만료로 자동 해제되므로 DB에 PENDING 예약이 남지 않습니다.
+ *
+ * 만료 인덱스는 만료 시각 순으로 정렬되어 있어 만료 정리는 만료된 항목 수만큼만 비용이 듭니다.
+ * 사이트별 목록은 마지막 홀드가 해제되면 함께 제거됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationHoldService {
+
+    private final SiteAvailabilityIndex siteAvailabilityIndex;
+
+    @Value("${reservation.hold.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    @Value("${reservation.hold.checkout-ttl-minutes:30}")
+    private long checkoutTtlMinutes;
+
+    @Value("${reservation.hold.max-per-user:3}")
+    private int maxPerUser;
+
+    private final Map<String, ReservationHold> holds = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> siteHolds = new ConcurrentHashMap<>();
+    private final NavigableSet<ReservationHold> expiryIndex = new ConcurrentSkipListSet<>(
+            Comparator.comparing(ReservationHold::expiresAt).thenComparing(ReservationHold::token));
+
+    /**
+     * 홀드 정보
+     */
+    public record ReservationHold(
+            String token,
+            Long userId,
+            Long campgroundId,
+            Long siteId,
+            LocalDate checkInDate,
+            LocalDate checkOutDate,
+            Instant expiresAt,
+            HoldCheckout checkout
+    ) {
+        ReservationHold withCheckout(HoldCheckout checkout, Instant expiresAt) {
+            return new ReservationHold(token, userId, campgroundId, siteId,
+                    checkInDate, checkOutDate, expiresAt, checkout);
+        }
+
+        boolean isExpired(Instant now) {
+            return !expiresAt.isAfter(now);
+        }
+
+        boolean overlaps(LocalDate from, LocalDate to) {
+            return checkInDate.isBefore(to) && checkOutDate.isAfter(from);
+        }
+    }
+
+    /**
+     * 결제 대기 정보 (예약 생성 요청 시 홀드에 저장, 결제 확정 시 예약으로 전환)
+     */
+    public record HoldCheckout(
+            Integer numberOfGuests,
+            String specialRequests,
+            PaymentMethod paymentMethod,
+            String depositorName,
+            PriceBreakdownDto priceBreakdown
+    ) {
+        public BigDecimal totalAmount() {
+            return priceBreakdown.getTotalAmount();
+        }
+    }
+
+    /**
+     * 홀드 발급
+     * 같은 사이트의 확정/대기 예약이나 다른 사용자의 유효한 홀드와 겹치면 실패합니다.
+     *
+     * @param userId 사용자 ID
+     * @param campgroundId 캠핑장 ID
+     * @param siteId 사이트 ID
+     * @param checkInDate 체크인 날짜
+     * @param checkOutDate 체크아웃 날짜
+     * @return 발급된 홀드
+     */
+    public ReservationHold acquire(Long userId, Long campgroundId, Long siteId,
+                                   LocalDate checkInDate, LocalDate checkOutDate) {
+        purgeExpired();
+
+        if (siteAvailabilityIndex.hasConfirmedConflict(siteId, checkInDate, checkOutDate, null)) {
+            throw new ReservationConflictException(siteId, checkInDate, checkOutDate);
+        }
+
+        while (true) {
+            Set<String> tokens = siteHolds.computeIfAbsent(siteId, id -> ConcurrentHashMap.newKeySet());
+            synchronized (tokens) {
+                // 마지막 홀드 해제로 목록이 제거된 직후라면 새 목록으로 다시 시도
+                if (siteHolds.get(siteId) == tokens) {
+                    try {
+                        return acquire(tokens, userId, campgroundId, siteId, checkInDate, checkOutDate);
+                    } finally {
+                        // 발급에 실패해 빈 목록만 남았다면 제거
+                        if (tokens.isEmpty()) {
+                            siteHolds.remove(siteId, tokens);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private ReservationHold acquire(Set<String> tokens, Long userId, Long campgroundId, Long siteId,
+                                    LocalDate checkInDate, LocalDate checkOutDate) {
+        ReservationHold existing = findOverlapping(siteId, checkInDate, checkOutDate, null);
+        if (existing != null && Objects.equals(existing.userId(), userId)) {
+            // 같은 사용자의 재시도는 기존 홀드를 교체 (곧 새 홀드를 추가하므로 사이트 목록은 유지)
+            if (remove(existing.token()) != null) {
+                tokens.remove(existing.token());
+            }
+        } else if (existing != null) {
+            throw new ReservationConflictException("다른 고객이 결제 진행 중인 날짜입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        long userHoldCount = holds.values().stream()
+                .filter(hold -> Objects.equals(hold.userId(), userId))
+                .count();
+        if (userHoldCount >= maxPerUser) {
+            throw new IllegalStateException("동시에 선점할 수 있는 예약은 최대 " + maxPerUser + "건입니다.");
+        }
+
+        ReservationHold hold = new ReservationHold(
+                UUID.randomUUID().toString(), userId, campgroundId, siteId,
+                checkInDate, checkOutDate, Instant.now().plus(Duration.ofMinutes(ttlMinutes)), null);
+        holds.put(hold.token(), hold);
+        tokens.add(hold.token());
+        expiryIndex.add(hold);
+
+        log.info("Reservation hold acquired: token={}, site={}, {} ~ {}, expiresAt={}",
+                hold.token(), siteId, checkInDate, checkOutDate, hold.expiresAt());
+        return hold;
+    }
+
+    /**
+     * 다른 사용자의 유효한 홀드와 겹치는지 확인
+     *
+     * @param siteId 사이트 ID
+     * @param checkInDate 체크인 날짜
+     * @param checkOutDate 체크아웃 날짜
+     * @param holdToken 요청자가 보유한 홀드 토큰 (없으면 null)
+     * @return 겹치는 홀드 존재 여부
+     */
+    public boolean hasConflictingHold(Long siteId, LocalDate checkInDate, LocalDate checkOutDate, String holdToken) {
+        return findOverlapping(siteId, checkInDate, checkOutDate, holdToken) != null;
+    }
+
+    /**
+     * 예약 생성 요청의 홀드 토큰 검증
+     *
+     * @throws IllegalStateException 만료되었거나 요청 내용과 일치하지 않는 홀드
+     */
+    public ReservationHold validate(String holdToken, Long userId, Long siteId,
+                                    LocalDate checkInDate, LocalDate checkOutDate) {
+        ReservationHold hold = holds.get(holdToken);
+        if (hold == null || hold.isExpired(Instant.now())) {
+            throw new IllegalStateException("예약 선점 시간이 만료되었습니다. 다시 시도해주세요.");
+        }
+        boolean matches = hold.siteId().equals(siteId)
+                && hold.checkInDate().equals(checkInDate)
+                && hold.checkOutDate().equals(checkOutDate)
+                && Objects.equals(hold.userId(), userId);
+        if (!matches) {
+            throw new IllegalStateException("선점한 예약 정보와 요청 정보가 일치하지 않습니다.");
+        }
+        return hold;
+    }
+
+    /**
+     * 결제 대기 정보 저장 (예약 생성 요청 시)
+     * 홀드 만료 시각을 결제 대기 시간까지 연장합니다. 같은 홀드로 다시 요청하면 정보를 교체합니다.
+     *
+     * @param holdToken 홀드 토큰 (validate로 검증된 토큰)
+     * @param checkout 결제 대기 정보
+     * @return 결제 대기 정보가 저장된 홀드
+     * @throws IllegalStateException 만료된 홀드
+     */
+    public ReservationHold attachCheckout(String holdToken, HoldCheckout checkout) {
+        ReservationHold current = get(holdToken);
+        if (current == null) {
+            throw new IllegalStateException("예약 선점 시간이 만료되었습니다. 다시 시도해주세요.");
+        }
+        ReservationHold updated = current.withCheckout(checkout,
+                Instant.now().plus(Duration.ofMinutes(checkoutTtlMinutes)));
+        if (!holds.replace(holdToken, current, updated)) {
+            throw new IllegalStateException("예약 선점 시간이 만료되었습니다. 다시 시도해주세요.");
+        }
+        // 새 만료 시각을 먼저 넣어 정리 작업이 두 항목 사이에서 홀드를 놓치지 않도록 함
+        expiryIndex.add(updated);
+        expiryIndex.remove(current);
+
+        log.info("Reservation hold awaiting payment: token={}, amount={}, expiresAt={}",
+                holdToken, checkout.totalAmount(), updated.expiresAt());
+        return updated;
+    }
+
+    /**
+     * 결제 확정 요청의 홀드 조회
+     *
+     * @param holdToken 홀드 토큰
+     * @param userId 결제 요청 사용자 ID
+     * @return 결제 대기 정보가 저장된 유효한 홀드
+     * @throws IllegalStateException 만료되었거나, 다른 사용자의 홀드이거나, 예약 생성 요청 전인 홀드
+     */
+    public ReservationHold getCheckout(String holdToken, Long userId) {
+        ReservationHold hold = get(holdToken);
+        if (hold == null) {
+            throw new IllegalStateException("결제 대기 시간이 만료되었습니다. 다시 예약해주세요.");
+        }
+        if (!Objects.equals(hold.userId(), userId)) {
+            throw new IllegalStateException("본인의 예약만 결제할 수 있습니다.");
+        }
+        if (hold.checkout() == null) {
+            throw new IllegalStateException("예약 정보가 없는 홀드입니다. 예약을 먼저 생성해주세요.");
+        }
+        return hold;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 홀드를 해제 (홀드 → 예약 전환)
+     * 트랜잭션이 롤백되면 홀드는 TTL까지 유지되어 사용자가 다시 시도할 수 있습니다.
+     */
+    public void releaseAfterCommit(String holdToken) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(holdToken);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release(holdToken);
+            }
+        });
+    }
+
+    /**
+     * 홀드 해제
+     *
+     * @return 해제 여부 (이미 없으면 false)
+     */
+    public boolean release(String holdToken) {
+        ReservationHold hold = remove(holdToken);
+        if (hold == null) {
+            return false;
+        }
+        unlinkFromSite(hold);
+        return true;
+    }
+
+    private ReservationHold remove(String holdToken) {
+        ReservationHold hold = holds.remove(holdToken);
+        if (hold != null) {
+            expiryIndex.remove(hold);
+        }
+        return hold;
+    }
+
+    /**
+     * 사이트별 목록에서 홀드 제거 (마지막 홀드면 목록도 제거)
+     * acquire와 같은 목록 락 안에서 제거하므로, 제거된 목록에 새 홀드가 추가되지 않습니다.
+     */
+    private void unlinkFromSite(ReservationHold hold) {
+        Set<String> tokens = siteHolds.get(hold.siteId());
+        if (tokens == null) {
+            return;
+        }
+        synchronized (tokens) {
+            tokens.remove(hold.token());
+            if (tokens.isEmpty()) {
+                siteHolds.remove(hold.siteId(), tokens);
+            }
+        }
+    }
+
+    /**
+     * 홀드 조회 (만료된 홀드는 없는 것으로 간주)
+     */
+    public ReservationHold get(String holdToken) {
+        ReservationHold hold = holds.get(holdToken);
+        return hold != null && !hold.isExpired(Instant.now()) ? hold : null;
+    }
+
+    /**
+     * 만료된 홀드 정리
+     * 만료 인덱스의 앞부분(만료된 항목)만 꺼내므로 활성 홀드 수와 무관하게 동작합니다.
+     */
+    @Scheduled(fixedDelay = 15000)
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        int released = 0;
+        ReservationHold head = expiryIndex.pollFirst();
+        while (head != null) {
+            if (!head.isExpired(now)) {
+                // 아직 유효한 홀드이므로 되돌려 놓고 종료 (이후 항목은 모두 더 늦게 만료)
+                expiryIndex.add(head);
+                break;
+            }
+            // 결제 대기 정보 저장으로 연장된 홀드는 새 만료 시각 항목이 따로 있으므로 같은 항목일 때만 해제
+            if (holds.remove(head.token(), head)) {
+                unlinkFromSite(head);
+                released++;
+            }
+            head = expiryIndex.pollFirst();
+        }
+        if (released > 0) {
+            log.info("Released {} expired reservation holds", released);
+        }
+    }
+
+    /**
+     * 홀드가 하나 이상 있는 사이트 수 (테스트용)
+     */
+    int siteCount() {
+        return siteHolds.size();
+    }
+
+    private ReservationHold findOverlapping(Long siteId, LocalDate checkInDate, LocalDate checkOutDate,
+                                            String excludeToken) {
+        Set<String> tokens = siteHolds.get(siteId);
+        if (tokens == null) {
+            return null;
+        }
+        Instant now = Instant.now();
+        for (String token : tokens) {
+            ReservationHold hold = holds.get(token);
+            if (hold != null && !hold.isExpired(now) && !token.equals(excludeToken)
+                    && hold.overlaps(checkInDate, checkOutDate)) {
+                return hold;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,438 @@
+package com.campstation.camp.reservation.availability;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.campstation.camp.reservation.domain.ReservationStatus;
+import com.campstation.camp.reservation.dto.ReservationStayProjection;
+import com.campstation.camp.reservation.repository.ReservationRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사이트별 예약 가용성 인메모리 인덱스
+ *
+ * 사이트마다 오늘부터 365일(롤링 윈도우)을 비트 하나씩으로 표현하는 BitSet을 유지합니다.
+ * 비트가 켜져 있으면 해당 날짜의 숙박(체크인 ~ 체크아웃 전날)이 점유된 상태입니다.
+ *
+ * - 애플리케이션 시작 시 PENDING/CONFIRMED 예약으로 전체 구축
+ * - 예약 변경 트랜잭션 커밋 후 ReservationChangedEvent로 증분 반영
+ * - 매일 자정 이후 재구축하여 윈도우를 이동 (다중 인스턴스 간 드리프트 보정 포함)
+ *
+ * 인덱스는 이 인스턴스가 반영한 예약만 알고 있으므로 충돌 판정은 힌트로만 사용합니다.
+ * 예약 거절은 hasConfirmedConflict로 DB에서 확인한 뒤에만 하며, 최종 중복 예약 방지는 DB 검사가 담당합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SiteAvailabilityIndex {
+
+    /**
+     * 인덱스가 커버하는 기간 (일)
+     */
+    public static final int HORIZON_DAYS = 365;
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final List<ReservationStatus> ACTIVE_STATUSES =
+            List.of(ReservationStatus.PENDING, ReservationStatus.CONFIRMED);
+
+    private final ReservationRepository reservationRepository;
+
+    // 재구축은 새 상태를 따로 만든 뒤 참조만 교체하므로 조회는 항상 완성된 상태 하나만 봄
+    private volatile IndexState state = new IndexState(LocalDate.now(ZONE).toEpochDay());
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final Queue<ReservationChangedEvent> changedDuringRebuild = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    /**
+     * 점유된 숙박 기간 (체크아웃 날짜는 포함하지 않음)
+     */
+    public record StayRange(Long reservationId, LocalDate checkInDate, LocalDate checkOutDate) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 매일 00:05 인덱스 재구축 (롤링 윈도우 이동)
+     */
+    @Scheduled(cron = "0 5 0 * * *", zone = "Asia/Seoul")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * DB의 활성 예약으로 인덱스 전체 재구축
+     * 락 없이 새 상태를 만든 뒤 교체하므로 재구축 중에도 조회와 증분 반영은 기존 상태로 계속됩니다.
+     * 재구축 중 들어온 변경 이벤트는 교체 직후 새 상태에 다시 반영하며, 반영은 예약 ID 기준으로 멱등하므로
+     * 재구축 쿼리와 겹친 커밋도 누락 없이 반영됩니다.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long startTime = System.currentTimeMillis();
+            setRebuilding(true);
+            LocalDate today = LocalDate.now(ZONE);
+            List<ReservationStayProjection> stays =
+                    reservationRepository.findActiveStaysCheckingOutAfter(ACTIVE_STATUSES, today);
+
+            IndexState rebuilt = new IndexState(today.toEpochDay());
+            for (ReservationStayProjection stay : stays) {
+                rebuilt.put(stay.getReservationId(), stay.getSiteId(), stay.getCampgroundId(),
+                        stay.getCheckInDate(), stay.getCheckOutDate());
+            }
+
+            swapLock.writeLock().lock();
+            try {
+                ReservationChangedEvent event;
+                while ((event = changedDuringRebuild.poll()) != null) {
+                    rebuilt.apply(event);
+                }
+                state = rebuilt;
+                rebuilding = false;
+                ready = true;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+
+            log.info("Site availability index rebuilt: {} stays, {} sites in {}ms",
+                    stays.size(), rebuilt.calendars.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            ready = false;
+            setRebuilding(false);
+            log.error("Failed to rebuild site availability index", e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 예약 변경 커밋 후 인덱스에 증분 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        swapLock.readLock().lock();
+        try {
+            if (rebuilding) {
+                changedDuringRebuild.add(event);
+            }
+            state.apply(event);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void setRebuilding(boolean value) {
+        swapLock.writeLock().lock();
+        try {
+            rebuilding = value;
+            if (!value) {
+                changedDuringRebuild.clear();
+            }
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스 사용 가능 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 해당 기간에 점유된 숙박이 있는지 확인
+     * 인덱스가 준비되지 않았으면 false를 반환하므로 호출 측은 DB 검사를 계속 수행해야 합니다.
+     *
+     * @param siteId 사이트 ID
+     * @param checkInDate 체크인 날짜
+     * @param checkOutDate 체크아웃 날짜
+     * @param excludeReservationId 충돌 검사에서 제외할 예약 ID (예약 수정 시 자기 자신, 없으면 null)
+     * @return 충돌 여부
+     */
+    public boolean hasConflict(Long siteId, LocalDate checkInDate, LocalDate checkOutDate, Long excludeReservationId) {
+        if (!ready) {
+            return false;
+        }
+        IndexState current = state;
+        SiteCalendar calendar = current.calendars.get(siteId);
+        if (calendar == null) {
+            return false;
+        }
+        return calendar.overlaps(checkInDate, checkOutDate, excludeReservationId, current.originEpochDay);
+    }
+
+    /**
+     * 인덱스 충돌을 DB로 확인한 충돌 여부 (예약 거절용)
+     * 인덱스에서 충돌이 없으면 DB를 조회하지 않고 false를 반환하므로, 인덱스에 없는 충돌(다른 인스턴스의 예약 등)은
+     * 호출 측의 DB 검사가 판정해야 합니다. 인덱스에만 있는 충돌은 거절하지 않고 경고 로그를 남깁니다.
+     *
+     * @param siteId 사이트 ID
+     * @param checkInDate 체크인 날짜
+     * @param checkOutDate 체크아웃 날짜
+     * @param excludeReservationId 충돌 검사에서 제외할 예약 ID (예약 수정 시 자기 자신, 없으면 null)
+     * @return 인덱스와 DB 모두에서 충돌이면 true
+     */
+    public boolean hasConfirmedConflict(Long siteId, LocalDate checkInDate, LocalDate checkOutDate,
+                                        Long excludeReservationId) {
+        if (!hasConflict(siteId, checkInDate, checkOutDate, excludeReservationId)) {
+            return false;
+        }
+        if (reservationRepository.existsConflictingReservationForSite(
+                siteId, checkInDate, checkOutDate, excludeReservationId)) {
+            return true;
+        }
+        log.warn("Stale availability index entry for site {} between {} and {} (not found in DB)",
+                siteId, checkInDate, checkOutDate);
+        return false;
+    }
+
+    /**
+     * 요청 기간을 감싸는 빈 구간에서 요청 기간 앞뒤로 남는 박 수
+     * 앞쪽은 오늘까지, 뒤쪽은 인덱스 윈도우 끝까지로 제한됩니다.
+     */
+    public record FreeGap(int nightsBefore, int nightsAfter) {
+    }
+
+    /**
+     * 사이트가 기간 동안 비어 있으면 요청 기간 앞뒤의 남는 빈 박 수를 반환 (사이트 자동 배정용)
+     * 인덱스가 준비되지 않았으면 호출하지 않아야 합니다.
+     *
+     * @param siteId 사이트 ID
+     * @param checkInDate 체크인 날짜
+     * @param checkOutDate 체크아웃 날짜
+     * @return 앞뒤 빈 박 수 (기간이 점유되어 있으면 null)
+     */
+    public FreeGap freeGapAround(Long siteId, LocalDate checkInDate, LocalDate checkOutDate) {
+        IndexState current = state;
+        long origin = current.originEpochDay;
+        long from = checkInDate.toEpochDay() - origin;
+        long to = checkOutDate.toEpochDay() - origin;
+        SiteCalendar calendar = current.calendars.get(siteId);
+        if (calendar == null) {
+            return new FreeGap((int) Math.max(0, from), (int) Math.max(0, HORIZON_DAYS - to));
+        }
+        return calendar.freeGapAround(checkInDate, checkOutDate, origin);
+    }
+
+    /**
+     * 사이트의 점유된 숙박 기간 목록 (체크인 날짜 오름차순)
+     */
+    public List<StayRange> getReservedRanges(Long siteId) {
+        return ranges(state, siteId);
+    }
+
+    /**
+     * 여러 사이트의 점유된 숙박 기간 일괄 조회 (예약이 있는 사이트만 포함)
+     */
+    public Map<Long, List<StayRange>> getReservedRanges(Collection<Long> siteIds) {
+        return ranges(state, siteIds);
+    }
+
+    /**
+     * 캠핑장의 사이트별 점유된 숙박 기간 조회 (예약이 있는 사이트만 포함)
+     */
+    public Map<Long, List<StayRange>> getReservedRangesForCampground(Long campgroundId) {
+        IndexState current = state;
+        Set<Long> siteIds = current.campgroundSites.get(campgroundId);
+        if (siteIds == null) {
+            return Map.of();
+        }
+        return ranges(current, siteIds.stream().sorted().toList());
+    }
+
+    private static List<StayRange> ranges(IndexState current, Long siteId) {
+        SiteCalendar calendar = current.calendars.get(siteId);
+        return calendar != null ? calendar.ranges() : List.of();
+    }
+
+    private static Map<Long, List<StayRange>> ranges(IndexState current, Collection<Long> siteIds) {
+        Map<Long, List<StayRange>> result = new LinkedHashMap<>();
+        for (Long siteId : siteIds) {
+            List<StayRange> ranges = ranges(current, siteId);
+            if (!ranges.isEmpty()) {
+                result.put(siteId, ranges);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 인덱스 상태 한 벌 (윈도우 시작일과 사이트별 달력)
+     * 재구축 시 새로 만들어 통째로 교체되며, 증분 반영은 현재 상태에 적용됩니다.
+     */
+    private static final class IndexState {
+
+        private final long originEpochDay;
+        private final Map<Long, SiteCalendar> calendars = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> campgroundSites = new ConcurrentHashMap<>();
+        private final Map<Long, Long> reservationSites = new ConcurrentHashMap<>();
+
+        private IndexState(long originEpochDay) {
+            this.originEpochDay = originEpochDay;
+        }
+
+        void apply(ReservationChangedEvent event) {
+            if (event.active()) {
+                put(event.reservationId(), event.siteId(), event.campgroundId(),
+                        event.checkInDate(), event.checkOutDate());
+            } else {
+                remove(event.reservationId(), event.siteId());
+            }
+        }
+
+        void put(Long reservationId, Long siteId, Long campgroundId, LocalDate checkInDate, LocalDate checkOutDate) {
+            // 다른 사이트로 이동된 예약이면 기존 위치에서 먼저 제거
+            Long previousSiteId = reservationSites.put(reservationId, siteId);
+            if (previousSiteId != null && !previousSiteId.equals(siteId)) {
+                SiteCalendar previousCalendar = calendars.get(previousSiteId);
+                if (previousCalendar != null) {
+                    previousCalendar.remove(reservationId, originEpochDay);
+                }
+            }
+            calendars.computeIfAbsent(siteId, id -> new SiteCalendar())
+                    .put(new StayRange(reservationId, checkInDate, checkOutDate), originEpochDay);
+            if (campgroundId != null) {
+                campgroundSites.computeIfAbsent(campgroundId, id -> ConcurrentHashMap.newKeySet()).add(siteId);
+            }
+        }
+
+        void remove(Long reservationId, Long siteId) {
+            Long indexedSiteId = reservationSites.remove(reservationId);
+            SiteCalendar calendar = calendars.get(indexedSiteId != null ? indexedSiteId : siteId);
+            if (calendar != null) {
+                calendar.remove(reservationId, originEpochDay);
+            }
+        }
+    }
+
+    /**
+     * 사이트 한 곳의 점유 비트맵과 예약별 숙박 기간
+     */
+    private static final class SiteCalendar {
+
+        private final BitSet nights = new BitSet(HORIZON_DAYS);
+        private final Map<Long, StayRange> stays = new HashMap<>();
+
+        synchronized void put(StayRange stay, long origin) {
+            StayRange previous = stays.put(stay.reservationId(), stay);
+            if (previous != null) {
+                clearRange(previous, origin);
+            }
+            setRange(stay, origin);
+        }
+
+        synchronized void remove(Long reservationId, long origin) {
+            StayRange previous = stays.remove(reservationId);
+            if (previous != null) {
+                clearRange(previous, origin);
+            }
+        }
+
+        synchronized boolean overlaps(LocalDate checkInDate, LocalDate checkOutDate, Long excludeReservationId, long origin) {
+            long from = checkInDate.toEpochDay() - origin;
+            long to = checkOutDate.toEpochDay() - origin;
+            boolean withinHorizon = from >= 0 && to <= HORIZON_DAYS;
+
+            if (excludeReservationId == null && withinHorizon) {
+                int next = nights.nextSetBit((int) from);
+                return next >= 0 && next < to;
+            }
+            // 자기 자신을 제외해야 하거나 윈도우를 벗어난 기간은 기간 목록으로 판정
+            for (StayRange stay : stays.values()) {
+                if (stay.reservationId().equals(excludeReservationId)) {
+                    continue;
+                }
+                if (stay.checkInDate().isBefore(checkOutDate) && stay.checkOutDate().isAfter(checkInDate)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        synchronized FreeGap freeGapAround(LocalDate checkInDate, LocalDate checkOutDate, long origin) {
+            if (overlaps(checkInDate, checkOutDate, null, origin)) {
+                return null;
+            }
+            long from = checkInDate.toEpochDay() - origin;
+            long to = checkOutDate.toEpochDay() - origin;
+            if (from >= 0 && to <= HORIZON_DAYS) {
+                int previous = from > 0 ? nights.previousSetBit((int) from - 1) : -1;
+                int next = nights.nextSetBit((int) to);
+                return new FreeGap((int) from - (previous + 1), (next >= 0 ? next : HORIZON_DAYS) - (int) to);
+            }
+            // 윈도우를 벗어난 기간은 기간 목록으로 계산
+            long before = Math.max(0, from);
+            long after = Math.max(0, HORIZON_DAYS - to);
+            for (StayRange stay : stays.values()) {
+                long stayFrom = stay.checkInDate().toEpochDay() - origin;
+                long stayTo = stay.checkOutDate().toEpochDay() - origin;
+                if (stayTo <= from) {
+                    before = Math.min(before, from - stayTo);
+                } else if (stayFrom >= to) {
+                    after = Math.min(after, stayFrom - to);
+                }
+            }
+            return new FreeGap((int) before, (int) after);
+        }
+
+        synchronized List<StayRange> ranges() {
+            List<StayRange> result = new ArrayList<>(stays.values());
+            result.sort(Comparator.comparing(StayRange::checkInDate));
+            return result;
+        }
+
+        private void setRange(StayRange stay, long origin) {
+            int[] bounds = clip(stay, origin);
+            if (bounds[0] < bounds[1]) {
+                nights.set(bounds[0], bounds[1]);
+            }
+        }
+
+        private void clearRange(StayRange stay, long origin) {
+            int[] bounds = clip(stay, origin);
+            if (bounds[0] >= bounds[1]) {
+                return;
+            }
+            nights.clear(bounds[0], bounds[1]);
+            // 겹쳐 있던 다른 숙박의 비트 복원 (비정상 데이터 방어)
+            for (StayRange other : stays.values()) {
+                setRange(other, origin);
+            }
+        }
+
+        private int[] clip(StayRange stay, long origin) {
+            long from = Math.max(0, stay.checkInDate().toEpochDay() - origin);
+            long to = Math.min(HORIZON_DAYS, stay.checkOutDate().toEpochDay() - origin);
+            return new int[] {(int) from, (int) Math.max(from, to)};
+        }
+    }
+}
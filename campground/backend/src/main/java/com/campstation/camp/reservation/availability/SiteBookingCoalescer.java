@@ -0,0 +1,249 @@
+package com.campstation.camp.reservation.availability;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.campstation.camp.shared.exception.ReservationConflictException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사이트별 예약 요청 합류기 (single-writer queue)
+ *
+ * 오픈런처럼 같은 사이트에 예약이 몰릴 때, 사이트마다 하나의 가상 스레드 워커가
+ * 요청을 순서대로 처리하도록 직렬화합니다.
+ * - 큐에 넣기 전과 처리 직전에 가용성 인덱스로 판정하여, 인덱스에서 점유된 날짜 요청은 DB 존재 확인 한 번으로 즉시 실패
+ * - 워커는 큐에서 한 건씩 꺼내 처리하며, 각 예약은 자체 트랜잭션으로 커밋 (한 건 실패가 다른 건에 영향 없음)
+ * - 커밋 후 인덱스가 즉시 갱신되므로 뒤따르는 경쟁 요청은 예약 생성 트랜잭션 없이 탈락
+ *
+ * reservation.booking-queue.enabled=false(기본)이면 요청을 호출 스레드에서 바로 실행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SiteBookingCoalescer {
+
+    private final SiteAvailabilityIndex siteAvailabilityIndex;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${reservation.booking-queue.enabled:false}")
+    private boolean enabled;
+
+    @Value("${reservation.booking-queue.max-depth:200}")
+    private int maxDepth;
+
+    @Value("${reservation.booking-queue.timeout-seconds:30}")
+    private long timeoutSeconds;
+
+    private final Map<Long, SiteLane> lanes = new ConcurrentHashMap<>();
+    private final AtomicInteger totalDepth = new AtomicInteger();
+
+    private Timer waitTimer;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("campstation.booking.queue.depth", totalDepth, AtomicInteger::get)
+                .description("Number of booking requests waiting in per-site queues")
+                .register(meterRegistry);
+
+        Gauge.builder("campstation.booking.queue.sites", lanes, Map::size)
+                .description("Number of sites with an active booking queue")
+                .register(meterRegistry);
+
+        waitTimer = Timer.builder("campstation.booking.queue.wait")
+                .description("Time a booking request waited in the per-site queue before processing")
+                .register(meterRegistry);
+
+        rejectedCounter = Counter.builder("campstation.booking.queue.rejected")
+                .description("Booking requests rejected early by an availability index conflict confirmed in the DB")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 예약 작업 실행
+     *
+     * @param siteId 사이트 ID
+     * @param checkInDate 체크인 날짜
+     * @param checkOutDate 체크아웃 날짜
+     * @param booking 실제 예약 생성 작업 (자체 트랜잭션을 여는 서비스 호출)
+     * @return 예약 작업 결과
+     */
+    public <T> T execute(Long siteId, LocalDate checkInDate, LocalDate checkOutDate, Supplier<T> booking) {
+        if (!enabled) {
+            return booking.get();
+        }
+
+        rejectIfBooked(siteId, checkInDate, checkOutDate);
+
+        // 워커 가상 스레드에서도 요청 헤더(예: 가격 추적 헤더)를 읽을 수 있도록 호출 요청 정보를 함께 전달
+        BookingTask<T> task = new BookingTask<>(checkInDate, checkOutDate, booking,
+                RequestContextHolder.getRequestAttributes(), System.nanoTime());
+        enqueue(siteId, task);
+
+        try {
+            return task.future.get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("예약 처리 중 오류가 발생했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            // 이미 실행 중이면 결과와 무관하게 완료되므로 대기 중인 경우만 취소됨
+            task.future.cancel(false);
+            throw new IllegalStateException("예약 처리 시간이 초과되었습니다. 예약 내역을 확인해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("예약 처리가 중단되었습니다.");
+        }
+    }
+
+    /**
+     * 사이트 큐에 작업 추가 (깊이 확인과 추가, 워커 시작 여부 결정을 사이트 키 단위로 원자적으로 수행)
+     * 큐가 비어 종료된 사이트는 lanes에서 제거되어 있으므로 새 큐와 워커를 만듭니다.
+     */
+    private void enqueue(Long siteId, BookingTask<?> task) {
+        boolean[] startWorker = new boolean[1];
+        SiteLane lane = lanes.compute(siteId, (id, existing) -> {
+            SiteLane target = existing != null ? existing : new SiteLane(id);
+            if (target.queue.size() >= maxDepth) {
+                throw new IllegalStateException("예약 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+            target.queue.add(task);
+            totalDepth.incrementAndGet();
+            if (!target.draining) {
+                target.draining = true;
+                startWorker[0] = true;
+            }
+            return target;
+        });
+        if (startWorker[0]) {
+            Thread.ofVirtual().name("booking-site-" + siteId).start(lane::drain);
+        }
+    }
+
+    private void rejectIfBooked(Long siteId, LocalDate checkInDate, LocalDate checkOutDate) {
+        if (siteAvailabilityIndex.hasConfirmedConflict(siteId, checkInDate, checkOutDate, null)) {
+            rejectedCounter.increment();
+            throw new ReservationConflictException(siteId, checkInDate, checkOutDate);
+        }
+    }
+
+    /**
+     * 대기 중인 예약 작업
+     */
+    private static final class BookingTask<T> {
+        private final LocalDate checkInDate;
+        private final LocalDate checkOutDate;
+        private final Supplier<T> booking;
+        private final RequestAttributes requestAttributes;
+        private final long enqueuedAt;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private BookingTask(LocalDate checkInDate, LocalDate checkOutDate, Supplier<T> booking,
+                            RequestAttributes requestAttributes, long enqueuedAt) {
+            this.checkInDate = checkInDate;
+            this.checkOutDate = checkOutDate;
+            this.booking = booking;
+            this.requestAttributes = requestAttributes;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        private void run() {
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try {
+                future.complete(booking.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        }
+    }
+
+    /**
+     * 사이트 하나의 요청 큐와 단일 워커
+     * 워커는 큐가 비면 lanes에서 자신을 제거하고 종료되며, 다음 요청이 들어오면 새 큐와 가상 스레드로 다시 시작합니다.
+     * 큐 추가와 제거 판정은 모두 lanes.compute 안에서 수행하므로 추가된 요청이 워커 없이 남지 않습니다.
+     */
+    private final class SiteLane {
+        private final Long siteId;
+        private final LinkedBlockingQueue<BookingTask<?>> queue = new LinkedBlockingQueue<>();
+        // lanes.compute 안에서만 읽고 씀
+        private boolean draining;
+
+        private SiteLane(Long siteId) {
+            this.siteId = siteId;
+        }
+
+        private void drain() {
+            while (true) {
+                BookingTask<?> task = queue.poll();
+                if (task == null) {
+                    if (removeIfIdle()) {
+                        return;
+                    }
+                    continue;
+                }
+                totalDepth.decrementAndGet();
+                process(task);
+            }
+        }
+
+        /**
+         * 큐가 비어 있으면 lanes에서 제거 (제거되었으면 true)
+         */
+        private boolean removeIfIdle() {
+            boolean[] removed = new boolean[1];
+            lanes.compute(siteId, (id, lane) -> {
+                if (lane != this) {
+                    // 이미 교체된 큐는 더 이상 요청을 받지 않으므로 남은 요청만 처리하고 종료
+                    removed[0] = queue.isEmpty();
+                    return lane;
+                }
+                if (!queue.isEmpty()) {
+                    return lane;
+                }
+                draining = false;
+                removed[0] = true;
+                return null;
+            });
+            return removed[0];
+        }
+
+        private void process(BookingTask<?> task) {
+            waitTimer.record(System.nanoTime() - task.enqueuedAt, TimeUnit.NANOSECONDS);
+            if (task.future.isDone()) {
+                // 호출 측 타임아웃으로 취소된 요청
+                return;
+            }
+            // 앞선 요청이 커밋되며 인덱스가 갱신되었으므로 경쟁에서 진 요청은 여기서 즉시 탈락
+            if (siteAvailabilityIndex.hasConfirmedConflict(siteId, task.checkInDate, task.checkOutDate, null)) {
+                rejectedCounter.increment();
+                task.future.completeExceptionally(
+                        new ReservationConflictException(siteId, task.checkInDate, task.checkOutDate));
+                return;
+            }
+            task.run();
+        }
+    }
+}
@@ -161,6 +161,49 @@ public class PaymentController {
         return ResponseEntity.ok(CommonResponse.success(response));
     }
 
+    @PostMapping("/holds/{holdToken}/confirm")
+    @Authenticated
+    @Operation(summary = "홀드 예약 결제 승인", description = "홀드로 결제 대기 중인 예약의 토스페이먼츠 결제를 승인하고, 승인 시점에 예약을 생성합니다.")
+    public ResponseEntity<CommonResponse<PaymentResponse>> confirmHeldPayment(
+            @PathVariable String holdToken,
+            @RequestParam String paymentKey,
+            @RequestParam String orderId,
+            @RequestParam int amount) {
+
+        // 현재 인증된 사용자 정보 가져오기
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String username = authentication.getName();
+
+        // 사용자 정보 조회
+        var user = userService.findByEmail(username)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
+
+        Long userId = user.getId();
+
+        PaymentResponse response = paymentService.confirmHeldPayment(holdToken, userId, paymentKey, orderId, amount);
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+
+    @PostMapping("/holds/{holdToken}/request-confirmation")
+    @Authenticated
+    @Operation(summary = "홀드 예약 입금 확인 요청", description = "홀드로 결제 대기 중인 계좌이체 예약을 생성하고 오너에게 입금 확인을 요청합니다.")
+    public ResponseEntity<CommonResponse<PaymentResponse>> requestHeldDepositConfirmation(
+            @PathVariable String holdToken) {
+
+        // 현재 인증된 사용자 정보 가져오기
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String username = authentication.getName();
+
+        // 사용자 정보 조회
+        var user = userService.findByEmail(username)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
+
+        Long userId = user.getId();
+
+        PaymentResponse response = paymentService.requestHeldDepositConfirmation(holdToken, userId);
+        return ResponseEntity.ok(CommonResponse.success("입금 확인 요청이 전송되었습니다.", response));
+    }
+
     @PostMapping("/refunds/{refundId}/confirm")
     @OwnerOrAdmin
     @Operation(summary = "수동 환불 완료 확인", description = "계좌이체 환불을 수동으로 처리한 후 완료 확인합니다. (오너/관리자 전용)")
@@ -1,10 +1,14 @@
 package com.campstation.camp.reservation.controller;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -16,14 +20,27 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.campstation.camp.campground.domain.AmenityType;
+import com.campstation.camp.reservation.dto.CampgroundAvailabilityResponse;
+import com.campstation.camp.reservation.dto.CreateGroupReservationRequest;
+import com.campstation.camp.reservation.dto.CreateReservationHoldRequest;
 import com.campstation.camp.reservation.dto.CreateReservationRequest;
+import com.campstation.camp.reservation.dto.GroupReservationResponse;
 import com.campstation.camp.reservation.dto.GuestReservationLookupRequest;
 import com.campstation.camp.reservation.dto.GuestReservationRequest;
+import com.campstation.camp.reservation.dto.ReservationHoldResponse;
 import com.campstation.camp.reservation.dto.ReservationResponse;
+import com.campstation.camp.reservation.dto.SiteAssignmentResponse;
+import com.campstation.camp.reservation.availability.SiteBookingCoalescer;
 import com.campstation.camp.reservation.dto.UpdateReservationRequest;
+import com.campstation.camp.reservation.service.AvailabilityService;
 import com.campstation.camp.reservation.service.ReservationService;
+import com.campstation.camp.reservation.service.SiteAllocationService;
+import com.campstation.camp.shared.ETagUtil;
 import com.campstation.camp.shared.dto.CommonResponse;
 import com.campstation.camp.shared.security.annotation.Authenticated;
 import com.campstation.camp.shared.validation.InputValidator;
@@ -55,6 +72,9 @@ import lombok.extern.slf4j.Slf4j;
 public class ReservationController {
     
     private final ReservationService reservationService;
+    private final AvailabilityService availabilityService;
+    private final SiteBookingCoalescer siteBookingCoalescer;
+    private final SiteAllocationService siteAllocationService;
     private final UserService userService;
     private final InputValidator inputValidator;
     
@@ -78,9 +98,90 @@ public class ReservationController {
         log.info("Creating reservation for user: {}, campground: {}", 
                 userId, request.getCampgroundId());
         
-        ReservationResponse response = reservationService.createReservation(request, userId);
+        // 사이트를 지정하지 않은 요청은 조건에 맞는 빈 사이트를 자동 배정
+        if (request.getSiteId() == null) {
+            SiteAssignmentResponse assignment = siteAllocationService.assign(
+                    request.getCampgroundId(), request.getCheckInDate(), request.getCheckOutDate(),
+                    request.getNumberOfGuests(), request.getRequiredAmenities());
+            request.setSiteId(assignment.siteId());
+        }
+
+        // 예약 큐 모드가 켜져 있으면 같은 사이트 요청은 사이트별 단일 워커에서 순서대로 처리
+        ReservationResponse response = siteBookingCoalescer.execute(
+                request.getSiteId(), request.getCheckInDate(), request.getCheckOutDate(),
+                () -> reservationService.createReservation(request, userId));
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
+
+    /**
+     * 단체 예약 생성 (여러 사이트 일괄 예약, 전체 성공 또는 전체 실패)
+     *
+     * @param request 단체 예약 요청
+     * @param authentication 인증 정보
+     * @return 생성된 예약 목록
+     */
+    @Operation(summary = "단체 예약 생성", description = "한 캠핑장의 여러 사이트(최대 20개)를 같은 기간으로 한 번에 예약합니다. 하나라도 예약할 수 없으면 전체가 취소됩니다.")
+    @PostMapping("/group")
+    @Authenticated
+    public ResponseEntity<CommonResponse<GroupReservationResponse>> createGroupReservation(
+            @Valid @RequestBody CreateGroupReservationRequest request,
+            Authentication authentication) {
+
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        Long userId = getUserIdFromUsername(userDetails.getUsername());
+
+        log.info("Creating group reservation for user: {}, campground: {}, sites: {}",
+                userId, request.campgroundId(), request.sites().size());
+
+        GroupReservationResponse response = reservationService.createGroupReservation(request, userId);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(CommonResponse.success("단체 예약이 생성되었습니다.", response));
+    }
+
+    /**
+     * 예약 홀드 발급 (결제 단계 진입 시)
+     *
+     * @param request 홀드 요청
+     * @param authentication 인증 정보
+     * @return 발급된 홀드 토큰과 만료 시각
+     */
+    @Operation(summary = "예약 홀드 발급", description = "결제 진행 동안 사이트/기간을 잠시 선점합니다. 만료 시 자동 해제됩니다.")
+    @PostMapping("/holds")
+    @Authenticated
+    public ResponseEntity<CommonResponse<ReservationHoldResponse>> createHold(
+            @Valid @RequestBody CreateReservationHoldRequest request,
+            Authentication authentication) {
+
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        Long userId = getUserIdFromUsername(userDetails.getUsername());
+
+        log.info("Creating reservation hold for user: {}, site: {}", userId, request.siteId());
+
+        ReservationHoldResponse response = reservationService.createHold(request, userId);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(CommonResponse.success("예약 홀드가 발급되었습니다.", response));
+    }
+
+    /**
+     * 예약 홀드 해제 (결제 취소/이탈 시)
+     *
+     * @param holdToken 홀드 토큰
+     * @param authentication 인증 정보
+     * @return 성공 응답
+     */
+    @Operation(summary = "예약 홀드 해제", description = "선점한 사이트/기간을 즉시 해제합니다.")
+    @DeleteMapping("/holds/{holdToken}")
+    @Authenticated
+    public ResponseEntity<Void> releaseHold(
+            @Parameter(description = "홀드 토큰") @PathVariable String holdToken,
+            Authentication authentication) {
+
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        Long userId = getUserIdFromUsername(userDetails.getUsername());
+
+        reservationService.releaseHold(holdToken, userId);
+        return ResponseEntity.noContent().build();
+    }
     
     /**
      * 예약 조회
@@ -229,7 +330,9 @@ public class ReservationController {
         }
 
         try {
-            ReservationResponse response = reservationService.createGuestReservation(request);
+            ReservationResponse response = siteBookingCoalescer.execute(
+                    request.siteId(), request.checkInDate(), request.checkOutDate(),
+                    () -> reservationService.createGuestReservation(request));
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(CommonResponse.success("비회원 예약이 성공적으로 생성되었습니다.", response));
         } catch (Exception e) {
@@ -265,50 +368,151 @@ public class ReservationController {
 
     /**
      * 특정 사이트의 예약된 날짜 범위 조회
+     * 응답 내용 기반 ETag를 제공하며, If-None-Match가 일치하면 304를 반환합니다.
      *
      * @param siteId 사이트 ID
+     * @param webRequest 조건부 요청 처리를 위한 요청 정보
      * @return 예약된 날짜 범위 목록
      */
     @Operation(summary = "사이트 예약 날짜 조회", description = "특정 사이트의 예약된 날짜 범위를 조회합니다.")
     @GetMapping("/sites/{siteId}/reserved-dates")
     public ResponseEntity<CommonResponse<java.util.List<java.util.Map<String, LocalDate>>>> getReservedDatesForSite(
-            @Parameter(description = "사이트 ID") @PathVariable Long siteId) {
+            @Parameter(description = "사이트 ID") @PathVariable Long siteId,
+            WebRequest webRequest) {
 
         log.info("Getting reserved dates for site: {}", siteId);
 
+        java.util.List<java.util.Map<String, LocalDate>> reservedDates;
         try {
-            java.util.List<java.util.Map<String, LocalDate>> reservedDates =
-                reservationService.getReservedDateRangesForSite(siteId);
-            return ResponseEntity.ok(CommonResponse.success("예약된 날짜 조회가 완료되었습니다.", reservedDates));
+            reservedDates = reservationService.getReservedDateRangesForSite(siteId);
         } catch (Exception e) {
             log.error("Failed to get reserved dates for site: {}", siteId, e);
             return ResponseEntity.badRequest()
                     .body(CommonResponse.error("예약된 날짜 조회에 실패했습니다."));
         }
+
+        String eTag = reservedDatesETag("s", siteId, java.util.Map.of(siteId, reservedDates));
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(CommonResponse.success("예약된 날짜 조회가 완료되었습니다.", reservedDates));
     }
 
     /**
      * 캠핑장의 모든 사이트 예약 날짜 조회 (일괄 조회)
+     * 응답 내용 기반 ETag를 제공하며, If-None-Match가 일치하면 304를 반환합니다.
      *
      * @param campgroundId 캠핑장 ID
+     * @param webRequest 조건부 요청 처리를 위한 요청 정보
      * @return 사이트별 예약된 날짜 범위 맵 (key: siteId, value: 예약 날짜 범위 목록)
      */
     @Operation(summary = "캠핑장 사이트 예약 날짜 일괄 조회", description = "캠핑장의 모든 사이트 예약 날짜를 한 번에 조회합니다.")
     @GetMapping("/campgrounds/{campgroundId}/reserved-dates")
     public ResponseEntity<CommonResponse<java.util.Map<Long, java.util.List<java.util.Map<String, LocalDate>>>>> getReservedDatesForCampground(
-            @Parameter(description = "캠핑장 ID") @PathVariable Long campgroundId) {
+            @Parameter(description = "캠핑장 ID") @PathVariable Long campgroundId,
+            WebRequest webRequest) {
 
         log.info("Getting reserved dates for all sites in campground: {}", campgroundId);
 
+        java.util.Map<Long, java.util.List<java.util.Map<String, LocalDate>>> reservedDatesBySite;
         try {
-            java.util.Map<Long, java.util.List<java.util.Map<String, LocalDate>>> reservedDatesBySite =
-                reservationService.getReservedDateRangesForCampground(campgroundId);
-            return ResponseEntity.ok(CommonResponse.success("캠핑장 예약 날짜 조회가 완료되었습니다.", reservedDatesBySite));
+            reservedDatesBySite = reservationService.getReservedDateRangesForCampground(campgroundId);
         } catch (Exception e) {
             log.error("Failed to get reserved dates for campground: {}", campgroundId, e);
             return ResponseEntity.badRequest()
                     .body(CommonResponse.error("캠핑장 예약 날짜 조회에 실패했습니다."));
         }
+
+        String eTag = reservedDatesETag("c", campgroundId, reservedDatesBySite);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(CommonResponse.success("캠핑장 예약 날짜 조회가 완료되었습니다.", reservedDatesBySite));
+    }
+
+    /**
+     * 예약 날짜 응답의 ETag
+     * (사이트 ID, 체크인, 체크아웃) 목록을 정렬한 뒤 SHA-256 다이제스트로 계산하므로
+     * 같은 예약 날짜를 응답하는 인스턴스끼리는 값이 같고, 예약이 하루만 밀려도 값이 달라집니다.
+     */
+    static String reservedDatesETag(String scope, Long id,
+                                    java.util.Map<Long, java.util.List<java.util.Map<String, LocalDate>>> reservedDatesBySite) {
+        java.util.List<String> stays = new java.util.ArrayList<>();
+        reservedDatesBySite.forEach((siteId, ranges) -> {
+            for (java.util.Map<String, LocalDate> range : ranges) {
+                stays.add(siteId + "," + range.get("checkInDate") + "," + range.get("checkOutDate"));
+            }
+        });
+        java.util.Collections.sort(stays);
+        return ETagUtil.strong(scope + id, String.join("\n", stays));
+    }
+
+    /**
+     * 여러 캠핑장의 기간별 가용 사이트 일괄 조회
+     *
+     * @param campgroundIds 캠핑장 ID 목록 (최대 50개)
+     * @param checkInDate 체크인 날짜
+     * @param checkOutDate 체크아웃 날짜
+     * @return 캠핑장별 가용 사이트 ID 및 겹치는 예약 기간
+     */
+    @Operation(summary = "캠핑장 가용성 일괄 조회",
+            description = "여러 캠핑장의 기간 내 예약 가능한 사이트를 한 번에 조회합니다.")
+    @GetMapping("/availability")
+    public ResponseEntity<CommonResponse<List<CampgroundAvailabilityResponse>>> getAvailability(
+            @Parameter(description = "캠핑장 ID 목록 (쉼표 구분)") @RequestParam List<Long> campgroundIds,
+            @Parameter(description = "체크인 날짜") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate checkInDate,
+            @Parameter(description = "체크아웃 날짜") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate checkOutDate) {
+
+        log.info("Getting availability for {} campgrounds ({} ~ {})", campgroundIds.size(), checkInDate, checkOutDate);
+
+        try {
+            List<CampgroundAvailabilityResponse> availability =
+                availabilityService.getAvailability(campgroundIds, checkInDate, checkOutDate);
+            return ResponseEntity.ok(CommonResponse.success("가용성 조회가 완료되었습니다.", availability));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(CommonResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to get availability for campgrounds: {}", campgroundIds, e);
+            return ResponseEntity.badRequest()
+                    .body(CommonResponse.error("가용성 조회에 실패했습니다."));
+        }
+    }
+
+    /**
+     * 조건에 맞는 빈 사이트 자동 배정 조회
+     * 실제 예약은 배정된 siteId로 생성하거나, 예약 생성 요청에서 siteId를 비워 서버 배정을 사용합니다.
+     *
+     * @param campgroundId 캠핑장 ID
+     * @param checkInDate 체크인 날짜
+     * @param checkOutDate 체크아웃 날짜
+     * @param numberOfGuests 인원 수
+     * @param amenities 필수 편의시설 (선택)
+     * @return 배정된 사이트
+     */
+    @Operation(summary = "사이트 자동 배정",
+            description = "기간/인원/편의시설 조건에 맞는 빈 사이트 중 예약 달력 파편화가 가장 적은 사이트를 배정합니다.")
+    @GetMapping("/site-assignment")
+    public ResponseEntity<CommonResponse<SiteAssignmentResponse>> assignSite(
+            @Parameter(description = "캠핑장 ID") @RequestParam Long campgroundId,
+            @Parameter(description = "체크인 날짜") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate checkInDate,
+            @Parameter(description = "체크아웃 날짜") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate checkOutDate,
+            @Parameter(description = "인원 수") @RequestParam(defaultValue = "2") int numberOfGuests,
+            @Parameter(description = "필수 편의시설 (쉼표 구분)") @RequestParam(required = false)
+            Set<AmenityType> amenities) {
+
+        SiteAssignmentResponse assignment = siteAllocationService.assign(
+                campgroundId, checkInDate, checkOutDate, numberOfGuests, amenities);
+        return ResponseEntity.ok(CommonResponse.success("사이트가 배정되었습니다.", assignment));
     }
 
     /**
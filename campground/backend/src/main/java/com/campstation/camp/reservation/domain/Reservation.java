@@ -10,6 +10,7 @@ import org.hibernate.type.SqlTypes;
 
 import com.campstation.camp.campground.domain.Campground;
 import com.campstation.camp.campground.domain.Site;
+import com.campstation.camp.reservation.availability.ReservationAvailabilityListener;
 import com.campstation.camp.reservation.dto.PriceBreakdownDto;
 import com.campstation.camp.shared.domain.BaseEntity;
 import com.campstation.camp.shared.security.Ownable;
@@ -19,6 +20,7 @@ import com.campstation.camp.user.domain.User;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -37,6 +39,7 @@ import jakarta.persistence.Table;
  */
 @Entity
 @Table(name = "reservations")
+@EntityListeners(ReservationAvailabilityListener.class)
 public class Reservation extends BaseEntity implements Ownable {
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -86,6 +89,13 @@ public class Reservation extends BaseEntity implements Ownable {
     @Column(name = "price_breakdown", columnDefinition = "jsonb")
     private PriceBreakdownDto priceBreakdown;
 
+    /**
+     * 가격 계산에 사용한 사이트 요금제 버전
+     * 예약 수정 시 같은 버전의 요금제 스냅샷으로 재계산하는 데 사용
+     */
+    @Column(name = "pricing_version")
+    private Long pricingVersion;
+
     /**
      * 가격 항목 목록 (분석/리포팅용)
      */
@@ -217,6 +227,14 @@ public class Reservation extends BaseEntity implements Ownable {
         this.priceBreakdown = priceBreakdown;
     }
 
+    public Long getPricingVersion() {
+        return pricingVersion;
+    }
+
+    public void setPricingVersion(Long pricingVersion) {
+        this.pricingVersion = pricingVersion;
+    }
+
     public List<ReservationPriceItem> getPriceItems() {
         return priceItems;
     }
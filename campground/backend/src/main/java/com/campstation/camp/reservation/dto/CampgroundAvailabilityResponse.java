@@ -0,0 +1,24 @@
+package com.campstation.camp.reservation.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 캠핑장 가용성 응답 DTO (일괄 조회용)
+ * 예약 기간은 날짜 범위마다 맵을 만드는 대신 [체크인, 체크아웃] 배열로 표현합니다.
+ */
+@Schema(description = "캠핑장 가용성")
+public record CampgroundAvailabilityResponse(
+        @Schema(description = "캠핑장 ID", example = "1")
+        Long campgroundId,
+
+        @Schema(description = "요청 기간에 예약 가능한 사이트 ID 목록 (오름차순)", example = "[3, 5, 8]")
+        List<Long> availableSiteIds,
+
+        @Schema(description = "요청 기간과 겹치는 사이트별 예약 기간 (체크인 오름차순 [체크인, 체크아웃] 배열)")
+        Map<Long, List<LocalDate[]>> reservedRanges
+) {
+}
@@ -0,0 +1,67 @@
+package com.campstation.camp.reservation.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.campstation.camp.reservation.domain.PaymentMethod;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 단체 예약 생성 요청 DTO - 한 캠핑장의 여러 사이트를 같은 기간으로 일괄 예약
+ */
+@Schema(description = "단체 예약 생성 요청")
+public record CreateGroupReservationRequest(
+        @NotNull(message = "캠핑장 ID는 필수입니다.")
+        @Schema(description = "캠핑장 ID", example = "1")
+        Long campgroundId,
+
+        @NotNull(message = "체크인 날짜는 필수입니다.")
+        @FutureOrPresent(message = "체크인 날짜는 오늘 이후여야 합니다.")
+        @Schema(description = "체크인 날짜", example = "2024-12-25")
+        LocalDate checkInDate,
+
+        @NotNull(message = "체크아웃 날짜는 필수입니다.")
+        @Schema(description = "체크아웃 날짜", example = "2024-12-27")
+        LocalDate checkOutDate,
+
+        @NotEmpty(message = "예약할 사이트를 1개 이상 선택해주세요.")
+        @Size(max = 20, message = "단체 예약은 최대 20개 사이트까지 가능합니다.")
+        @Schema(description = "사이트별 예약 정보")
+        List<@Valid SiteGuests> sites,
+
+        @NotNull(message = "결제 방법은 필수입니다.")
+        @Schema(description = "결제 방법", example = "BANK_TRANSFER")
+        PaymentMethod paymentMethod,
+
+        @Schema(description = "입금자명 (계좌이체 시)", example = "캠핑동호회")
+        String depositorName,
+
+        @Size(max = 1000, message = "특별 요청사항은 1000자 이하여야 합니다.")
+        @Schema(description = "특별 요청사항 (모든 사이트에 공통 적용)")
+        String specialRequests
+) {
+
+    /**
+     * 사이트별 인원
+     */
+    public record SiteGuests(
+            @NotNull(message = "사이트 ID는 필수입니다.")
+            @Schema(description = "사이트 ID", example = "1")
+            Long siteId,
+
+            @NotNull(message = "인원 수는 필수입니다.")
+            @Min(value = 1, message = "최소 1명 이상이어야 합니다.")
+            @Max(value = 20, message = "최대 20명까지 가능합니다.")
+            @Schema(description = "인원 수", example = "4")
+            Integer numberOfGuests
+    ) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.campstation.camp.reservation.dto;
+
+import java.time.LocalDate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 예약 홀드(임시 선점) 요청 DTO - 결제 단계 진입 시 사용
+ */
+@Schema(description = "예약 홀드 요청")
+public record CreateReservationHoldRequest(
+        @NotNull(message = "캠핑장 ID는 필수입니다.")
+        @Schema(description = "캠핑장 ID", example = "1")
+        Long campgroundId,
+
+        @NotNull(message = "사이트 ID는 필수입니다.")
+        @Schema(description = "사이트 ID", example = "1")
+        Long siteId,
+
+        @NotNull(message = "체크인 날짜는 필수입니다.")
+        @FutureOrPresent(message = "체크인 날짜는 오늘 이후여야 합니다.")
+        @Schema(description = "체크인 날짜", example = "2024-12-25")
+        LocalDate checkInDate,
+
+        @NotNull(message = "체크아웃 날짜는 필수입니다.")
+        @Schema(description = "체크아웃 날짜", example = "2024-12-27")
+        LocalDate checkOutDate
+) {
+}
@@ -2,7 +2,9 @@ package com.campstation.camp.reservation.dto;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Set;
 
+import com.campstation.camp.campground.domain.AmenityType;
 import com.campstation.camp.reservation.domain.PaymentMethod;
 import com.campstation.camp.shared.validation.ValidDateRange;
 
@@ -27,9 +29,12 @@ public class CreateReservationRequest {
     @NotNull(message = "캠핑장 ID는 필수입니다.")
     private Long campgroundId;
 
-    @NotNull(message = "사이트 ID는 필수입니다.")
+    // 비워 두면 서버가 조건(인원, requiredAmenities)에 맞는 빈 사이트를 자동 배정
     private Long siteId;
 
+    // 사이트 자동 배정 시 필수 편의시설 (선택적)
+    private Set<AmenityType> requiredAmenities;
+
     @NotNull(message = "체크인 날짜는 필수입니다.")
     @FutureOrPresent(message = "체크인 날짜는 오늘 이후여야 합니다.")
     private LocalDate checkInDate;
@@ -57,6 +62,9 @@ public class CreateReservationRequest {
     @Positive(message = "예상 금액은 0보다 커야 합니다.")
     private BigDecimal expectedAmount;
 
+    // 결제 단계 진입 시 발급받은 예약 홀드 토큰 (선택적)
+    private String holdToken;
+
     // Constructors
     public CreateReservationRequest() {
     }
@@ -150,4 +158,20 @@ public class CreateReservationRequest {
     public void setExpectedAmount(BigDecimal expectedAmount) {
         this.expectedAmount = expectedAmount;
     }
-}
\ No newline at end of file
+
+    public String getHoldToken() {
+        return holdToken;
+    }
+
+    public void setHoldToken(String holdToken) {
+        this.holdToken = holdToken;
+    }
+
+    public Set<AmenityType> getRequiredAmenities() {
+        return requiredAmenities;
+    }
+
+    public void setRequiredAmenities(Set<AmenityType> requiredAmenities) {
+        this.requiredAmenities = requiredAmenities;
+    }
+}
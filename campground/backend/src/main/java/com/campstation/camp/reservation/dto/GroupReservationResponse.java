@@ -0,0 +1,19 @@
+package com.campstation.camp.reservation.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 단체 예약 생성 응답 DTO
+ */
+@Schema(description = "단체 예약 생성 응답")
+public record GroupReservationResponse(
+        @Schema(description = "생성된 예약 목록 (사이트 ID 순)")
+        List<ReservationResponse> reservations,
+
+        @Schema(description = "전체 결제 금액", example = "480000")
+        BigDecimal totalAmount
+) {
+}
@@ -25,6 +25,11 @@ import lombok.NoArgsConstructor;
 @Builder
 public class PriceBreakdownDto {
 
+    /**
+     * 가격 계산에 사용한 사이트 요금제 버전
+     */
+    private Long pricingVersion;
+
     /**
      * 기본 요금 총액
      */
@@ -49,7 +54,7 @@ public class PriceBreakdownDto {
     private BigDecimal totalDiscount = BigDecimal.ZERO;
 
     /**
-     * 총 할증 금액
+     * 총 할증 금액 (주말 할증 외 할증, 예: 점유율 할증)
      */
     @Builder.Default
     private BigDecimal totalSurcharge = BigDecimal.ZERO;
@@ -123,7 +128,7 @@ public class PriceBreakdownDto {
         if (item.getType().isDiscount()) {
             this.totalDiscount = this.totalDiscount.add(item.getAmount());
         }
-        // 주말 할증과 추가 인원은 weekendSurcharge, extraGuestFee로 직접 관리됨
+        // 주말 할증, 점유율 할증, 추가 인원은 weekendSurcharge, totalSurcharge, extraGuestFee로 직접 관리됨
     }
 
     /**
@@ -133,6 +138,7 @@ public class PriceBreakdownDto {
         this.totalAmount = this.basePrice
             .add(this.weekendSurcharge)
             .add(this.extraGuestFee)
+            .add(this.totalSurcharge)
             .add(this.totalDiscount); // totalDiscount는 음수
     }
 }
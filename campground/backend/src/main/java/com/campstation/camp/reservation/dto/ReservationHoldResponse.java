@@ -0,0 +1,43 @@
+package com.campstation.camp.reservation.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import com.campstation.camp.reservation.availability.ReservationHoldService.ReservationHold;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 예약 홀드 응답 DTO
+ */
+@Schema(description = "예약 홀드")
+public record ReservationHoldResponse(
+        @Schema(description = "홀드 토큰 (예약 생성 시 holdToken으로 전달)")
+        String holdToken,
+
+        @Schema(description = "캠핑장 ID", example = "1")
+        Long campgroundId,
+
+        @Schema(description = "사이트 ID", example = "1")
+        Long siteId,
+
+        @Schema(description = "체크인 날짜", example = "2024-12-25")
+        LocalDate checkInDate,
+
+        @Schema(description = "체크아웃 날짜", example = "2024-12-27")
+        LocalDate checkOutDate,
+
+        @Schema(description = "홀드 만료 시각 (UTC)")
+        Instant expiresAt
+) {
+    public static ReservationHoldResponse from(ReservationHold hold) {
+        return new ReservationHoldResponse(
+                hold.token(),
+                hold.campgroundId(),
+                hold.siteId(),
+                hold.checkInDate(),
+                hold.checkOutDate(),
+                hold.expiresAt()
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package com.campstation.camp.reservation.dto;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -33,6 +34,8 @@ public class ReservationResponse {
     private LocalDateTime updatedAt;
     private PaymentResponse payment; // 결제 정보
     private PriceBreakdownDto priceBreakdown; // 가격 상세 내역
+    private String holdToken; // 결제 대기 중인 홀드 토큰 (결제 확정 전까지 id 없음)
+    private Instant holdExpiresAt; // 결제 대기 만료 시각 (UTC)
 
     // Constructors
     public ReservationResponse() {
@@ -225,4 +228,20 @@ public class ReservationResponse {
     public void setPriceBreakdown(PriceBreakdownDto priceBreakdown) {
         this.priceBreakdown = priceBreakdown;
     }
-}
\ No newline at end of file
+
+    public String getHoldToken() {
+        return holdToken;
+    }
+
+    public void setHoldToken(String holdToken) {
+        this.holdToken = holdToken;
+    }
+
+    public Instant getHoldExpiresAt() {
+        return holdExpiresAt;
+    }
+
+    public void setHoldExpiresAt(Instant holdExpiresAt) {
+        this.holdExpiresAt = holdExpiresAt;
+    }
+}
@@ -0,0 +1,18 @@
+package com.campstation.camp.reservation.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 매출 프로젝션
+ * 요금제 시뮬레이션 시 Reservation 엔티티 하이드레이션 없이 재계산에 필요한 컬럼만 조회
+ */
+public interface ReservationRevenueProjection {
+    Long getSiteId();
+    LocalDate getCheckInDate();
+    LocalDate getCheckOutDate();
+    Integer getNumberOfGuests();
+    BigDecimal getTotalAmount();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,15 @@
+package com.campstation.camp.reservation.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 예약 숙박 기간 프로젝션
+ * 가용성 인덱스 구축 시 Reservation 엔티티 하이드레이션 없이 필요한 컬럼만 조회
+ */
+public interface ReservationStayProjection {
+    Long getReservationId();
+    Long getSiteId();
+    Long getCampgroundId();
+    LocalDate getCheckInDate();
+    LocalDate getCheckOutDate();
+}
@@ -0,0 +1,10 @@
+package com.campstation.camp.reservation.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 예약된 날짜 범위 프로젝션 (사이트 ID, 체크인, 체크아웃)
+ * 예약 캘린더 조회 시 Reservation 엔티티와 연관관계를 로딩하지 않도록 JPQL 생성자 표현식으로 조회합니다.
+ */
+public record ReservedDateRange(Long siteId, LocalDate checkInDate, LocalDate checkOutDate) {
+}
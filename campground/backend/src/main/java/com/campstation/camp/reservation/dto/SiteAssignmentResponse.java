@@ -0,0 +1,19 @@
+package com.campstation.camp.reservation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 사이트 자동 배정 결과 DTO
+ */
+@Schema(description = "사이트 자동 배정 결과")
+public record SiteAssignmentResponse(
+        @Schema(description = "배정된 사이트 ID", example = "12")
+        Long siteId,
+
+        @Schema(description = "사이트 번호", example = "A-03")
+        String siteNumber,
+
+        @Schema(description = "수용 인원", example = "4")
+        Integer capacity
+) {
+}
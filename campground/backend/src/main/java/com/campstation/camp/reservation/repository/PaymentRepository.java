@@ -5,6 +5,7 @@ import com.campstation.camp.reservation.domain.PaymentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -46,4 +47,19 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
            "AND MONTH(p.createdAt) = :month " +
            "AND YEAR(p.createdAt) = :year")
     Double findMonthlyRevenue(@Param("month") int month, @Param("year") int year);
-}
\ No newline at end of file
+
+    /**
+     * 예약 목록의 결제를 상태 조건으로 일괄 변경
+     *
+     * @param reservationIds 예약 ID 목록
+     * @param fromStatus 변경 대상 상태
+     * @param toStatus 변경할 상태
+     * @return 변경된 결제 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Payment p SET p.status = :toStatus, p.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE p.reservationId IN :reservationIds AND p.status = :fromStatus")
+    int updateStatusByReservationIds(@Param("reservationIds") List<Long> reservationIds,
+                                     @Param("fromStatus") PaymentStatus fromStatus,
+                                     @Param("toStatus") PaymentStatus toStatus);
+}
@@ -4,19 +4,24 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.campstation.camp.reservation.domain.Reservation;
 import com.campstation.camp.reservation.domain.ReservationStatus;
+import com.campstation.camp.reservation.dto.ReservationRevenueProjection;
+import com.campstation.camp.reservation.dto.ReservationStayProjection;
+import com.campstation.camp.reservation.dto.ReservedDateRange;
 
-import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 /**
  * 예약 레포지토리
@@ -73,23 +78,25 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
             @Param("endDate") LocalDate endDate);
 
     /**
-     * 사이트의 특정 날짜 범위 예약 조회 (Pessimistic Write Lock)
-     * 동시성 제어를 위해 해당 행을 잠급니다.
+     * 사이트의 특정 날짜 범위에 활성 예약이 있는지 확인 (락 없음)
+     * 동시 삽입 경쟁은 reservations 테이블의 배타 제약(excl_reservations_site_stay_range)이 최종 차단합니다.
      *
      * @param siteId 사이트 ID
      * @param startDate 시작 날짜 (체크인)
      * @param endDate 종료 날짜 (체크아웃)
-     * @return 예약 목록
+     * @param excludeReservationId 제외할 예약 ID (예약 수정 시 자기 자신, 없으면 null)
+     * @return 충돌 예약 존재 여부
      */
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT r FROM Reservation r WHERE r.site.id = :siteId " +
+    @Query("SELECT COUNT(r) > 0 FROM Reservation r WHERE r.site.id = :siteId " +
            "AND r.status IN ('CONFIRMED', 'PENDING') " +
            "AND r.checkInDate < :endDate " +
-           "AND r.checkOutDate > :startDate")
-    List<Reservation> findConflictingReservationsForSiteWithLock(
+           "AND r.checkOutDate > :startDate " +
+           "AND (:excludeReservationId IS NULL OR r.id <> :excludeReservationId)")
+    boolean existsConflictingReservationForSite(
             @Param("siteId") Long siteId,
             @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate);
+            @Param("endDate") LocalDate endDate,
+            @Param("excludeReservationId") Long excludeReservationId);
     
     /**
      * 사용자의 특정 예약 조회 (본인 예약만)
@@ -218,22 +225,32 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     List<Reservation> findByCampgroundIdAndStatusIn(Long campgroundId, List<ReservationStatus> statuses);
 
     /**
-     * 사이트 ID와 상태 목록으로 예약 조회
+     * 사이트의 예약된 날짜 범위 조회 (프로젝션, 체크인 날짜 순)
      *
      * @param siteId 사이트 ID
      * @param statuses 상태 목록
-     * @return 예약 목록
+     * @return 예약된 날짜 범위 목록
      */
-    List<Reservation> findBySiteIdAndStatusIn(Long siteId, List<ReservationStatus> statuses);
+    @Query("SELECT new com.campstation.camp.reservation.dto.ReservedDateRange(r.site.id, r.checkInDate, r.checkOutDate) " +
+           "FROM Reservation r WHERE r.site.id = :siteId AND r.status IN :statuses " +
+           "ORDER BY r.checkInDate")
+    List<ReservedDateRange> findReservedDateRangesBySiteId(
+            @Param("siteId") Long siteId,
+            @Param("statuses") List<ReservationStatus> statuses);
 
     /**
-     * 캠핑장의 모든 사이트에 대한 예약 조회 (상태 필터링)
+     * 캠핑장의 모든 사이트에 대한 예약된 날짜 범위 조회 (프로젝션, 사이트/체크인 날짜 순)
      *
      * @param campgroundId 캠핑장 ID
      * @param statuses 상태 목록
-     * @return 예약 목록
+     * @return 예약된 날짜 범위 목록
      */
-    List<Reservation> findBySite_Campground_IdAndStatusIn(Long campgroundId, List<ReservationStatus> statuses);
+    @Query("SELECT new com.campstation.camp.reservation.dto.ReservedDateRange(r.site.id, r.checkInDate, r.checkOutDate) " +
+           "FROM Reservation r WHERE r.campground.id = :campgroundId AND r.status IN :statuses " +
+           "ORDER BY r.site.id, r.checkInDate")
+    List<ReservedDateRange> findReservedDateRangesByCampgroundId(
+            @Param("campgroundId") Long campgroundId,
+            @Param("statuses") List<ReservationStatus> statuses);
 
     /**
      * 특정 상태이면서 생성 시간이 특정 시간 이전인 예약 조회 (자동 취소용)
@@ -281,4 +298,134 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
      * @return 예약 목록
      */
     List<Reservation> findByStatusAndCheckOutDateBefore(ReservationStatus status, LocalDate checkOutDate);
-}
\ No newline at end of file
+
+    /**
+     * 여러 사이트 중 특정 날짜 범위에 활성 예약이 있는 사이트 ID 조회 (단체 예약용)
+     *
+     * @param siteIds 사이트 ID 목록
+     * @param startDate 시작 날짜 (체크인)
+     * @param endDate 종료 날짜 (체크아웃)
+     * @return 충돌 사이트 ID 목록
+     */
+    @Query("SELECT DISTINCT r.site.id FROM Reservation r WHERE r.site.id IN :siteIds " +
+           "AND r.status IN ('CONFIRMED', 'PENDING') " +
+           "AND r.checkInDate < :endDate " +
+           "AND r.checkOutDate > :startDate")
+    List<Long> findConflictingSiteIds(
+            @Param("siteIds") List<Long> siteIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * 체크아웃이 기준일 이후인 활성 예약의 숙박 기간 조회 (가용성 인덱스 구축용)
+     * 엔티티 하이드레이션 없이 필요한 컬럼만 프로젝션으로 조회합니다.
+     *
+     * @param statuses 상태 목록
+     * @param date 기준 날짜
+     * @return 숙박 기간 목록
+     */
+    @Query("SELECT r.id as reservationId, r.site.id as siteId, r.campground.id as campgroundId, " +
+           "r.checkInDate as checkInDate, r.checkOutDate as checkOutDate " +
+           "FROM Reservation r WHERE r.status IN :statuses AND r.checkOutDate > :date")
+    List<ReservationStayProjection> findActiveStaysCheckingOutAfter(
+            @Param("statuses") List<ReservationStatus> statuses,
+            @Param("date") LocalDate date);
+
+    /**
+     * 여러 캠핑장에서 기간과 겹치는 활성 예약의 숙박 기간 조회 (가용성 일괄 조회용)
+     *
+     * @param campgroundIds 캠핑장 ID 목록
+     * @param statuses 상태 목록
+     * @param startDate 시작 날짜 (체크인)
+     * @param endDate 종료 날짜 (체크아웃)
+     * @return 숙박 기간 목록 (사이트, 체크인 날짜 순 정렬)
+     */
+    @Query("SELECT r.id as reservationId, r.site.id as siteId, r.campground.id as campgroundId, " +
+           "r.checkInDate as checkInDate, r.checkOutDate as checkOutDate " +
+           "FROM Reservation r WHERE r.campground.id IN :campgroundIds " +
+           "AND r.status IN :statuses " +
+           "AND r.checkInDate < :endDate AND r.checkOutDate > :startDate " +
+           "ORDER BY r.site.id, r.checkInDate")
+    List<ReservationStayProjection> findActiveStaysForCampgroundsBetween(
+            @Param("campgroundIds") List<Long> campgroundIds,
+            @Param("statuses") List<ReservationStatus> statuses,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * 결제 대기 시간이 지난 PENDING 예약을 청크 단위로 일괄 취소 (미결제 자동 취소용)
+     * 입금 확인 요청(CONFIRMATION_REQUESTED) 결제가 있는 예약은 제외하며,
+     * 예약 ID 키셋(afterId)으로 다음 청크를 이어서 처리합니다.
+     * 다른 인스턴스가 처리 중인 행은 SKIP LOCKED로 건너뜁니다.
+     *
+     * @param cutoff 생성 시각 기준 (이전에 생성된 예약만 취소)
+     * @param afterId 이전 청크의 마지막 예약 ID
+     * @param limit 청크 크기
+     * @return 취소된 예약의 숙박 기간 (가용성 인덱스 반영용)
+     */
+    @Query(value = "WITH expired AS ( " +
+           "  SELECT r.id FROM reservations r " +
+           "  WHERE r.status = 'PENDING' AND r.created_at < :cutoff AND r.id > :afterId " +
+           "  AND NOT EXISTS (SELECT 1 FROM payments p " +
+           "                  WHERE p.reservation_id = r.id AND p.status = 'CONFIRMATION_REQUESTED') " +
+           "  ORDER BY r.id LIMIT :limit " +
+           "  FOR UPDATE SKIP LOCKED) " +
+           "UPDATE reservations r SET status = 'CANCELLED', updated_at = CURRENT_TIMESTAMP " +
+           "FROM expired WHERE r.id = expired.id " +
+           "RETURNING r.id AS \"reservationId\", r.site_id AS \"siteId\", " +
+           "r.campground_id AS \"campgroundId\", r.check_in_date AS \"checkInDate\", " +
+           "r.check_out_date AS \"checkOutDate\"",
+           nativeQuery = true)
+    List<ReservationStayProjection> cancelExpiredPendingReservations(
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit);
+
+    /**
+     * 체크아웃 날짜가 지난 CONFIRMED 예약을 청크 단위로 일괄 완료 처리 (예약 완료 배치용)
+     * 예약 ID 키셋(afterId) 이후의 예약만 처리하여 중단된 배치를 체크포인트부터 이어갈 수 있습니다.
+     *
+     * @param date 기준 날짜 (체크아웃이 이 날짜 이전인 예약만 처리)
+     * @param afterId 이전 청크의 마지막 예약 ID
+     * @param limit 청크 크기
+     * @return 완료 처리된 예약 ID 목록
+     */
+    @Query(value = "WITH checked_out AS ( " +
+           "  SELECT r.id FROM reservations r " +
+           "  WHERE r.status = 'CONFIRMED' AND r.check_out_date < :date AND r.id > :afterId " +
+           "  ORDER BY r.id LIMIT :limit " +
+           "  FOR UPDATE SKIP LOCKED) " +
+           "UPDATE reservations r SET status = 'COMPLETED', updated_at = CURRENT_TIMESTAMP " +
+           "FROM checked_out WHERE r.id = checked_out.id " +
+           "RETURNING r.id",
+           nativeQuery = true)
+    List<Long> completeCheckedOutReservations(
+            @Param("date") LocalDate date,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit);
+
+    /**
+     * 사이트별 기간 내 체크인 예약의 매출 정보 스트리밍 조회 (요금제 시뮬레이션용)
+     * 엔티티 대신 프로젝션을 fetch size 단위로 읽으므로 예약이 많아도 메모리에 한 번에 올리지 않습니다.
+     * 호출 측에서 트랜잭션 안에서 스트림을 닫아야 합니다.
+     *
+     * @param siteIds 사이트 ID 목록
+     * @param statuses 상태 목록
+     * @param startDate 체크인 시작 날짜 (포함)
+     * @param endDate 체크인 종료 날짜 (미포함)
+     * @return 예약 매출 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r.site.id as siteId, r.checkInDate as checkInDate, r.checkOutDate as checkOutDate, " +
+           "r.numberOfGuests as numberOfGuests, r.totalAmount as totalAmount, r.createdAt as createdAt " +
+           "FROM Reservation r WHERE r.site.id IN :siteIds AND r.status IN :statuses " +
+           "AND r.checkInDate >= :startDate AND r.checkInDate < :endDate")
+    Stream<ReservationRevenueProjection> streamRevenueForSites(
+            @Param("siteIds") List<Long> siteIds,
+            @Param("statuses") List<ReservationStatus> statuses,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+}
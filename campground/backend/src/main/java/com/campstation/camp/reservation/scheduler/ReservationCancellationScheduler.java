@@ -5,116 +5,151 @@ import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.campstation.camp.reservation.domain.Payment;
+import com.campstation.camp.reservation.availability.ReservationChangedEvent;
 import com.campstation.camp.reservation.domain.PaymentStatus;
-import com.campstation.camp.reservation.domain.Reservation;
-import com.campstation.camp.reservation.domain.ReservationStatus;
+import com.campstation.camp.reservation.dto.ReservationStayProjection;
 import com.campstation.camp.reservation.repository.PaymentRepository;
 import com.campstation.camp.reservation.repository.ReservationRepository;
+import com.campstation.camp.shared.MetricsService;
 
 /**
  * 예약 자동 취소 스케줄러
- * 
+ *
  * 30분 이내 미결제된 예약을 자동으로 취소합니다.
  * 매 1분마다 실행되어 미결제 예약을 확인하고 취소 처리합니다.
- * 
+ * 홀드로 결제를 진행한 예약은 결제 확정 시에만 행이 생기므로(ReservationHoldService) 대상이 아니지만,
+ * 예약 생성 시 홀드 토큰은 선택 사항이므로 홀드 없이 생성된 예약이 재고를 오래 막지 않도록 매분 확인합니다.
+ *
+ * 예약을 한 건씩 조회/저장하지 않고, 청크 단위 UPDATE ... RETURNING으로 일괄 취소한 뒤
+ * 해당 예약들의 PENDING 결제를 한 번의 UPDATE로 취소합니다.
+ * 청크마다 별도 트랜잭션으로 커밋하므로 적체된 예약이 많아도 긴 트랜잭션이 생기지 않습니다.
+ *
  * @author CampStation Team
- * @version 1.1
+ * @version 1.2
  * @since 2024-10-24
  */
 @Component
 public class ReservationCancellationScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(ReservationCancellationScheduler.class);
-    
+
     // 결제 대기 시간 (30분)
     private static final int PAYMENT_TIMEOUT_MINUTES = 30;
-    
+
+    private static final String JOB_NAME = "reservation-expiry";
+
     private final ReservationRepository reservationRepository;
     private final PaymentRepository paymentRepository;
-    
+    private final ApplicationEventPublisher eventPublisher;
+    private final MetricsService metricsService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${reservation.expiry.chunk-size:500}")
+    private int chunkSize;
+
     public ReservationCancellationScheduler(
             ReservationRepository reservationRepository,
-            PaymentRepository paymentRepository) {
+            PaymentRepository paymentRepository,
+            ApplicationEventPublisher eventPublisher,
+            MetricsService metricsService,
+            PlatformTransactionManager transactionManager) {
         this.reservationRepository = reservationRepository;
         this.paymentRepository = paymentRepository;
+        this.eventPublisher = eventPublisher;
+        this.metricsService = metricsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
-    
+
     /**
      * 미결제 예약 자동 취소
-     * 
-     * 매 1분마다 실행되어 30분이 경과한 PENDING 상태의 예약을 자동 취소합니다.
-     * 예약 취소 시 해당 결제도 CANCELLED 상태로 변경합니다.
+     *
+     * 매 1분마다 실행되어 30분이 경과한 PENDING 상태의 예약을 자동 취소합니다. (홀드 없이 생성된 예약만 해당)
+     * 계좌이체 입금 확인 요청(CONFIRMATION_REQUESTED) 중인 예약은 취소하지 않습니다.
+     * 예약 취소 시 해당 예약의 PENDING 결제도 CANCELLED 상태로 변경합니다.
      * cron 표현식: 0 (asterisk-slash)1 (asterisk) (asterisk) (asterisk) (asterisk) = 매 1분마다 실행
      */
     @Scheduled(cron = "0 */1 * * * *")
-    @Transactional
     public void cancelUnpaidReservations() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(PAYMENT_TIMEOUT_MINUTES);
+
+        long lastId = 0L;
+        int chunks = 0;
+        int cancelledCount = 0;
+        int cancelledPayments = 0;
+
         try {
-            LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(PAYMENT_TIMEOUT_MINUTES);
-            
-            // 30분 이상 경과한 PENDING 상태의 예약 조회
-            List<Reservation> unpaidReservations = reservationRepository
-                .findByStatusAndCreatedAtBefore(ReservationStatus.PENDING, cutoffTime);
-            
-            if (unpaidReservations.isEmpty()) {
-                logger.debug("취소할 미결제 예약이 없습니다.");
-                return;
-            }
-            
-            int cancelledCount = 0;
-            for (Reservation reservation : unpaidReservations) {
-                try {
-                    // 계좌이체 입금 확인 요청 중인 예약은 취소하지 않음
-                    List<Payment> payments = paymentRepository.findByReservationIdOrderByCreatedAtDesc(reservation.getId());
-                    boolean hasConfirmationRequested = payments.stream()
-                        .anyMatch(p -> p.getStatus() == PaymentStatus.CONFIRMATION_REQUESTED);
-                    
-                    if (hasConfirmationRequested) {
-                        logger.debug("입금 확인 요청 중인 예약은 취소하지 않음 - 예약ID: {}", reservation.getId());
-                        continue;
-                    }
-                    // 예약 취소 처리
-                    reservation.setStatus(ReservationStatus.CANCELLED);
-                    reservationRepository.save(reservation);
-                    cancelledCount++;
-                    
-                    logger.info("예약 자동 취소 완료 - 예약ID: {}, 생성시간: {}, 경과시간: {}분",
-                        reservation.getId(),
-                        reservation.getCreatedAt(),
-                        java.time.Duration.between(reservation.getCreatedAt(), LocalDateTime.now()).toMinutes()
-                    );
-                    
-                    // 해당 예약의 PENDING 상태 결제도 CANCELLED로 변경
-                    // 이미 위에서 payments를 조회했으므로 재사용
-                    try {
-                        for (Payment payment : payments) {
-                            if (payment.getStatus() == PaymentStatus.PENDING) {
-                                payment.setStatus(PaymentStatus.CANCELLED);
-                                paymentRepository.save(payment);
-                                logger.info("결제 자동 취소 완료 - 결제ID: {}, 예약ID: {}", 
-                                    payment.getId(), reservation.getId());
-                            }
-                        }
-                    } catch (Exception e) {
-                        logger.error("결제 취소 실패 - 예약ID: {}, 오류: {}", 
-                            reservation.getId(), e.getMessage(), e);
-                    }
-                    
-                } catch (Exception e) {
-                    logger.error("예약 취소 실패 - 예약ID: {}, 오류: {}", 
-                        reservation.getId(), e.getMessage(), e);
+            while (true) {
+                ChunkResult result = cancelChunk(cutoffTime, lastId);
+                if (result.reservations() == 0) {
+                    break;
+                }
+                chunks++;
+                cancelledCount += result.reservations();
+                cancelledPayments += result.payments();
+                lastId = result.lastId();
+
+                if (result.reservations() < chunkSize) {
+                    break;
                 }
             }
-            
-            logger.info("미결제 예약 자동 취소 완료 - 총 {}건 취소", cancelledCount);
-            
         } catch (Exception e) {
-            logger.error("미결제 예약 자동 취소 스케줄러 실행 중 오류 발생", e);
+            // 이미 커밋된 청크는 유지되며, 남은 예약은 다음 실행에서 이어서 처리
+            logger.error("미결제 예약 자동 취소 스케줄러 실행 중 오류 발생 - 마지막 처리 예약ID: {}", lastId, e);
+        }
+
+        if (cancelledCount == 0) {
+            logger.debug("취소할 미결제 예약이 없습니다.");
+            return;
         }
+
+        long duration = System.currentTimeMillis() - startedAt;
+        metricsService.recordUnpaidReservationsExpired(cancelledCount, cancelledPayments);
+        metricsService.recordSchedulerJob(JOB_NAME, cancelledCount, chunks, duration);
+
+        logger.info("미결제 예약 자동 취소 완료 - 예약 {}건, 결제 {}건 취소 ({}개 청크, {}ms)",
+            cancelledCount, cancelledPayments, chunks, duration);
+    }
+
+    /**
+     * 한 청크 취소 (청크마다 별도 트랜잭션)
+     */
+    private ChunkResult cancelChunk(LocalDateTime cutoffTime, long afterId) {
+        return transactionTemplate.execute(status -> {
+            List<ReservationStayProjection> cancelled = reservationRepository
+                .cancelExpiredPendingReservations(cutoffTime, afterId, chunkSize);
+            if (cancelled.isEmpty()) {
+                return new ChunkResult(0, 0, afterId);
+            }
+
+            List<Long> reservationIds = cancelled.stream()
+                .map(ReservationStayProjection::getReservationId)
+                .toList();
+            int payments = paymentRepository.updateStatusByReservationIds(
+                reservationIds, PaymentStatus.PENDING, PaymentStatus.CANCELLED);
+
+            // 벌크 UPDATE는 엔티티 리스너를 거치지 않으므로 가용성 인덱스 반영용 이벤트를 직접 발행
+            // (인덱스는 커밋 후 이벤트를 적용)
+            for (ReservationStayProjection stay : cancelled) {
+                eventPublisher.publishEvent(new ReservationChangedEvent(
+                    stay.getReservationId(), stay.getSiteId(), stay.getCampgroundId(),
+                    stay.getCheckInDate(), stay.getCheckOutDate(), false));
+            }
+
+            long lastId = reservationIds.stream().mapToLong(Long::longValue).max().orElse(afterId);
+            logger.debug("미결제 예약 청크 취소 - 예약 {}건, 결제 {}건, 마지막 예약ID: {}",
+                cancelled.size(), payments, lastId);
+            return new ChunkResult(cancelled.size(), payments, lastId);
+        });
+    }
+
+    private record ChunkResult(int reservations, int payments, long lastId) {
     }
 }
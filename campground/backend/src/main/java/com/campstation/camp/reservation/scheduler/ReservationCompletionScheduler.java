@@ -2,83 +2,181 @@ package com.campstation.camp.reservation.scheduler;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.campstation.camp.reservation.domain.Reservation;
-import com.campstation.camp.reservation.domain.ReservationStatus;
 import com.campstation.camp.reservation.repository.ReservationRepository;
+import com.campstation.camp.shared.MetricsService;
+import com.campstation.camp.shared.domain.BatchJobCheckpoint;
+import com.campstation.camp.shared.repository.BatchJobCheckpointRepository;
 
 /**
  * 예약 완료 처리 스케줄러
- * 
+ *
  * 체크아웃 날짜가 지난 CONFIRMED 예약을 자동으로 COMPLETED로 변경합니다.
  * 매일 자정(00:00)에 실행됩니다.
- * 
+ *
+ * 예약 ID 키셋 페이징으로 청크마다 일괄 UPDATE 후 커밋하며, 같은 트랜잭션에서
+ * 체크포인트(batch_job_checkpoints)를 갱신합니다. 실행 도중 중단되면 애플리케이션 재시작 시
+ * 마지막으로 커밋된 청크 이후부터 이어서 처리합니다.
+ * 완료 대상 예약은 이미 체크아웃이 지나 가용성 인덱스 범위 밖이므로 별도 이벤트가 필요 없습니다.
+ *
  * @author CampStation Team
- * @version 1.0
+ * @version 1.1
  * @since 2024-11-02
  */
 @Component
 public class ReservationCompletionScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(ReservationCompletionScheduler.class);
-    
+
+    static final String JOB_NAME = "reservation-completion";
+
     private final ReservationRepository reservationRepository;
-    
-    public ReservationCompletionScheduler(ReservationRepository reservationRepository) {
+    private final BatchJobCheckpointRepository checkpointRepository;
+    private final MetricsService metricsService;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${reservation.completion.chunk-size:1000}")
+    private int chunkSize;
+
+    public ReservationCompletionScheduler(
+            ReservationRepository reservationRepository,
+            BatchJobCheckpointRepository checkpointRepository,
+            MetricsService metricsService,
+            PlatformTransactionManager transactionManager) {
         this.reservationRepository = reservationRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.metricsService = metricsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
-    
+
     /**
      * 체크아웃 날짜가 지난 예약 완료 처리
-     * 
+     *
      * 매일 자정에 실행되어 체크아웃 날짜가 지난 CONFIRMED 상태의 예약을 COMPLETED로 변경합니다.
+     * 같은 날짜의 실행이 이미 완료되었으면 건너뛰고, 중단된 실행이 있으면 체크포인트부터 이어서 처리합니다.
      * cron 표현식: 0 0 0 * * * = 매일 자정 실행
      */
     @Scheduled(cron = "0 0 0 * * *")
-    @Transactional
     public void completeCheckoutReservations() {
+        if (!running.compareAndSet(false, true)) {
+            logger.debug("예약 완료 처리 작업이 이미 실행 중입니다.");
+            return;
+        }
         try {
-            LocalDate today = LocalDate.now();
-            
-            // 체크아웃 날짜가 오늘보다 이전이고 CONFIRMED 상태인 예약 조회
-            List<Reservation> completedReservations = reservationRepository
-                .findByStatusAndCheckOutDateBefore(ReservationStatus.CONFIRMED, today);
-            
-            if (completedReservations.isEmpty()) {
-                logger.debug("완료 처리할 예약이 없습니다.");
-                return;
-            }
-            
-            int completedCount = 0;
-            for (Reservation reservation : completedReservations) {
-                try {
-                    // 예약 완료 처리
-                    reservation.setStatus(ReservationStatus.COMPLETED);
-                    reservationRepository.save(reservation);
-                    completedCount++;
-                    
-                    logger.info("예약 자동 완료 처리 - 예약ID: {}, 체크아웃: {}, 캠핑장: {}",
-                        reservation.getId(),
-                        reservation.getCheckOutDate(),
-                        reservation.getCampground().getName()
-                    );
-                    
-                } catch (Exception e) {
-                    logger.error("예약 완료 처리 실패 - 예약ID: {}, 오류: {}", 
-                        reservation.getId(), e.getMessage(), e);
-                }
-            }
-            
-            logger.info("체크아웃 완료 예약 자동 처리 완료 - 총 {}건 완료", completedCount);
-            
+            run(LocalDate.now());
         } catch (Exception e) {
+            // 커밋된 청크와 체크포인트는 유지되며, 다음 실행에서 이어서 처리
             logger.error("예약 완료 처리 스케줄러 실행 중 오류 발생", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 중단된 실행 재개
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedRun() {
+        LocalDate today = LocalDate.now();
+        checkpointRepository.findById(JOB_NAME)
+            .filter(checkpoint -> checkpoint.isResumableFor(today))
+            .ifPresent(checkpoint -> {
+                logger.info("중단된 예약 완료 처리 작업 재개 - 마지막 처리 예약ID: {}, 처리 건수: {}",
+                    checkpoint.getLastProcessedId(), checkpoint.getProcessedCount());
+                Thread.ofVirtual().name("reservation-completion-resume").start(this::completeCheckoutReservations);
+            });
+    }
+
+    private void run(LocalDate today) {
+        BatchJobCheckpoint checkpoint = startOrResume(today);
+        if (checkpoint == null) {
+            logger.debug("오늘 예약 완료 처리는 이미 완료되었습니다.");
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        long lastId = checkpoint.getLastProcessedId();
+        int chunks = 0;
+        int completedCount = 0;
+
+        while (true) {
+            long afterId = lastId;
+            List<Long> completedIds = transactionTemplate.execute(status -> completeChunk(today, afterId));
+            if (completedIds == null || completedIds.isEmpty()) {
+                break;
+            }
+            chunks++;
+            completedCount += completedIds.size();
+            lastId = completedIds.stream().mapToLong(Long::longValue).max().orElse(afterId);
+
+            if (completedIds.size() < chunkSize) {
+                break;
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> checkpointRepository.findById(JOB_NAME)
+            .ifPresent(BatchJobCheckpoint::complete));
+
+        long duration = System.currentTimeMillis() - startedAt;
+        if (completedCount == 0) {
+            logger.debug("완료 처리할 예약이 없습니다.");
+            return;
+        }
+
+        metricsService.recordReservationsCompleted(completedCount);
+        metricsService.recordSchedulerJob(JOB_NAME, completedCount, chunks, duration);
+
+        logger.info("체크아웃 완료 예약 자동 처리 완료 - 총 {}건 완료 ({}개 청크, {}ms)",
+            completedCount, chunks, duration);
+    }
+
+    /**
+     * 체크포인트 조회 또는 새 실행 시작
+     *
+     * @return 진행할 체크포인트 (오늘 실행이 이미 완료되었으면 null)
+     */
+    private BatchJobCheckpoint startOrResume(LocalDate today) {
+        return transactionTemplate.execute(status -> {
+            BatchJobCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME).orElse(null);
+            if (checkpoint == null) {
+                return checkpointRepository.save(new BatchJobCheckpoint(JOB_NAME, today));
+            }
+            if (checkpoint.isCompletedFor(today)) {
+                return null;
+            }
+            if (!checkpoint.isResumableFor(today)) {
+                checkpoint.start(today);
+            }
+            return checkpoint;
+        });
+    }
+
+    /**
+     * 한 청크 완료 처리 (예약 상태 변경과 체크포인트 갱신을 같은 트랜잭션으로 커밋)
+     */
+    private List<Long> completeChunk(LocalDate today, long afterId) {
+        List<Long> completedIds = reservationRepository.completeCheckedOutReservations(today, afterId, chunkSize);
+        if (completedIds.isEmpty()) {
+            return completedIds;
         }
+
+        long lastId = completedIds.stream().mapToLong(Long::longValue).max().orElse(afterId);
+        checkpointRepository.findById(JOB_NAME)
+            .ifPresent(checkpoint -> checkpoint.advance(lastId, completedIds.size()));
+
+        logger.debug("예약 완료 처리 청크 커밋 - {}건, 마지막 예약ID: {}", completedIds.size(), lastId);
+        return completedIds;
     }
 }
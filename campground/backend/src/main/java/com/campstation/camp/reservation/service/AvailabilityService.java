@@ -0,0 +1,136 @@
+package com.campstation.camp.reservation.service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.campstation.camp.campground.domain.SiteStatus;
+import com.campstation.camp.campground.dto.SiteCampgroundProjection;
+import com.campstation.camp.campground.repository.SiteRepository;
+import com.campstation.camp.reservation.availability.ReservationHoldService;
+import com.campstation.camp.reservation.availability.SiteAvailabilityIndex;
+import com.campstation.camp.reservation.domain.ReservationStatus;
+import com.campstation.camp.reservation.dto.CampgroundAvailabilityResponse;
+import com.campstation.camp.reservation.dto.ReservationStayProjection;
+import com.campstation.camp.reservation.repository.ReservationRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 예약 가용성 조회 서비스
+ * 여러 캠핑장의 사이트 가용성을 한 번에 계산합니다.
+ * 가용성 인덱스가 준비되어 있으면 메모리에서, 아니면 프로젝션 쿼리 한 번으로 조회합니다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class AvailabilityService {
+
+    /**
+     * 일괄 조회 가능한 최대 캠핑장 수
+     */
+    public static final int MAX_CAMPGROUNDS = 50;
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final List<ReservationStatus> ACTIVE_STATUSES =
+            List.of(ReservationStatus.PENDING, ReservationStatus.CONFIRMED);
+
+    private final SiteRepository siteRepository;
+    private final ReservationRepository reservationRepository;
+    private final SiteAvailabilityIndex siteAvailabilityIndex;
+    private final ReservationHoldService reservationHoldService;
+
+    /**
+     * 여러 캠핑장의 기간별 가용 사이트 일괄 조회
+     *
+     * @param campgroundIds 캠핑장 ID 목록
+     * @param checkInDate 체크인 날짜
+     * @param checkOutDate 체크아웃 날짜
+     * @return 캠핑장별 가용성 (요청 순서 유지)
+     */
+    public List<CampgroundAvailabilityResponse> getAvailability(List<Long> campgroundIds,
+                                                                LocalDate checkInDate,
+                                                                LocalDate checkOutDate) {
+        validateRequest(campgroundIds, checkInDate, checkOutDate);
+        List<Long> distinctIds = campgroundIds.stream().distinct().toList();
+
+        // 캠핑장별 운영 중인 사이트 ID (오름차순)
+        Map<Long, List<Long>> sitesByCampground = new LinkedHashMap<>();
+        distinctIds.forEach(id -> sitesByCampground.put(id, new ArrayList<>()));
+        for (SiteCampgroundProjection site
+                : siteRepository.findSiteIdsByCampgroundIdsAndStatus(distinctIds, SiteStatus.AVAILABLE)) {
+            sitesByCampground.get(site.getCampgroundId()).add(site.getSiteId());
+        }
+
+        Map<Long, List<LocalDate[]>> reservedBySite = findReservedRanges(
+                distinctIds, sitesByCampground, checkInDate, checkOutDate);
+
+        List<CampgroundAvailabilityResponse> responses = new ArrayList<>(distinctIds.size());
+        for (Map.Entry<Long, List<Long>> entry : sitesByCampground.entrySet()) {
+            List<Long> availableSiteIds = new ArrayList<>();
+            Map<Long, List<LocalDate[]>> reservedRanges = new LinkedHashMap<>();
+            for (Long siteId : entry.getValue()) {
+                List<LocalDate[]> ranges = reservedBySite.get(siteId);
+                if (ranges != null) {
+                    reservedRanges.put(siteId, ranges);
+                } else if (!reservationHoldService.hasConflictingHold(siteId, checkInDate, checkOutDate, null)) {
+                    // 다른 고객이 결제 진행 중(홀드)인 사이트는 가용 목록에서 제외
+                    availableSiteIds.add(siteId);
+                }
+            }
+            responses.add(new CampgroundAvailabilityResponse(entry.getKey(), availableSiteIds, reservedRanges));
+        }
+
+        log.debug("Batch availability for {} campgrounds ({} ~ {})", distinctIds.size(), checkInDate, checkOutDate);
+        return responses;
+    }
+
+    /**
+     * 요청 기간과 겹치는 사이트별 예약 기간 (체크인 오름차순)
+     */
+    private Map<Long, List<LocalDate[]>> findReservedRanges(List<Long> campgroundIds,
+                                                           Map<Long, List<Long>> sitesByCampground,
+                                                           LocalDate checkInDate,
+                                                           LocalDate checkOutDate) {
+        Map<Long, List<LocalDate[]>> reservedBySite = new LinkedHashMap<>();
+
+        // 인덱스는 오늘 이후 체크아웃 예약만 보유하므로 과거가 포함된 기간은 DB로 조회
+        if (siteAvailabilityIndex.isReady() && !checkInDate.isBefore(LocalDate.now(ZONE))) {
+            sitesByCampground.values().stream().flatMap(List::stream).forEach(siteId ->
+                    siteAvailabilityIndex.getReservedRanges(siteId).stream()
+                            .filter(range -> range.checkInDate().isBefore(checkOutDate)
+                                    && range.checkOutDate().isAfter(checkInDate))
+                            .forEach(range -> reservedBySite.computeIfAbsent(siteId, id -> new ArrayList<>())
+                                    .add(new LocalDate[] {range.checkInDate(), range.checkOutDate()})));
+            return reservedBySite;
+        }
+
+        List<ReservationStayProjection> stays = reservationRepository.findActiveStaysForCampgroundsBetween(
+                campgroundIds, ACTIVE_STATUSES, checkInDate, checkOutDate);
+        for (ReservationStayProjection stay : stays) {
+            reservedBySite.computeIfAbsent(stay.getSiteId(), id -> new ArrayList<>())
+                    .add(new LocalDate[] {stay.getCheckInDate(), stay.getCheckOutDate()});
+        }
+        return reservedBySite;
+    }
+
+    private void validateRequest(List<Long> campgroundIds, LocalDate checkInDate, LocalDate checkOutDate) {
+        if (campgroundIds == null || campgroundIds.isEmpty()) {
+            throw new IllegalArgumentException("캠핑장 ID는 최소 1개 이상이어야 합니다.");
+        }
+        if (campgroundIds.size() > MAX_CAMPGROUNDS) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 캠핑장은 최대 " + MAX_CAMPGROUNDS + "개입니다.");
+        }
+        if (checkInDate == null || checkOutDate == null || !checkOutDate.isAfter(checkInDate)) {
+            throw new IllegalArgumentException("체크아웃 날짜는 체크인 날짜보다 이후여야 합니다.");
+        }
+    }
+}
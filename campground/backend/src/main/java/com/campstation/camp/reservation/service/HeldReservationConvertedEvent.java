@@ -0,0 +1,12 @@
+package com.campstation.camp.reservation.service;
+
+import com.campstation.camp.reservation.domain.Reservation;
+
+/**
+ * 결제 확정 시 홀드가 예약으로 전환되었음을 알리는 이벤트
+ * 예약 확인 이메일/SMS는 결제 승인까지 커밋된 뒤에만 이 이벤트로 발송됩니다.
+ */
+public record HeldReservationConvertedEvent(
+        Reservation reservation
+) {
+}
@@ -0,0 +1,37 @@
+package com.campstation.camp.reservation.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.campstation.camp.reservation.domain.Reservation;
+import com.campstation.camp.shared.notification.EmailNotificationService;
+import com.campstation.camp.shared.notification.SmsNotificationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 홀드 전환 예약 알림 리스너
+ * convertHold는 토스 승인 전에 같은 결제 확정 트랜잭션 안에서 실행되므로,
+ * 승인 실패로 롤백된 예약에 확인 알림이 나가지 않도록 커밋 후에만 발송합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HeldReservationNotificationListener {
+
+    private final EmailNotificationService emailNotificationService;
+    private final SmsNotificationService smsNotificationService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onConverted(HeldReservationConvertedEvent event) {
+        Reservation reservation = event.reservation();
+        try {
+            emailNotificationService.sendReservationConfirmationEmail(reservation);
+            smsNotificationService.sendReservationConfirmationSms(reservation);
+        } catch (Exception e) {
+            log.warn("예약 알림 전송 실패 (예약은 정상 생성됨): {}", reservation.getId(), e);
+        }
+    }
+}
@@ -11,6 +11,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.campstation.camp.reservation.availability.ReservationHoldService;
+import com.campstation.camp.reservation.availability.ReservationHoldService.ReservationHold;
 import com.campstation.camp.reservation.domain.Payment;
 import com.campstation.camp.reservation.domain.PaymentMethod;
 import com.campstation.camp.reservation.domain.PaymentStatus;
@@ -59,6 +61,8 @@ public class PaymentService {
     private final SmsNotificationService smsNotificationService;
     private final TossPaymentsClient tossPaymentsClient;
     private final UserRepository userRepository;
+    private final ReservationService reservationService;
+    private final ReservationHoldService reservationHoldService;
 
     @Transactional
     public ProcessPaymentResponse processPayment(Long userId, ProcessPaymentRequest request) {
@@ -656,6 +660,59 @@ public class PaymentService {
         }
     }
 
+    /**
+     * 홀드 예약의 토스페이먼츠 결제 승인
+     *
+     * 결제 승인 시점에 홀드를 예약으로 전환한 뒤 verifyAndCompletePayment로 승인합니다.
+     * 승인에 실패하면 트랜잭션이 롤백되어 예약/결제 행이 남지 않고, 홀드는 만료 시까지 유지되어 다시 결제할 수 있습니다.
+     *
+     * @param holdToken 예약 생성 시 발급된 홀드 토큰
+     * @param userId 결제 요청 사용자 ID
+     * @param paymentKey 토스페이먼츠 결제 키
+     * @param orderId 주문 ID
+     * @param amount 결제 금액
+     * @return 결제 응답
+     */
+    @Transactional
+    public PaymentResponse confirmHeldPayment(String holdToken, Long userId, String paymentKey, String orderId, int amount) {
+        ReservationHold hold = reservationHoldService.getCheckout(holdToken, userId);
+
+        // 전환 전에 금액을 먼저 검증하여 불일치 시 예약을 만들지 않음
+        BigDecimal requestedAmount = BigDecimal.valueOf(amount);
+        if (hold.checkout().totalAmount().compareTo(requestedAmount) != 0) {
+            log.error("Held payment amount mismatch! Quoted: {}, Requested: {}, holdToken: {}",
+                    hold.checkout().totalAmount(), requestedAmount, holdToken);
+            throw new IllegalArgumentException(
+                    String.format("결제 금액이 일치하지 않습니다. (예약 금액: %s원, 결제 금액: %s원)",
+                            hold.checkout().totalAmount(), requestedAmount));
+        }
+
+        Payment payment = reservationService.convertHold(hold);
+        return verifyAndCompletePayment(paymentKey, payment.getId(), orderId, amount);
+    }
+
+    /**
+     * 홀드 예약의 계좌이체 입금 확인 요청
+     *
+     * 입금 확인 요청 시점에 홀드를 예약으로 전환하고 오너에게 확인을 요청합니다.
+     * 전환된 결제는 CONFIRMATION_REQUESTED 상태이므로 미결제 자동 취소 대상이 아닙니다.
+     *
+     * @param holdToken 예약 생성 시 발급된 홀드 토큰
+     * @param userId 요청하는 사용자 ID
+     * @return 결제 응답
+     */
+    @Transactional
+    public PaymentResponse requestHeldDepositConfirmation(String holdToken, Long userId) {
+        ReservationHold hold = reservationHoldService.getCheckout(holdToken, userId);
+        if (hold.checkout().paymentMethod() != PaymentMethod.BANK_TRANSFER) {
+            throw new RuntimeException("계좌이체 결제만 입금 확인 요청이 가능합니다.");
+        }
+
+        Payment payment = reservationService.convertHold(hold);
+        requestDepositConfirmation(payment.getId(), userId);
+        return PaymentResponse.fromEntity(payment);
+    }
+
     /**
      * 사용자가 입금 확인을 요청 (오너에게 알림 전송)
      *
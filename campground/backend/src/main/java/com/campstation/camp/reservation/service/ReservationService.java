@@ -2,12 +2,17 @@ package com.campstation.camp.reservation.service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -19,21 +24,32 @@ import com.campstation.camp.campground.domain.Site;
 import com.campstation.camp.campground.domain.SiteStatus;
 import com.campstation.camp.campground.repository.CampgroundRepository;
 import com.campstation.camp.campground.repository.SiteRepository;
-import com.campstation.camp.pricing.service.PriceCalculationService;
+import com.campstation.camp.pricing.service.PricingEngine;
+import com.campstation.camp.reservation.availability.ReservationHoldService;
+import com.campstation.camp.reservation.availability.ReservationHoldService.HoldCheckout;
+import com.campstation.camp.reservation.availability.ReservationHoldService.ReservationHold;
+import com.campstation.camp.reservation.availability.SiteAvailabilityIndex;
 import com.campstation.camp.reservation.domain.Payment;
+import com.campstation.camp.reservation.domain.PaymentMethod;
 import com.campstation.camp.reservation.domain.PaymentStatus;
 import com.campstation.camp.reservation.domain.Reservation;
 import com.campstation.camp.reservation.domain.ReservationPriceItem;
 import com.campstation.camp.reservation.domain.ReservationStatus;
+import com.campstation.camp.reservation.dto.CreateGroupReservationRequest;
+import com.campstation.camp.reservation.dto.CreateReservationHoldRequest;
 import com.campstation.camp.reservation.dto.CreateReservationRequest;
 import com.campstation.camp.reservation.dto.GuestReservationLookupRequest;
+import com.campstation.camp.reservation.dto.GroupReservationResponse;
 import com.campstation.camp.reservation.dto.GuestReservationRequest;
 import com.campstation.camp.reservation.dto.PaymentResponse;
 import com.campstation.camp.reservation.dto.PriceBreakdownDto;
+import com.campstation.camp.reservation.dto.ReservationHoldResponse;
 import com.campstation.camp.reservation.dto.ReservationResponse;
+import com.campstation.camp.reservation.dto.ReservedDateRange;
 import com.campstation.camp.reservation.dto.UpdateReservationRequest;
 import com.campstation.camp.reservation.repository.PaymentRepository;
 import com.campstation.camp.reservation.repository.ReservationRepository;
+import com.campstation.camp.shared.MetricsService;
 import com.campstation.camp.shared.exception.ReservationConflictException;
 import com.campstation.camp.shared.notification.EmailNotificationService;
 import com.campstation.camp.shared.notification.SmsNotificationService;
@@ -66,10 +82,16 @@ public class ReservationService {
     private final PaymentRepository paymentRepository;
     private final EmailNotificationService emailNotificationService;
     private final SmsNotificationService smsNotificationService;
-    private final PriceCalculationService priceCalculationService;
+    private final PricingEngine pricingEngine;
+    private final SiteAvailabilityIndex siteAvailabilityIndex;
+    private final ReservationHoldService reservationHoldService;
+    private final MetricsService metricsService;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 예약 생성
+     * 홀드 토큰이 있으면 예약 행을 만들지 않고 홀드에 결제 대기 정보만 저장하며,
+     * 결제 확정 시(PaymentService) convertHold로 예약이 생성됩니다.
      * 
      * @param request 예약 생성 요청
      * @param userId 사용자 ID
@@ -113,16 +135,36 @@ public class ReservationService {
         // 날짜 유효성 검증
         validateReservationDates(request.getCheckInDate(), request.getCheckOutDate());
 
-        // 예약 충돌 확인 (Pessimistic Lock으로 동시성 제어)
-        // 이 쿼리가 실행되는 동안 해당 행들이 잠기므로, 다른 트랜잭션은 대기합니다.
-        List<Reservation> conflictingReservations = reservationRepository
-                .findConflictingReservationsForSiteWithLock(
-                        request.getSiteId(),
-                        request.getCheckInDate(),
-                        request.getCheckOutDate()
-                );
+        // 가용성 인덱스로 빠른 충돌 판정 (인덱스 충돌은 DB로 확인한 뒤 즉시 실패)
+        if (siteAvailabilityIndex.hasConfirmedConflict(
+                request.getSiteId(), request.getCheckInDate(), request.getCheckOutDate(), null)) {
+            log.warn("Reservation conflict detected by availability index for site {} between {} and {}",
+                    request.getSiteId(), request.getCheckInDate(), request.getCheckOutDate());
+            throw new ReservationConflictException(
+                    request.getSiteId(),
+                    request.getCheckInDate(),
+                    request.getCheckOutDate()
+            );
+        }
+
+        // 예약 홀드 확인: 보유한 홀드는 검증하고, 다른 고객의 홀드와 겹치면 실패
+        String holdToken = request.getHoldToken();
+        if (holdToken != null) {
+            reservationHoldService.validate(holdToken, userId,
+                    request.getSiteId(), request.getCheckInDate(), request.getCheckOutDate());
+        }
+        if (reservationHoldService.hasConflictingHold(
+                request.getSiteId(), request.getCheckInDate(), request.getCheckOutDate(), holdToken)) {
+            throw new ReservationConflictException("다른 고객이 결제 진행 중인 날짜입니다. 잠시 후 다시 시도해주세요.");
+        }
 
-        if (!conflictingReservations.isEmpty()) {
+        // 예약 충돌 확인 (락 없이 조회)
+        // 동시에 같은 날짜를 예약하는 경쟁은 저장 시 DB 배타 제약이 차단합니다.
+        if (reservationRepository.existsConflictingReservationForSite(
+                request.getSiteId(),
+                request.getCheckInDate(),
+                request.getCheckOutDate(),
+                null)) {
             log.warn("Reservation conflict detected for site {} between {} and {}",
                     request.getSiteId(), request.getCheckInDate(), request.getCheckOutDate());
             throw new ReservationConflictException(
@@ -133,7 +175,7 @@ public class ReservationService {
         }
         
         // 가격 계산 (상세 내역 포함)
-        PriceBreakdownDto priceBreakdown = priceCalculationService.calculatePrice(
+        PriceBreakdownDto priceBreakdown = pricingEngine.calculatePrice(
             site,
             request.getCheckInDate(),
             request.getCheckOutDate(),
@@ -164,6 +206,14 @@ public class ReservationService {
             }
         }
 
+        // 홀드 예약은 결제 확정 시 예약으로 전환 (결제 이탈 시 DB에 PENDING 예약이 남지 않음)
+        if (holdToken != null) {
+            ReservationHold hold = reservationHoldService.attachCheckout(holdToken, new HoldCheckout(
+                    request.getNumberOfGuests(), request.getSpecialRequests(),
+                    request.getPaymentMethod(), request.getDepositorName(), priceBreakdown));
+            return convertToHeldResponse(hold, user, campground, site);
+        }
+
         // 예약 생성
         Reservation reservation = new Reservation();
         reservation.setUser(user);
@@ -172,25 +222,13 @@ public class ReservationService {
         reservation.setCheckInDate(request.getCheckInDate());
         reservation.setCheckOutDate(request.getCheckOutDate());
         reservation.setNumberOfGuests(request.getNumberOfGuests());
-        reservation.setTotalAmount(priceBreakdown.getTotalAmount());
-        reservation.setPriceBreakdown(priceBreakdown); // JSONB 스냅샷 저장
         reservation.setSpecialRequests(request.getSpecialRequests());
         reservation.setStatus(ReservationStatus.PENDING);
 
-        // 가격 항목 저장 (분석용)
-        priceBreakdown.getItems().forEach(itemDto -> {
-            ReservationPriceItem priceItem = ReservationPriceItem.builder()
-                .itemType(itemDto.getType())
-                .itemName(itemDto.getName())
-                .quantity(itemDto.getQuantity())
-                .unitPrice(itemDto.getUnitPrice())
-                .amount(itemDto.getAmount())
-                .displayOrder(itemDto.getDisplayOrder())
-                .build();
-            reservation.addPriceItem(priceItem);
-        });
+        // 금액, JSONB 스냅샷, 요금제 버전, 가격 항목(분석용) 저장
+        applyPriceBreakdown(reservation, priceBreakdown);
         
-        Reservation savedReservation = reservationRepository.save(reservation);
+        Reservation savedReservation = saveWithConflictGuard(reservation);
         log.info("Created reservation with ID: {}", savedReservation.getId());
         
         // 결제 정보 생성 (모든 결제 방식에 대해 PENDING 상태로 생성)
@@ -213,6 +251,226 @@ public class ReservationService {
         return convertToResponse(savedReservation);
     }
     
+    /**
+     * 단체 예약 생성 (여러 사이트를 같은 기간으로 일괄 예약)
+     * 전체 사이트가 예약 가능할 때만 모두 생성하고, 하나라도 실패하면 전체를 롤백합니다.
+     * - 사이트는 ID 오름차순으로 비관적 락을 획득하여 동시 단체 예약 간 교착 상태를 방지
+     * - 충돌 검사와 요금제 조회는 사이트 수와 무관하게 각각 쿼리 한 번으로 처리
+     * - 예약/결제는 한 번의 flush로 저장하고, 확인 알림은 한 통으로 발송
+     *
+     * @param request 단체 예약 요청
+     * @param userId 사용자 ID
+     * @return 생성된 예약 목록과 전체 금액
+     */
+    @Transactional
+    @CacheEvict(value = "reservations", key = "'user:' + #userId + ':reservations'", condition = "!@environment.acceptsProfiles('local')")
+    public GroupReservationResponse createGroupReservation(CreateGroupReservationRequest request, Long userId) {
+        long startedAt = System.currentTimeMillis();
+        LocalDate checkInDate = request.checkInDate();
+        LocalDate checkOutDate = request.checkOutDate();
+        log.info("Creating group reservation for user: {}, campground: {}, sites: {}",
+                userId, request.campgroundId(), request.sites().size());
+
+        Map<Long, Integer> guestsBySiteId = request.sites().stream()
+                .collect(Collectors.toMap(
+                        CreateGroupReservationRequest.SiteGuests::siteId,
+                        CreateGroupReservationRequest.SiteGuests::numberOfGuests,
+                        (a, b) -> {
+                            throw new RuntimeException("같은 사이트를 중복으로 선택할 수 없습니다.");
+                        }));
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+        Campground campground = campgroundRepository.findById(request.campgroundId())
+                .orElseThrow(() -> new RuntimeException("캠핑장을 찾을 수 없습니다."));
+
+        if (campground.getStatus() != CampgroundStatus.ACTIVE) {
+            throw new RuntimeException("현재 예약할 수 없는 캠핑장입니다.");
+        }
+
+        validateReservationDates(checkInDate, checkOutDate);
+
+        // 가용성 인덱스(DB 확인)/홀드로 빠른 충돌 판정 (락 획득 전)
+        for (Long siteId : guestsBySiteId.keySet()) {
+            if (siteAvailabilityIndex.hasConfirmedConflict(siteId, checkInDate, checkOutDate, null)) {
+                throw new ReservationConflictException(siteId, checkInDate, checkOutDate);
+            }
+            if (reservationHoldService.hasConflictingHold(siteId, checkInDate, checkOutDate, null)) {
+                throw new ReservationConflictException("다른 고객이 결제 진행 중인 사이트가 포함되어 있습니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+
+        // 사이트 락 (ID 오름차순)
+        List<Site> sites = siteRepository.findAllByIdInOrderByIdForUpdate(guestsBySiteId.keySet());
+        if (sites.size() != guestsBySiteId.size()) {
+            throw new RuntimeException("사이트를 찾을 수 없습니다.");
+        }
+        for (Site site : sites) {
+            if (!site.getCampgroundId().equals(request.campgroundId())) {
+                throw new RuntimeException("사이트가 해당 캠핑장에 속하지 않습니다.");
+            }
+            if (site.getStatus() != SiteStatus.AVAILABLE) {
+                throw new RuntimeException("예약할 수 없는 사이트가 포함되어 있습니다: " + site.getSiteNumber());
+            }
+        }
+
+        List<Long> siteIds = sites.stream().map(Site::getId).toList();
+        List<Long> conflictingSiteIds = reservationRepository.findConflictingSiteIds(siteIds, checkInDate, checkOutDate);
+        if (!conflictingSiteIds.isEmpty()) {
+            log.warn("Group reservation conflict for sites {} between {} and {}",
+                    conflictingSiteIds, checkInDate, checkOutDate);
+            throw new ReservationConflictException(conflictingSiteIds.get(0), checkInDate, checkOutDate);
+        }
+
+        // 가격 일괄 계산 (요금제 1회 조회)
+        Map<Long, PriceBreakdownDto> breakdowns = pricingEngine.calculatePrices(
+                sites, checkInDate, checkOutDate, guestsBySiteId);
+
+        List<Reservation> reservations = new ArrayList<>(sites.size());
+        for (Site site : sites) {
+            PriceBreakdownDto priceBreakdown = breakdowns.get(site.getId());
+
+            Reservation reservation = new Reservation();
+            reservation.setUser(user);
+            reservation.setCampground(campground);
+            reservation.setSite(site);
+            reservation.setCheckInDate(checkInDate);
+            reservation.setCheckOutDate(checkOutDate);
+            reservation.setNumberOfGuests(guestsBySiteId.get(site.getId()));
+            reservation.setSpecialRequests(request.specialRequests());
+            reservation.setStatus(ReservationStatus.PENDING);
+            applyPriceBreakdown(reservation, priceBreakdown);
+            reservations.add(reservation);
+        }
+
+        List<Reservation> savedReservations = saveAllWithConflictGuard(reservations, checkInDate, checkOutDate);
+
+        List<Payment> payments = savedReservations.stream()
+                .map(reservation -> Payment.builder()
+                        .user(user)
+                        .reservationId(reservation.getId())
+                        .amount(reservation.getTotalAmount())
+                        .paymentMethod(request.paymentMethod())
+                        .status(PaymentStatus.PENDING)
+                        .depositorName(request.depositorName())
+                        .build())
+                .toList();
+        paymentRepository.saveAll(payments);
+
+        BigDecimal totalAmount = savedReservations.stream()
+                .map(Reservation::getTotalAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        log.info("Created group reservation: {} reservations, total amount {}", savedReservations.size(), totalAmount);
+
+        // 통합 확인 알림 (사이트별 N통 대신 1통)
+        try {
+            emailNotificationService.sendGroupReservationConfirmationEmail(savedReservations);
+        } catch (Exception e) {
+            log.warn("단체 예약 알림 전송 실패 (예약은 정상 생성됨): {}", savedReservations.get(0).getId(), e);
+        }
+
+        metricsService.recordGroupBookingCreated(savedReservations.size(), System.currentTimeMillis() - startedAt);
+
+        List<ReservationResponse> responses = savedReservations.stream()
+                .map(this::convertToResponse)
+                .toList();
+        return new GroupReservationResponse(responses, totalAmount);
+    }
+
+    /**
+     * 예약 홀드 발급 (결제 단계 진입 시)
+     * 사이트/기간을 짧은 시간 동안 선점하며 DB에 예약 행을 만들지 않습니다.
+     * 홀드 토큰을 예약 생성 요청에 전달하면 결제 확정 시 예약으로 전환되고, 결제 이탈 시 TTL 만료로 자동 해제됩니다.
+     *
+     * @param request 홀드 요청
+     * @param userId 사용자 ID
+     * @return 발급된 홀드
+     */
+    public ReservationHoldResponse createHold(CreateReservationHoldRequest request, Long userId) {
+        Site site = siteRepository.findById(request.siteId())
+                .orElseThrow(() -> new RuntimeException("사이트를 찾을 수 없습니다."));
+
+        if (!site.getCampgroundId().equals(request.campgroundId())) {
+            throw new RuntimeException("사이트가 해당 캠핑장에 속하지 않습니다.");
+        }
+
+        if (site.getStatus() != SiteStatus.AVAILABLE) {
+            throw new RuntimeException("현재 예약할 수 없는 사이트입니다.");
+        }
+
+        validateReservationDates(request.checkInDate(), request.checkOutDate());
+
+        if (reservationRepository.existsConflictingReservationForSite(
+                request.siteId(), request.checkInDate(), request.checkOutDate(), null)) {
+            throw new ReservationConflictException(request.siteId(), request.checkInDate(), request.checkOutDate());
+        }
+
+        return ReservationHoldResponse.from(reservationHoldService.acquire(
+                userId, request.campgroundId(), request.siteId(), request.checkInDate(), request.checkOutDate()));
+    }
+
+    /**
+     * 예약 홀드 해제 (결제 취소/이탈 시)
+     *
+     * @param holdToken 홀드 토큰
+     * @param userId 사용자 ID (본인 홀드만 해제)
+     */
+    public void releaseHold(String holdToken, Long userId) {
+        ReservationHoldService.ReservationHold hold = reservationHoldService.get(holdToken);
+        if (hold == null) {
+            return;
+        }
+        if (!userId.equals(hold.userId())) {
+            throw new RuntimeException("예약 홀드를 해제할 권한이 없습니다.");
+        }
+        reservationHoldService.release(holdToken);
+    }
+
+    /**
+     * 홀드 → 예약 전환 (결제 확정 시 PaymentService에서 호출)
+     * 홀드에 저장된 결제 대기 정보로 PENDING 예약과 결제를 저장하고, 커밋되면 홀드를 해제합니다.
+     * 호출한 결제 확정 트랜잭션이 롤백되면 예약도 남지 않고 홀드는 만료 시까지 유지되어 다시 결제할 수 있습니다.
+     *
+     * @param hold 결제 대기 정보가 저장된 홀드 (ReservationHoldService.getCheckout으로 조회)
+     * @return 생성된 PENDING 결제 (예약 ID 포함)
+     */
+    @Transactional
+    @CacheEvict(value = "reservations", key = "'user:' + #hold.userId() + ':reservations'", condition = "!@environment.acceptsProfiles('local')")
+    public Payment convertHold(ReservationHold hold) {
+        HoldCheckout checkout = hold.checkout();
+        User user = userRepository.findById(hold.userId())
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        Campground campground = campgroundRepository.findById(hold.campgroundId())
+                .orElseThrow(() -> new RuntimeException("캠핑장을 찾을 수 없습니다."));
+        Site site = siteRepository.findById(hold.siteId())
+                .orElseThrow(() -> new RuntimeException("사이트를 찾을 수 없습니다."));
+
+        Reservation reservation = new Reservation();
+        reservation.setUser(user);
+        reservation.setCampground(campground);
+        reservation.setSite(site);
+        reservation.setCheckInDate(hold.checkInDate());
+        reservation.setCheckOutDate(hold.checkOutDate());
+        reservation.setNumberOfGuests(checkout.numberOfGuests());
+        reservation.setSpecialRequests(checkout.specialRequests());
+        reservation.setStatus(ReservationStatus.PENDING);
+        applyPriceBreakdown(reservation, checkout.priceBreakdown());
+
+        // 홀드 중에는 다른 예약 요청이 막히지만, 홀드 없는 경로와의 경쟁은 DB 배타 제약이 차단
+        Reservation savedReservation = saveWithConflictGuard(reservation);
+        Payment payment = createPaymentForReservation(savedReservation, user,
+                checkout.paymentMethod(), checkout.depositorName());
+        reservationHoldService.releaseAfterCommit(hold.token());
+        log.info("Converted hold {} to reservation {} with payment {}",
+                hold.token(), savedReservation.getId(), payment.getId());
+
+        // 확인 알림은 토스 승인까지 커밋된 뒤 HeldReservationNotificationListener가 발송
+        eventPublisher.publishEvent(new HeldReservationConvertedEvent(savedReservation));
+        return payment;
+    }
+
     /**
      * 예약에 대한 결제 정보 생성
      * 모든 결제 방식에 대해 PENDING 상태로 생성
@@ -223,17 +481,22 @@ public class ReservationService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
         
+        return createPaymentForReservation(reservation, user, request.getPaymentMethod(), request.getDepositorName());
+    }
+
+    private Payment createPaymentForReservation(Reservation reservation, User user,
+                                                PaymentMethod paymentMethod, String depositorName) {
         // 모든 결제 방식을 PENDING으로 생성 (카드 정보 없이)
         Payment payment = Payment.builder()
                 .user(user)  // User 엔티티 설정 (userId가 아닌 user 객체)
                 .reservationId(reservation.getId())
                 .amount(reservation.getTotalAmount())
-                .paymentMethod(request.getPaymentMethod())
+                .paymentMethod(paymentMethod)
                 .status(PaymentStatus.PENDING)
                 .transactionId(null)  // transactionId는 결제 승인 시 설정
                 .cardNumber(null)     // cardNumber - 토스페이먼츠가 처리
                 .cardHolderName(null) // cardHolderName - 토스페이먼츠가 처리
-                .depositorName(request.getDepositorName())  // 무통장 입금 시 입금자명
+                .depositorName(depositorName)  // 무통장 입금 시 입금자명
                 .build();
         
         return paymentRepository.save(payment);
@@ -333,31 +596,28 @@ public class ReservationService {
         
         if (request.checkInDate() != null || request.checkOutDate() != null) {
             validateReservationDates(newCheckInDate, newCheckOutDate);
+
+            if (siteAvailabilityIndex.hasConfirmedConflict(
+                    reservation.getSite().getId(), newCheckInDate, newCheckOutDate, reservationId)) {
+                throw new RuntimeException("선택한 날짜에 이미 예약이 있습니다.");
+            }
             
             // 자신을 제외한 충돌 예약 확인 (사이트별로)
-            List<Reservation> conflictingReservations = reservationRepository.findBySiteIdAndStatusIn(
-                    reservation.getSite().getId(),
-                    List.of(ReservationStatus.CONFIRMED, ReservationStatus.PENDING)
-            ).stream()
-            .filter(r -> !r.getId().equals(reservationId))
-            .filter(r -> {
-                // 날짜가 겹치는지 확인
-                LocalDate reqStart = newCheckInDate;
-                LocalDate reqEnd = newCheckOutDate;
-                LocalDate resStart = r.getCheckInDate();
-                LocalDate resEnd = r.getCheckOutDate();
-                return reqStart.isBefore(resEnd) && reqEnd.isAfter(resStart);
-            })
-            .collect(java.util.stream.Collectors.toList());
-            
-            if (!conflictingReservations.isEmpty()) {
+            if (reservationRepository.existsConflictingReservationForSite(
+                    reservation.getSite().getId(), newCheckInDate, newCheckOutDate, reservationId)) {
                 throw new RuntimeException("선택한 날짜에 이미 예약이 있습니다.");
             }
             
-            // 총 금액 재계산 (인원 정보도 함께 전달)
+            // 예약에 기록된 요금제 버전 스냅샷으로 가격 재계산 (스냅샷이 없으면 현재 요금제)
             Integer updatedGuests = request.numberOfGuests() != null ? request.numberOfGuests() : reservation.getNumberOfGuests();
-            BigDecimal newTotalAmount = calculateTotalAmount(reservation.getSite(), newCheckInDate, newCheckOutDate, updatedGuests);
-            reservation.setTotalAmount(newTotalAmount);
+            PriceBreakdownDto priceBreakdown = pricingEngine.calculatePrice(
+                reservation.getSite(),
+                reservation.getPricingVersion(),
+                newCheckInDate,
+                newCheckOutDate,
+                updatedGuests != null ? updatedGuests : 2
+            );
+            applyPriceBreakdown(reservation, priceBreakdown);
         }
         
         // 예약 정보 업데이트
@@ -368,7 +628,7 @@ public class ReservationService {
         request.specialRequests()
     );
         
-        Reservation updatedReservation = reservationRepository.save(reservation);
+        Reservation updatedReservation = saveWithConflictGuard(reservation);
         log.info("Updated reservation: {}", reservationId);
         
         return convertToResponse(updatedReservation);
@@ -418,6 +678,51 @@ public class ReservationService {
         }
     }
     
+    /**
+     * 예약 저장 (insert-first)
+     * 사전 조회와 저장 사이의 동시 예약 경쟁은 숙박 기간 배타 제약 위반으로 나타나므로
+     * 이를 ReservationConflictException으로 변환합니다.
+     *
+     * @param reservation 저장할 예약
+     * @return 저장된 예약
+     */
+    private Reservation saveWithConflictGuard(Reservation reservation) {
+        try {
+            return reservationRepository.saveAndFlush(reservation);
+        } catch (DataIntegrityViolationException e) {
+            if (!ReservationConflictException.isStayRangeViolation(e)) {
+                throw e;
+            }
+            log.warn("Reservation conflict detected by exclusion constraint for site {} between {} and {}",
+                    reservation.getSite().getId(), reservation.getCheckInDate(), reservation.getCheckOutDate());
+            throw new ReservationConflictException(
+                    reservation.getSite().getId(),
+                    reservation.getCheckInDate(),
+                    reservation.getCheckOutDate()
+            );
+        }
+    }
+    
+    /**
+     * 여러 예약 일괄 저장 (단체 예약)
+     * 한 번의 flush로 저장하며, 동시 예약과의 경쟁은 배타 제약 위반으로 감지하여 전체 롤백합니다.
+     */
+    private List<Reservation> saveAllWithConflictGuard(List<Reservation> reservations,
+                                                       LocalDate checkInDate, LocalDate checkOutDate) {
+        try {
+            List<Reservation> saved = reservationRepository.saveAll(reservations);
+            reservationRepository.flush();
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            if (!ReservationConflictException.isStayRangeViolation(e)) {
+                throw e;
+            }
+            log.warn("Group reservation conflict detected by exclusion constraint between {} and {}",
+                    checkInDate, checkOutDate);
+            throw new ReservationConflictException("선택한 사이트 중 이미 예약된 사이트가 있습니다. 다시 시도해주세요.");
+        }
+    }
+
     /**
      * 예약 날짜 유효성 검증
      * 
@@ -435,25 +740,52 @@ public class ReservationService {
     }
     
     /**
-     * 총 금액 계산
-     * 
-     * @param site 사이트
-     * @param checkInDate 체크인 날짜
-     * @param checkOutDate 체크아웃 날짜
-     * @param numberOfGuests 총 인원
-     * @return 총 금액
+     * 가격 계산 결과를 예약에 반영 (총 금액, JSONB 스냅샷, 요금제 버전, 가격 항목)
+     *
+     * @param reservation 예약
+     * @param priceBreakdown 가격 상세 내역
      */
-    private BigDecimal calculateTotalAmount(Site site, LocalDate checkInDate, LocalDate checkOutDate, Integer numberOfGuests) {
-        // PriceCalculationService를 사용하여 총 금액 계산
-        PriceBreakdownDto breakdown = priceCalculationService.calculatePrice(
-            site,
-            checkInDate,
-            checkOutDate,
-            numberOfGuests != null ? numberOfGuests : 2
-        );
-        return breakdown.getTotalAmount();
+    private void applyPriceBreakdown(Reservation reservation, PriceBreakdownDto priceBreakdown) {
+        reservation.setTotalAmount(priceBreakdown.getTotalAmount());
+        reservation.setPriceBreakdown(priceBreakdown);
+        reservation.setPricingVersion(priceBreakdown.getPricingVersion());
+
+        reservation.getPriceItems().clear();
+        priceBreakdown.getItems().forEach(itemDto -> reservation.addPriceItem(ReservationPriceItem.builder()
+            .itemType(itemDto.getType())
+            .itemName(itemDto.getName())
+            .quantity(itemDto.getQuantity())
+            .unitPrice(itemDto.getUnitPrice())
+            .amount(itemDto.getAmount())
+            .displayOrder(itemDto.getDisplayOrder())
+            .build()));
     }
-    
+
+    /**
+     * 결제 대기 중인 홀드 응답 변환 (예약 ID와 결제 정보 없음)
+     */
+    private ReservationResponse convertToHeldResponse(ReservationHold hold, User user, Campground campground, Site site) {
+        HoldCheckout checkout = hold.checkout();
+        ReservationResponse response = new ReservationResponse();
+        response.setUserId(user.getId());
+        response.setUserName(user.getUsername());
+        response.setCampgroundId(campground.getId());
+        response.setCampgroundName(campground.getName());
+        response.setSiteId(site.getId());
+        response.setSiteNumber(site.getSiteNumber());
+        response.setCheckInDate(hold.checkInDate());
+        response.setCheckOutDate(hold.checkOutDate());
+        response.setNumberOfGuests(checkout.numberOfGuests());
+        response.setNumberOfNights((int) ChronoUnit.DAYS.between(hold.checkInDate(), hold.checkOutDate()));
+        response.setTotalAmount(checkout.totalAmount());
+        response.setStatus(ReservationStatus.PENDING);
+        response.setSpecialRequests(checkout.specialRequests());
+        response.setPriceBreakdown(checkout.priceBreakdown());
+        response.setHoldToken(hold.token());
+        response.setHoldExpiresAt(hold.expiresAt());
+        return response;
+    }
+
     /**
      * 예약 엔티티를 응답 DTO로 변환
      * 
@@ -612,27 +944,28 @@ public class ReservationService {
         // 3. 날짜 검증
     validateReservationDates(request.checkInDate(), request.checkOutDate());
         
-        // 4. 예약 가능성 검사 (사이트별로)
-        List<Reservation> conflictingReservations = reservationRepository.findBySiteIdAndStatusIn(
-            request.siteId(),
-            List.of(ReservationStatus.CONFIRMED, ReservationStatus.PENDING)
-        ).stream()
-        .filter(reservation -> {
-            // 날짜가 겹치는지 확인
-            LocalDate reqStart = request.checkInDate();
-            LocalDate reqEnd = request.checkOutDate();
-            LocalDate resStart = reservation.getCheckInDate();
-            LocalDate resEnd = reservation.getCheckOutDate();
-            return reqStart.isBefore(resEnd) && reqEnd.isAfter(resStart);
-        })
-        .collect(java.util.stream.Collectors.toList());
-        
-        if (!conflictingReservations.isEmpty()) {
+        // 4. 예약 가능성 검사 (사이트별로, 인덱스로 먼저 판정)
+        if (siteAvailabilityIndex.hasConfirmedConflict(request.siteId(), request.checkInDate(), request.checkOutDate(), null)) {
+            throw new IllegalStateException("해당 날짜에 이미 예약이 있습니다.");
+        }
+
+        if (reservationHoldService.hasConflictingHold(
+                request.siteId(), request.checkInDate(), request.checkOutDate(), null)) {
+            throw new IllegalStateException("다른 고객이 결제 진행 중인 날짜입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        if (reservationRepository.existsConflictingReservationForSite(
+                request.siteId(), request.checkInDate(), request.checkOutDate(), null)) {
             throw new IllegalStateException("해당 날짜에 이미 예약이 있습니다.");
         }
         
-        // 5. 총 금액 계산 (사이트별 요금제 적용)
-    BigDecimal totalAmount = calculateTotalAmount(site, request.checkInDate(), request.checkOutDate(), request.numberOfGuests());
+        // 5. 가격 계산 (사이트별 요금제 적용)
+        PriceBreakdownDto priceBreakdown = pricingEngine.calculatePrice(
+            site,
+            request.checkInDate(),
+            request.checkOutDate(),
+            request.numberOfGuests() != null ? request.numberOfGuests() : 2
+        );
         
         // 6. Guest 정보 생성
         Guest guest = Guest.builder()
@@ -650,12 +983,12 @@ public class ReservationService {
     reservation.setCheckInDate(request.checkInDate());
     reservation.setCheckOutDate(request.checkOutDate());
     reservation.setNumberOfGuests(request.numberOfGuests());
-        reservation.setTotalAmount(totalAmount);
     reservation.setSpecialRequests(request.specialRequests());
         reservation.setStatus(ReservationStatus.PENDING);
         reservation.setGuest(guest);
+        applyPriceBreakdown(reservation, priceBreakdown);
         
-        Reservation savedReservation = reservationRepository.save(reservation);
+        Reservation savedReservation = saveWithConflictGuard(reservation);
         
         log.info("Guest reservation created successfully: {}", savedReservation.getId());
         return convertToResponse(savedReservation);
@@ -687,55 +1020,67 @@ public class ReservationService {
     /**
      * 특정 사이트의 예약된 날짜 범위 조회
      *
+     * 가용성 인덱스가 준비되어 있으면 메모리에서 응답합니다 (오늘 이후 체크아웃 예약만 포함).
+     *
      * @param siteId 사이트 ID
      * @return 예약된 날짜 범위 목록 (시작일, 종료일)
      */
     public List<Map<String, LocalDate>> getReservedDateRangesForSite(Long siteId) {
-        // 해당 사이트의 CONFIRMED와 PENDING 상태인 예약들을 조회
-        List<Reservation> reservations = reservationRepository.findBySiteIdAndStatusIn(
-            siteId,
-            List.of(ReservationStatus.CONFIRMED, ReservationStatus.PENDING)
-        );
+        if (siteAvailabilityIndex.isReady()) {
+            return siteAvailabilityIndex.getReservedRanges(siteId).stream()
+                    .map(range -> toDateRange(range.checkInDate(), range.checkOutDate()))
+                    .toList();
+        }
 
-        return reservations.stream()
-                .map(reservation -> {
-                    Map<String, LocalDate> dateRange = new HashMap<>();
-                    dateRange.put("checkInDate", reservation.getCheckInDate());
-                    dateRange.put("checkOutDate", reservation.getCheckOutDate());
-                    return dateRange;
-                })
-                .collect(java.util.stream.Collectors.toList());
+        // 해당 사이트의 CONFIRMED와 PENDING 상태인 예약 날짜만 프로젝션으로 조회
+        return reservationRepository.findReservedDateRangesBySiteId(
+                siteId,
+                List.of(ReservationStatus.CONFIRMED, ReservationStatus.PENDING)
+        ).stream()
+                .map(range -> toDateRange(range.checkInDate(), range.checkOutDate()))
+                .toList();
     }
 
     /**
      * 캠핑장의 모든 사이트 예약 날짜 범위 조회 (일괄 조회)
      *
+     * 가용성 인덱스가 준비되어 있으면 메모리에서 응답합니다 (오늘 이후 체크아웃 예약만 포함).
+     *
      * @param campgroundId 캠핑장 ID
      * @return 사이트별 예약된 날짜 범위 맵 (key: siteId, value: 예약 날짜 범위 목록)
      */
     public Map<Long, List<Map<String, LocalDate>>> getReservedDateRangesForCampground(Long campgroundId) {
-        // 캠핑장의 모든 사이트에 대한 CONFIRMED와 PENDING 상태인 예약들을 한 번에 조회
-        List<Reservation> reservations = reservationRepository.findBySite_Campground_IdAndStatusIn(
-            campgroundId,
-            List.of(ReservationStatus.CONFIRMED, ReservationStatus.PENDING)
-        );
+        if (siteAvailabilityIndex.isReady()) {
+            Map<Long, List<Map<String, LocalDate>>> result = new java.util.LinkedHashMap<>();
+            siteAvailabilityIndex.getReservedRangesForCampground(campgroundId).forEach((siteId, ranges) ->
+                    result.put(siteId, ranges.stream()
+                            .map(range -> toDateRange(range.checkInDate(), range.checkOutDate()))
+                            .toList()));
+            return result;
+        }
 
-        // 사이트별로 그룹화
-        return reservations.stream()
+        // 캠핑장의 모든 사이트에 대한 CONFIRMED와 PENDING 상태인 예약 날짜를 한 번에 조회 후 사이트별 그룹화
+        return reservationRepository.findReservedDateRangesByCampgroundId(
+                campgroundId,
+                List.of(ReservationStatus.CONFIRMED, ReservationStatus.PENDING)
+        ).stream()
                 .collect(java.util.stream.Collectors.groupingBy(
-                    reservation -> reservation.getSite().getId(),
+                    ReservedDateRange::siteId,
+                    java.util.LinkedHashMap::new,
                     java.util.stream.Collectors.mapping(
-                        reservation -> {
-                            Map<String, LocalDate> dateRange = new HashMap<>();
-                            dateRange.put("checkInDate", reservation.getCheckInDate());
-                            dateRange.put("checkOutDate", reservation.getCheckOutDate());
-                            return dateRange;
-                        },
+                        range -> toDateRange(range.checkInDate(), range.checkOutDate()),
                         java.util.stream.Collectors.toList()
                     )
                 ));
     }
 
+    private Map<String, LocalDate> toDateRange(LocalDate checkInDate, LocalDate checkOutDate) {
+        Map<String, LocalDate> dateRange = new HashMap<>();
+        dateRange.put("checkInDate", checkInDate);
+        dateRange.put("checkOutDate", checkOutDate);
+        return dateRange;
+    }
+
     /**
      * 비밀번호 검증
      */
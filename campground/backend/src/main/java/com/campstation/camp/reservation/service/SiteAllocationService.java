@@ -0,0 +1,141 @@
+package com.campstation.camp.reservation.service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.campstation.camp.campground.domain.AmenityType;
+import com.campstation.camp.campground.domain.SiteStatus;
+import com.campstation.camp.campground.dto.SiteAllocationProjection;
+import com.campstation.camp.campground.repository.SiteRepository;
+import com.campstation.camp.reservation.availability.ReservationHoldService;
+import com.campstation.camp.reservation.availability.SiteAvailabilityIndex;
+import com.campstation.camp.reservation.dto.SiteAssignmentResponse;
+import com.campstation.camp.reservation.repository.ReservationRepository;
+import com.campstation.camp.shared.exception.ReservationConflictException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사이트 자동 배정 서비스
+ *
+ * 캠핑장/기간/인원/필수 편의시설 조건으로 비어 있는 사이트 중 하나를 골라 배정합니다.
+ * 가용성 인덱스(사이트별 점유 비트맵)에서 요청 기간을 감싸는 빈 구간을 확인하고,
+ * 빈 구간에 가장 꼭 맞는 사이트를 고르는 best-fit 방식으로 달력의 파편화를 줄입니다.
+ * - 요청 기간 앞뒤로 남는 빈 박 수의 합이 작을수록 우선 (기존 예약과 맞닿으면 0)
+ * - 1박짜리 자투리가 남는 배정은 판매가 어려우므로 벌점 부여
+ * - 동점이면 수용 인원이 인원 수에 가까운 사이트, 사이트 ID 순
+ *
+ * 인덱스가 준비되지 않았으면 DB 충돌 조회로 가용 사이트를 구한 뒤 수용 인원 기준으로만 고릅니다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class SiteAllocationService {
+
+    // 1박 자투리 빈 구간 벌점 (박 단위)
+    private static final int ORPHAN_NIGHT_PENALTY = 30;
+
+    private final SiteRepository siteRepository;
+    private final ReservationRepository reservationRepository;
+    private final SiteAvailabilityIndex siteAvailabilityIndex;
+    private final ReservationHoldService reservationHoldService;
+
+    /**
+     * 조건에 맞는 빈 사이트 자동 배정
+     *
+     * @param campgroundId 캠핑장 ID
+     * @param checkInDate 체크인 날짜
+     * @param checkOutDate 체크아웃 날짜
+     * @param numberOfGuests 인원 수
+     * @param requiredAmenities 필수 편의시설 (없으면 null 또는 빈 목록)
+     * @return 배정된 사이트
+     * @throws ReservationConflictException 조건에 맞는 빈 사이트가 없는 경우
+     */
+    public SiteAssignmentResponse assign(Long campgroundId, LocalDate checkInDate, LocalDate checkOutDate,
+                                         int numberOfGuests, Collection<AmenityType> requiredAmenities) {
+        if (checkInDate == null || checkOutDate == null || !checkOutDate.isAfter(checkInDate)) {
+            throw new IllegalArgumentException("체크아웃 날짜는 체크인 날짜보다 이후여야 합니다.");
+        }
+        long requiredFlags = requiredAmenities == null || requiredAmenities.isEmpty()
+                ? 0L
+                : AmenityType.toBitMask(requiredAmenities.toArray(AmenityType[]::new));
+
+        List<SiteAllocationProjection> candidates = siteRepository
+                .findAllocationCandidates(campgroundId, SiteStatus.AVAILABLE, numberOfGuests)
+                .stream()
+                .filter(site -> (site.getAmenitiesFlags() & requiredFlags) == requiredFlags)
+                .filter(site -> !reservationHoldService.hasConflictingHold(
+                        site.getSiteId(), checkInDate, checkOutDate, null))
+                .toList();
+
+        SiteAllocationProjection selected = siteAvailabilityIndex.isReady()
+                ? selectBestFit(candidates, checkInDate, checkOutDate, numberOfGuests)
+                : selectByCapacity(candidates, checkInDate, checkOutDate, numberOfGuests);
+
+        if (selected == null) {
+            throw new ReservationConflictException("선택한 조건으로 예약 가능한 사이트가 없습니다.");
+        }
+
+        log.debug("Assigned site {} of campground {} for {} ~ {} ({} guests, {} candidates)",
+                selected.getSiteId(), campgroundId, checkInDate, checkOutDate, numberOfGuests, candidates.size());
+        return new SiteAssignmentResponse(selected.getSiteId(), selected.getSiteNumber(), selected.getCapacity());
+    }
+
+    /**
+     * 가용성 인덱스 기반 best-fit 선택
+     */
+    private SiteAllocationProjection selectBestFit(List<SiteAllocationProjection> candidates,
+                                                   LocalDate checkInDate, LocalDate checkOutDate,
+                                                   int numberOfGuests) {
+        SiteAllocationProjection best = null;
+        int bestScore = Integer.MAX_VALUE;
+        int bestWaste = Integer.MAX_VALUE;
+        for (SiteAllocationProjection site : candidates) {
+            SiteAvailabilityIndex.FreeGap gap =
+                    siteAvailabilityIndex.freeGapAround(site.getSiteId(), checkInDate, checkOutDate);
+            if (gap == null) {
+                continue;
+            }
+            int score = leftoverScore(gap.nightsBefore()) + leftoverScore(gap.nightsAfter());
+            int waste = site.getCapacity() - numberOfGuests;
+            // 후보는 사이트 ID 순이므로 동점이면 먼저 나온 사이트 유지
+            if (score < bestScore || (score == bestScore && waste < bestWaste)) {
+                best = site;
+                bestScore = score;
+                bestWaste = waste;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 인덱스 미준비 시 DB 충돌 조회 후 수용 인원 기준 선택
+     */
+    private SiteAllocationProjection selectByCapacity(List<SiteAllocationProjection> candidates,
+                                                      LocalDate checkInDate, LocalDate checkOutDate,
+                                                      int numberOfGuests) {
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        Set<Long> conflicting = new HashSet<>(reservationRepository.findConflictingSiteIds(
+                candidates.stream().map(SiteAllocationProjection::getSiteId).toList(), checkInDate, checkOutDate));
+        return candidates.stream()
+                .filter(site -> !conflicting.contains(site.getSiteId()))
+                .min(Comparator.comparingInt((SiteAllocationProjection site) -> site.getCapacity() - numberOfGuests)
+                        .thenComparing(SiteAllocationProjection::getSiteId))
+                .orElse(null);
+    }
+
+    private int leftoverScore(int nights) {
+        return nights == 1 ? nights + ORPHAN_NIGHT_PENALTY : nights;
+    }
+}
@@ -0,0 +1,45 @@
+package com.campstation.camp.shared;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 응답 내용 기반 ETag 계산을 위한 유틸리티 클래스
+ *
+ * hashCode 같은 32비트 해시는 날짜를 하루 미루는 식의 흔한 변경에서도 값이 겹쳐
+ * 조건부 요청이 잘못된 304를 받을 수 있으므로, 응답 내용을 정규화한 문자열의 SHA-256 다이제스트를 사용합니다.
+ */
+public final class ETagUtil {
+
+    private ETagUtil() {
+    }
+
+    /**
+     * 강한 ETag 생성 ("prefix-다이제스트")
+     *
+     * @param prefix 응답 종류/대상 구분 값
+     * @param canonicalContent 응답 내용을 순서가 고정되도록 정규화한 문자열
+     * @return 따옴표로 감싼 ETag 값
+     */
+    public static String strong(String prefix, String canonicalContent) {
+        return "\"" + prefix + "-" + sha256Hex(canonicalContent) + "\"";
+    }
+
+    /**
+     * SHA-256 다이제스트 (16진수 문자열)
+     */
+    public static String sha256Hex(String content) {
+        return HexFormat.of().formatHex(sha256().digest(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 구현체는 SHA-256을 제공해야 함
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.campstation.camp.shared;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -35,6 +36,9 @@ public class MetricsService {
     private Counter bookingCancelled;
     private Counter paymentProcessed;
     private Counter paymentRefunded;
+    private Counter reservationExpired;
+    private Counter paymentExpired;
+    private Counter reservationCompleted;
 
     @PostConstruct
     public void init() {
@@ -76,6 +80,18 @@ public class MetricsService {
                 .description("Number of payments refunded")
                 .register(meterRegistry);
 
+        reservationExpired = Counter.builder("campstation.reservation.expired")
+                .description("Number of unpaid reservations cancelled by the expiry scheduler")
+                .register(meterRegistry);
+
+        paymentExpired = Counter.builder("campstation.payment.expired")
+                .description("Number of pending payments cancelled by the expiry scheduler")
+                .register(meterRegistry);
+
+        reservationCompleted = Counter.builder("campstation.reservation.completed")
+                .description("Number of checked-out reservations completed by the completion job")
+                .register(meterRegistry);
+
         // 캐시 메트릭 카운터 초기화
         Counter.builder("campstation.cache.hits")
                 .description("Number of cache hits")
@@ -153,6 +169,69 @@ public class MetricsService {
         log.debug("Payment refunded recorded");
     }
 
+    /**
+     * 단체 예약 생성 기록 (사이트 수, 처리 시간)
+     * 사이트당 처리 시간을 단건 예약 API 응답 시간과 비교하는 용도
+     */
+    public void recordGroupBookingCreated(int sites, long durationMs) {
+        bookingCreated.increment(sites);
+        activeBookings.addAndGet(sites);
+
+        Timer.builder("campstation.booking.group.duration")
+                .description("Group booking processing time in milliseconds")
+                .register(meterRegistry)
+                .record(durationMs, TimeUnit.MILLISECONDS);
+
+        DistributionSummary.builder("campstation.booking.group.sites")
+                .description("Number of sites per group booking")
+                .register(meterRegistry)
+                .record(sites);
+        log.debug("Group booking recorded: sites={}, duration={}ms", sites, durationMs);
+    }
+
+    /**
+     * 미결제 예약 자동 취소 건수 기록
+     */
+    public void recordUnpaidReservationsExpired(int reservations, int payments) {
+        reservationExpired.increment(reservations);
+        paymentExpired.increment(payments);
+        log.debug("Unpaid reservation expiry recorded: reservations={}, payments={}", reservations, payments);
+    }
+
+    /**
+     * 체크아웃 예약 완료 처리 건수 기록
+     */
+    public void recordReservationsCompleted(int count) {
+        reservationCompleted.increment(count);
+        log.debug("Reservation completion recorded: {}", count);
+    }
+
+    /**
+     * 스케줄러 배치 작업 실행 시간 기록
+     */
+    public void recordSchedulerJob(String job, int items, int chunks, long durationMs) {
+        if (durationMs > 0) {
+            DistributionSummary.builder("campstation.scheduler.job.throughput")
+                    .description("Scheduler batch job throughput in items per second")
+                    .baseUnit("items/s")
+                    .tag("job", job)
+                    .register(meterRegistry)
+                    .record(items * 1000.0 / durationMs);
+        }
+
+        Timer.builder("campstation.scheduler.job.duration")
+                .description("Scheduler batch job duration in milliseconds")
+                .tag("job", job)
+                .register(meterRegistry)
+                .record(durationMs, TimeUnit.MILLISECONDS);
+
+        Counter.builder("campstation.scheduler.job.chunks")
+                .description("Number of chunks committed by scheduler batch jobs")
+                .tag("job", job)
+                .register(meterRegistry)
+                .increment(chunks);
+    }
+
     /**
      * API 응답 시간 기록
      */
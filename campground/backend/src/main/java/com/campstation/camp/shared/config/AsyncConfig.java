@@ -1,6 +1,7 @@
 package com.campstation.camp.shared.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,6 +27,23 @@ public class AsyncConfig {
         return executor;
     }
 
+    /**
+     * 일괄 가격 견적 계산용 스레드 풀
+     * CPU 연산만 수행하므로 코어 수로 제한하고, 큐가 가득 차면 호출 스레드에서 직접 계산합니다.
+     */
+    @Bean(name = "pricingQuoteExecutor")
+    public TaskExecutor pricingQuoteExecutor() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(processors);
+        executor.setMaxPoolSize(processors);
+        executor.setQueueCapacity(256);
+        executor.setThreadNamePrefix("pricing-quote-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
     @Bean
     public Executor taskExecutor() {
         return alertTaskExecutor();
@@ -31,6 +31,10 @@ public class CacheConfig {
      * - campgroundImages: 캠핑장 이미지 캐시 (30분) - 이미지 목록, 메인 이미지
      * - userFavorites: 사용자 즐겨찾기 캐시 (5분) - 즐겨찾기 목록
      * - users: 사용자 캐시 (10분) - 사용자 정보
+     * - pricingCalendars: 사이트별 컴파일된 요금 달력 (30분) - 요금제 변경 시 명시적 무효화
+     * - pricingSnapshots: 이전 버전 요금 달력 (6시간) - site_pricing_snapshots 테이블에서 컴파일, 예약 재계산용
+     * - priceQuotes: 사이트 가격 견적 (10분) - 요금제 버전/계산 날짜를 키에 포함하여 무효화 불필요
+     * - priceStrips: 사이트 가격 달력 배열 (30분) - 요금제 버전을 키에 포함하여 무효화 불필요
      * 
      * 성능 최적화:
      * - N+1 쿼리 방지를 위한 이미지 조회 캐싱
@@ -122,6 +126,45 @@ public class CacheConfig {
                         .recordStats()
                         .build());
 
+        // 사이트별 컴파일된 요금 달력 캐시 (30분) - 요금제 변경 커밋 시 즉시 무효화,
+        // TTL은 다른 인스턴스에서 변경된 요금제를 반영하기 위한 안전장치
+        cacheManager.registerCustomCache("pricingCalendars",
+                Caffeine.newBuilder()
+                        .initialCapacity(500)
+                        .maximumSize(20000)
+                        .expireAfterWrite(30, TimeUnit.MINUTES)
+                        .recordStats()
+                        .build());
+
+        // 이전 버전 요금 달력 (마지막 접근 후 6시간) - 원본은 site_pricing_snapshots 테이블, 만료 시 다시 컴파일
+        // 버전이 키에 포함된 불변 값이므로 무효화 불필요
+        cacheManager.registerCustomCache("pricingSnapshots",
+                Caffeine.newBuilder()
+                        .initialCapacity(100)
+                        .maximumSize(2000)
+                        .expireAfterAccess(6, TimeUnit.HOURS)
+                        .recordStats()
+                        .build());
+
+        // 사이트 가격 견적 캐시 (10분) - 키에 요금제 버전이 포함되어 변경된 요금제의 견적은 조회되지 않음,
+        // TTL은 이전 버전 항목 정리 및 다른 인스턴스의 요금제 변경 반영용
+        cacheManager.registerCustomCache("priceQuotes",
+                Caffeine.newBuilder()
+                        .initialCapacity(1000)
+                        .maximumSize(50000)
+                        .expireAfterWrite(10, TimeUnit.MINUTES)
+                        .recordStats()
+                        .build());
+
+        // 사이트 가격 달력 배열 캐시 (30분) - 키에 요금제 버전 포함
+        cacheManager.registerCustomCache("priceStrips",
+                Caffeine.newBuilder()
+                        .initialCapacity(200)
+                        .maximumSize(5000)
+                        .expireAfterWrite(30, TimeUnit.MINUTES)
+                        .recordStats()
+                        .build());
+
         return cacheManager;
     }
 }
@@ -77,6 +77,8 @@ public class JwtSecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/v1/campgrounds/search").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/campgrounds/popular").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/campgrounds/map").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/campgrounds/map/clusters").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/campgrounds/nearby").permitAll()
 
                         // 리뷰 조회는 인증 불필요
                         .requestMatchers(HttpMethod.GET, "/api/v1/reviews/**").permitAll()
@@ -99,6 +101,12 @@ public class JwtSecurityConfig {
                                 "/api/v1/reservations/campgrounds/{campgroundId}/reserved-dates")
                         .permitAll()
 
+                        // 여러 캠핑장 가용성 일괄 조회는 인증 불필요
+                        .requestMatchers(HttpMethod.GET, "/api/v1/reservations/availability").permitAll()
+
+                        // 사이트 자동 배정 조회는 인증 불필요
+                        .requestMatchers(HttpMethod.GET, "/api/v1/reservations/site-assignment").permitAll()
+
                         // 배너 조회는 인증 불필요 (누락된 부분 추가)
                         .requestMatchers(HttpMethod.GET, "/api/v1/banners/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/banners/*/view").permitAll() // 조회수 집계
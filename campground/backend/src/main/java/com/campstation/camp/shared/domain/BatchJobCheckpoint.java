@@ -0,0 +1,97 @@
+package com.campstation.camp.shared.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 작업 체크포인트 엔티티
+ * 목적: 청크 단위로 커밋하는 스케줄러 작업의 진행 위치 저장
+ * 청크 커밋과 같은 트랜잭션에서 갱신되므로, 중단 후 재실행 시 마지막 커밋 지점부터 이어서 처리합니다.
+ */
+@Entity
+@Table(name = "batch_job_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchJobCheckpoint {
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    @Column(name = "last_processed_id", nullable = false)
+    private Long lastProcessedId = 0L;
+
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount = 0L;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public BatchJobCheckpoint(String jobName, LocalDate runDate) {
+        this.jobName = jobName;
+        start(runDate);
+    }
+
+    /**
+     * 새 실행 시작 (진행 위치 초기화)
+     */
+    public void start(LocalDate runDate) {
+        this.runDate = runDate;
+        this.lastProcessedId = 0L;
+        this.processedCount = 0L;
+        this.status = STATUS_RUNNING;
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = this.startedAt;
+    }
+
+    /**
+     * 청크 커밋 진행 위치 기록
+     */
+    public void advance(long lastProcessedId, int processed) {
+        this.lastProcessedId = lastProcessedId;
+        this.processedCount += processed;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 실행 완료 처리
+     */
+    public void complete() {
+        this.status = STATUS_COMPLETED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 같은 기준 날짜의 실행이 이미 완료되었는지 여부
+     */
+    public boolean isCompletedFor(LocalDate date) {
+        return STATUS_COMPLETED.equals(status) && date.equals(runDate);
+    }
+
+    /**
+     * 같은 기준 날짜의 중단된 실행이 있는지 여부
+     */
+    public boolean isResumableFor(LocalDate date) {
+        return STATUS_RUNNING.equals(status) && date.equals(runDate);
+    }
+}
@@ -106,9 +106,9 @@ public class GlobalExceptionHandler {
     /**
      * Handle reservation conflict exceptions (double booking)
      */
-    @ExceptionHandler(com.campstation.camp.shared.exception.ReservationConflictException.class)
+    @ExceptionHandler(ReservationConflictException.class)
     public ResponseEntity<CommonResponse<Void>> handleReservationConflictException(
-            com.campstation.camp.shared.exception.ReservationConflictException ex) {
+            ReservationConflictException ex) {
 
         log.warn("Reservation conflict: {}", ex.getMessage());
 
@@ -189,6 +189,12 @@ public class GlobalExceptionHandler {
 
         log.error("Data integrity violation: {}", ex.getMessage());
 
+        if (ReservationConflictException.isStayRangeViolation(ex)) {
+            return ResponseEntity
+                    .status(HttpStatus.CONFLICT)
+                    .body(CommonResponse.error("선택한 날짜에 이미 예약이 있습니다."));
+        }
+
         String message = "데이터 무결성 제약 조건을 위반했습니다.";
         String rootMessage = ex.getMostSpecificCause().getMessage();
 
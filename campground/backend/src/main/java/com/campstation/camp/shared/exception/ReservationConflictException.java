@@ -8,6 +8,11 @@ import java.time.LocalDate;
  */
 public class ReservationConflictException extends BusinessException {
 
+    /**
+     * reservations(site_id, stay_range) 배타 제약 이름 (V25 마이그레이션 참고)
+     */
+    public static final String STAY_RANGE_CONSTRAINT = "excl_reservations_site_stay_range";
+
     public ReservationConflictException(String message) {
         super(ErrorCode.RESERVATION_CONFLICT, message);
     }
@@ -17,4 +22,17 @@ public class ReservationConflictException extends BusinessException {
                 String.format("Site %d is already booked for dates between %s and %s",
                         siteId, checkIn, checkOut));
     }
+
+    /**
+     * DB 오류가 숙박 기간 배타 제약 위반으로 발생했는지 확인 (원인 예외 체인 전체의 메시지 검사)
+     */
+    public static boolean isStayRangeViolation(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.contains(STAY_RANGE_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -1,5 +1,8 @@
 package com.campstation.camp.shared.notification;
 
+import java.math.BigDecimal;
+import java.util.List;
+
 import com.campstation.camp.reservation.domain.Payment;
 import com.campstation.camp.reservation.domain.Reservation;
 import com.campstation.camp.user.domain.User;
@@ -225,6 +228,33 @@ public class EmailNotificationService {
         }
     }
 
+    /**
+     * 단체 예약 확인 이메일 전송 (여러 사이트 예약을 한 통으로 안내)
+     */
+    public void sendGroupReservationConfirmationEmail(List<Reservation> reservations) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+        Reservation first = reservations.get(0);
+        try {
+            User user = first.getUser();
+            if (user == null) {
+                log.info("단체 예약 확인 이메일 전송 생략 (비회원 예약): {}", first.getId());
+                return;
+            }
+
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(user.getEmail());
+            message.setSubject("CampStation - 단체 예약 확인 (" + reservations.size() + "개 사이트)");
+            message.setText(buildGroupReservationConfirmationEmailBody(reservations, user));
+
+            mailSender.send(message);
+            log.info("단체 예약 확인 이메일 전송 완료: {}건 (첫 예약 {})", reservations.size(), first.getId());
+        } catch (Exception e) {
+            log.error("단체 예약 확인 이메일 전송 실패: {}", e.getMessage());
+        }
+    }
+
     /**
      * 예약 취소 이메일 전송
      */
@@ -326,6 +356,50 @@ public class EmailNotificationService {
         );
     }
 
+    private String buildGroupReservationConfirmationEmailBody(List<Reservation> reservations, User user) {
+        Reservation first = reservations.get(0);
+        StringBuilder siteLines = new StringBuilder();
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        for (Reservation reservation : reservations) {
+            siteLines.append(String.format("- 예약 번호 %s: %s (%d명) ₩%,.0f%n",
+                reservation.getId(),
+                reservation.getSite().getSiteNumber(),
+                reservation.getNumberOfGuests(),
+                reservation.getTotalAmount()));
+            totalAmount = totalAmount.add(reservation.getTotalAmount());
+        }
+
+        return String.format("""
+            안녕하세요, %s님!
+
+            CampStation에서 단체 예약이 성공적으로 완료되었습니다.
+
+            예약 정보:
+            - 캠핑장: %s
+            - 체크인: %s
+            - 체크아웃: %s
+            - 사이트 수: %d개
+            - 총 금액: ₩%,.0f
+
+            사이트별 예약:
+            %s
+            즐거운 캠핑 되세요!
+
+            문의사항이 있으시면 언제든지 연락 주세요.
+
+            감사합니다.
+            CampStation 팀
+            """,
+            user.getName(),
+            first.getCampground().getName(),
+            first.getCheckInDate(),
+            first.getCheckOutDate(),
+            reservations.size(),
+            totalAmount,
+            siteLines
+        );
+    }
+
     private String buildReservationCancellationEmailBody(Reservation reservation, User user) {
         return String.format("""
             안녕하세요, %s님!
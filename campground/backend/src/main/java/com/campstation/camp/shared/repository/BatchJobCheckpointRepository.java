@@ -0,0 +1,13 @@
+package com.campstation.camp.shared.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.campstation.camp.shared.domain.BatchJobCheckpoint;
+
+/**
+ * 배치 작업 체크포인트 Repository
+ */
+@Repository
+public interface BatchJobCheckpointRepository extends JpaRepository<BatchJobCheckpoint, String> {
+}
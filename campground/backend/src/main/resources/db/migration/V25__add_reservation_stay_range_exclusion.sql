@@ -0,0 +1,31 @@
+-- ============================================================================
+-- 예약 숙박 기간 배타 제약 (중복 예약 방지)
+-- ============================================================================
+-- 목적: SELECT ... FOR UPDATE 비관적 락 대신 DB 제약으로 동일 사이트 중복 예약 차단
+-- 버전: V25
+-- ============================================================================
+-- 주의: 기존 데이터에 겹치는 활성 예약(PENDING/CONFIRMED)이 있으면 제약 생성이 실패합니다.
+-- 적용 전 아래 쿼리로 확인 후 정리하세요.
+--   SELECT a.id, b.id, a.site_id
+--   FROM reservations a JOIN reservations b
+--     ON a.site_id = b.site_id AND a.id < b.id
+--    AND a.check_in_date < b.check_out_date AND a.check_out_date > b.check_in_date
+--   WHERE a.status IN ('PENDING', 'CONFIRMED') AND b.status IN ('PENDING', 'CONFIRMED');
+-- ============================================================================
+
+-- 1. GiST 인덱스에서 BIGINT 등호 비교를 사용하기 위한 확장
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- 2. 숙박 기간 컬럼 (체크인 포함, 체크아웃 제외: [check_in_date, check_out_date))
+-- 생성 컬럼이므로 애플리케이션에서 값을 쓰지 않습니다.
+ALTER TABLE reservations
+ADD COLUMN stay_range DATERANGE
+    GENERATED ALWAYS AS (daterange(check_in_date, check_out_date, '[)')) STORED;
+
+COMMENT ON COLUMN reservations.stay_range IS '숙박 기간 [체크인, 체크아웃) - 중복 예약 배타 제약용';
+
+-- 3. 활성 예약에 대해 같은 사이트의 숙박 기간이 겹치지 않도록 배타 제약 추가
+ALTER TABLE reservations
+ADD CONSTRAINT excl_reservations_site_stay_range
+    EXCLUDE USING gist (site_id WITH =, stay_range WITH &&)
+    WHERE (status IN ('PENDING', 'CONFIRMED'));
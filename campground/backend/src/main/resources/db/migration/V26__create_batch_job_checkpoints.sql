@@ -0,0 +1,30 @@
+-- ============================================================================
+-- 배치 작업 체크포인트 테이블
+-- ============================================================================
+-- 목적: 청크 단위 스케줄러 작업의 진행 위치를 저장하여 중단 시 이어서 처리
+-- 사용: ReservationCompletionScheduler (체크아웃 예약 완료 처리)
+-- 버전: V26
+-- ============================================================================
+
+CREATE TABLE batch_job_checkpoints (
+    -- 작업 이름 (작업당 1행)
+    job_name VARCHAR(100) PRIMARY KEY,
+
+    -- 작업 기준 날짜 (같은 날짜의 실행만 이어서 처리)
+    run_date DATE NOT NULL,
+
+    -- 마지막으로 커밋된 청크의 최대 ID (키셋 페이징 기준)
+    last_processed_id BIGINT NOT NULL DEFAULT 0,
+
+    -- 현재 실행에서 처리한 누적 건수
+    processed_count BIGINT NOT NULL DEFAULT 0,
+
+    -- 실행 상태 (RUNNING, COMPLETED)
+    status VARCHAR(20) NOT NULL,
+
+    started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE batch_job_checkpoints IS '청크 단위 배치 작업 진행 체크포인트';
+COMMENT ON COLUMN batch_job_checkpoints.last_processed_id IS '마지막으로 커밋된 청크의 최대 ID';
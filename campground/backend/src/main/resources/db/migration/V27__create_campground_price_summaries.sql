@@ -0,0 +1,50 @@
+-- ============================================================================
+-- 캠핑장 가격 요약 테이블 (가격 검색 필터용 비정규화)
+-- ============================================================================
+-- 목적: 캠핑장별 활성 요금제의 최소/최대 기본·주말 요금을 미리 집계하여
+--       가격 범위 검색을 사이트별 요금제 조회 없이 단일 범위 조건으로 처리
+-- 갱신: 요금제 생성/수정/삭제 시 해당 캠핑장 행을 재집계 (SitePricingChangedEvent),
+--       매일 새벽 전체 재집계로 사이트 삭제 등 누락분 보정
+-- 버전: V27
+-- ============================================================================
+
+CREATE TABLE campground_price_summaries (
+    campground_id BIGINT PRIMARY KEY REFERENCES campgrounds(id) ON DELETE CASCADE,
+
+    -- 활성 요금제 기본 요금 범위
+    min_base_price DECIMAL(10,2) NOT NULL,
+    max_base_price DECIMAL(10,2) NOT NULL,
+
+    -- 활성 요금제 주말 요금 범위 (주말 요금이 없으면 기본 요금)
+    min_weekend_price DECIMAL(10,2) NOT NULL,
+    max_weekend_price DECIMAL(10,2) NOT NULL,
+
+    -- 집계에 포함된 활성 요금제 수
+    active_rule_count INTEGER NOT NULL,
+
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 가격 범위 검색: max_base_price >= :min AND min_base_price <= :max
+CREATE INDEX idx_campground_price_summaries_base_range
+    ON campground_price_summaries (min_base_price, max_base_price);
+
+COMMENT ON TABLE campground_price_summaries IS '캠핑장별 활성 요금제 가격 범위 (가격 검색 필터용)';
+COMMENT ON COLUMN campground_price_summaries.min_base_price IS '활성 요금제 중 최소 기본 요금';
+COMMENT ON COLUMN campground_price_summaries.max_base_price IS '활성 요금제 중 최대 기본 요금';
+
+-- 기존 요금제로 초기 집계
+INSERT INTO campground_price_summaries (
+    campground_id, min_base_price, max_base_price, min_weekend_price, max_weekend_price,
+    active_rule_count, updated_at)
+SELECT s.campground_id,
+       MIN(sp.base_price),
+       MAX(sp.base_price),
+       MIN(COALESCE(sp.weekend_price, sp.base_price)),
+       MAX(COALESCE(sp.weekend_price, sp.base_price)),
+       COUNT(*),
+       CURRENT_TIMESTAMP
+FROM site_pricing sp
+JOIN sites s ON s.id = sp.site_id
+WHERE sp.is_active = true
+GROUP BY s.campground_id;
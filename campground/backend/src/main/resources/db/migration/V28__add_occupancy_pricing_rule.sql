@@ -0,0 +1,15 @@
+-- ============================================================================
+-- 점유율 연동 요금제 (OCCUPANCY) 컬럼 추가
+-- ============================================================================
+-- 목적: 해당 날짜 캠핑장 점유율이 기준 이상이면 1박 요금에 할증률을 적용하는 동적 요금제
+-- 점유율은 예약 변경 이벤트로 증분 갱신되는 인메모리 카운터에서 조회 (가격 계산 중 COUNT 쿼리 없음)
+-- 버전: V28
+-- ============================================================================
+
+ALTER TABLE site_pricing
+    ADD COLUMN occupancy_threshold_percent INTEGER,
+    ADD COLUMN occupancy_surcharge_rate DECIMAL(5,2);
+
+COMMENT ON COLUMN site_pricing.occupancy_threshold_percent IS '점유율 기준 (%) - OCCUPANCY 요금제 전용';
+COMMENT ON COLUMN site_pricing.occupancy_surcharge_rate IS '점유율 기준 이상일 때 1박 요금 할증률 (%) - OCCUPANCY 요금제 전용';
+COMMENT ON COLUMN site_pricing.rule_type IS '요금 규칙 타입: BASE(기본), SEASONAL(시즌별), DATE_RANGE(기간지정), SPECIAL_EVENT(특별이벤트), OCCUPANCY(점유율 연동)';
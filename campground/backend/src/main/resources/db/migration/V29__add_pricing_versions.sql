@@ -0,0 +1,17 @@
+-- ============================================================================
+-- 사이트 요금제 버전 및 예약 가격 계산 버전
+-- ============================================================================
+-- 목적: 사이트 요금제 묶음이 바뀔 때마다 증가하는 영속 버전을 두어
+--       예약이 어떤 요금제 버전으로 가격이 계산되었는지 기록
+-- 갱신: 요금제 생성/수정/삭제 트랜잭션에서 sites.pricing_version 증가
+-- 버전: V29
+-- ============================================================================
+
+ALTER TABLE sites
+    ADD COLUMN pricing_version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE reservations
+    ADD COLUMN pricing_version BIGINT;
+
+COMMENT ON COLUMN sites.pricing_version IS '사이트 요금제 버전 (요금제 생성/수정/삭제 시 증가)';
+COMMENT ON COLUMN reservations.pricing_version IS '가격 계산에 사용한 사이트 요금제 버전 (버전 도입 전 예약은 NULL)';
@@ -0,0 +1,19 @@
+-- ============================================================================
+-- 캠핑장 이름/주소 키워드 검색 트라이그램 인덱스
+-- ============================================================================
+-- 목적: LIKE '%키워드%' 검색은 B-tree 인덱스를 사용할 수 없으므로
+--       pg_trgm GIN 인덱스로 부분 일치 검색과 유사도(similarity) 정렬을 지원
+-- 참고: 한글 트라이그램은 DB의 LC_CTYPE이 UTF-8 로케일(ko_KR.UTF-8, C.UTF-8 등)일 때 생성됩니다.
+--       3자 미만 키워드는 트라이그램을 만들 수 없어 인덱스 전체 스캔 후 재검사합니다.
+-- 버전: V30
+-- ============================================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_campgrounds_name_trgm
+    ON campgrounds USING gin (name gin_trgm_ops)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_campgrounds_address_trgm
+    ON campgrounds USING gin (address gin_trgm_ops)
+    WHERE deleted_at IS NULL;
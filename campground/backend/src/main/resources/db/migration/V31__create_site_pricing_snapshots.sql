@@ -0,0 +1,61 @@
+-- ============================================================================
+-- 사이트 요금제 버전별 스냅샷 테이블
+-- ============================================================================
+-- 목적: 사이트 요금제 버전(sites.pricing_version)마다 그 시점의 활성 요금제 묶음을 보관하여
+--       예약을 기록된 버전으로 재계산할 때 인스턴스 캐시 만료/재시작과 무관하게 같은 요금제를 사용
+-- 갱신: 요금제 생성/수정/삭제 트랜잭션에서 버전 증가 직후 새 버전 행을 추가 (기존 행은 수정하지 않음)
+-- 버전: V31
+-- ============================================================================
+
+CREATE TABLE site_pricing_snapshots (
+    id BIGSERIAL PRIMARY KEY,
+    site_id BIGINT NOT NULL REFERENCES sites(id) ON DELETE CASCADE,
+    pricing_version BIGINT NOT NULL,
+
+    -- 해당 버전의 활성 요금제 목록 (우선순위 내림차순, SitePricingSnapshot.Rule 형식)
+    rules JSONB NOT NULL,
+
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uk_site_pricing_snapshots_version UNIQUE (site_id, pricing_version)
+);
+
+COMMENT ON TABLE site_pricing_snapshots IS '사이트 요금제 버전별 활성 요금제 스냅샷 (예약 재계산용)';
+COMMENT ON COLUMN site_pricing_snapshots.pricing_version IS '스냅샷이 가리키는 사이트 요금제 버전';
+COMMENT ON COLUMN site_pricing_snapshots.rules IS '해당 버전의 활성 요금제 목록 (JSON)';
+
+-- 기존 사이트의 현재 버전 스냅샷 생성
+INSERT INTO site_pricing_snapshots (site_id, pricing_version, rules, created_at)
+SELECT s.id,
+       s.pricing_version,
+       COALESCE(
+           jsonb_agg(jsonb_build_object(
+               'id', sp.id,
+               'pricingName', sp.pricing_name,
+               'ruleType', sp.rule_type,
+               'basePrice', sp.base_price,
+               'weekendPrice', sp.weekend_price,
+               'dayMultipliers', sp.day_multipliers,
+               'baseGuests', sp.base_guests,
+               'maxGuests', sp.max_guests,
+               'extraGuestFee', sp.extra_guest_fee,
+               'seasonType', sp.season_type,
+               'startMonth', sp.start_month,
+               'startDay', sp.start_day,
+               'endMonth', sp.end_month,
+               'endDay', sp.end_day,
+               'longStayDiscountRate', sp.long_stay_discount_rate,
+               'longStayMinNights', sp.long_stay_min_nights,
+               'extendedStayDiscountRate', sp.extended_stay_discount_rate,
+               'extendedStayMinNights', sp.extended_stay_min_nights,
+               'earlyBirdDiscountRate', sp.early_bird_discount_rate,
+               'earlyBirdMinDays', sp.early_bird_min_days,
+               'occupancyThresholdPercent', sp.occupancy_threshold_percent,
+               'occupancySurchargeRate', sp.occupancy_surcharge_rate,
+               'priority', sp.priority)
+               ORDER BY sp.priority DESC, sp.id) FILTER (WHERE sp.id IS NOT NULL),
+           '[]'::jsonb),
+       CURRENT_TIMESTAMP
+FROM sites s
+LEFT JOIN site_pricing sp ON sp.site_id = s.id AND sp.is_active = true
+GROUP BY s.id, s.pricing_version;
@@ -0,0 +1,18 @@
+-- ============================================================================
+-- 캠핑장 키워드 검색 트라이그램 인덱스를 lower() 식 인덱스로 교체
+-- ============================================================================
+-- 목적: 키워드 검색을 인메모리 검색 인덱스와 같이 대소문자 무시로 통일
+--       (lower(name) LIKE '%키워드%'는 V30의 컬럼 인덱스를 사용할 수 없음)
+-- 버전: V32
+-- ============================================================================
+
+CREATE INDEX IF NOT EXISTS idx_campgrounds_name_lower_trgm
+    ON campgrounds USING gin (lower(name) gin_trgm_ops)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_campgrounds_address_lower_trgm
+    ON campgrounds USING gin (lower(address) gin_trgm_ops)
+    WHERE deleted_at IS NULL;
+
+DROP INDEX IF EXISTS idx_campgrounds_name_trgm;
+DROP INDEX IF EXISTS idx_campgrounds_address_trgm;
@@ -0,0 +1,234 @@
+package com.campstation.camp.campground.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.campstation.camp.campground.domain.CampgroundStatus;
+import com.campstation.camp.campground.repository.CampgroundRepository;
+
+/**
+ * CampgroundGeoIndex 단위 테스트
+ *
+ * 격자 셀 탐색 결과가 전체 좌표를 직접 계산한 결과와 같은지,
+ * 반경/개수 제한과 극지방·범위 밖 좌표에서도 탐색이 끝나는지 검증합니다.
+ */
+@DisplayName("CampgroundGeoIndex 테스트")
+class CampgroundGeoIndexTest {
+
+    private CampgroundRepository campgroundRepository;
+    private CampgroundGeoIndex geoIndex;
+
+    @BeforeEach
+    void setUp() {
+        campgroundRepository = mock(CampgroundRepository.class);
+        geoIndex = new CampgroundGeoIndex(campgroundRepository);
+    }
+
+    private void index(List<TestSearchDocument> documents) {
+        when(campgroundRepository.findAllSearchDocuments()).thenReturn(new ArrayList<>(documents));
+        geoIndex.rebuild();
+        assertThat(geoIndex.isReady()).isTrue();
+    }
+
+    /**
+     * 서울 부근 3도 x 3도 영역에 고정 시드로 흩어진 좌표 (셀 탐색 경로를 타도록 셀이 충분히 많음)
+     */
+    private List<TestSearchDocument> scattered(int count) {
+        Random random = new Random(42);
+        List<TestSearchDocument> documents = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            documents.add(TestSearchDocument.located(id,
+                    36.0 + random.nextDouble() * 3.0, 126.0 + random.nextDouble() * 3.0));
+        }
+        return documents;
+    }
+
+    private List<Long> bruteForceNearest(List<TestSearchDocument> documents, double latitude, double longitude,
+                                         double radiusKm, int limit) {
+        return documents.stream()
+                .filter(document -> distance(document, latitude, longitude) <= radiusKm)
+                .sorted(Comparator.comparingDouble(document -> distance(document, latitude, longitude)))
+                .limit(limit)
+                .map(TestSearchDocument::getId)
+                .toList();
+    }
+
+    private static double distance(TestSearchDocument document, double latitude, double longitude) {
+        return CampgroundGeoIndex.distanceKm(latitude, longitude,
+                document.getLatitude().doubleValue(), document.getLongitude().doubleValue());
+    }
+
+    @Nested
+    @DisplayName("findNearest (k-최근접)")
+    class FindNearest {
+
+        @Test
+        @DisplayName("셀 탐색 결과가 전체 거리 계산 결과와 같다")
+        void matchesBruteForce() {
+            List<TestSearchDocument> documents = scattered(3000);
+            index(documents);
+
+            Random random = new Random(7);
+            for (int i = 0; i < 50; i++) {
+                double latitude = 36.5 + random.nextDouble() * 2.0;
+                double longitude = 126.5 + random.nextDouble() * 2.0;
+                List<Long> expected = bruteForceNearest(documents, latitude, longitude, 15.0, 10);
+
+                List<Long> actual = geoIndex.findNearest(latitude, longitude, 15.0, 10, null).stream()
+                        .map(CampgroundGeoIndex.Nearby::campgroundId)
+                        .toList();
+
+                assertThat(actual).containsExactlyElementsOf(expected);
+            }
+        }
+
+        @Test
+        @DisplayName("결과 수는 limit을 넘지 않고 가까운 순으로 정렬된다")
+        void respectsLimitAndOrder() {
+            index(scattered(3000));
+
+            List<CampgroundGeoIndex.Nearby> nearest = geoIndex.findNearest(37.5, 127.0, 50.0, 5, null);
+
+            assertThat(nearest).hasSize(5);
+            assertThat(nearest).isSortedAccordingTo(Comparator.comparingDouble(CampgroundGeoIndex.Nearby::distanceKm));
+        }
+
+        @Test
+        @DisplayName("반경 밖의 캠핑장은 고리 탐색에서 제외된다")
+        void excludesOutsideRadius() {
+            index(List.of(
+                    TestSearchDocument.located(1, 37.50, 127.00),
+                    TestSearchDocument.located(2, 37.60, 127.00),   // 약 11km
+                    TestSearchDocument.located(3, 37.80, 127.00))); // 약 33km
+
+            List<Long> ids = geoIndex.findNearest(37.5, 127.0, 20.0, 10, null).stream()
+                    .map(CampgroundGeoIndex.Nearby::campgroundId)
+                    .toList();
+
+            assertThat(ids).containsExactly(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("운영 상태 조건이 적용된다")
+        void filtersByStatus() {
+            index(List.of(
+                    TestSearchDocument.located(1, 37.50, 127.00).withStatus(CampgroundStatus.CLOSED),
+                    TestSearchDocument.located(2, 37.51, 127.00)));
+
+            List<Long> ids = geoIndex.findNearest(37.5, 127.0, 10.0, 10, CampgroundStatus.ACTIVE).stream()
+                    .map(CampgroundGeoIndex.Nearby::campgroundId)
+                    .toList();
+
+            assertThat(ids).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("극점 중심 검색도 경계 박스 안에서 끝나며 극 주변 캠핑장을 찾는다")
+        void terminatesAtPoles() {
+            List<TestSearchDocument> documents = new ArrayList<>(scattered(2000));
+            documents.add(TestSearchDocument.located(10_001, 89.95, 10.0));
+            documents.add(TestSearchDocument.located(10_002, 89.90, -170.0));
+            documents.add(TestSearchDocument.located(10_003, -89.95, 0.0));
+            index(documents);
+
+            assertThatCode(() -> {
+                List<Long> north = geoIndex.findNearest(90.0, 0.0, 200.0, 10, null).stream()
+                        .map(CampgroundGeoIndex.Nearby::campgroundId)
+                        .toList();
+                assertThat(north).containsExactly(10_001L, 10_002L);
+
+                List<Long> south = geoIndex.findNearest(-90.0, 0.0, 200.0, 10, null).stream()
+                        .map(CampgroundGeoIndex.Nearby::campgroundId)
+                        .toList();
+                assertThat(south).containsExactly(10_003L);
+            }).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("범위를 벗어난 좌표는 거부한다")
+        void rejectsOutOfRangeCoordinates() {
+            index(scattered(10));
+
+            assertThatThrownBy(() -> geoIndex.findNearest(1e12, 127.0, 20.0, 10, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> geoIndex.findNearest(37.5, 181.0, 20.0, 10, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> geoIndex.findNearest(Double.NaN, 127.0, 20.0, 10, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("findWithinBounds (지도 영역)")
+    class FindWithinBounds {
+
+        @Test
+        @DisplayName("경계 박스 안의 캠핑장만 ID 순으로 반환한다")
+        void returnsPointsInsideBounds() {
+            List<TestSearchDocument> documents = scattered(3000);
+            index(documents);
+
+            List<Long> expected = documents.stream()
+                    .filter(document -> {
+                        double latitude = document.getLatitude().doubleValue();
+                        double longitude = document.getLongitude().doubleValue();
+                        return latitude >= 37.0 && latitude <= 37.3 && longitude >= 127.0 && longitude <= 127.4;
+                    })
+                    .map(TestSearchDocument::getId)
+                    .sorted()
+                    .toList();
+
+            assertThat(geoIndex.findWithinBounds(37.0, 127.0, 37.3, 127.4, null))
+                    .isNotEmpty()
+                    .containsExactlyElementsOf(expected);
+        }
+
+        @Test
+        @DisplayName("극단적인 경계 값은 좌표 범위로 잘려 즉시 끝난다")
+        void clampsExtremeBounds() {
+            index(scattered(100));
+
+            assertThat(geoIndex.findWithinBounds(-1e12, -1e12, 1e12, 1e12, null)).hasSize(100);
+            assertThat(geoIndex.findWithinBounds(-90.0, -180.0, 90.0, 180.0, null)).hasSize(100);
+        }
+
+        @Test
+        @DisplayName("캠핑장 변경 이벤트로 좌표가 갱신된다")
+        void appliesIncrementalUpdate() {
+            index(List.of(TestSearchDocument.located(1, 37.5, 127.0)));
+            when(campgroundRepository.findSearchDocumentById(1L))
+                    .thenReturn(Optional.of(TestSearchDocument.located(1, 35.1, 129.0)));
+
+            geoIndex.onCampgroundChanged(new CampgroundChangedEvent(1L));
+
+            assertThat(geoIndex.findWithinBounds(37.0, 126.5, 38.0, 127.5, null)).isEmpty();
+            assertThat(geoIndex.findWithinBounds(35.0, 128.5, 35.5, 129.5, null)).containsExactly(1L);
+        }
+    }
+
+    @Test
+    @DisplayName("반경 검색 시간은 캠핑장 수와 무관하게 경계 박스로 제한된다")
+    void boundedByRadiusBox() {
+        index(scattered(3000));
+
+        long start = System.nanoTime();
+        geoIndex.findNearest(90.0, 0.0, 200.0, 100, null);
+        geoIndex.findNearest(37.5, 127.0, 200.0, 100, null);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+    }
+}
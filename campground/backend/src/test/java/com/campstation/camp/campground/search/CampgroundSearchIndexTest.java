@@ -0,0 +1,254 @@
+package com.campstation.camp.campground.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.campstation.camp.campground.domain.AmenityType;
+import com.campstation.camp.campground.domain.CampgroundCertification;
+import com.campstation.camp.campground.domain.CampgroundOperationType;
+import com.campstation.camp.campground.domain.CampgroundStatus;
+import com.campstation.camp.campground.dto.CampgroundSearchDocumentProjection;
+import com.campstation.camp.campground.dto.SiteAmenityFlagsProjection;
+import com.campstation.camp.campground.repository.CampgroundRepository;
+import com.campstation.camp.campground.repository.SiteRepository;
+
+/**
+ * CampgroundSearchIndex 단위 테스트
+ *
+ * n-gram 키워드 검색(대소문자 무시, 짧은 키워드), 조건별 비트맵 필터,
+ * 캠핑장 삭제/추가 시 순번 재사용과 비트맵 정리를 검증합니다.
+ */
+@DisplayName("CampgroundSearchIndex 테스트")
+class CampgroundSearchIndexTest {
+
+    private CampgroundRepository campgroundRepository;
+    private SiteRepository siteRepository;
+    private CampgroundSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        campgroundRepository = mock(CampgroundRepository.class);
+        siteRepository = mock(SiteRepository.class);
+        searchIndex = new CampgroundSearchIndex(campgroundRepository, siteRepository);
+        when(siteRepository.findAllAmenityFlags()).thenReturn(List.of());
+    }
+
+    private void index(List<TestSearchDocument> documents, List<SiteAmenityFlagsProjection> sites) {
+        when(campgroundRepository.findAllSearchDocuments()).thenReturn(new ArrayList<>(documents));
+        when(siteRepository.findAllAmenityFlags()).thenReturn(sites);
+        searchIndex.rebuild();
+        assertThat(searchIndex.isReady()).isTrue();
+    }
+
+    private void index(List<TestSearchDocument> documents) {
+        index(documents, List.of());
+    }
+
+    private static SiteAmenityFlagsProjection site(Long campgroundId, AmenityType... amenities) {
+        long flags = AmenityType.toBitMask(amenities);
+        return new SiteAmenityFlagsProjection() {
+            @Override
+            public Long getCampgroundId() {
+                return campgroundId;
+            }
+
+            @Override
+            public Long getAmenitiesFlags() {
+                return flags;
+            }
+        };
+    }
+
+    private List<Long> keyword(String keyword) {
+        return searchIndex.search(keyword, null, null, null, null, 0, 100).ids();
+    }
+
+    private void reindex(long id, Optional<CampgroundSearchDocumentProjection> document,
+                         List<SiteAmenityFlagsProjection> sites) {
+        when(campgroundRepository.findSearchDocumentById(id)).thenReturn(document);
+        when(siteRepository.findAmenityFlagsByCampgroundId(id)).thenReturn(sites);
+        searchIndex.onCampgroundChanged(new CampgroundChangedEvent(id));
+    }
+
+    @Nested
+    @DisplayName("키워드 (n-gram)")
+    class Keyword {
+
+        @Test
+        @DisplayName("이름 또는 주소의 부분 일치를 찾고 이름 접두 → 이름 포함 → 주소 순으로 정렬한다")
+        void matchesSubstringByRelevance() {
+            index(List.of(
+                    TestSearchDocument.named(1, "숲속 캠핑장", "강원도 평창군"),
+                    TestSearchDocument.named(2, "캠핑장 숲속", "경기도 가평군"),
+                    TestSearchDocument.named(3, "바다 글램핑", "강원도 숲속마을"),
+                    TestSearchDocument.named(4, "호수 캠핑", "충청북도 제천시")));
+
+            assertThat(keyword("숲속")).containsExactly(1L, 2L, 3L);
+            assertThat(keyword("캠핑장")).containsExactly(2L, 1L);
+        }
+
+        @Test
+        @DisplayName("n-gram이 모두 있어도 연속된 부분 문자열이 아니면 제외한다")
+        void rejectsGramsOutOfOrder() {
+            index(List.of(TestSearchDocument.named(1, "산골 골짜기", "주소")));
+
+            // "산골"과 "골짜"는 모두 있지만 "산골짜"는 없다
+            assertThat(keyword("산골짜")).isEmpty();
+            assertThat(keyword("골 골짜")).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("대소문자를 무시한다 (DB 검색과 같은 기준)")
+        void ignoresCase() {
+            index(List.of(
+                    TestSearchDocument.named(1, "Green Valley Camp", "Seoul"),
+                    TestSearchDocument.named(2, "GREENHOUSE 캠핑", "Busan")));
+
+            assertThat(keyword("green")).containsExactlyInAnyOrder(1L, 2L);
+            assertThat(keyword("VALLEY")).containsExactly(1L);
+            assertThat(keyword("sEoUl")).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("n-gram보다 짧은 키워드는 부분 일치 확인만으로 검색한다")
+        void matchesShortKeyword() {
+            index(List.of(
+                    TestSearchDocument.named(1, "숲 캠핑장", "주소1"),
+                    TestSearchDocument.named(2, "바다 캠핑장", "주소2")));
+
+            assertThat(keyword("숲")).containsExactly(1L);
+            assertThat(keyword("장")).containsExactlyInAnyOrder(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("색인에 없는 n-gram이 있으면 결과가 없다")
+        void returnsEmptyForUnknownGram() {
+            index(List.of(TestSearchDocument.named(1, "숲속 캠핑장", "강원도")));
+
+            CampgroundSearchIndex.IdPage page = searchIndex.search("사막", null, null, null, null, 0, 10);
+
+            assertThat(page.ids()).isEmpty();
+            assertThat(page.totalElements()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("조건 비트맵")
+    class Facets {
+
+        @BeforeEach
+        void indexFacets() {
+            index(List.of(
+                    TestSearchDocument.named(1, "캠핑장1", "주소1")
+                            .withFacets(CampgroundOperationType.DIRECT, CampgroundCertification.PREMIUM),
+                    TestSearchDocument.named(2, "캠핑장2", "주소2")
+                            .withStatus(CampgroundStatus.CLOSED)
+                            .withFacets(CampgroundOperationType.PARTNER, CampgroundCertification.STANDARD),
+                    TestSearchDocument.named(3, "캠핑장3", "주소3")
+                            .withFacets(CampgroundOperationType.PARTNER, CampgroundCertification.CERTIFIED)),
+                    List.of(
+                            site(1L, AmenityType.WIFI),
+                            site(1L, AmenityType.SHOWER),
+                            site(3L, AmenityType.WIFI, AmenityType.BBQ)));
+        }
+
+        @Test
+        @DisplayName("운영 상태, 운영 주체, 인증은 각각 선택 값 중 하나와 일치한다")
+        void filtersByEnumFacets() {
+            assertThat(searchIndex.search(null, null, Set.of(CampgroundStatus.ACTIVE), null, null, 0, 10).ids())
+                    .containsExactlyInAnyOrder(1L, 3L);
+            assertThat(searchIndex.search(null, null, null, Set.of(CampgroundOperationType.PARTNER), null, 0, 10)
+                    .ids()).containsExactlyInAnyOrder(2L, 3L);
+            assertThat(searchIndex.search(null, null, null, null,
+                    Set.of(CampgroundCertification.PREMIUM, CampgroundCertification.CERTIFIED), 0, 10).ids())
+                    .containsExactlyInAnyOrder(1L, 3L);
+            assertThat(searchIndex.search(null, null, Set.of(CampgroundStatus.ACTIVE),
+                    Set.of(CampgroundOperationType.PARTNER), null, 0, 10).ids())
+                    .containsExactly(3L);
+        }
+
+        @Test
+        @DisplayName("편의시설은 캠핑장의 모든 사이트를 합친 뒤 전부 보유해야 한다")
+        void requiresAllAmenitiesAcrossSites() {
+            assertThat(searchIndex.search(null, List.of("WIFI"), null, null, null, 0, 10).ids())
+                    .containsExactlyInAnyOrder(1L, 3L);
+            // 캠핑장 1은 와이파이와 샤워실이 서로 다른 사이트에 있음
+            assertThat(searchIndex.search(null, List.of("WIFI", "SHOWER"), null, null, null, 0, 10).ids())
+                    .containsExactly(1L);
+            assertThat(searchIndex.search(null, List.of("TENT"), null, null, null, 0, 10).ids()).isEmpty();
+            assertThat(searchIndex.search(null, List.of("UNKNOWN"), null, null, null, 0, 10).ids()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("키워드 없는 결과는 최신 등록순이며 offset/limit로 페이지를 자른다")
+        void pagesNewestFirst() {
+            CampgroundSearchIndex.IdPage page = searchIndex.search(null, null, null, null, null, 1, 1);
+
+            assertThat(page.ids()).containsExactly(2L);
+            assertThat(page.totalElements()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("재색인")
+    class Reindex {
+
+        @Test
+        @DisplayName("삭제로 비운 순번을 재사용하고 이전 문서의 n-gram과 비트맵은 남지 않는다")
+        void reusesFreedOrdinal() {
+            index(List.of(
+                    TestSearchDocument.named(1, "숲속 캠핑장", "강원도"),
+                    TestSearchDocument.named(2, "바다 글램핑", "부산").withStatus(CampgroundStatus.CLOSED)),
+                    List.of(site(2L, AmenityType.WIFI)));
+            assertThat(searchIndex.ordinalCount()).isEqualTo(2);
+
+            reindex(2L, Optional.empty(), List.of());
+            reindex(3L, Optional.of(TestSearchDocument.named(3, "호수 캠핑", "충청북도")), List.of());
+
+            assertThat(searchIndex.ordinalCount()).isEqualTo(2);
+            assertThat(keyword("바다")).isEmpty();
+            assertThat(keyword("호수")).containsExactly(3L);
+            assertThat(searchIndex.search(null, null, Set.of(CampgroundStatus.CLOSED), null, null, 0, 10).ids())
+                    .isEmpty();
+            assertThat(searchIndex.search(null, List.of("WIFI"), null, null, null, 0, 10).ids()).isEmpty();
+            assertThat(searchIndex.search(null, null, null, null, null, 0, 10).totalElements()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("변경된 캠핑장은 이름과 편의시설이 새 값으로 바뀐다")
+        void replacesChangedDocument() {
+            index(List.of(TestSearchDocument.named(1, "숲속 캠핑장", "강원도")));
+
+            reindex(1L, Optional.of(TestSearchDocument.named(1, "Forest Camp", "강원도")),
+                    List.of(site(1L, AmenityType.BBQ)));
+
+            assertThat(keyword("숲속")).isEmpty();
+            assertThat(keyword("forest")).containsExactly(1L);
+            assertThat(searchIndex.search(null, List.of("BBQ"), null, null, null, 0, 10).ids()).containsExactly(1L);
+            assertThat(searchIndex.ordinalCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("재구축은 이전 상태를 버리고 DB 기준으로 다시 만든다")
+        void rebuildReplacesState() {
+            index(List.of(TestSearchDocument.named(1, "숲속 캠핑장", "강원도")));
+
+            index(List.of(TestSearchDocument.named(2, "바다 캠핑장", "부산")));
+
+            assertThat(keyword("숲속")).isEmpty();
+            assertThat(keyword("바다")).containsExactly(2L);
+            assertThat(searchIndex.ordinalCount()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.campstation.camp.campground.search;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.campstation.camp.campground.domain.CampgroundCertification;
+import com.campstation.camp.campground.domain.CampgroundOperationType;
+import com.campstation.camp.campground.domain.CampgroundStatus;
+import com.campstation.camp.campground.dto.CampgroundSearchDocumentProjection;
+
+/**
+ * 인덱스 테스트용 캠핑장 검색 문서
+ */
+record TestSearchDocument(
+        Long id,
+        String name,
+        String address,
+        BigDecimal latitude,
+        BigDecimal longitude,
+        CampgroundStatus status,
+        CampgroundOperationType operationType,
+        CampgroundCertification certification,
+        LocalDateTime createdAt
+) implements CampgroundSearchDocumentProjection {
+
+    static TestSearchDocument located(long id, double latitude, double longitude) {
+        return new TestSearchDocument(id, "캠핑장" + id, "주소" + id,
+                BigDecimal.valueOf(latitude), BigDecimal.valueOf(longitude),
+                CampgroundStatus.ACTIVE, null, null, LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(id));
+    }
+
+    static TestSearchDocument named(long id, String name, String address) {
+        return new TestSearchDocument(id, name, address, null, null,
+                CampgroundStatus.ACTIVE, null, null, LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(id));
+    }
+
+    TestSearchDocument withStatus(CampgroundStatus newStatus) {
+        return new TestSearchDocument(id, name, address, latitude, longitude, newStatus,
+                operationType, certification, createdAt);
+    }
+
+    TestSearchDocument withFacets(CampgroundOperationType newOperationType, CampgroundCertification newCertification) {
+        return new TestSearchDocument(id, name, address, latitude, longitude, status,
+                newOperationType, newCertification, createdAt);
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getAddress() {
+        return address;
+    }
+
+    @Override
+    public BigDecimal getLatitude() {
+        return latitude;
+    }
+
+    @Override
+    public BigDecimal getLongitude() {
+        return longitude;
+    }
+
+    @Override
+    public CampgroundStatus getStatus() {
+        return status;
+    }
+
+    @Override
+    public CampgroundOperationType getOperationType() {
+        return operationType;
+    }
+
+    @Override
+    public CampgroundCertification getCertification() {
+        return certification;
+    }
+
+    @Override
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,84 @@
+package com.campstation.camp.pricing.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import com.campstation.camp.pricing.domain.SitePricing;
+
+/**
+ * 가격 계산 엔진 통합 전 규칙의 참조 구현
+ *
+ * 요금제 엔티티에서 날짜마다 적용 요금제를 찾아 getDailyRate(요일)로 1박 요금을 BigDecimal로 합산하고,
+ * 체크인 날짜의 요금제 기준으로 추가 인원 요금과 할인(할인 전 소계 기준, 1/100원 반올림)을 계산합니다.
+ * PricingEngine 결과를 고정하는 테스트와 벤치마크의 비교 기준으로만 사용합니다.
+ */
+final class LegacyPriceReference {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private LegacyPriceReference() {
+    }
+
+    /**
+     * 최종 결제 금액 계산
+     *
+     * @param activePricings 활성 요금제 목록 (우선순위 내림차순)
+     * @param checkInDate 체크인 날짜
+     * @param checkOutDate 체크아웃 날짜
+     * @param numberOfGuests 인원 수
+     * @param quotedOn 조기 예약 할인 기준일
+     * @return 최종 결제 금액 (원)
+     */
+    static BigDecimal total(List<SitePricing> activePricings, LocalDate checkInDate, LocalDate checkOutDate,
+                            int numberOfGuests, LocalDate quotedOn) {
+        int nights = (int) ChronoUnit.DAYS.between(checkInDate, checkOutDate);
+        BigDecimal nightlyTotal = BigDecimal.ZERO;
+        SitePricing primary = null;
+        for (LocalDate date = checkInDate; date.isBefore(checkOutDate); date = date.plusDays(1)) {
+            SitePricing pricing = applicableOn(activePricings, date);
+            if (primary == null) {
+                primary = pricing;
+            }
+            nightlyTotal = nightlyTotal.add(pricing.getDailyRate(date.getDayOfWeek()));
+        }
+
+        BigDecimal extraGuestFee = BigDecimal.ZERO;
+        if (primary.getBaseGuests() != null && numberOfGuests > primary.getBaseGuests()) {
+            extraGuestFee = primary.getExtraGuestFee()
+                    .multiply(BigDecimal.valueOf(numberOfGuests - primary.getBaseGuests()))
+                    .multiply(BigDecimal.valueOf(nights));
+        }
+
+        BigDecimal subtotal = nightlyTotal.add(extraGuestFee);
+        BigDecimal total = subtotal;
+        if (primary.getLongStayDiscountRate() != null && primary.getLongStayMinNights() != null
+                && nights >= primary.getLongStayMinNights()) {
+            total = total.subtract(discount(subtotal, primary.getLongStayDiscountRate()));
+        }
+        if (primary.getExtendedStayDiscountRate() != null && primary.getExtendedStayMinNights() != null
+                && nights >= primary.getExtendedStayMinNights()) {
+            total = total.subtract(discount(subtotal, primary.getExtendedStayDiscountRate()));
+        }
+        if (primary.getEarlyBirdDiscountRate() != null && primary.getEarlyBirdMinDays() != null
+                && ChronoUnit.DAYS.between(quotedOn, checkInDate) >= primary.getEarlyBirdMinDays()) {
+            total = total.subtract(discount(subtotal, primary.getEarlyBirdDiscountRate()));
+        }
+        return total;
+    }
+
+    private static SitePricing applicableOn(List<SitePricing> activePricings, LocalDate date) {
+        for (SitePricing pricing : activePricings) {
+            if (pricing.isApplicableOn(date)) {
+                return pricing;
+            }
+        }
+        throw new IllegalStateException("적용 가능한 요금제가 없습니다: " + date);
+    }
+
+    private static BigDecimal discount(BigDecimal subtotal, BigDecimal rate) {
+        return subtotal.multiply(rate).divide(HUNDRED, 2, RoundingMode.HALF_UP);
+    }
+}
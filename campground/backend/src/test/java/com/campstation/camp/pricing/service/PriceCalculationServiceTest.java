@@ -0,0 +1,275 @@
+package com.campstation.camp.pricing.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.campstation.camp.pricing.calendar.CompiledPricingCalendar;
+import com.campstation.camp.pricing.calendar.PricingCalendarCache;
+import com.campstation.camp.pricing.domain.PricingRuleType;
+import com.campstation.camp.pricing.domain.SeasonType;
+import com.campstation.camp.pricing.domain.SitePricing;
+import com.campstation.camp.pricing.dto.DailyPriceDetail;
+import com.campstation.camp.pricing.dto.PriceBreakdown;
+import com.campstation.camp.reservation.availability.CampgroundOccupancyIndex;
+import com.campstation.camp.reservation.dto.PriceBreakdownDto;
+
+/**
+ * PriceCalculationService (PricingEngine) 단위 테스트
+ *
+ * 통합된 엔진의 1/100원 long 계산 결과가 통합 전 규칙(요금제 엔티티로 1박씩 BigDecimal 합산)과
+ * 1박, 7박, 30박 숙박에서 같은지(요일별 배율 포함), 두 응답 형태(PriceBreakdownDto, PriceBreakdown)의 합계가 같은지,
+ * 시뮬레이션용 계산이 같은 결과를 내면서 계측을 남기지 않는지 검증합니다.
+ */
+@DisplayName("PriceCalculationService 테스트")
+class PriceCalculationServiceTest {
+
+    private static final Long SITE_ID = 1L;
+    private static final LocalDate QUOTED_ON = LocalDate.of(2026, 1, 1);
+
+    /**
+     * 요금제 경계를 지나는 체크인 날짜 (기본 요금만, 성수기 진입/이탈, 연말 연도 경계, 윤년 2월)
+     */
+    private static final List<LocalDate> CHECK_IN_DATES = List.of(
+            LocalDate.of(2026, 3, 2),
+            LocalDate.of(2026, 6, 20),
+            LocalDate.of(2026, 8, 28),
+            LocalDate.of(2026, 12, 20),
+            LocalDate.of(2028, 2, 15));
+
+    private List<SitePricing> pricings;
+    private CompiledPricingCalendar calendar;
+    private PricingInstrumentation instrumentation;
+    private PriceCalculationService engine;
+
+    @BeforeEach
+    void setUp() {
+        SitePricing yearEnd = SitePricing.builder()
+                .id(3L)
+                .pricingName("연말 특가")
+                .ruleType(PricingRuleType.DATE_RANGE)
+                .basePrice(new BigDecimal("90000"))
+                .weekendPrice(new BigDecimal("110000"))
+                .extraGuestFee(new BigDecimal("15000"))
+                .baseGuests(4)
+                .startMonth(12)
+                .startDay(24)
+                .endMonth(1)
+                .endDay(1)
+                .priority(20)
+                .build();
+        SitePricing peak = SitePricing.builder()
+                .id(2L)
+                .pricingName("성수기")
+                .ruleType(PricingRuleType.SEASONAL)
+                .seasonType(SeasonType.PEAK)
+                .basePrice(new BigDecimal("80000"))
+                .weekendPrice(new BigDecimal("100000"))
+                .extraGuestFee(new BigDecimal("10000"))
+                .baseGuests(4)
+                .longStayDiscountRate(new BigDecimal("5.50"))
+                .priority(10)
+                .build();
+        SitePricing base = SitePricing.builder()
+                .id(1L)
+                .pricingName("기본 요금")
+                .ruleType(PricingRuleType.BASE)
+                .basePrice(new BigDecimal("45555.55"))
+                .weekendPrice(new BigDecimal("65000"))
+                .extraGuestFee(new BigDecimal("10000"))
+                .baseGuests(4)
+                .longStayDiscountRate(new BigDecimal("5.50"))
+                .extendedStayDiscountRate(new BigDecimal("10.00"))
+                .earlyBirdDiscountRate(new BigDecimal("7.00"))
+                .earlyBirdMinDays(60)
+                .priority(0)
+                .build();
+        pricings = List.of(yearEnd, peak, base);
+        calendar = CompiledPricingCalendar.compile(SITE_ID, pricings);
+
+        instrumentation = mock(PricingInstrumentation.class);
+        engine = new PriceCalculationService(mock(PricingCalendarCache.class), mock(PriceQuoteCache.class),
+                instrumentation, mock(CampgroundOccupancyIndex.class));
+    }
+
+    private PriceQuote quote(LocalDate checkIn, int nights, int guests) {
+        return engine.quote(calendar, checkIn, checkIn.plusDays(nights), guests, QUOTED_ON);
+    }
+
+    private BigDecimal legacyTotal(LocalDate checkIn, int nights, int guests) {
+        return LegacyPriceReference.total(pricings, checkIn, checkIn.plusDays(nights), guests, QUOTED_ON);
+    }
+
+    @Nested
+    @DisplayName("통합 전 규칙과의 합계 비교")
+    class MatchesLegacyRules {
+
+        @ParameterizedTest(name = "{0}박")
+        @ValueSource(ints = {1, 7, 30})
+        @DisplayName("기본 인원과 추가 인원 모두 최종 금액이 같다")
+        void totalsMatch(int nights) {
+            for (LocalDate checkIn : CHECK_IN_DATES) {
+                for (int guests : new int[] {2, 6}) {
+                    BigDecimal expected = legacyTotal(checkIn, nights, guests);
+
+                    assertThat(quote(checkIn, nights, guests).totalAmountValue())
+                            .as("%s 체크인 %d박 %d명", checkIn, nights, guests)
+                            .isEqualByComparingTo(expected);
+                }
+            }
+        }
+
+        @ParameterizedTest(name = "{0}박")
+        @ValueSource(ints = {1, 7, 30})
+        @DisplayName("항목 내역과 날짜별 내역의 최종 금액이 같다")
+        void bothShapesAgree(int nights) {
+            for (LocalDate checkIn : CHECK_IN_DATES) {
+                PriceQuote quote = quote(checkIn, nights, 6);
+                BigDecimal expected = legacyTotal(checkIn, nights, 6);
+
+                PriceBreakdownDto items = engine.toBreakdownDto(quote);
+                PriceBreakdown daily = engine.toPriceBreakdown(quote);
+
+                assertThat(items.getTotalAmount()).as("%s 항목 내역", checkIn).isEqualByComparingTo(expected);
+                assertThat(daily.getTotalAmount()).as("%s 날짜별 내역", checkIn).isEqualByComparingTo(expected);
+                assertThat(daily.getDailyBreakdown()).hasSize(nights);
+                assertThat(daily.getDailyBreakdown().stream()
+                        .map(DailyPriceDetail::getDailyRate)
+                        .reduce(BigDecimal.ZERO, BigDecimal::add))
+                        .isEqualByComparingTo(daily.getBasePrice());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("고정 금액")
+    class PinnedAmounts {
+
+        @Test
+        @DisplayName("평일 1박 기본 인원은 기본 요금 그대로다")
+        void singleWeekdayNight() {
+            PriceQuote quote = engine.quote(calendar, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 3), 2,
+                    LocalDate.of(2026, 3, 1));
+
+            assertThat(quote.totalAmountValue()).isEqualByComparingTo("45555.55");
+            assertThat(quote.totalDiscount()).isZero();
+        }
+
+        @Test
+        @DisplayName("7박 6명은 주말 할증, 추가 인원 요금, 세 가지 할인을 모두 반영한다")
+        void weekWithAllDiscounts() {
+            // 평일 5박 45,555.55 + 주말 2박 65,000 + 추가 2명 x 7박 x 10,000 = 497,777.75
+            // 할인 5.5% 27,377.78 + 10% 49,777.78 + 7% 34,844.44 (모두 할인 전 소계 기준)
+            PriceQuote quote = quote(LocalDate.of(2026, 3, 2), 7, 6);
+
+            assertThat(quote.weekendNights()).isEqualTo(2);
+            assertThat(quote.longStayApplied()).isTrue();
+            assertThat(quote.extendedStayApplied()).isTrue();
+            assertThat(quote.earlyBirdApplied()).isTrue();
+            assertThat(CompiledPricingCalendar.toAmount(quote.subtotal())).isEqualByComparingTo("497777.75");
+            assertThat(quote.totalAmountValue()).isEqualByComparingTo("385777.75");
+        }
+    }
+
+    @Nested
+    @DisplayName("요일별 배율")
+    class DayMultipliers {
+
+        private List<SitePricing> multiplied;
+
+        @BeforeEach
+        void setUp() {
+            multiplied = List.of(SitePricing.builder()
+                    .id(4L)
+                    .pricingName("요일별 요금")
+                    .ruleType(PricingRuleType.BASE)
+                    .basePrice(new BigDecimal("50000"))
+                    .weekendPrice(new BigDecimal("70000"))
+                    .dayMultipliers("{\"MONDAY\": 0.9, \"SATURDAY\": 1.5}")
+                    .extraGuestFee(new BigDecimal("10000"))
+                    .baseGuests(4)
+                    .priority(0)
+                    .build());
+        }
+
+        @Test
+        @DisplayName("배율이 있는 요일은 기본 요금 × 배율을 적용하고 주말 요금보다 우선한다")
+        void appliesMultipliersBeforeWeekendRate() {
+            // 월 45,000 + 화~목 50,000 x 3 + 금 70,000(주말) + 토 75,000(배율) + 일 50,000 = 390,000
+            CompiledPricingCalendar multipliedCalendar = CompiledPricingCalendar.compile(SITE_ID, multiplied);
+            PriceQuote quote = engine.quote(multipliedCalendar, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 9), 2,
+                    QUOTED_ON);
+
+            assertThat(quote.weekendNights()).isEqualTo(1);
+            assertThat(quote.totalAmountValue()).isEqualByComparingTo("390000");
+            assertThat(multipliedCalendar.nightlyRateOn(LocalDate.of(2026, 3, 7))).isEqualTo(7_500_000L);
+        }
+
+        @ParameterizedTest(name = "{0}박")
+        @ValueSource(ints = {1, 7, 30})
+        @DisplayName("통합 전 규칙과 최종 금액이 같다")
+        void totalsMatchLegacy(int nights) {
+            CompiledPricingCalendar multipliedCalendar = CompiledPricingCalendar.compile(SITE_ID, multiplied);
+            for (LocalDate checkIn : CHECK_IN_DATES) {
+                PriceQuote quote = engine.quote(multipliedCalendar, checkIn, checkIn.plusDays(nights), 6, QUOTED_ON);
+
+                assertThat(quote.totalAmountValue())
+                        .as("%s 체크인 %d박", checkIn, nights)
+                        .isEqualByComparingTo(LegacyPriceReference.total(multiplied, checkIn,
+                                checkIn.plusDays(nights), 6, QUOTED_ON));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("시뮬레이션용 계산")
+    class Simulation {
+
+        @ParameterizedTest(name = "{0}박")
+        @ValueSource(ints = {1, 7, 30})
+        @DisplayName("견적과 같은 금액을 계산하고 계측은 남기지 않는다")
+        void matchesQuoteWithoutInstrumentation(int nights) {
+            for (LocalDate checkIn : CHECK_IN_DATES) {
+                PriceQuote simulated = engine.quoteForSimulation(calendar, checkIn, checkIn.plusDays(nights), 6,
+                        QUOTED_ON);
+
+                assertThat(simulated.totalAmountValue())
+                        .as("%s 체크인", checkIn)
+                        .isEqualByComparingTo(legacyTotal(checkIn, nights, 6));
+            }
+
+            verifyNoInteractions(instrumentation);
+        }
+
+        @Test
+        @DisplayName("요금제가 적용되지 않는 날짜가 있으면 실패만 하고 실패 지표는 남기지 않는다")
+        void failsWithoutRecordingFailure() {
+            CompiledPricingCalendar seasonalOnly = CompiledPricingCalendar.compile(SITE_ID, List.of(pricings.get(1)));
+
+            assertThatThrownBy(() -> engine.quoteForSimulation(seasonalOnly, LocalDate.of(2026, 3, 2),
+                    LocalDate.of(2026, 3, 4), 2, QUOTED_ON))
+                    .isInstanceOf(IllegalStateException.class);
+            verifyNoInteractions(instrumentation);
+
+            assertThatThrownBy(() -> engine.quote(seasonalOnly, LocalDate.of(2026, 3, 2),
+                    LocalDate.of(2026, 3, 4), 2, QUOTED_ON))
+                    .isInstanceOf(IllegalStateException.class);
+            verify(instrumentation).recordFailure(any(), any(), anyLong(), any());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.campstation.camp.pricing.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 가격 달력 ETag 단위 테스트
+ *
+ * 요금제 버전이 바뀌면 ETag가 바뀌는지, 점유율 연동 요금은 같은 버전이라도
+ * 요금 배열이 다르면 ETag가 달라지는지 검증합니다.
+ */
+@DisplayName("가격 달력 ETag 테스트")
+class PriceStripServiceETagTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 11, 1);
+
+    @Test
+    @DisplayName("점유율 연동이 없으면 요금제 버전이 바뀔 때만 ETag가 바뀐다")
+    void usesPricingVersion() {
+        long[] rates = {5_000_000L, 6_000_000L};
+
+        assertThat(PriceStripService.eTagOf(1L, START, 2, 3L, false, rates))
+                .isEqualTo(PriceStripService.eTagOf(1L, START, 2, 3L, false, rates.clone()))
+                .isNotEqualTo(PriceStripService.eTagOf(1L, START, 2, 4L, false, rates));
+    }
+
+    @Test
+    @DisplayName("점유율 연동 요금은 같은 요금제 버전이라도 요금 배열이 다르면 ETag가 다르다")
+    void digestsOccupancyRates() {
+        long[] before = {5_000_000L, 6_000_000L};
+        long[] after = {5_000_000L, 6_600_000L};
+
+        assertThat(PriceStripService.eTagOf(1L, START, 2, 3L, true, before))
+                .isEqualTo(PriceStripService.eTagOf(1L, START, 2, 3L, true, before.clone()))
+                .isNotEqualTo(PriceStripService.eTagOf(1L, START, 2, 3L, true, after));
+    }
+}
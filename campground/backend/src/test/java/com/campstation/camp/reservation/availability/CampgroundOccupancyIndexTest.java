@@ -0,0 +1,299 @@
+package com.campstation.camp.reservation.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.campstation.camp.campground.domain.SiteStatus;
+import com.campstation.camp.campground.dto.CampgroundSiteCountProjection;
+import com.campstation.camp.campground.repository.SiteRepository;
+import com.campstation.camp.pricing.calendar.CompiledPricingCalendar;
+import com.campstation.camp.pricing.domain.PricingRuleType;
+import com.campstation.camp.pricing.domain.SitePricing;
+import com.campstation.camp.reservation.dto.ReservationStayProjection;
+import com.campstation.camp.reservation.repository.ReservationRepository;
+
+/**
+ * CampgroundOccupancyIndex 단위 테스트
+ *
+ * 예약 변경 이벤트로 점유 카운터가 증가/감소하는지와,
+ * 점유율에 따라 점유율 연동 요금제의 할증 단계가 올바르게 선택되는지 검증합니다.
+ */
+@DisplayName("CampgroundOccupancyIndex 테스트")
+class CampgroundOccupancyIndexTest {
+
+    private static final Long CAMPGROUND_ID = 10L;
+    private static final Long SITE_ID = 100L;
+
+    private ReservationRepository reservationRepository;
+    private SiteRepository siteRepository;
+    private CampgroundOccupancyIndex occupancyIndex;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        siteRepository = mock(SiteRepository.class);
+        occupancyIndex = new CampgroundOccupancyIndex(reservationRepository, siteRepository);
+        today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+        // 운영 중 사이트 4개 (사이트 1개 = 25%)
+        when(siteRepository.countSitesByCampground(SiteStatus.AVAILABLE))
+                .thenReturn(List.of(siteCount(CAMPGROUND_ID, 4L)));
+        when(reservationRepository.findActiveStaysCheckingOutAfter(anyList(), any(LocalDate.class)))
+                .thenReturn(List.of());
+        occupancyIndex.rebuild();
+    }
+
+    private static CampgroundSiteCountProjection siteCount(Long campgroundId, Long siteCount) {
+        return new CampgroundSiteCountProjection() {
+            @Override
+            public Long getCampgroundId() {
+                return campgroundId;
+            }
+
+            @Override
+            public Long getSiteCount() {
+                return siteCount;
+            }
+        };
+    }
+
+    private static ReservationStayProjection stay(Long reservationId, LocalDate checkIn, LocalDate checkOut) {
+        return new ReservationStayProjection() {
+            @Override
+            public Long getReservationId() {
+                return reservationId;
+            }
+
+            @Override
+            public Long getSiteId() {
+                return SITE_ID;
+            }
+
+            @Override
+            public Long getCampgroundId() {
+                return CAMPGROUND_ID;
+            }
+
+            @Override
+            public LocalDate getCheckInDate() {
+                return checkIn;
+            }
+
+            @Override
+            public LocalDate getCheckOutDate() {
+                return checkOut;
+            }
+        };
+    }
+
+    private void book(long reservationId, LocalDate checkIn, LocalDate checkOut) {
+        occupancyIndex.onReservationChanged(new ReservationChangedEvent(
+                reservationId, SITE_ID, CAMPGROUND_ID, checkIn, checkOut, true));
+    }
+
+    private void cancel(long reservationId, LocalDate checkIn, LocalDate checkOut) {
+        occupancyIndex.onReservationChanged(new ReservationChangedEvent(
+                reservationId, SITE_ID, CAMPGROUND_ID, checkIn, checkOut, false));
+    }
+
+    private int occupancyOn(LocalDate date) {
+        return occupancyIndex.occupancyBasisPoints(CAMPGROUND_ID, date.toEpochDay());
+    }
+
+    @Nested
+    @DisplayName("점유 카운터")
+    class Counters {
+
+        @Test
+        @DisplayName("예약 기간의 각 박에만 카운터가 증가한다 (체크아웃 날짜 제외)")
+        void appliesStay() {
+            book(1, today.plusDays(10), today.plusDays(12));
+
+            assertThat(occupancyOn(today.plusDays(9))).isZero();
+            assertThat(occupancyOn(today.plusDays(10))).isEqualTo(2_500);
+            assertThat(occupancyOn(today.plusDays(11))).isEqualTo(2_500);
+            assertThat(occupancyOn(today.plusDays(12))).isZero();
+        }
+
+        @Test
+        @DisplayName("취소 이벤트로 카운터가 되돌아간다")
+        void revertsOnCancel() {
+            book(1, today.plusDays(10), today.plusDays(12));
+            cancel(1, today.plusDays(10), today.plusDays(12));
+
+            assertThat(occupancyOn(today.plusDays(10))).isZero();
+            assertThat(occupancyOn(today.plusDays(11))).isZero();
+        }
+
+        @Test
+        @DisplayName("같은 예약 이벤트가 중복되어도 한 번만 반영된다")
+        void isIdempotentPerReservation() {
+            book(1, today.plusDays(10), today.plusDays(11));
+            book(1, today.plusDays(10), today.plusDays(11));
+            cancel(1, today.plusDays(10), today.plusDays(11));
+            cancel(1, today.plusDays(10), today.plusDays(11));
+
+            assertThat(occupancyOn(today.plusDays(10))).isZero();
+        }
+
+        @Test
+        @DisplayName("날짜 변경 시 이전 기간은 감소하고 새 기간은 증가한다")
+        void movesStay() {
+            book(1, today.plusDays(10), today.plusDays(11));
+            book(1, today.plusDays(20), today.plusDays(21));
+
+            assertThat(occupancyOn(today.plusDays(10))).isZero();
+            assertThat(occupancyOn(today.plusDays(20))).isEqualTo(2_500);
+        }
+
+        @Test
+        @DisplayName("점유율은 100%를 넘지 않고 윈도우 밖 날짜는 -1이다")
+        void clampsAndBoundsWindow() {
+            for (long id = 1; id <= 5; id++) {
+                book(id, today.plusDays(3), today.plusDays(4));
+            }
+
+            assertThat(occupancyOn(today.plusDays(3))).isEqualTo(10_000);
+            assertThat(occupancyOn(today.minusDays(1))).isEqualTo(-1);
+            assertThat(occupancyOn(today.plusDays(SiteAvailabilityIndex.HORIZON_DAYS))).isEqualTo(-1);
+            assertThat(occupancyIndex.occupancyBasisPoints(999L, today.plusDays(3).toEpochDay())).isEqualTo(-1);
+        }
+
+        @Test
+        @DisplayName("재구축은 DB의 활성 예약으로 카운터를 다시 만들고 점유율 버전을 바꾼다")
+        void rebuildReplacesCounters() {
+            book(1, today.plusDays(10), today.plusDays(11));
+            long versionBefore = occupancyIndex.versionOf(CAMPGROUND_ID);
+            when(reservationRepository.findActiveStaysCheckingOutAfter(anyList(), any(LocalDate.class)))
+                    .thenReturn(List.of(
+                            stay(2L, today.plusDays(5), today.plusDays(6)),
+                            stay(3L, today.plusDays(5), today.plusDays(6))));
+
+            occupancyIndex.rebuild();
+
+            assertThat(occupancyOn(today.plusDays(10))).isZero();
+            assertThat(occupancyOn(today.plusDays(5))).isEqualTo(5_000);
+            assertThat(occupancyIndex.versionOf(CAMPGROUND_ID)).isNotEqualTo(versionBefore);
+        }
+
+        @Test
+        @DisplayName("예약 변경마다 캠핑장 점유율 버전이 바뀐다")
+        void bumpsVersion() {
+            long before = occupancyIndex.versionOf(CAMPGROUND_ID);
+            book(1, today.plusDays(10), today.plusDays(11));
+
+            assertThat(occupancyIndex.versionOf(CAMPGROUND_ID)).isNotEqualTo(before);
+        }
+    }
+
+    @Nested
+    @DisplayName("점유율 할증 단계")
+    class SurchargeTiers {
+
+        // 기본 1박 100,000원 (1/100원 단위)
+        private static final long NIGHTLY_RATE = 10_000_000L;
+
+        private CompiledPricingCalendar calendar;
+
+        @BeforeEach
+        void compileCalendar() {
+            SitePricing base = SitePricing.builder()
+                    .id(1L)
+                    .pricingName("기본 요금")
+                    .ruleType(PricingRuleType.BASE)
+                    .basePrice(new BigDecimal("100000"))
+                    .build();
+            SitePricing busy = SitePricing.builder()
+                    .id(2L)
+                    .pricingName("점유율 50% 할증")
+                    .ruleType(PricingRuleType.OCCUPANCY)
+                    .basePrice(BigDecimal.ZERO)
+                    .occupancyThresholdPercent(50)
+                    .occupancySurchargeRate(new BigDecimal("10.00"))
+                    .build();
+            SitePricing full = SitePricing.builder()
+                    .id(3L)
+                    .pricingName("점유율 75% 할증")
+                    .ruleType(PricingRuleType.OCCUPANCY)
+                    .basePrice(BigDecimal.ZERO)
+                    .occupancyThresholdPercent(75)
+                    .occupancySurchargeRate(new BigDecimal("20.00"))
+                    .build();
+            calendar = CompiledPricingCalendar.compile(SITE_ID, CAMPGROUND_ID, 1L, List.of(base, busy, full));
+        }
+
+        private long surchargeOn(LocalDate date) {
+            return calendar.occupancySurchargeOn(date, NIGHTLY_RATE, occupancyIndex);
+        }
+
+        @Test
+        @DisplayName("가장 낮은 기준 미만이면 할증이 없다")
+        void noSurchargeBelowLowestTier() {
+            LocalDate night = today.plusDays(30);
+            book(1, night, night.plusDays(1));
+
+            assertThat(surchargeOn(night)).isZero();
+        }
+
+        @Test
+        @DisplayName("기준을 충족한 단계 중 가장 높은 단계의 할증만 적용된다")
+        void appliesHighestSatisfiedTier() {
+            LocalDate night = today.plusDays(30);
+            book(1, night, night.plusDays(1));
+            book(2, night, night.plusDays(1));
+            assertThat(surchargeOn(night)).isEqualTo(1_000_000L);
+
+            book(3, night, night.plusDays(1));
+            assertThat(surchargeOn(night)).isEqualTo(2_000_000L);
+        }
+
+        @Test
+        @DisplayName("취소로 점유율이 내려가면 낮은 단계로 돌아간다")
+        void dropsTierAfterCancel() {
+            LocalDate night = today.plusDays(30);
+            for (long id = 1; id <= 3; id++) {
+                book(id, night, night.plusDays(1));
+            }
+            cancel(3, night, night.plusDays(1));
+
+            assertThat(surchargeOn(night)).isEqualTo(1_000_000L);
+        }
+
+        @Test
+        @DisplayName("숙박 합계에 할증 박 수와 금액이 반영된다")
+        void sumsSurchargeOverStay() {
+            LocalDate checkIn = today.plusDays(30);
+            // 첫 박만 50% 점유
+            book(1, checkIn, checkIn.plusDays(1));
+            book(2, checkIn, checkIn.plusDays(1));
+
+            CompiledPricingCalendar.StayTotals totals =
+                    calendar.sum(checkIn, checkIn.plusDays(2), occupancyIndex);
+
+            assertThat(totals.occupancyNights()).isEqualTo(1);
+            assertThat(totals.occupancySurcharge()).isEqualTo(1_000_000L);
+        }
+
+        @Test
+        @DisplayName("인덱스가 준비되지 않으면 할증하지 않는다")
+        void noSurchargeWhenIndexNotReady() {
+            CampgroundOccupancyIndex notReady = new CampgroundOccupancyIndex(reservationRepository, siteRepository);
+
+            assertThat(calendar.occupancySurchargeOn(today.plusDays(30), NIGHTLY_RATE, notReady)).isZero();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.campstation.camp.reservation.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.campstation.camp.reservation.availability.ReservationHoldService.HoldCheckout;
+import com.campstation.camp.reservation.availability.ReservationHoldService.ReservationHold;
+import com.campstation.camp.reservation.domain.PaymentMethod;
+import com.campstation.camp.reservation.dto.PriceBreakdownDto;
+
+/**
+ * ReservationHoldService 단위 테스트
+ *
+ * 예약 생성 요청 시 결제 대기 정보가 홀드에 저장되고 만료 시각이 연장되는지,
+ * 마지막 홀드가 해제/만료되면 사이트별 목록도 제거되는지 검증합니다.
+ */
+@DisplayName("ReservationHoldService 테스트")
+class ReservationHoldServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long OTHER_USER_ID = 2L;
+    private static final Long CAMPGROUND_ID = 10L;
+    private static final Long SITE_ID = 100L;
+
+    private ReservationHoldService holdService;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+
+    @BeforeEach
+    void setUp() {
+        holdService = new ReservationHoldService(mock(SiteAvailabilityIndex.class));
+        ReflectionTestUtils.setField(holdService, "ttlMinutes", 10L);
+        ReflectionTestUtils.setField(holdService, "checkoutTtlMinutes", 30L);
+        ReflectionTestUtils.setField(holdService, "maxPerUser", 3);
+        checkIn = LocalDate.now().plusDays(7);
+        checkOut = checkIn.plusDays(2);
+    }
+
+    private static HoldCheckout checkout() {
+        PriceBreakdownDto price = PriceBreakdownDto.builder()
+                .basePrice(new BigDecimal("100000"))
+                .totalAmount(new BigDecimal("100000"))
+                .items(new ArrayList<>())
+                .build();
+        return new HoldCheckout(4, null, PaymentMethod.CARD, null, price);
+    }
+
+    @Nested
+    @DisplayName("결제 대기 정보")
+    class Checkout {
+
+        @Test
+        @DisplayName("예약 생성 요청 시 결제 대기 정보를 저장하고 만료 시각을 결제 대기 시간까지 연장한다")
+        void attachesCheckoutAndExtendsExpiry() {
+            ReservationHold hold = holdService.acquire(USER_ID, CAMPGROUND_ID, SITE_ID, checkIn, checkOut);
+
+            ReservationHold updated = holdService.attachCheckout(hold.token(), checkout());
+
+            assertThat(updated.expiresAt()).isAfter(hold.expiresAt());
+            assertThat(holdService.getCheckout(hold.token(), USER_ID).checkout().totalAmount())
+                    .isEqualByComparingTo("100000");
+            assertThat(holdService.hasConflictingHold(SITE_ID, checkIn, checkOut, null)).isTrue();
+        }
+
+        @Test
+        @DisplayName("예약 생성 전 홀드나 다른 사용자의 홀드는 결제할 수 없다")
+        void rejectsCheckoutWithoutReservationOrOwner() {
+            ReservationHold hold = holdService.acquire(USER_ID, CAMPGROUND_ID, SITE_ID, checkIn, checkOut);
+
+            assertThatThrownBy(() -> holdService.getCheckout(hold.token(), USER_ID))
+                    .isInstanceOf(IllegalStateException.class);
+
+            holdService.attachCheckout(hold.token(), checkout());
+
+            assertThatThrownBy(() -> holdService.getCheckout(hold.token(), OTHER_USER_ID))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("만료된 홀드에는 결제 대기 정보를 저장할 수 없다")
+        void rejectsExpiredHold() {
+            assertThatThrownBy(() -> holdService.attachCheckout("unknown-token", checkout()))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("사이트별 목록 정리")
+    class SiteCleanup {
+
+        @Test
+        @DisplayName("사이트의 마지막 홀드를 해제하면 사이트 목록도 제거된다")
+        void removesEmptySiteSetOnRelease() {
+            ReservationHold first = holdService.acquire(USER_ID, CAMPGROUND_ID, SITE_ID, checkIn, checkOut);
+            ReservationHold second = holdService.acquire(OTHER_USER_ID, CAMPGROUND_ID, SITE_ID,
+                    checkOut, checkOut.plusDays(1));
+            assertThat(holdService.siteCount()).isEqualTo(1);
+
+            holdService.release(first.token());
+            assertThat(holdService.siteCount()).isEqualTo(1);
+
+            holdService.release(second.token());
+            assertThat(holdService.siteCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("만료된 홀드를 정리하면 사이트 목록도 제거된다")
+        void removesEmptySiteSetOnPurge() {
+            ReflectionTestUtils.setField(holdService, "ttlMinutes", 0L);
+            holdService.acquire(USER_ID, CAMPGROUND_ID, SITE_ID, checkIn, checkOut);
+
+            holdService.purgeExpired();
+
+            assertThat(holdService.siteCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("발급에 실패해도 빈 사이트 목록이 남지 않는다")
+        void leavesNoEmptySetOnFailedAcquire() {
+            ReflectionTestUtils.setField(holdService, "maxPerUser", 1);
+            holdService.acquire(USER_ID, CAMPGROUND_ID, SITE_ID, checkIn, checkOut);
+
+            assertThatThrownBy(() -> holdService.acquire(USER_ID, CAMPGROUND_ID, SITE_ID + 1, checkIn, checkOut))
+                    .isInstanceOf(IllegalStateException.class);
+
+            assertThat(holdService.siteCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("결제 대기 정보 저장으로 연장된 홀드는 만료 정리에서 해제되지 않는다")
+        void keepsExtendedHoldOnPurge() {
+            ReservationHold hold = holdService.acquire(USER_ID, CAMPGROUND_ID, SITE_ID, checkIn, checkOut);
+            holdService.attachCheckout(hold.token(), checkout());
+
+            holdService.purgeExpired();
+
+            assertThat(holdService.getCheckout(hold.token(), USER_ID)).isNotNull();
+            assertThat(holdService.siteCount()).isEqualTo(1);
+        }
+    }
+}
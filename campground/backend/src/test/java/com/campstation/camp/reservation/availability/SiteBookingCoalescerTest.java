@@ -0,0 +1,284 @@
+package com.campstation.camp.reservation.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.campstation.camp.shared.exception.ReservationConflictException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * SiteBookingCoalescer 단위 테스트
+ *
+ * 같은 사이트에 동시에 들어온 예약 작업이 한 번에 하나씩 실행되는지,
+ * 워커 종료(removeIfIdle)와 새 요청 추가가 겹쳐도 워커 없이 남는 요청이 없는지,
+ * 대기 시간 초과 시 대기 중인 작업이 취소되는지, 가용성 인덱스 충돌 시 즉시 거절되는지 검증합니다.
+ */
+@DisplayName("SiteBookingCoalescer 테스트")
+class SiteBookingCoalescerTest {
+
+    private static final Long SITE_ID = 100L;
+    private static final String SITES_GAUGE = "campstation.booking.queue.sites";
+    private static final String DEPTH_GAUGE = "campstation.booking.queue.depth";
+    private static final String REJECTED_COUNTER = "campstation.booking.queue.rejected";
+
+    private SiteAvailabilityIndex siteAvailabilityIndex;
+    private SimpleMeterRegistry meterRegistry;
+    private SiteBookingCoalescer coalescer;
+    private ExecutorService callers;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+
+    @BeforeEach
+    void setUp() {
+        siteAvailabilityIndex = mock(SiteAvailabilityIndex.class);
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new SiteBookingCoalescer(siteAvailabilityIndex, meterRegistry);
+        ReflectionTestUtils.setField(coalescer, "enabled", true);
+        ReflectionTestUtils.setField(coalescer, "maxDepth", 200);
+        ReflectionTestUtils.setField(coalescer, "timeoutSeconds", 5L);
+        coalescer.init();
+
+        callers = Executors.newFixedThreadPool(16);
+        checkIn = LocalDate.now().plusDays(7);
+        checkOut = checkIn.plusDays(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private double rejectedCount() {
+        return meterRegistry.get(REJECTED_COUNTER).counter().count();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 워커가 모두 종료되어 사이트 큐가 남지 않을 때까지 대기
+     */
+    private void awaitIdle() throws InterruptedException {
+        awaitUntil(() -> gauge(SITES_GAUGE) == 0 && gauge(DEPTH_GAUGE) == 0);
+    }
+
+    @Nested
+    @DisplayName("사이트별 직렬 실행")
+    class Serialization {
+
+        @Test
+        @DisplayName("같은 사이트에 동시에 들어온 예약 작업은 한 번에 하나씩 모두 실행된다")
+        void runsOneBookingAtATime() throws Exception {
+            int requests = 64;
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            List<Future<Integer>> results = new ArrayList<>();
+
+            for (int i = 0; i < requests; i++) {
+                int requestNo = i;
+                results.add(callers.submit(() -> coalescer.execute(SITE_ID, checkIn, checkOut, () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200));
+                    running.decrementAndGet();
+                    return requestNo;
+                })));
+            }
+
+            for (int i = 0; i < requests; i++) {
+                assertThat(results.get(i).get(10, TimeUnit.SECONDS)).isEqualTo(i);
+            }
+            assertThat(maxRunning).hasValue(1);
+            awaitIdle();
+        }
+
+        @Test
+        @DisplayName("워커가 종료되는 순간 들어온 요청도 워커 없이 남지 않는다")
+        void leavesNoTaskWithoutWorker() throws Exception {
+            // 매 라운드 큐가 비어 워커가 종료(removeIfIdle)되는 시점과 새 요청의 compute 추가가 겹치도록 반복
+            for (int round = 0; round < 200; round++) {
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Integer>> results = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    results.add(callers.submit(() -> {
+                        start.await();
+                        return coalescer.execute(SITE_ID, checkIn, checkOut, () -> 1);
+                    }));
+                }
+                start.countDown();
+
+                // 워커 없이 남은 요청은 대기 시간 초과로 실패함
+                for (Future<Integer> result : results) {
+                    assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+                }
+            }
+            awaitIdle();
+        }
+    }
+
+    @Nested
+    @DisplayName("대기 시간 초과")
+    class Timeout {
+
+        @Test
+        @DisplayName("대기 시간이 초과된 요청은 취소되어 실행되지 않고, 실행 중이던 요청은 끝까지 처리된다")
+        void cancelsWaitingTaskOnTimeout() throws Exception {
+            ReflectionTestUtils.setField(coalescer, "timeoutSeconds", 1L);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicBoolean firstCompleted = new AtomicBoolean();
+            AtomicBoolean secondRan = new AtomicBoolean();
+
+            callers.submit(() -> coalescer.execute(SITE_ID, checkIn, checkOut, () -> {
+                started.countDown();
+                awaitQuietly(release);
+                firstCompleted.set(true);
+                return 1;
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> coalescer.execute(SITE_ID, checkOut, checkOut.plusDays(1), () -> {
+                secondRan.set(true);
+                return 2;
+            }))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("시간이 초과");
+
+            release.countDown();
+            awaitUntil(firstCompleted::get);
+            awaitIdle();
+            assertThat(secondRan).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("가용성 인덱스 거절")
+    class Rejection {
+
+        @Test
+        @DisplayName("이미 점유된 날짜 요청은 큐에 넣지 않고 즉시 충돌 예외로 거절한다")
+        void rejectsBeforeEnqueue() throws Exception {
+            when(siteAvailabilityIndex.hasConfirmedConflict(eq(SITE_ID), eq(checkIn), eq(checkOut), isNull()))
+                    .thenReturn(true);
+            AtomicBoolean ran = new AtomicBoolean();
+
+            assertThatThrownBy(() -> coalescer.execute(SITE_ID, checkIn, checkOut, () -> {
+                ran.set(true);
+                return 1;
+            }))
+                    .isInstanceOf(ReservationConflictException.class);
+
+            assertThat(ran).isFalse();
+            assertThat(rejectedCount()).isEqualTo(1.0);
+            assertThat(gauge(SITES_GAUGE)).isZero();
+        }
+
+        @Test
+        @DisplayName("대기 중 앞선 예약이 커밋되어 점유된 날짜 요청은 실행 직전에 거절한다")
+        void rejectsQueuedTaskAfterPrecedingBooking() throws Exception {
+            AtomicBoolean booked = new AtomicBoolean();
+            when(siteAvailabilityIndex.hasConfirmedConflict(eq(SITE_ID), any(), any(), isNull()))
+                    .thenAnswer(invocation -> booked.get());
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicBoolean secondRan = new AtomicBoolean();
+
+            Future<Integer> first = callers.submit(() -> coalescer.execute(SITE_ID, checkIn, checkOut, () -> {
+                started.countDown();
+                awaitQuietly(release);
+                // 커밋 후 인덱스 갱신
+                booked.set(true);
+                return 1;
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Integer> second = callers.submit(() -> coalescer.execute(SITE_ID, checkIn, checkOut, () -> {
+                secondRan.set(true);
+                return 2;
+            }));
+            awaitUntil(() -> gauge(DEPTH_GAUGE) == 1);
+
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+            assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(ReservationConflictException.class);
+            assertThat(secondRan).isFalse();
+            assertThat(rejectedCount()).isEqualTo(1.0);
+            awaitIdle();
+        }
+    }
+
+    @Nested
+    @DisplayName("요청 정보 전달")
+    class RequestContext {
+
+        @Test
+        @DisplayName("워커 스레드에서도 호출 요청의 헤더를 읽을 수 있고, 실행 후에는 요청 정보가 남지 않는다")
+        void propagatesRequestAttributes() throws Exception {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader("X-Pricing-Trace", "1");
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+            try {
+                String header = coalescer.execute(SITE_ID, checkIn, checkOut, () ->
+                        ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes())
+                                .getRequest().getHeader("X-Pricing-Trace"));
+
+                assertThat(header).isEqualTo("1");
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+
+            Boolean cleared = coalescer.execute(SITE_ID, checkIn, checkOut,
+                    () -> RequestContextHolder.getRequestAttributes() == null);
+            assertThat(cleared).isTrue();
+            awaitIdle();
+        }
+    }
+}
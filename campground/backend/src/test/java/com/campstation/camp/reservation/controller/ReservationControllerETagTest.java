@@ -0,0 +1,69 @@
+package com.campstation.camp.reservation.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 예약 날짜 응답 ETag 단위 테스트
+ *
+ * 숙박 기간이 하루 밀리는 변경에서도 ETag가 달라지는지(32비트 해시 충돌 없음)와,
+ * 사이트/범위 순서와 무관하게 같은 내용이면 같은 ETag인지 검증합니다.
+ */
+@DisplayName("예약 날짜 ETag 테스트")
+class ReservationControllerETagTest {
+
+    private static Map<String, LocalDate> range(LocalDate checkIn, LocalDate checkOut) {
+        return Map.of("checkInDate", checkIn, "checkOutDate", checkOut);
+    }
+
+    private static String tag(Long siteId, List<Map<String, LocalDate>> ranges) {
+        return ReservationController.reservedDatesETag("s", siteId, Map.of(siteId, ranges));
+    }
+
+    @Test
+    @DisplayName("하루 밀린 숙박 기간은 모두 다른 ETag를 갖는다")
+    void shiftedStaysGetDistinctTags() {
+        LocalDate start = LocalDate.of(2026, 11, 1);
+        Set<String> tags = new HashSet<>();
+        int cases = 0;
+        for (int offset = 0; offset < 60; offset++) {
+            for (int nights = 1; nights <= 7; nights++) {
+                LocalDate checkIn = start.plusDays(offset);
+                tags.add(tag(1L, List.of(range(checkIn, checkIn.plusDays(nights)))));
+                cases++;
+            }
+        }
+
+        assertThat(tags).hasSize(cases);
+        assertThat(tag(1L, List.of(range(LocalDate.of(2026, 11, 1), LocalDate.of(2026, 11, 2)))))
+                .isNotEqualTo(tag(1L, List.of(range(LocalDate.of(2026, 11, 2), LocalDate.of(2026, 11, 3)))));
+    }
+
+    @Test
+    @DisplayName("같은 예약 날짜면 사이트와 범위 순서가 달라도 ETag가 같다")
+    void ignoresOrdering() {
+        Map<String, LocalDate> first = range(LocalDate.of(2026, 11, 1), LocalDate.of(2026, 11, 3));
+        Map<String, LocalDate> second = range(LocalDate.of(2026, 11, 5), LocalDate.of(2026, 11, 6));
+
+        Map<Long, List<Map<String, LocalDate>>> ordered = new LinkedHashMap<>();
+        ordered.put(1L, List.of(first, second));
+        ordered.put(2L, List.of(second));
+        Map<Long, List<Map<String, LocalDate>>> reversed = new LinkedHashMap<>();
+        reversed.put(2L, List.of(second));
+        reversed.put(1L, List.of(second, first));
+
+        assertThat(ReservationController.reservedDatesETag("c", 10L, ordered))
+                .isEqualTo(ReservationController.reservedDatesETag("c", 10L, reversed));
+        assertThat(ReservationController.reservedDatesETag("c", 10L, ordered))
+                .isNotEqualTo(ReservationController.reservedDatesETag("c", 10L, Map.of(1L, List.of(first, second))));
+    }
+}
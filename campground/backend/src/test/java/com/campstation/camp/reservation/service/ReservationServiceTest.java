@@ -0,0 +1,359 @@
+package com.campstation.camp.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.campstation.camp.campground.domain.Campground;
+import com.campstation.camp.campground.domain.Site;
+import com.campstation.camp.campground.domain.SiteStatus;
+import com.campstation.camp.campground.repository.CampgroundRepository;
+import com.campstation.camp.campground.repository.SiteRepository;
+import com.campstation.camp.pricing.service.PricingEngine;
+import com.campstation.camp.reservation.availability.ReservationHoldService;
+import com.campstation.camp.reservation.availability.ReservationHoldService.HoldCheckout;
+import com.campstation.camp.reservation.availability.ReservationHoldService.ReservationHold;
+import com.campstation.camp.reservation.availability.SiteAvailabilityIndex;
+import com.campstation.camp.reservation.domain.Payment;
+import com.campstation.camp.reservation.domain.PaymentMethod;
+import com.campstation.camp.reservation.domain.PaymentStatus;
+import com.campstation.camp.reservation.domain.Reservation;
+import com.campstation.camp.reservation.domain.ReservationStatus;
+import com.campstation.camp.reservation.dto.CreateGroupReservationRequest;
+import com.campstation.camp.reservation.dto.CreateReservationRequest;
+import com.campstation.camp.reservation.dto.GroupReservationResponse;
+import com.campstation.camp.reservation.dto.PriceBreakdownDto;
+import com.campstation.camp.reservation.dto.ReservationResponse;
+import com.campstation.camp.reservation.repository.PaymentRepository;
+import com.campstation.camp.reservation.repository.ReservationRepository;
+import com.campstation.camp.shared.MetricsService;
+import com.campstation.camp.shared.exception.ReservationConflictException;
+import com.campstation.camp.shared.notification.EmailNotificationService;
+import com.campstation.camp.shared.notification.SmsNotificationService;
+import com.campstation.camp.user.domain.User;
+import com.campstation.camp.user.repository.UserRepository;
+
+/**
+ * ReservationService 단위 테스트
+ *
+ * 단체 예약이 한 사이트라도 충돌하면 예약/결제를 하나도 남기지 않는지(전체 롤백)와,
+ * 사이트 수와 무관하게 락/충돌 조회/가격 계산/저장/알림을 한 번씩만 수행하는지,
+ * 홀드 예약은 결제 확정(convertHold) 전까지 예약/결제 행을 만들지 않는지 검증합니다.
+ */
+@DisplayName("ReservationService 테스트")
+class ReservationServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long CAMPGROUND_ID = 10L;
+    private static final int GROUP_SIZE = 10;
+
+    private ReservationRepository reservationRepository;
+    private CampgroundRepository campgroundRepository;
+    private UserRepository userRepository;
+    private SiteRepository siteRepository;
+    private PaymentRepository paymentRepository;
+    private EmailNotificationService emailNotificationService;
+    private SmsNotificationService smsNotificationService;
+    private PricingEngine pricingEngine;
+    private SiteAvailabilityIndex siteAvailabilityIndex;
+    private ReservationHoldService reservationHoldService;
+    private MetricsService metricsService;
+    private ApplicationEventPublisher eventPublisher;
+    private ReservationService reservationService;
+
+    private Campground campground;
+    private List<Site> sites;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        campgroundRepository = mock(CampgroundRepository.class);
+        userRepository = mock(UserRepository.class);
+        siteRepository = mock(SiteRepository.class);
+        paymentRepository = mock(PaymentRepository.class);
+        emailNotificationService = mock(EmailNotificationService.class);
+        smsNotificationService = mock(SmsNotificationService.class);
+        pricingEngine = mock(PricingEngine.class);
+        siteAvailabilityIndex = mock(SiteAvailabilityIndex.class);
+        reservationHoldService = mock(ReservationHoldService.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        metricsService = mock(MetricsService.class);
+        reservationService = new ReservationService(reservationRepository, campgroundRepository, userRepository,
+                siteRepository, paymentRepository, emailNotificationService, smsNotificationService, pricingEngine,
+                siteAvailabilityIndex, reservationHoldService, metricsService, eventPublisher);
+
+        checkIn = LocalDate.now().plusDays(14);
+        checkOut = checkIn.plusDays(2);
+
+        User user = new User();
+        ReflectionTestUtils.setField(user, "id", USER_ID);
+        campground = Campground.builder().name("단체 캠핑장").build();
+        ReflectionTestUtils.setField(campground, "id", CAMPGROUND_ID);
+        sites = LongStream.rangeClosed(101, 100 + GROUP_SIZE).mapToObj(this::site).toList();
+
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(campgroundRepository.findById(CAMPGROUND_ID)).thenReturn(Optional.of(campground));
+        for (Site site : sites) {
+            when(siteRepository.findById(site.getId())).thenReturn(Optional.of(site));
+        }
+        when(siteRepository.findAllByIdInOrderByIdForUpdate(anyCollection())).thenReturn(sites);
+        when(reservationRepository.findConflictingSiteIds(anyList(), any(), any())).thenReturn(List.of());
+
+        when(pricingEngine.calculatePrice(any(Site.class), any(), any(), anyInt())).thenReturn(price());
+        when(pricingEngine.calculatePrices(anyList(), any(), any(), anyMap())).thenAnswer(invocation -> {
+            Map<Long, PriceBreakdownDto> breakdowns = new LinkedHashMap<>();
+            for (Site site : invocation.<List<Site>>getArgument(0)) {
+                breakdowns.put(site.getId(), price());
+            }
+            return breakdowns;
+        });
+
+        AtomicLong reservationIds = new AtomicLong(1000);
+        when(reservationRepository.saveAndFlush(any(Reservation.class))).thenAnswer(invocation -> {
+            Reservation reservation = invocation.getArgument(0);
+            ReflectionTestUtils.setField(reservation, "id", reservationIds.incrementAndGet());
+            return reservation;
+        });
+        when(reservationRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Reservation> reservations = invocation.getArgument(0);
+            reservations.forEach(reservation ->
+                    ReflectionTestUtils.setField(reservation, "id", reservationIds.incrementAndGet()));
+            return reservations;
+        });
+        when(paymentRepository.save(any(Payment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(paymentRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private Site site(long id) {
+        Site site = Site.builder()
+                .campground(campground)
+                .campgroundId(CAMPGROUND_ID)
+                .siteNumber("A-" + id)
+                .status(SiteStatus.AVAILABLE)
+                .build();
+        ReflectionTestUtils.setField(site, "id", id);
+        return site;
+    }
+
+    private static PriceBreakdownDto price() {
+        return PriceBreakdownDto.builder()
+                .pricingVersion(1L)
+                .basePrice(new BigDecimal("100000"))
+                .totalAmount(new BigDecimal("100000"))
+                .items(new ArrayList<>())
+                .build();
+    }
+
+    private CreateGroupReservationRequest groupRequest() {
+        List<CreateGroupReservationRequest.SiteGuests> siteGuests = sites.stream()
+                .map(site -> new CreateGroupReservationRequest.SiteGuests(site.getId(), 4))
+                .toList();
+        return new CreateGroupReservationRequest(CAMPGROUND_ID, checkIn, checkOut, siteGuests,
+                PaymentMethod.BANK_TRANSFER, "캠핑동호회", null);
+    }
+
+    private CreateReservationRequest singleRequest(Site site) {
+        CreateReservationRequest request = new CreateReservationRequest(CAMPGROUND_ID, site.getId(), checkIn,
+                checkOut, 4, null);
+        request.setPaymentMethod(PaymentMethod.BANK_TRANSFER);
+        request.setDepositorName("캠핑동호회");
+        return request;
+    }
+
+    @Nested
+    @DisplayName("단체 예약 전체 롤백")
+    class AllOrNothing {
+
+        @Test
+        @DisplayName("단체 예약은 하나의 쓰기 트랜잭션에서 실행된다")
+        void runsInSingleWriteTransaction() throws NoSuchMethodException {
+            Transactional transactional = ReservationService.class
+                    .getMethod("createGroupReservation", CreateGroupReservationRequest.class, Long.class)
+                    .getAnnotation(Transactional.class);
+
+            assertThat(transactional).isNotNull();
+            assertThat(transactional.readOnly()).isFalse();
+        }
+
+        @Test
+        @DisplayName("사전 조회에서 한 사이트가 충돌하면 예약/결제/알림이 하나도 생기지 않는다")
+        void rejectsWholeGroupOnPreCheckConflict() {
+            when(reservationRepository.findConflictingSiteIds(anyList(), eq(checkIn), eq(checkOut)))
+                    .thenReturn(List.of(105L));
+
+            assertThatThrownBy(() -> reservationService.createGroupReservation(groupRequest(), USER_ID))
+                    .isInstanceOf(ReservationConflictException.class)
+                    .hasMessageContaining("105");
+
+            verify(pricingEngine, never()).calculatePrices(anyList(), any(), any(), anyMap());
+            verify(reservationRepository, never()).saveAll(anyList());
+            verify(paymentRepository, never()).saveAll(anyList());
+            verify(emailNotificationService, never()).sendGroupReservationConfirmationEmail(anyList());
+            verify(metricsService, never()).recordGroupBookingCreated(anyInt(), anyLong());
+        }
+
+        @Test
+        @DisplayName("가용성 인덱스가 확인한 충돌이 있으면 사이트 락 전에 실패한다")
+        void rejectsBeforeLockingOnIndexConflict() {
+            when(siteAvailabilityIndex.hasConfirmedConflict(eq(103L), eq(checkIn), eq(checkOut), any()))
+                    .thenReturn(true);
+
+            assertThatThrownBy(() -> reservationService.createGroupReservation(groupRequest(), USER_ID))
+                    .isInstanceOf(ReservationConflictException.class);
+
+            verify(siteRepository, never()).findAllByIdInOrderByIdForUpdate(anyCollection());
+            verify(reservationRepository, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("저장 시 배타 제약 위반이면 충돌 예외로 바꾸고 결제를 만들지 않는다 (트랜잭션 전체 롤백)")
+        void rollsBackOnExclusionConstraint() {
+            doThrow(new DataIntegrityViolationException("conflicting key value violates exclusion constraint \""
+                    + ReservationConflictException.STAY_RANGE_CONSTRAINT + "\""))
+                    .when(reservationRepository).flush();
+
+            assertThatThrownBy(() -> reservationService.createGroupReservation(groupRequest(), USER_ID))
+                    .isInstanceOf(ReservationConflictException.class);
+
+            verify(paymentRepository, never()).saveAll(anyList());
+            verify(emailNotificationService, never()).sendGroupReservationConfirmationEmail(anyList());
+        }
+
+        @Test
+        @DisplayName("배타 제약이 아닌 DB 오류는 그대로 전파한다")
+        void propagatesOtherIntegrityErrors() {
+            doThrow(new DataIntegrityViolationException("null value in column \"user_id\""))
+                    .when(reservationRepository).flush();
+
+            assertThatThrownBy(() -> reservationService.createGroupReservation(groupRequest(), USER_ID))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+
+            verify(paymentRepository, never()).saveAll(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("단체 예약 일괄 처리")
+    class Batching {
+
+        @Test
+        @DisplayName("단체 예약은 사이트 수와 무관하게 락/충돌 조회/가격 계산/저장/알림을 한 번씩만 수행한다")
+        void usesConstantRoundTripsPerGroup() {
+            GroupReservationResponse response = reservationService.createGroupReservation(groupRequest(), USER_ID);
+
+            assertThat(response.reservations()).hasSize(GROUP_SIZE);
+            assertThat(response.totalAmount()).isEqualByComparingTo(new BigDecimal("1000000"));
+            verify(siteRepository, times(1)).findAllByIdInOrderByIdForUpdate(anyCollection());
+            verify(reservationRepository, times(1)).findConflictingSiteIds(anyList(), any(), any());
+            verify(pricingEngine, times(1)).calculatePrices(anyList(), any(), any(), anyMap());
+            verify(pricingEngine, never()).calculatePrice(any(Site.class), any(), any(), anyInt());
+            verify(reservationRepository, times(1)).saveAll(anyList());
+            verify(reservationRepository, times(1)).flush();
+            verify(paymentRepository, times(1)).saveAll(anyList());
+            verify(emailNotificationService, times(1)).sendGroupReservationConfirmationEmail(anyList());
+            verify(smsNotificationService, never()).sendReservationConfirmationSms(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("홀드 예약 결제 확정 시 전환")
+    class HoldConversion {
+
+        private static final String HOLD_TOKEN = "hold-token";
+
+        private ReservationHold hold(HoldCheckout checkout) {
+            return new ReservationHold(HOLD_TOKEN, USER_ID, CAMPGROUND_ID, 101L, checkIn, checkOut,
+                    Instant.now().plusSeconds(1800), checkout);
+        }
+
+        @Test
+        @DisplayName("홀드 토큰이 있는 예약 생성은 결제 대기 정보만 홀드에 저장하고 예약/결제 행을 만들지 않는다")
+        void storesCheckoutOnHoldWithoutRows() {
+            CreateReservationRequest request = singleRequest(sites.get(0));
+            request.setHoldToken(HOLD_TOKEN);
+            when(reservationHoldService.attachCheckout(eq(HOLD_TOKEN), any(HoldCheckout.class)))
+                    .thenAnswer(invocation -> hold(invocation.getArgument(1)));
+
+            ReservationResponse response = reservationService.createReservation(request, USER_ID);
+
+            assertThat(response.getId()).isNull();
+            assertThat(response.getHoldToken()).isEqualTo(HOLD_TOKEN);
+            assertThat(response.getStatus()).isEqualTo(ReservationStatus.PENDING);
+            assertThat(response.getTotalAmount()).isEqualByComparingTo("100000");
+            assertThat(response.getNumberOfNights()).isEqualTo(2);
+            verify(reservationRepository, never()).saveAndFlush(any(Reservation.class));
+            verify(paymentRepository, never()).save(any(Payment.class));
+            verify(reservationHoldService, never()).releaseAfterCommit(any());
+            verify(emailNotificationService, never()).sendReservationConfirmationEmail(any());
+        }
+
+        @Test
+        @DisplayName("결제 확정 시 홀드의 결제 대기 정보로 예약과 결제를 저장하고 커밋 후 홀드를 해제한다")
+        void convertsHoldToReservation() {
+            HoldCheckout checkout = new HoldCheckout(4, "늦게 도착", PaymentMethod.CARD, null, price());
+
+            Payment payment = reservationService.convertHold(hold(checkout));
+
+            verify(reservationRepository, times(1)).saveAndFlush(any(Reservation.class));
+            assertThat(payment.getReservationId()).isNotNull();
+            assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PENDING);
+            assertThat(payment.getPaymentMethod()).isEqualTo(PaymentMethod.CARD);
+            assertThat(payment.getAmount()).isEqualByComparingTo("100000");
+            verify(reservationHoldService).releaseAfterCommit(HOLD_TOKEN);
+            // 알림은 토스 승인 전이므로 직접 보내지 않고 커밋 후 리스너로 넘긴다
+            verify(eventPublisher, times(1)).publishEvent(any(HeldReservationConvertedEvent.class));
+            verify(emailNotificationService, never()).sendReservationConfirmationEmail(any());
+            verify(smsNotificationService, never()).sendReservationConfirmationSms(any());
+        }
+
+        @Test
+        @DisplayName("전환 중 배타 제약 위반이면 충돌 예외로 실패하고 결제를 만들지 않으며 홀드를 해제하지 않는다")
+        void keepsHoldOnConflict() {
+            doThrow(new DataIntegrityViolationException("conflicting key value violates exclusion constraint \""
+                    + ReservationConflictException.STAY_RANGE_CONSTRAINT + "\""))
+                    .when(reservationRepository).saveAndFlush(any(Reservation.class));
+            HoldCheckout checkout = new HoldCheckout(4, null, PaymentMethod.CARD, null, price());
+
+            assertThatThrownBy(() -> reservationService.convertHold(hold(checkout)))
+                    .isInstanceOf(ReservationConflictException.class);
+
+            verify(paymentRepository, never()).save(any(Payment.class));
+            verify(reservationHoldService, never()).releaseAfterCommit(any());
+            verify(eventPublisher, never()).publishEvent(any(HeldReservationConvertedEvent.class));
+        }
+    }
+}